@@ -0,0 +1,67 @@
+package com.ozymandias089.devlog_api.global.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SlugUtil#toSlug}의 단일 순회 구현과 이전 정규식 파이프라인의 처리 시간을 비교합니다.
+ *
+ * <pre>./gradlew jmh</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SlugUtilBenchmark {
+    /** 제목 종류: 영문, 한글, 발음부호가 섞인 라틴 문자 */
+    @Param({"ascii", "hangul", "accented"})
+    public String kind;
+
+    private String[] titles;
+
+    @Setup
+    public void setUp() {
+        titles = switch (kind) {
+            case "ascii" -> new String[]{
+                    "Spring Boot 3 Migration Guide", "How to tune HikariCP -- connection pool sizing",
+                    "  Redis Pub/Sub vs Streams: when to use which?  ", "JPA N+1 problem (and how to fix it)"};
+            case "hangul" -> new String[]{
+                    "스프링 부트 3 마이그레이션 가이드", "JPA N+1 문제와 해결 방법", "레디스 캐시 무효화 전략 정리",
+                    "자바 17 레코드와 sealed 클래스 살펴보기"};
+            default -> new String[]{
+                    "Café Crème — Über die Größe", "Ñandú y pingüino: guía rápida", "Ελληνικά ΣΟΦΙΑ test",
+                    "İstanbul'da Java günleri"};
+        };
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole blackhole) {
+        for (String title : titles) blackhole.consume(SlugUtil.toSlug(title));
+    }
+
+    @Benchmark
+    public void legacyRegex(Blackhole blackhole) {
+        for (String title : titles) blackhole.consume(legacyToSlug(title));
+    }
+
+    /** 단일 순회 구현 이전의 정규식 파이프라인 */
+    private static String legacyToSlug(String input) {
+        if (input == null) return "post";
+        String n = Normalizer.normalize(input, Normalizer.Form.NFD).replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+        String cleaned = n.replaceAll("[^\\p{IsAlphabetic}\\d\\uAC00-\\uD7A3\\s-]", "");
+        String hyphened = cleaned.trim().replaceAll("\\s+", "-").replaceAll("-{2,}", "-");
+        String lower = hyphened.toLowerCase(Locale.ROOT);
+        if (lower.isBlank()) return "post";
+        return lower.length() > 100 ? lower.substring(0, 100) : lower;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 /**
  * Redis 설정 클래스.
@@ -14,6 +15,7 @@ import org.springframework.data.redis.core.StringRedisTemplate;
  * <ul>
  *     <li>{@link LettuceConnectionFactory}를 사용해 RedisConnectionFactory를 구성</li>
  *     <li>{@link StringRedisTemplate} 빈을 생성하여 문자열 기반 Redis 작업 지원</li>
+ *     <li>{@link RedisMessageListenerContainer} 빈을 생성하여 pub/sub 채널 구독 지원</li>
  * </ul>
  * </p>
  *
@@ -52,4 +54,17 @@ public class RedisConfig {
     public StringRedisTemplate redisTemplate(RedisConnectionFactory connectionFactory) {
         return new StringRedisTemplate(connectionFactory);
     }
+
+    /**
+     * pub/sub 메시지 리스너 컨테이너 빈 생성. 구독 연결 하나를 모든 채널 리스너가 공유합니다.
+     *
+     * @param connectionFactory Redis 연결 팩토리
+     * @return RedisMessageListenerContainer 인스턴스
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
@@ -0,0 +1,62 @@
+package com.ozymandias089.devlog_api.global.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 요청 하나를 처리하는 동안 요청 스레드가 할당한 힙 바이트를 측정해
+ * <code>http.server.requests.allocated</code>(단위: bytes) 분포로 기록합니다.
+ *
+ * <p>
+ * 응답 직렬화는 핸들러 처리 안에서 같은 스레드로 수행되므로 측정값에 포함됩니다.
+ * 비동기(스트리밍) 응답처럼 다른 스레드에서 쓰는 부분은 포함되지 않습니다.
+ * 태그는 <code>method</code>, <code>uri</code>(매핑 패턴)입니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@RequiredArgsConstructor
+public class RequestAllocationInterceptor implements HandlerInterceptor {
+    static final String METRIC = "http.server.requests.allocated";
+    private static final String START_ATTRIBUTE = RequestAllocationInterceptor.class.getName() + ".start";
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 현재 JVM이 스레드별 할당량 측정을 지원하는지 여부를 반환합니다.
+     */
+    static boolean isSupported() {
+        return THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_ATTRIBUTE, THREADS.getCurrentThreadAllocatedBytes());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) return;
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - start;
+        if (allocated < 0) return;
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(METRIC)
+                .description("Heap bytes allocated by the request thread while handling the request")
+                .baseUnit("bytes")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                .register(meterRegistry)
+                .record(allocated);
+    }
+}
@@ -0,0 +1,18 @@
+package com.ozymandias089.devlog_api.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스.
+ * <p>
+ * {@link org.springframework.scheduling.annotation.Scheduled}로 선언된 주기 작업
+ * (피드 재구성, 백필/정합성 보정 작업 등)을 활성화합니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -60,13 +60,21 @@ public class SecurityConfig {
                         // Swagger / docs
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
 
+                        // Admin: 관리자 전용
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+
                         // Members: 공개 엔드포인트들
                         .requestMatchers(HttpMethod.POST, "/api/members/signup", "/api/members/login").permitAll()
                         .requestMatchers(HttpMethod.GET,  "/api/members/check-email", "/api/members/password/validate").permitAll()
                         .requestMatchers("/api/members/password-reset/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/members/*/posts", "/api/members/*/stats", "/api/members/leaderboard").permitAll()
 
                         // Posts: 조회는 공개, 나머지는 인증
-                        .requestMatchers(HttpMethod.GET, "/api/posts/post-list", "/api/posts/*").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/posts/post-list", "/api/posts/search", "/api/posts/trending", "/api/posts/*", "/api/posts/*/content",
+                                "/api/posts/*/revisions", "/api/posts/*/revisions/*", "/api/posts/*/related").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/tags", "/api/tags/suggest", "/api/tags/*/posts").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/archive", "/api/archive/*/*/posts").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/autocomplete/titles", "/api/autocomplete/usernames").permitAll()
                         // (원하면 POST /api/posts/create만 인증, PATCH/DELETE 인증은 기본 anyRequest로 커버)
 
                         .anyRequest().authenticated()
@@ -90,7 +98,7 @@ public class SecurityConfig {
                     c.setAllowedOriginPatterns(List.of("*")); // 운영은 구체 오리진 지정
                     c.setAllowedMethods(List.of("GET","POST","PUT","PATCH","DELETE","OPTIONS"));
                     c.setAllowedHeaders(List.of("*"));
-                    c.setExposedHeaders(List.of("Location","Authorization"));
+                    c.setExposedHeaders(List.of("Location","Authorization","ETag"));
                     c.setAllowCredentials(true);
                     c.setMaxAge(3600L);
                     return c;
@@ -0,0 +1,33 @@
+package com.ozymandias089.devlog_api.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC 설정 클래스.
+ * <p>
+ * API 요청별 힙 할당량 측정({@link RequestAllocationInterceptor})을 등록합니다.
+ * <code>app.metrics.request-allocation.enabled=false</code>이거나 JVM이 지원하지 않으면 등록하지 않습니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.metrics.request-allocation.enabled:true}")
+    private boolean requestAllocationEnabled;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (requestAllocationEnabled && RequestAllocationInterceptor.isSupported()) {
+            registry.addInterceptor(new RequestAllocationInterceptor(meterRegistry)).addPathPatterns("/api/**");
+        }
+    }
+}
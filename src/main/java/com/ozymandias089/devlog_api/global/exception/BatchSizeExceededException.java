@@ -0,0 +1,11 @@
+package com.ozymandias089.devlog_api.global.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class BatchSizeExceededException extends RuntimeException {
+    public BatchSizeExceededException(int requested, int max) {
+        super("Too many items in batch: " + requested + " (max " + max + ")");
+    }
+}
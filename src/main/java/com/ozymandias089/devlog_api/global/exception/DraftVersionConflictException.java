@@ -0,0 +1,11 @@
+package com.ozymandias089.devlog_api.global.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class DraftVersionConflictException extends RuntimeException {
+    public DraftVersionConflictException(String slug, long currentVersion) {
+        super("Draft base version does not match current draft version " + currentVersion + " for slug: " + slug);
+    }
+}
@@ -0,0 +1,11 @@
+package com.ozymandias089.devlog_api.global.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class DuplicatePostException extends RuntimeException {
+    public DuplicatePostException() {
+        super("Post content is a near-duplicate of an existing post");
+    }
+}
@@ -0,0 +1,11 @@
+package com.ozymandias089.devlog_api.global.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class MemberNotFoundException extends RuntimeException {
+    public MemberNotFoundException(String uuid) {
+        super("Member not found for uuid: " + uuid);
+    }
+}
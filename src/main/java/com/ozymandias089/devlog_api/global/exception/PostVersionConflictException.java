@@ -0,0 +1,11 @@
+package com.ozymandias089.devlog_api.global.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PostVersionConflictException extends RuntimeException {
+    public PostVersionConflictException(String slug) {
+        super("Post was modified concurrently or If-Match does not match current version for slug: " + slug);
+    }
+}
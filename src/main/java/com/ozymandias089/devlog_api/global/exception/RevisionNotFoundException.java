@@ -0,0 +1,11 @@
+package com.ozymandias089.devlog_api.global.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class RevisionNotFoundException extends RuntimeException {
+    public RevisionNotFoundException(String slug, long revision) {
+        super("Revision " + revision + " not found for slug: " + slug);
+    }
+}
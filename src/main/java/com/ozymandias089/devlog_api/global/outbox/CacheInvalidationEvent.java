@@ -0,0 +1,24 @@
+package com.ozymandias089.devlog_api.global.outbox;
+
+/**
+ * 다른 노드에서 커밋된 도메인 변경 알림입니다. {@link InvalidationBus}가 노드 로컬 이벤트로 발행합니다.
+ *
+ * <p>
+ * 같은 엔티티에 대해 이미 받은 버전 이하의 알림은 발행되지 않으므로, 리스너는 순서가 뒤바뀐 알림을 걱정하지 않아도 됩니다.
+ * 자기 노드에서 일어난 변경은 포함되지 않습니다(이미 {@code @TransactionalEventListener}로 반영됨).
+ * </p>
+ *
+ * @param entity  엔티티 종류
+ * @param id      엔티티 PK
+ * @param version 변경 후 엔티티 버전
+ * @param change  변경 종류
+ * @param key     자연 키(게시글 슬러그, 회원 UUID)
+ * @param origin  변경을 기록한 노드
+ * @since 1.1
+ */
+public record CacheInvalidationEvent(Entity entity, Long id, Long version, Change change, String key, String origin) {
+
+    public enum Entity { POST, MEMBER }
+
+    public enum Change { CREATED, UPDATED, DELETED }
+}
@@ -0,0 +1,9 @@
+package com.ozymandias089.devlog_api.global.outbox;
+
+/**
+ * 무효화 알림을 놓쳤을 수 있어 노드 로컬 캐시를 전부 DB와 다시 맞춰야 함을 알립니다(Redis 재연결 등).
+ *
+ * @param reason 재동기화 사유(로그용)
+ * @since 1.1
+ */
+public record CacheResyncEvent(String reason) {}
@@ -0,0 +1,116 @@
+package com.ozymandias089.devlog_api.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 노드 간 캐시 무효화 버스입니다. {@link OutboxRelay}가 중계한 변경을 받아 노드 로컬 이벤트로 다시 발행합니다.
+ *
+ * <ul>
+ *   <li>자기 노드가 기록한 변경은 무시합니다(커밋 직후 {@code @TransactionalEventListener}로 이미 반영됨).</li>
+ *   <li>엔티티별로 마지막으로 받은 버전을 기억하고, 그 이하 버전의 알림(중복/역순)은 버립니다.</li>
+ *   <li>구독이 끊겼다가 다시 맺어지면 그 사이 알림을 놓쳤을 수 있으므로 {@link CacheResyncEvent}를 발행합니다.
+ *       각 캐시는 이 이벤트에서 DB와 전체 대조합니다.</li>
+ * </ul>
+ *
+ * <p>리스너는 Redis 수신 스레드가 아닌 전용 단일 스레드에서 호출되므로 수신 순서대로 처리됩니다.</p>
+ *
+ * @since 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InvalidationBus implements MessageListener, SubscriptionListener {
+    static final String CHANNEL = "CACHE:INVALIDATE";
+    /** 이 프로세스(노드)의 식별자 */
+    public static final String NODE_ID = UUID.randomUUID().toString();
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    /** 버전을 기억할 최대 엔티티 수(넘으면 비움. 무효화는 멱등이므로 안전) */
+    @Value("${app.outbox.max-tracked-versions:100000}")
+    private int maxTrackedVersions;
+
+    private final Map<String, Long> lastVersions = new ConcurrentHashMap<>();
+    private final AtomicBoolean subscribedOnce = new AtomicBoolean();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "cache-invalidation");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationEvent event;
+        try {
+            event = objectMapper.readValue(message.getBody(), CacheInvalidationEvent.class);
+        } catch (Exception e) {
+            log.warn("Malformed cache invalidation message ignored: {}", e.getMessage());
+            return;
+        }
+        if (NODE_ID.equals(event.origin())) return;
+        dispatcher.execute(() -> dispatch(event));
+    }
+
+    private void dispatch(CacheInvalidationEvent event) {
+        String key = event.entity() + ":" + event.id();
+        Long previous = lastVersions.get(key);
+        if (previous != null && previous >= event.version()) return;
+        if (lastVersions.size() >= maxTrackedVersions) lastVersions.clear();
+        lastVersions.put(key, event.version());
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (Exception e) {
+            log.warn("Cache invalidation for {} v{} failed: {}", key, event.version(), e.getMessage());
+        }
+    }
+
+    /**
+     * 구독이 (다시) 맺어지면 호출됩니다. 최초 구독이 아니면 놓친 알림이 있을 수 있으므로 전체 재동기화를 요청합니다.
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        if (!subscribedOnce.compareAndSet(false, true)) {
+            dispatcher.execute(() -> {
+                log.info("Cache invalidation channel re-subscribed, resyncing local caches");
+                lastVersions.clear();
+                eventPublisher.publishEvent(new CacheResyncEvent("invalidation channel re-subscribed"));
+            });
+        }
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        log.warn("Cache invalidation channel unsubscribed; local caches may be stale until resync");
+    }
+
+    @PreDestroy
+    void stop() {
+        dispatcher.shutdownNow();
+    }
+}
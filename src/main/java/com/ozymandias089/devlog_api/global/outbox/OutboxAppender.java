@@ -0,0 +1,70 @@
+package com.ozymandias089.devlog_api.global.outbox;
+
+import com.ozymandias089.devlog_api.member.event.MemberChangedEvent;
+import com.ozymandias089.devlog_api.post.event.PostChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * 도메인 이벤트를 발행한 트랜잭션 안에서 아웃박스 행으로 기록합니다.
+ *
+ * <p>
+ * 리스너는 동기({@link EventListener})로 실행되어 도메인 변경과 함께 커밋되거나 함께 롤백됩니다.
+ * 트랜잭션 밖에서 발행되면 {@link Propagation#MANDATORY}에 의해 실패하므로 기록 누락이 드러납니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxAppender {
+    private final OutboxEventRepository outboxEventRepository;
+    private final Clock clock;
+
+    /**
+     * 게시글 변경을 기록합니다.
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onPostChanged(PostChangedEvent event) {
+        CacheInvalidationEvent.Change change = switch (event.type()) {
+            case CREATED -> CacheInvalidationEvent.Change.CREATED;
+            case UPDATED -> CacheInvalidationEvent.Change.UPDATED;
+            case DELETED -> CacheInvalidationEvent.Change.DELETED;
+        };
+        append(CacheInvalidationEvent.Entity.POST, event.postId(), event.version(), change, event.slug());
+    }
+
+    /**
+     * 회원 변경을 기록합니다.
+     *
+     * @param event 회원 변경 이벤트
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onMemberChanged(MemberChangedEvent event) {
+        append(CacheInvalidationEvent.Entity.MEMBER, event.memberId(), event.version(),
+                CacheInvalidationEvent.Change.UPDATED, event.uuid());
+    }
+
+    private void append(CacheInvalidationEvent.Entity entity, Long id, Long version,
+                        CacheInvalidationEvent.Change change, String key) {
+        outboxEventRepository.save(OutboxEventEntity.builder()
+                .aggregateType(entity)
+                .aggregateId(id)
+                .aggregateVersion(version == null ? 0L : version)
+                .changeType(change)
+                .aggregateKey(key)
+                .origin(InvalidationBus.NODE_ID)
+                .createdAt(Instant.now(clock))
+                .build());
+    }
+}
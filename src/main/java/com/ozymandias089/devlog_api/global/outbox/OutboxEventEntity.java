@@ -0,0 +1,79 @@
+package com.ozymandias089.devlog_api.global.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 트랜잭션 아웃박스 행입니다. 도메인 변경과 같은 트랜잭션에서 기록되고, {@link OutboxRelay}가 커밋된 행을 Redis로 중계합니다.
+ *
+ * <p><code>publishedAt</code>이 null인 행이 미중계 행이며, 중계 후 보관 기간이 지나면 삭제됩니다.</p>
+ *
+ * @since 1.1
+ */
+@Entity
+@Table(name = "outbox_event",
+        indexes = {
+                @Index(name = "idx_outbox_published_at", columnList = "publishedAt, id")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEventEntity {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Getter
+    private Long id;
+
+    /** 변경된 엔티티 종류 */
+    @Getter
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CacheInvalidationEvent.Entity aggregateType;
+
+    /** 변경된 엔티티 PK */
+    @Getter
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    /** 변경 후 엔티티 버전(삭제는 마지막 버전 + 1) */
+    @Getter
+    @Column(nullable = false)
+    private Long aggregateVersion;
+
+    /** 변경 종류 */
+    @Getter
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CacheInvalidationEvent.Change changeType;
+
+    /** 캐시 키로 쓰이는 자연 키(게시글 슬러그, 회원 UUID) */
+    @Getter
+    @Column(length = 160)
+    private String aggregateKey;
+
+    /** 변경을 기록한 노드 */
+    @Getter
+    @Column(nullable = false, length = 36)
+    private String origin;
+
+    @Getter
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Getter
+    private Instant publishedAt;
+
+    @Builder
+    public OutboxEventEntity(CacheInvalidationEvent.Entity aggregateType, Long aggregateId, Long aggregateVersion,
+                             CacheInvalidationEvent.Change changeType, String aggregateKey, String origin, Instant createdAt) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.aggregateVersion = aggregateVersion;
+        this.changeType = changeType;
+        this.aggregateKey = aggregateKey;
+        this.origin = origin;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,55 @@
+package com.ozymandias089.devlog_api.global.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link OutboxEventEntity}에 대한 JPA 리포지토리입니다.
+ *
+ * @since 1.1
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+    /**
+     * 미중계 행을 PK 오름차순으로 잠그며 가져옵니다. 다른 노드가 잠근 행은 건너뛰므로 여러 노드가 동시에 중계해도 겹치지 않습니다.
+     *
+     * @param limit 최대 행 수
+     * @return 잠근 행의 PK
+     */
+    @Query(value = """
+      select id from outbox_event
+      where published_at is null
+      order by id
+      limit :limit
+      for update skip locked
+    """, nativeQuery = true)
+    List<Long> lockUnpublishedIds(@Param("limit") int limit);
+
+    /**
+     * 중계 완료 시각을 기록합니다.
+     *
+     * @param ids         중계한 행의 PK
+     * @param publishedAt 중계 시각
+     * @return 수정된 행 수
+     */
+    @Modifying
+    @Query("update OutboxEventEntity e set e.publishedAt = :publishedAt where e.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") Instant publishedAt);
+
+    /**
+     * 보관 기간이 지난 중계 완료 행을 삭제합니다.
+     *
+     * @param before 이 시각 이전에 중계된 행 삭제
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from OutboxEventEntity e where e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") Instant before);
+}
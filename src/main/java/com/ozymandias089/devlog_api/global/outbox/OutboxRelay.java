@@ -0,0 +1,97 @@
+package com.ozymandias089.devlog_api.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 커밋된 아웃박스 행을 Redis 채널 <code>{@value InvalidationBus#CHANNEL}</code>로 중계합니다.
+ *
+ * <p>
+ * 모든 노드에서 주기적으로 실행됩니다. 한 번에 {@code batchSize}건을 <code>FOR UPDATE SKIP LOCKED</code>로 잠그고,
+ * 발행한 뒤 같은 트랜잭션에서 중계 완료로 표시합니다. 발행 도중 실패하면 트랜잭션이 롤백되어 다음 주기에 다시 중계합니다.
+ * 따라서 전달은 최소 한 번(at-least-once)이며, 중복/역순 수신은 수신 측의 버전 비교로 걸러집니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+    private final OutboxEventRepository outboxEventRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    /** 한 번에 중계할 최대 행 수 */
+    @Value("${app.outbox.batch-size:500}")
+    private int batchSize;
+
+    /** 중계 완료 행 보관 기간 */
+    @Value("${app.outbox.retention:P1D}")
+    private Duration retention;
+
+    /**
+     * 미중계 행을 모두 중계합니다. 한 배치가 가득 차면 바로 다음 배치를 이어서 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.relay-interval:PT1S}")
+    public void relay() {
+        try {
+            Integer relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+            } while (relayed != null && relayed >= batchSize);
+        } catch (Exception e) {
+            log.warn("Outbox relay failed, retrying next round: {}", e.getMessage());
+        }
+    }
+
+    private int relayBatch() {
+        List<Long> ids = outboxEventRepository.lockUnpublishedIds(batchSize);
+        if (ids.isEmpty()) return 0;
+
+        List<OutboxEventEntity> rows = outboxEventRepository.findAllById(ids);
+        rows.sort(Comparator.comparing(OutboxEventEntity::getId));
+        for (OutboxEventEntity row : rows) {
+            stringRedisTemplate.convertAndSend(InvalidationBus.CHANNEL, toMessage(row));
+        }
+        outboxEventRepository.markPublished(ids, Instant.now(clock));
+        return ids.size();
+    }
+
+    private String toMessage(OutboxEventEntity row) {
+        try {
+            return objectMapper.writeValueAsString(new CacheInvalidationEvent(row.getAggregateType(), row.getAggregateId(),
+                    row.getAggregateVersion(), row.getChangeType(), row.getAggregateKey(), row.getOrigin()));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to serialize outbox event " + row.getId(), e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 중계 완료 행을 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval:PT1H}", initialDelayString = "${app.outbox.purge-interval:PT1H}")
+    public void purge() {
+        try {
+            Integer deleted = transactionTemplate.execute(status ->
+                    outboxEventRepository.deletePublishedBefore(Instant.now(clock).minus(retention)));
+            if (deleted != null && deleted > 0) log.debug("Purged {} relayed outbox rows", deleted);
+        } catch (Exception e) {
+            log.warn("Outbox purge failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.ozymandias089.devlog_api.global.util;
+
+/**
+ * <code>Accept-Encoding</code> 요청 헤더 해석 유틸입니다.
+ */
+public final class AcceptEncoding {
+    private AcceptEncoding() {}
+
+    /**
+     * <code>Accept-Encoding</code>에 q=0이 아닌 gzip(또는 *)이 있는지 판단합니다.
+     *
+     * @param acceptEncoding 헤더 값(없으면 null)
+     * @return gzip 응답을 받을 수 있으면 true
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) continue;
+            boolean rejected = false;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim().replace(" ", "");
+                if (param.matches("q=0(\\.0{0,3})?")) rejected = true;
+            }
+            if (!rejected) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,60 @@
+package com.ozymandias089.devlog_api.global.util;
+
+import com.ozymandias089.devlog_api.global.exception.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * 키셋(keyset) 페이지네이션 커서 인코더/디코더입니다.
+ *
+ * <p>
+ * 마지막으로 반환한 행의 정렬 키들(예: 점수와 PK, 생성 시각과 PK)을 고정 길이 long 배열로 묶어
+ * URL-safe Base64(패딩 없음) 문자열로 변환합니다. 커서는 불투명(opaque) 값으로 취급되며,
+ * 클라이언트는 응답의 <code>nextCursor</code>를 그대로 돌려보내기만 하면 됩니다.
+ * </p>
+ *
+ * <p>실수(double) 키는 {@link Double#doubleToLongBits(double)}로 비트를 보존해 넣으면
+ * 부동소수점 비교가 왕복 후에도 정확히 재현됩니다.</p>
+ */
+public final class CursorCodec {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {}
+
+    /**
+     * 정렬 키들을 커서 문자열로 인코딩합니다.
+     *
+     * @param keys 정렬 키(순서 유지)
+     * @return URL-safe Base64 커서
+     */
+    public static String encode(long... keys) {
+        ByteBuffer buffer = ByteBuffer.allocate(keys.length * Long.BYTES);
+        for (long key : keys) buffer.putLong(key);
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    /**
+     * 커서 문자열을 정렬 키 배열로 디코딩합니다.
+     *
+     * @param cursor   클라이언트가 전달한 커서
+     * @param keyCount 기대하는 키 개수
+     * @return 정렬 키 배열(길이 = keyCount)
+     * @throws InvalidCursorException 형식이 올바르지 않거나 키 개수가 맞지 않을 때
+     */
+    public static long[] decode(String cursor, int keyCount) {
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+        if (bytes.length != keyCount * Long.BYTES) throw new InvalidCursorException(cursor);
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long[] keys = new long[keyCount];
+        for (int i = 0; i < keyCount; i++) keys[i] = buffer.getLong();
+        return keys;
+    }
+}
@@ -4,28 +4,144 @@ import lombok.RequiredArgsConstructor;
 
 import java.text.Normalizer;
 import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
 
 @RequiredArgsConstructor
 public final class SlugUtil {
+    private static final int MAX_LENGTH = 100;
+
+    // 한글 음절 분해 상수(Unicode 표준 3.12절, NFD와 동일한 결과)
+    private static final int HANGUL_S_BASE = 0xAC00;
+    private static final int HANGUL_S_LAST = 0xD7A3;
+    private static final int HANGUL_L_BASE = 0x1100;
+    private static final int HANGUL_V_BASE = 0x1161;
+    private static final int HANGUL_T_BASE = 0x11A7;
+    private static final int HANGUL_T_COUNT = 28;
+    private static final int HANGUL_N_COUNT = 21 * HANGUL_T_COUNT;
+
+    private static final int TOKEN_LENGTH = 6;
+    private static final long TOKEN_SPACE = 2_176_782_336L; // 36^6
+
+    /**
+     * 제목을 URL 슬러그로 변환합니다.
+     *
+     * <p>
+     * 규칙(기존 정규식 파이프라인과 동일한 결과):
+     * <ol>
+     *   <li>NFD 분해 후 결합 발음부호(U+0300–U+036F)를 제거합니다. 한글 음절은 자모로 분해됩니다.</li>
+     *   <li>문자(alphabetic), 숫자(0-9), 한글, 공백(<code>\s</code>), 하이픈만 남깁니다.</li>
+     *   <li>앞뒤 공백을 제거하고, 공백/하이픈이 연속된 구간은 하이픈 하나로 바꿉니다.</li>
+     *   <li>소문자로 바꾸고 100자로 자릅니다. 결과가 비어 있으면 <code>post</code>를 반환합니다.</li>
+     * </ol>
+     * </p>
+     *
+     * @implNote 정규식/중간 문자열 없이 한 번의 순회로 처리합니다. ASCII와 한글 음절로만 이루어진 입력은
+     *           {@link Normalizer}도 거치지 않고 음절을 산술적으로 분해하며, 그 밖의 문자가 섞인 경우에만
+     *           NFD 정규화를 한 번 수행합니다. 비 ASCII 대문자가 있을 때만 {@link String#toLowerCase(Locale)}로
+     *           특수 케이스(İ, 어말 Σ 등)를 처리합니다.
+     */
     public static String toSlug(String input) {
         if (input == null) return "post";
 
-        // 분해 정규화 + 결합문자 제거(라틴 발음부호 등)
-        String n = Normalizer.normalize(input, Normalizer.Form.NFD).replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+        boolean fastPath = isAsciiOrHangulSyllables(input);
+        String source = fastPath ? input : stripCombiningMarksAroundSurrogates(Normalizer.normalize(input, Normalizer.Form.NFD));
+
+        StringBuilder out = new StringBuilder(source.length() + 16);
+        boolean inSeparator = false;   // 공백/하이픈 구간 진행 중
+        boolean separatorHasHyphen = false;
+        boolean needsLocaleLowerCase = false;
+
+        for (int i = 0, n = source.length(); i < n; ) {
+            int cp = source.codePointAt(i);
+            i += Character.charCount(cp);
 
-        // 허용: 한글, 영문/숫자, 공백/하이픈
-        String cleaned = n.replaceAll("[^\\p{IsAlphabetic}\\d\\uAC00-\\uD7A3\\s-]", "");
-        String hyphened = cleaned.trim().replaceAll("\\s+", "-").replaceAll("-{2,}", "-");
-        String lower = hyphened.toLowerCase(Locale.ROOT);
-        if(lower.isBlank()) return "post";
+            if (cp == '-' || isRegexWhitespace(cp)) {
+                inSeparator = true;
+                separatorHasHyphen |= cp == '-';
+                continue;
+            }
+            if (!isAllowed(cp)) continue; // 제거되는 문자는 구간을 끊지 않습니다
+
+            if (inSeparator) {
+                // 선행 구간은 하이픈이 있을 때만 남습니다(trim은 공백만 제거)
+                if (out.length() > 0 || separatorHasHyphen) out.append('-');
+                inSeparator = false;
+                separatorHasHyphen = false;
+            }
+
+            if (cp < 0x80) {
+                out.append((char) (cp >= 'A' && cp <= 'Z' ? cp + ('a' - 'A') : cp));
+            } else if (fastPath && cp >= HANGUL_S_BASE && cp <= HANGUL_S_LAST) {
+                appendDecomposedSyllable(out, cp);
+            } else {
+                out.appendCodePoint(cp);
+                needsLocaleLowerCase |= Character.toLowerCase(cp) != cp;
+            }
+        }
+        if (inSeparator && separatorHasHyphen) out.append('-');
+
+        String slug = needsLocaleLowerCase ? out.toString().toLowerCase(Locale.ROOT) : out.toString();
+        if (slug.isBlank()) return "post";
 
         // 길이 제한(예: 100)
-        return lower.length() > 100 ? lower.substring(0, 100) : lower;
+        return slug.length() > MAX_LENGTH ? slug.substring(0, MAX_LENGTH) : slug;
     }
 
+    /**
+     * 6자리 base-36 임의 토큰을 생성합니다(슬러그 충돌 회피용, 보안 용도 아님).
+     */
     public static String shortToken() {
-        long v = Math.abs(Double.doubleToLongBits(Math.random()));
-        String s = Long.toString(v, 36);
-        return s.substring(Math.max(0, s.length()-6));
+        String s = Long.toString(ThreadLocalRandom.current().nextLong(TOKEN_SPACE), 36);
+        return s.length() < TOKEN_LENGTH ? "0".repeat(TOKEN_LENGTH - s.length()) + s : s;
+    }
+
+    private static boolean isAsciiOrHangulSyllables(String input) {
+        for (int i = 0, n = input.length(); i < n; i++) {
+            char c = input.charAt(i);
+            if (c >= 0x80 && (c < HANGUL_S_BASE || c > HANGUL_S_LAST)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 짝이 맞지 않는 서로게이트 사이의 결합 발음부호를 미리 제거합니다.
+     *
+     * <p>기존 파이프라인은 발음부호를 먼저 제거한 뒤 코드 포인트 단위로 필터링하므로,
+     * 제거 후 인접하게 된 서로게이트가 하나의 문자로 합쳐집니다. 같은 결과를 내기 위해
+     * 서로게이트가 포함된 입력에 한해서만 별도 패스를 수행합니다.</p>
+     */
+    private static String stripCombiningMarksAroundSurrogates(String s) {
+        boolean hasSurrogate = false;
+        for (int i = 0, n = s.length(); i < n && !hasSurrogate; i++) {
+            hasSurrogate = Character.isSurrogate(s.charAt(i));
+        }
+        if (!hasSurrogate) return s;
+
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            if (c < 0x0300 || c > 0x036F) sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /** 정규식 <code>\s</code>와 같은 집합: [ \t\n\x0B\f\r] */
+    private static boolean isRegexWhitespace(int cp) {
+        return cp == ' ' || (cp >= '\t' && cp <= '\r');
+    }
+
+    private static boolean isAllowed(int cp) {
+        if (cp >= 0x0300 && cp <= 0x036F) return false; // 결합 발음부호
+        return (cp >= '0' && cp <= '9')
+                || (cp >= HANGUL_S_BASE && cp <= HANGUL_S_LAST)
+                || Character.isAlphabetic(cp);
+    }
+
+    private static void appendDecomposedSyllable(StringBuilder out, int syllable) {
+        int index = syllable - HANGUL_S_BASE;
+        out.append((char) (HANGUL_L_BASE + index / HANGUL_N_COUNT));
+        out.append((char) (HANGUL_V_BASE + (index % HANGUL_N_COUNT) / HANGUL_T_COUNT));
+        int t = index % HANGUL_T_COUNT;
+        if (t != 0) out.append((char) (HANGUL_T_BASE + t));
     }
 }
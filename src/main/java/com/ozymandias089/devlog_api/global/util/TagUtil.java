@@ -0,0 +1,96 @@
+package com.ozymandias089.devlog_api.global.util;
+
+import com.ozymandias089.devlog_api.global.exception.InvalidTagException;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 게시글 태그 정규화 유틸리티입니다.
+ *
+ * <p>
+ * 태그는 소문자로 바꾸고, 공백/밑줄 구간은 하이픈 하나로 바꾼 뒤 문자(한글 포함)/숫자/하이픈만 허용합니다.
+ * 정규화 결과가 같은 태그는 하나로 취급합니다(<code>Spring Boot</code> = <code>spring-boot</code>).
+ * 허용 문자에 LIKE 와일드카드가 없으므로 접두사 검색 시 이스케이프가 필요 없습니다.
+ * </p>
+ */
+public final class TagUtil {
+    /** 태그 최대 길이 */
+    public static final int MAX_LENGTH = 30;
+    /** 게시글당 최대 태그 수 */
+    public static final int MAX_TAGS = 10;
+
+    private TagUtil() {}
+
+    /**
+     * 태그 목록을 정규화하고 중복을 제거합니다(입력 순서 유지).
+     *
+     * @param tags 원본 태그(null이면 빈 집합)
+     * @return 정규화된 태그
+     * @throws InvalidTagException 허용되지 않는 문자/길이이거나 개수가 {@value #MAX_TAGS}개를 넘는 경우
+     */
+    public static Set<String> normalize(Collection<String> tags) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (tags == null) return normalized;
+        for (String tag : tags) normalized.add(normalize(tag));
+        if (normalized.size() > MAX_TAGS) throw new InvalidTagException("Too many tags (max " + MAX_TAGS + ")");
+        return normalized;
+    }
+
+    /**
+     * 태그 하나를 정규화합니다.
+     *
+     * @param tag 원본 태그
+     * @return 정규화된 태그
+     * @throws InvalidTagException 비어 있거나, 허용되지 않는 문자가 있거나, {@value #MAX_LENGTH}자를 넘는 경우
+     */
+    public static String normalize(String tag) {
+        if (tag == null || tag.isBlank()) throw new InvalidTagException("Tag must not be blank");
+        String source = tag.trim().toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(source.length());
+        boolean pendingHyphen = false;
+        for (int i = 0, n = source.length(); i < n; ) {
+            int cp = source.codePointAt(i);
+            i += Character.charCount(cp);
+            if (Character.isWhitespace(cp) || cp == '_' || cp == '-') {
+                pendingHyphen = sb.length() > 0;
+            } else if (Character.isLetterOrDigit(cp)) {
+                if (pendingHyphen) sb.append('-');
+                pendingHyphen = false;
+                sb.appendCodePoint(cp);
+            } else {
+                throw new InvalidTagException("Invalid character in tag: " + tag);
+            }
+        }
+        if (sb.length() == 0) throw new InvalidTagException("Tag must not be blank");
+        if (sb.codePointCount(0, sb.length()) > MAX_LENGTH) throw new InvalidTagException("Tag too long (max " + MAX_LENGTH + "): " + tag);
+        return sb.toString();
+    }
+
+    /**
+     * 접두사 검색어를 정규화합니다. 끝의 구분자는 유지하지 않으며, 허용되지 않는 문자는 무시합니다.
+     *
+     * @param prefix 입력 중인 태그
+     * @return 정규화된 접두사(비어 있을 수 있음)
+     */
+    public static String normalizePrefix(String prefix) {
+        if (prefix == null) return "";
+        String source = prefix.trim().toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(source.length());
+        boolean pendingHyphen = false;
+        for (int i = 0, n = source.length(); i < n && sb.length() < MAX_LENGTH; ) {
+            int cp = source.codePointAt(i);
+            i += Character.charCount(cp);
+            if (Character.isWhitespace(cp) || cp == '_' || cp == '-') {
+                pendingHyphen = sb.length() > 0;
+            } else if (Character.isLetterOrDigit(cp)) {
+                if (pendingHyphen) sb.append('-');
+                pendingHyphen = false;
+                sb.appendCodePoint(cp);
+            }
+        }
+        return sb.toString();
+    }
+}
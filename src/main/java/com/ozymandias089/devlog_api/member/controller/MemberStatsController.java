@@ -0,0 +1,58 @@
+package com.ozymandias089.devlog_api.member.controller;
+
+import com.ozymandias089.devlog_api.member.dto.request.LeaderboardSort;
+import com.ozymandias089.devlog_api.member.dto.response.LeaderboardResponseDTO;
+import com.ozymandias089.devlog_api.member.dto.response.MemberStatsResponseDTO;
+import com.ozymandias089.devlog_api.member.service.MemberStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * 작성자 통계 REST 컨트롤러입니다.
+ *
+ * <p><strong>Base Path:</strong> <code>/api/members</code></p>
+ * <p>모든 조회는 인증 없이 사용할 수 있습니다.</p>
+ *
+ * @since 1.1
+ */
+@RestController
+@RequestMapping("/api/members")
+@Tag(name = "Members", description = "User management APIs")
+@RequiredArgsConstructor
+public class MemberStatsController {
+    private final MemberStatsService memberStatsService;
+
+    /**
+     * 작성자 프로필 통계(게시글 수, 조회수 합, 최근 작성 시각)를 조회합니다.
+     *
+     * @param uuid 회원 UUID
+     * @return <strong>200 OK</strong> 와 함께 {@link MemberStatsResponseDTO}
+     * @throws com.ozymandias089.devlog_api.global.exception.MemberNotFoundException 회원이 없을 때(404)
+     */
+    @GetMapping(value = "/{uuid}/stats", produces = "application/json")
+    @Operation(summary = "Get author stats", description = "작성자의 게시글 수, 조회수 합, 최근 작성 시각")
+    @ApiResponse(responseCode = "404", description = "회원이 없음")
+    public ResponseEntity<MemberStatsResponseDTO> getStats(@PathVariable UUID uuid) {
+        return ResponseEntity.ok(memberStatsService.getStats(uuid));
+    }
+
+    /**
+     * 작성자 순위를 조회합니다.
+     *
+     * @param sort 정렬 기준(<code>VIEWS</code> 기본, <code>POSTS</code>)
+     * @param size 최대 인원(기본값 10, 최대 100)
+     * @return <strong>200 OK</strong> 와 함께 순위순 작성자 통계
+     */
+    @GetMapping(value = "/leaderboard", produces = "application/json")
+    @Operation(summary = "Get author leaderboard", description = "작성 게시글 조회수 합(VIEWS) 또는 게시글 수(POSTS) 상위 작성자. max 100")
+    public ResponseEntity<LeaderboardResponseDTO> getLeaderboard(@RequestParam(defaultValue = "VIEWS") LeaderboardSort sort,
+                                                                 @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(memberStatsService.getLeaderboard(sort, size));
+    }
+}
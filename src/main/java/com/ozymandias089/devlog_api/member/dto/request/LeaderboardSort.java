@@ -0,0 +1,14 @@
+package com.ozymandias089.devlog_api.member.dto.request;
+
+/**
+ * 작성자 순위의 정렬 기준입니다.
+ *
+ * <ul>
+ *   <li>{@link #VIEWS} — 작성 게시글 조회수 합 순, <code>idx_member_stats_total_views</code> 사용</li>
+ *   <li>{@link #POSTS} — 게시글 수 순, <code>idx_member_stats_post_count</code> 사용</li>
+ * </ul>
+ */
+public enum LeaderboardSort {
+    VIEWS,
+    POSTS
+}
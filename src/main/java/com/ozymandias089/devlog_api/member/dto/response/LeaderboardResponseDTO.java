@@ -0,0 +1,19 @@
+package com.ozymandias089.devlog_api.member.dto.response;
+
+import com.ozymandias089.devlog_api.member.dto.request.LeaderboardSort;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class LeaderboardResponseDTO {
+    private LeaderboardSort sort;
+    private List<MemberStatsResponseDTO> members;
+
+    @Builder
+    public LeaderboardResponseDTO(LeaderboardSort sort, List<MemberStatsResponseDTO> members) {
+        this.sort = sort;
+        this.members = members;
+    }
+}
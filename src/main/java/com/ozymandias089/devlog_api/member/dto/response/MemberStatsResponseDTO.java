@@ -0,0 +1,26 @@
+package com.ozymandias089.devlog_api.member.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+public class MemberStatsResponseDTO {
+    private UUID uuid;
+    private String username;
+    private long postCount;
+    private long totalViews;
+    /** 가장 최근 게시글의 작성 시각(게시글이 없으면 null) */
+    private Instant latestPostAt;
+
+    @Builder
+    public MemberStatsResponseDTO(UUID uuid, String username, long postCount, long totalViews, Instant latestPostAt) {
+        this.uuid = uuid;
+        this.username = username;
+        this.postCount = postCount;
+        this.totalViews = totalViews;
+        this.latestPostAt = latestPostAt;
+    }
+}
@@ -7,6 +7,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,6 +43,15 @@ public class MemberEntity {
     @Column(nullable = false)
     private Role role;
 
+    /**
+     * 낙관적 잠금 버전. 노드 간 캐시 무효화에서 역순 수신을 걸러내는 데도 씁니다.
+     */
+    @Getter
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version = 0L;
+
     @Getter
     @OneToMany(mappedBy = "author", fetch = FetchType.LAZY, cascade = CascadeType.PERSIST, orphanRemoval = false)
     private List<PostEntity> posts = new ArrayList<>();
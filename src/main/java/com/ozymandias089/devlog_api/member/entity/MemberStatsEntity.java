@@ -0,0 +1,45 @@
+package com.ozymandias089.devlog_api.member.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 회원(작성자)별 통계입니다. 작성자 프로필과 작성자 순위는 <code>post</code>를 집계하지 않고 이 행만 읽습니다.
+ *
+ * <p>
+ * 게시글 수와 최근 작성 시각은 게시글 작성/삭제 트랜잭션에서, 조회수 합은 조회수 증가 경로에서 모아 주기적으로 갱신합니다.
+ * 어긋난 값은 주기적인 재집계로 바로잡습니다({@link com.ozymandias089.devlog_api.member.provider.MemberStatsProvider}).
+ * </p>
+ *
+ * @since 1.1
+ */
+@Entity
+@Table(name = "member_stats",
+        indexes = {
+                @Index(name = "idx_member_stats_total_views", columnList = "totalViews"),
+                @Index(name = "idx_member_stats_post_count", columnList = "postCount")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberStatsEntity {
+    /** 회원 PK */
+    @Id
+    @Getter
+    private Long memberId;
+
+    @Getter
+    @Column(nullable = false)
+    private Long postCount;
+
+    /** 작성한 게시글의 조회수 합 */
+    @Getter
+    @Column(nullable = false)
+    private Long totalViews;
+
+    /** 가장 최근 게시글의 작성 시각(게시글이 없으면 null) */
+    @Getter
+    private Instant latestPostAt;
+}
@@ -0,0 +1,16 @@
+package com.ozymandias089.devlog_api.member.event;
+
+/**
+ * 다른 도메인의 캐시에 영향을 주는 회원 변경(가입, 표시 이름 변경, 탈퇴) 도메인 이벤트입니다.
+ *
+ * <p>
+ * {@code MemberService}의 쓰기 트랜잭션 안에서 발행되며, 트랜잭션 아웃박스에 같은 트랜잭션으로 기록됩니다.
+ * 변경 종류는 싣지 않으므로 리스너는 회원을 다시 읽어 반영합니다(없으면 탈퇴).
+ * </p>
+ *
+ * @param memberId 회원 PK
+ * @param uuid     회원 UUID
+ * @param version  변경 후 회원 버전
+ * @since 1.1
+ */
+public record MemberChangedEvent(Long memberId, String uuid, Long version) {}
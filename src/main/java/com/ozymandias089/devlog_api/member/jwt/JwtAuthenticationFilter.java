@@ -76,8 +76,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     String subject = jwtTokenProvider.getSubject(token);
                     String role = jwtTokenProvider.getRoleFromToken(token);
 
+                    // roles claim은 Role enum 이름(ROLE_USER 등) 그대로이므로 접두사를 중복으로 붙이지 않는다.
                     Collection<GrantedAuthority> authorities = List.of(
-                            new SimpleGrantedAuthority("ROLE_" + role)
+                            new SimpleGrantedAuthority(role.startsWith("ROLE_") ? role : "ROLE_" + role)
                     );
 
                     UsernamePasswordAuthenticationToken authToken =
@@ -2,11 +2,14 @@ package com.ozymandias089.devlog_api.member.provider;
 
 import com.ozymandias089.devlog_api.global.enums.Role;
 import com.ozymandias089.devlog_api.member.PasswordValidationResult;
+import com.ozymandias089.devlog_api.member.dto.request.LeaderboardSort;
 import com.ozymandias089.devlog_api.member.dto.request.SignupRequestDTO;
 import com.ozymandias089.devlog_api.member.dto.response.*;
 import com.ozymandias089.devlog_api.member.entity.MemberEntity;
+import com.ozymandias089.devlog_api.member.repository.MemberStatsRepository;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -109,4 +112,34 @@ public final class MemberMapper {
                 .resetToken(resetToken)
                 .build();
     }
+
+    /**
+     * 회원 통계 프로젝션을 {@link MemberStatsResponseDTO}로 변환합니다.
+     *
+     * @param row 회원 통계
+     * @return 작성자 프로필 통계 DTO
+     */
+    public static MemberStatsResponseDTO toMemberStatsResponseDTO(MemberStatsRepository.StatsRow row) {
+        return MemberStatsResponseDTO.builder()
+                .uuid(row.getUuid())
+                .username(row.getUsername())
+                .postCount(row.getPostCount())
+                .totalViews(row.getTotalViews())
+                .latestPostAt(row.getLatestPostAt())
+                .build();
+    }
+
+    /**
+     * 순위순 회원 통계를 {@link LeaderboardResponseDTO}로 변환합니다.
+     *
+     * @param sort 정렬 기준
+     * @param rows 순위순 회원 통계
+     * @return 작성자 순위 DTO
+     */
+    public static LeaderboardResponseDTO toLeaderboardResponseDTO(LeaderboardSort sort, List<MemberStatsRepository.StatsRow> rows) {
+        return LeaderboardResponseDTO.builder()
+                .sort(sort)
+                .members(rows.stream().map(MemberMapper::toMemberStatsResponseDTO).toList())
+                .build();
+    }
 }
@@ -0,0 +1,207 @@
+package com.ozymandias089.devlog_api.member.provider;
+
+import com.ozymandias089.devlog_api.member.repository.MemberRepository;
+import com.ozymandias089.devlog_api.member.repository.MemberStatsRepository;
+import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 회원(작성자)별 통계(<code>member_stats</code>)를 갱신합니다.
+ *
+ * <ul>
+ *   <li><strong>게시글 수/최근 작성 시각</strong> — 게시글 작성/삭제 트랜잭션 안에서 upsert 한 문장으로 증감합니다.</li>
+ *   <li><strong>조회수 합</strong> — 조회수 증가 경로는 노드 메모리의 슬러그별 카운터만 올립니다(I/O 없음).
+ *       {@code flushInterval}마다 버킷을 비워 슬러그의 작성자를 <code>IN</code> 조회 1회로 찾고, 작성자별로 합쳐
+ *       작성자당 update 1회로 반영합니다. 인기 작성자의 통계 행이 조회마다 잠기지 않습니다.</li>
+ *   <li><strong>재집계</strong> — {@code reconcileCron}마다 회원 PK 순으로 {@code batchSize}명씩 <code>post</code>를 다시 집계해 덮어씁니다.
+ *       반영 전 버킷 유실(재시작), 삭제 직전 조회 등으로 어긋난 값을 바로잡습니다. 통계 테이블이 비어 있으면 기동 시에도 한 번 실행합니다.</li>
+ * </ul>
+ *
+ * @implNote 재집계 직전에 이 노드의 버킷은 먼저 반영하지만, 다른 노드의 미반영 조회수는 재집계 값에 이미 포함된 뒤 한 번 더 더해질 수 있습니다
+ *           (반영 주기만큼의 조회수, 다음 재집계에서 정정).
+ * @since 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberStatsProvider {
+    private final MemberStatsRepository memberStatsRepository;
+    private final MemberRepository memberRepository;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /** 재집계 시 한 트랜잭션에서 처리하는 회원 수 */
+    @Value("${app.members.stats.reconcile-batch-size:500}")
+    private int batchSize;
+
+    /** 아직 반영하지 않은 슬러그별 조회 수 */
+    private final AtomicReference<ConcurrentHashMap<String, LongAdder>> pending = new AtomicReference<>(new ConcurrentHashMap<>());
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile Thread driver;
+
+    /* ==================== 게시글 작성/삭제 ==================== */
+
+    /**
+     * 새 게시글을 작성자 통계에 더합니다. 게시글 작성 트랜잭션 안에서 호출합니다.
+     *
+     * @param memberId  작성자 PK
+     * @param createdAt 게시글 작성 시각
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordPostCreated(Long memberId, Instant createdAt) {
+        memberStatsRepository.addPost(memberId, createdAt);
+    }
+
+    /**
+     * 삭제된 게시글을 작성자 통계에서 뺍니다. 게시글 삭제 트랜잭션 안에서, 게시글을 삭제한 뒤 호출합니다.
+     *
+     * @param memberId  작성자 PK
+     * @param viewCount 삭제된 게시글의 조회수
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordPostDeleted(Long memberId, Long viewCount) {
+        memberStatsRepository.removePost(memberId, viewCount == null ? 0 : viewCount);
+    }
+
+    /* ==================== 조회수 ==================== */
+
+    /**
+     * 게시글 조회 1회를 로컬 버킷에 기록합니다.
+     *
+     * @param slug 조회수가 증가한 게시글 슬러그
+     */
+    public void recordView(String slug) {
+        pending.get().computeIfAbsent(slug, s -> new LongAdder()).increment();
+    }
+
+    /**
+     * 여러 게시글의 조회 1회씩을 로컬 버킷에 기록합니다(없는 슬러그는 반영 시 버려짐).
+     *
+     * @param slugs 조회수가 증가한 게시글 슬러그
+     */
+    public void recordViews(Collection<String> slugs) {
+        ConcurrentHashMap<String, LongAdder> bucket = pending.get();
+        for (String slug : slugs) bucket.computeIfAbsent(slug, s -> new LongAdder()).increment();
+    }
+
+    /**
+     * 모인 조회수를 작성자별로 합쳐 반영합니다. 실패하면 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.members.stats.flush-interval:PT10S}",
+            initialDelayString = "${app.members.stats.flush-interval:PT10S}")
+    public void flushViews() {
+        if (pending.get().isEmpty() || !flushLock.tryLock()) return;
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        ConcurrentHashMap<String, LongAdder> bucket = pending.getAndSet(new ConcurrentHashMap<>());
+        if (bucket.isEmpty()) return;
+        try {
+            Map<Long, Long> byAuthor = new TreeMap<>(); // PK 순으로 잠가 노드 간 교착을 피함
+            List<String> slugs = new ArrayList<>(bucket.keySet());
+            for (PostRepository.SlugAuthor row : postRepository.findAuthorIdsBySlugIn(slugs)) {
+                byAuthor.merge(row.getAuthorId(), bucket.get(row.getSlug()).sum(), Long::sum);
+            }
+            transactionTemplate.executeWithoutResult(status -> byAuthor.forEach(memberStatsRepository::addViews));
+        } catch (Exception e) {
+            log.warn("Member view stats flush failed, retrying later: {}", e.getMessage());
+            ConcurrentHashMap<String, LongAdder> current = pending.get();
+            bucket.forEach((slug, count) -> current.computeIfAbsent(slug, s -> new LongAdder()).add(count.sum()));
+        }
+    }
+
+    /* ==================== 재집계 ==================== */
+
+    /**
+     * 통계 테이블이 비어 있으면(기능 도입 직후) 기동 시 백그라운드 스레드로 전체를 집계합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeOnStartup() {
+        Thread thread = new Thread(() -> {
+            try {
+                if (memberStatsRepository.count() == 0) reconcileAll();
+            } catch (Exception e) {
+                log.warn("Member stats backfill stopped: {}", e.getMessage());
+            }
+        }, "member-stats-backfill");
+        thread.setDaemon(true);
+        driver = thread;
+        thread.start();
+    }
+
+    /**
+     * 설정된 주기마다 전체를 다시 집계합니다(<code>-</code>면 비활성).
+     */
+    @Scheduled(cron = "${app.members.stats.reconcile-cron:0 30 4 * * *}")
+    public void reconcileOnSchedule() {
+        try {
+            reconcileAll();
+        } catch (Exception e) {
+            log.warn("Member stats reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 모든 회원의 통계를 <code>post</code>에서 다시 집계해 덮어씁니다. 먼저 이 노드의 미반영 조회수를 반영합니다.
+     *
+     * @return 처리한 회원 수
+     */
+    public long reconcileAll() {
+        flushLock.lock();
+        try {
+            flushPending();
+            long members = 0;
+            long afterId = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                List<Long> ids = memberRepository.findIdsAfter(afterId, Limit.of(batchSize));
+                if (ids.isEmpty()) break;
+                long from = afterId;
+                long to = ids.get(ids.size() - 1);
+                transactionTemplate.executeWithoutResult(status -> memberStatsRepository.reconcile(from, to));
+                members += ids.size();
+                afterId = to;
+            }
+            log.info("Reconciled member stats for {} members", members);
+            return members;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 진행 중인 백필을 중단하고 미반영 조회수를 반영합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        Thread thread = driver;
+        if (thread != null) thread.interrupt();
+        flushPending();
+    }
+}
@@ -1,9 +1,13 @@
 package com.ozymandias089.devlog_api.member.repository;
 
 import com.ozymandias089.devlog_api.member.entity.MemberEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,4 +17,59 @@ public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
     Optional<MemberEntity> findByUuid(UUID uuid);
     Optional<MemberEntity> findByUsername(String Username);
     boolean existsByEmail(String email);
+
+    @Query("select m.id from MemberEntity m where m.uuid = :uuid")
+    Optional<Long> findIdByUuid(@Param("uuid") UUID uuid);
+
+    /**
+     * PK 오름차순으로 회원 PK를 조회합니다(회원별 통계 재집계용).
+     *
+     * @param afterId 이전 배치의 마지막 PK(처음이면 0)
+     * @param limit   최대 행 수
+     * @return PK 오름차순 목록
+     */
+    @Query("select m.id from MemberEntity m where m.id > :afterId order by m.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 사용자 이름 자동완성 색인용 프로젝션입니다.
+     */
+    interface SuggestSource {
+        Long getId();
+        UUID getUuid();
+        String getUsername();
+        /** 작성한 게시글의 조회수 합(인기도, <code>member_stats.total_views</code>) */
+        Long getPopularity();
+    }
+
+    /**
+     * 자동완성 색인 구축용으로 회원을 PK 오름차순으로 조회합니다. 인기도는 <code>post</code>를 집계하지 않고
+     * 작성자 통계(<code>member_stats</code>)의 조회수 합을 읽습니다. 통계 행이 없으면 0입니다.
+     *
+     * @param afterId 이 PK보다 큰 행만 조회
+     * @param limit   최대 행 수
+     * @return 색인 원본
+     */
+    @Query("""
+      select m.id as id, m.uuid as uuid, m.username as username, coalesce(s.totalViews, 0) as popularity
+      from MemberEntity m
+      left join MemberStatsEntity s on s.memberId = m.id
+      where m.id > :afterId
+      order by m.id
+    """)
+    List<SuggestSource> findSuggestSources(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 회원 한 명의 자동완성 색인 원본을 조회합니다.
+     *
+     * @param id 회원 PK
+     * @return 색인 원본. 없으면 {@link Optional#empty()}
+     */
+    @Query("""
+      select m.id as id, m.uuid as uuid, m.username as username, coalesce(s.totalViews, 0) as popularity
+      from MemberEntity m
+      left join MemberStatsEntity s on s.memberId = m.id
+      where m.id = :id
+    """)
+    Optional<SuggestSource> findSuggestSourceById(@Param("id") Long id);
 }
@@ -0,0 +1,163 @@
+package com.ozymandias089.devlog_api.member.repository;
+
+import com.ozymandias089.devlog_api.member.entity.MemberStatsEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * {@link MemberStatsEntity}(회원별 통계)에 대한 JPA 리포지토리입니다.
+ *
+ * <p>
+ * 증감은 모두 원자적 upsert/update 한 문장이므로 동시 작성/삭제도 행 잠금으로 직렬화됩니다.
+ * 작성자 순위는 <code>idx_member_stats_total_views</code>/<code>idx_member_stats_post_count</code> 역순 스캔으로 상위 N명만 읽습니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Repository
+public interface MemberStatsRepository extends JpaRepository<MemberStatsEntity, Long> {
+    /**
+     * 회원 통계 프로젝션입니다.
+     */
+    interface StatsRow {
+        UUID getUuid();
+        String getUsername();
+        Long getPostCount();
+        Long getTotalViews();
+        /** 게시글이 없으면 null */
+        Instant getLatestPostAt();
+    }
+
+    /**
+     * 새 게시글을 작성자 통계에 더합니다(행이 없으면 생성).
+     *
+     * @param memberId  작성자 PK
+     * @param createdAt 게시글 작성 시각
+     * @return 영향받은 행 수(MySQL 기준 삽입 1, 갱신 2)
+     */
+    @Modifying
+    @Query(value = """
+      insert into member_stats (member_id, post_count, total_views, latest_post_at) values (:memberId, 1, 0, :createdAt)
+      on duplicate key update post_count = post_count + 1,
+                              latest_post_at = greatest(coalesce(latest_post_at, :createdAt), :createdAt)
+    """, nativeQuery = true)
+    int addPost(@Param("memberId") Long memberId, @Param("createdAt") Instant createdAt);
+
+    /**
+     * 삭제된 게시글을 작성자 통계에서 뺍니다. 같은 트랜잭션에서 게시글을 먼저 삭제해야 최근 작성 시각이 맞습니다.
+     *
+     * <p>최근 작성 시각은 <code>idx_post_author_created_at</code>에서 작성자의 최댓값 하나만 읽어 다시 정합니다.</p>
+     *
+     * @param memberId  작성자 PK
+     * @param viewCount 삭제된 게시글의 조회수
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query(value = """
+      update member_stats
+      set post_count = greatest(post_count - 1, 0),
+          total_views = greatest(total_views - :viewCount, 0),
+          latest_post_at = (select max(p.created_at) from post p where p.author_id = :memberId)
+      where member_id = :memberId
+    """, nativeQuery = true)
+    int removePost(@Param("memberId") Long memberId, @Param("viewCount") long viewCount);
+
+    /**
+     * 작성자의 조회수 합을 늘립니다. 통계 행이 없으면(백필 전) 아무것도 하지 않으며 재집계가 채웁니다.
+     *
+     * @param memberId 작성자 PK
+     * @param views    늘릴 조회수
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query(value = "update member_stats set total_views = total_views + :views where member_id = :memberId", nativeQuery = true)
+    int addViews(@Param("memberId") Long memberId, @Param("views") long views);
+
+    /**
+     * PK 범위 <code>(afterId, lastId]</code> 회원의 통계를 <code>post</code>에서 다시 집계해 덮어씁니다(없으면 생성).
+     *
+     * @param afterId 이전 배치의 마지막 회원 PK
+     * @param lastId  이번 배치의 마지막 회원 PK
+     * @return 영향받은 행 수
+     */
+    @Modifying
+    @Query(value = """
+      insert into member_stats (member_id, post_count, total_views, latest_post_at)
+      select * from (
+        select m.id as member_id, count(p.id) as post_count, coalesce(sum(p.view_count), 0) as total_views,
+               max(p.created_at) as latest_post_at
+        from member m
+        left join post p on p.author_id = m.id
+        where m.id > :afterId and m.id <= :lastId
+        group by m.id
+      ) agg
+      on duplicate key update post_count = agg.post_count, total_views = agg.total_views, latest_post_at = agg.latest_post_at
+    """, nativeQuery = true)
+    int reconcile(@Param("afterId") Long afterId, @Param("lastId") Long lastId);
+
+    /**
+     * 회원의 통계 행을 삭제합니다(회원 탈퇴).
+     *
+     * @param memberId 회원 PK
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from MemberStatsEntity s where s.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 회원 한 명의 통계를 조회합니다. 통계 행이 아직 없으면 0으로 채웁니다.
+     *
+     * @param uuid 회원 UUID
+     * @return 통계. 회원이 없으면 {@link Optional#empty()}
+     */
+    @Query("""
+      select m.uuid as uuid, m.username as username, coalesce(s.postCount, 0L) as postCount,
+             coalesce(s.totalViews, 0L) as totalViews, s.latestPostAt as latestPostAt
+      from MemberEntity m
+      left join MemberStatsEntity s on s.memberId = m.id
+      where m.uuid = :uuid
+    """)
+    Optional<StatsRow> findRowByUuid(@Param("uuid") UUID uuid);
+
+    /**
+     * 작성 게시글 조회수 합 상위 작성자를 조회합니다.
+     *
+     * @param limit 최대 인원
+     * @return <code>totalViews DESC, memberId DESC</code> 순 목록(게시글이 없는 회원 제외)
+     */
+    @Query("""
+      select m.uuid as uuid, m.username as username, s.postCount as postCount,
+             s.totalViews as totalViews, s.latestPostAt as latestPostAt
+      from MemberStatsEntity s
+      join MemberEntity m on m.id = s.memberId
+      where s.postCount > 0
+      order by s.totalViews desc, s.memberId desc
+    """)
+    List<StatsRow> findTopByViews(Limit limit);
+
+    /**
+     * 게시글 수 상위 작성자를 조회합니다.
+     *
+     * @param limit 최대 인원
+     * @return <code>postCount DESC, memberId DESC</code> 순 목록(게시글이 없는 회원 제외)
+     */
+    @Query("""
+      select m.uuid as uuid, m.username as username, s.postCount as postCount,
+             s.totalViews as totalViews, s.latestPostAt as latestPostAt
+      from MemberStatsEntity s
+      join MemberEntity m on m.id = s.memberId
+      where s.postCount > 0
+      order by s.postCount desc, s.memberId desc
+    """)
+    List<StatsRow> findTopByPosts(Limit limit);
+}
@@ -15,12 +15,15 @@ import com.ozymandias089.devlog_api.member.dto.response.LoginResponseDTO;
 import com.ozymandias089.devlog_api.member.dto.response.PasswordValidationResponseDTO;
 import com.ozymandias089.devlog_api.member.dto.response.SignupResponseDTO;
 import com.ozymandias089.devlog_api.member.entity.MemberEntity;
+import com.ozymandias089.devlog_api.member.event.MemberChangedEvent;
 import com.ozymandias089.devlog_api.member.provider.MemberProvider;
 import com.ozymandias089.devlog_api.member.repository.MemberRepository;
+import com.ozymandias089.devlog_api.member.repository.MemberStatsRepository;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,10 +38,12 @@ import static com.ozymandias089.devlog_api.global.util.RegexPatterns.USERNAME_RE
 @RequiredArgsConstructor
 public class MemberService {
     private final MemberRepository repository;
+    private final MemberStatsRepository memberStatsRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final EmailService emailService;
     private final MemberProvider memberProvider;
+    private final ApplicationEventPublisher eventPublisher;
     @Value("${app.frontend.password-reset-url}")
     private String passwordResetUrl;
 
@@ -78,6 +83,7 @@ public class MemberService {
         MemberEntity member = MemberMapper.toMemberEntity(requestDTO, encodedPassword, username, defaultRole);
         MemberEntity saved = repository.save(member);
         log.info("User information saved to entity.");
+        eventPublisher.publishEvent(new MemberChangedEvent(saved.getId(), saved.getUuid().toString(), saved.getVersion()));
 
         // Create JWT AnR Tokens
         String accessToken = jwtTokenProvider.generateAccessToken(saved.getUuid().toString(), defaultRole);
@@ -168,7 +174,7 @@ public class MemberService {
      * <p>
      * - UUID로 회원을 조회하고, 입력받은 원문 비밀번호와 저장된 비밀번호를 비교하여 검증합니다.
      * - 비밀번호가 일치하지 않으면 인증 예외를 발생시킵니다.
-     * - 회원 정보를 삭제하고, 관련된 리프레시 토큰을 삭제합니다.
+     * - 회원 정보를 삭제하고, 관련된 리프레시 토큰을 삭제합니다. 삭제는 트랜잭션 아웃박스에도 기록됩니다.
      * - 액세스 토큰을 블랙리스트에 등록하여 즉시 만료 처리합니다.
      *
      * @param uuid 회원의 고유 식별자(UUID 문자열)
@@ -184,6 +190,8 @@ public class MemberService {
         }
 
         repository.delete(member);
+        memberStatsRepository.deleteByMemberId(member.getId());
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getId(), uuid, member.getVersion() + 1));
 
         // 관련 토큰 삭제 (리프레시 토큰, 블랙리스트 등록)
         jwtTokenProvider.deleteRefreshToken(uuid);  // 리프레시 토큰 삭제
@@ -220,6 +228,8 @@ public class MemberService {
      * This method validates the provided new username against a predefined format
      * using {@code USERNAME_REGEX}, ensures it is not blank or identical to the current one,
      * and then updates it in the database.
+     * The change is also recorded in the transactional outbox so that other nodes
+     * drop cached author names.
      * </p>
      *
      * @param uuid        The unique UUID of the member as a string.
@@ -237,7 +247,8 @@ public class MemberService {
         if (newUsername.equals(member.getUsername())) return;
 
         member.updateUsername(newUsername);
-        repository.save(member);
+        repository.saveAndFlush(member); // flush to obtain the incremented version for the change event
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getId(), member.getUuid().toString(), member.getVersion()));
     }
 
     /**
@@ -0,0 +1,65 @@
+package com.ozymandias089.devlog_api.member.service;
+
+import com.ozymandias089.devlog_api.global.exception.MemberNotFoundException;
+import com.ozymandias089.devlog_api.member.dto.request.LeaderboardSort;
+import com.ozymandias089.devlog_api.member.dto.response.LeaderboardResponseDTO;
+import com.ozymandias089.devlog_api.member.dto.response.MemberStatsResponseDTO;
+import com.ozymandias089.devlog_api.member.provider.MemberMapper;
+import com.ozymandias089.devlog_api.member.repository.MemberStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 작성자 프로필 통계와 작성자 순위 조회 유스케이스를 제공합니다.
+ *
+ * <p>
+ * 두 조회 모두 회원별 통계 테이블(<code>member_stats</code>)만 읽습니다. 통계는 게시글 작성/삭제 트랜잭션과 조회수 반영 주기에
+ * 갱신되므로({@link com.ozymandias089.devlog_api.member.provider.MemberStatsProvider}) 요청 시 <code>post</code>를 집계하지 않습니다.
+ * 조회수 합은 반영 주기(기본 10초)만큼 늦을 수 있습니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberStatsService {
+    /** 작성자 순위 최대 인원 */
+    private static final int MAX_LEADERBOARD = 100;
+
+    private final MemberStatsRepository memberStatsRepository;
+
+    /**
+     * 작성자의 게시글 수, 조회수 합, 최근 작성 시각을 조회합니다.
+     *
+     * @param uuid 회원 UUID
+     * @return 작성자 프로필 통계
+     * @throws MemberNotFoundException 회원이 없을 때
+     */
+    @Transactional(readOnly = true)
+    public MemberStatsResponseDTO getStats(UUID uuid) {
+        return memberStatsRepository.findRowByUuid(uuid)
+                .map(MemberMapper::toMemberStatsResponseDTO)
+                .orElseThrow(() -> new MemberNotFoundException(uuid.toString()));
+    }
+
+    /**
+     * 작성자 순위를 조회합니다.
+     *
+     * @param sort 정렬 기준
+     * @param size 최대 인원(1~{@value #MAX_LEADERBOARD}로 캡)
+     * @return 순위순 작성자 통계(게시글이 없는 회원 제외)
+     */
+    @Transactional(readOnly = true)
+    public LeaderboardResponseDTO getLeaderboard(LeaderboardSort sort, int size) {
+        Limit limit = Limit.of(Math.min(Math.max(size, 1), MAX_LEADERBOARD));
+        List<MemberStatsRepository.StatsRow> rows = sort == LeaderboardSort.POSTS
+                ? memberStatsRepository.findTopByPosts(limit)
+                : memberStatsRepository.findTopByViews(limit);
+        return MemberMapper.toLeaderboardResponseDTO(sort, rows);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ozymandias089.devlog_api.post.controller;
+
+import com.ozymandias089.devlog_api.global.util.AcceptEncoding;
+import com.ozymandias089.devlog_api.post.service.PostService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 관리자용 게시글 REST 컨트롤러입니다.
+ *
+ * <p><strong>Base Path:</strong> <code>/api/admin/posts</code></p>
+ * <p><code>ROLE_ADMIN</code> 권한이 필요합니다.</p>
+ *
+ * @since 1.1
+ */
+@RestController
+@RequestMapping("/api/admin/posts")
+@Tag(name = "Post Admin", description = "Post administration APIs")
+@RequiredArgsConstructor
+public class AdminPostController {
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final PostService postService;
+
+    /**
+     * 전체 게시글을 NDJSON으로 스트리밍합니다(백업/분석 적재용).
+     *
+     * <p>
+     * 한 줄에 게시글 하나(JSON 객체)를 PK 오름차순으로 씁니다. 전송이 중단되면 마지막으로 받은 줄의
+     * <code>id</code>를 <code>after</code>로 넘겨 이어받을 수 있습니다.
+     * <code>Accept-Encoding</code>에 gzip이 있으면 <code>Content-Encoding: gzip</code>으로 압축해 보냅니다.
+     * </p>
+     *
+     * @param after          이 PK보다 큰 게시글부터 내보냄(기본값 0 = 처음부터)
+     * @param acceptEncoding <code>Accept-Encoding</code> 요청 헤더
+     * @return <strong>200 OK</strong> 와 NDJSON 스트림
+     */
+    @GetMapping("/export")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(summary = "Export all posts as NDJSON", description = "전체 게시글을 NDJSON으로 스트리밍. after로 이어받기, gzip 지원")
+    public ResponseEntity<StreamingResponseBody> exportPosts(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        boolean gzip = AcceptEncoding.acceptsGzip(acceptEncoding);
+
+        StreamingResponseBody body = out -> {
+            if (!gzip) {
+                postService.exportPosts(after, out);
+                return;
+            }
+            GZIPOutputStream gzipOut = new GZIPOutputStream(out, 64 * 1024, true);
+            postService.exportPosts(after, gzipOut);
+            gzipOut.finish();
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("posts-after-" + after + ".ndjson").build().toString());
+        if (gzip) response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return response.body(body);
+    }
+}
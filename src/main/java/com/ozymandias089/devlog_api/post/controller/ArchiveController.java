@@ -0,0 +1,68 @@
+package com.ozymandias089.devlog_api.post.controller;
+
+import com.ozymandias089.devlog_api.post.dto.response.GetArchivePostsResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetArchiveResponseDTO;
+import com.ozymandias089.devlog_api.post.service.ArchiveService;
+import com.ozymandias089.devlog_api.post.service.PostService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 보관함(연/월별 게시글) REST 컨트롤러입니다.
+ *
+ * <p><strong>Base Path:</strong> <code>/api/archive</code></p>
+ * <p>모든 조회는 인증 없이 사용할 수 있습니다.</p>
+ *
+ * @since 1.1
+ */
+@RestController
+@RequestMapping("/api/archive")
+@Tag(name = "Archive", description = "Monthly post archive APIs")
+@RequiredArgsConstructor
+public class ArchiveController {
+    private final ArchiveService archiveService;
+    private final PostService postService;
+
+    /**
+     * 게시글이 있는 연/월과 게시글 수를 조회합니다(예: 2026 › 10월 (42)).
+     *
+     * @return <strong>200 OK</strong> 와 함께 연도별로 묶은 월별 게시글 수(최신순)
+     */
+    @GetMapping(produces = "application/json")
+    @Operation(summary = "Get archive", description = "연/월별 게시글 수(최신순)")
+    public ResponseEntity<GetArchiveResponseDTO> getArchive() {
+        return ResponseEntity.ok(archiveService.getArchive());
+    }
+
+    /**
+     * 한 달 동안 작성된 게시글 목록을 최신순 키셋(커서) 페이지네이션으로 조회합니다.
+     *
+     * @param year   연도
+     * @param month  월(1~12)
+     * @param size   페이지 크기(기본값 20, 최대 20)
+     * @param cursor 이전 응답의 <code>nextCursor</code>(첫 페이지는 생략)
+     * @param fields (선택) 응답 항목에 포함할 필드(쉼표 구분, 예: <code>title,slug</code>)
+     * @return <strong>200 OK</strong> 와 함께 목록/다음 커서를 담은 {@link GetArchivePostsResponseDTO}
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidArchiveMonthException 연/월이 범위를 벗어난 경우(400)
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidCursorException 커서 형식이 잘못된 경우(400)
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidFieldsException 알 수 없는 필드가 있는 경우(400)
+     */
+    @GetMapping(value = "/{year}/{month}/posts", produces = "application/json")
+    @Operation(summary = "Get posts by month", description = "한 달 동안 작성된 게시글 목록(최신순). cursor로 다음 페이지 조회. max 20")
+    @ApiResponse(responseCode = "400", description = "연/월이 범위를 벗어났거나 커서 형식이 잘못되었거나 fields에 알 수 없는 필드가 있음")
+    public ResponseEntity<GetArchivePostsResponseDTO> getArchivePosts(
+            @PathVariable int year,
+            @PathVariable int month,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = PostController.LIST_FIELDS_DESCRIPTION, example = "title,slug")
+            @RequestParam(required = false) String fields
+    ) {
+        return ResponseEntity.ok(postService.getArchivePosts(year, month, size, cursor, fields));
+    }
+}
@@ -0,0 +1,62 @@
+package com.ozymandias089.devlog_api.post.controller;
+
+import com.ozymandias089.devlog_api.post.dto.request.AuthorPostSort;
+import com.ozymandias089.devlog_api.post.dto.response.GetAuthorPostsResponseDTO;
+import com.ozymandias089.devlog_api.post.service.PostService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * 작성자별 게시글 목록 REST 컨트롤러입니다.
+ *
+ * <p><strong>Base Path:</strong> <code>/api/members/{uuid}/posts</code></p>
+ * <p>회원 리소스 하위 경로이지만 게시글 도메인의 조회이므로 게시글 서비스가 처리합니다. 인증 없이 조회할 수 있습니다.</p>
+ *
+ * @since 1.1
+ */
+@RestController
+@RequestMapping("/api/members/{uuid}/posts")
+@Tag(name = "Post", description = "Post management APIs")
+@RequiredArgsConstructor
+public class AuthorPostController {
+    private final PostService postService;
+
+    /**
+     * 한 작성자의 게시글 목록을 키셋(커서) 페이지네이션으로 조회합니다.
+     *
+     * <p>
+     * 다음 페이지는 응답의 <code>nextCursor</code>를 <code>cursor</code>로 넘겨 조회합니다.
+     * 커서는 정렬 기준별로 형식이 다르므로, 정렬을 바꾸면 첫 페이지부터 다시 조회해야 합니다.
+     * </p>
+     *
+     * @param uuid   작성자 UUID
+     * @param sort   정렬 기준(<code>LATEST</code> 기본, <code>VIEWS</code>)
+     * @param size   페이지 크기(기본값 20, 최대 20)
+     * @param cursor 이전 응답의 <code>nextCursor</code>(첫 페이지는 생략)
+     * @param fields (선택) 응답 항목에 포함할 필드(쉼표 구분, 예: <code>title,slug</code>)
+     * @return <strong>200 OK</strong> 와 함께 목록/다음 커서를 담은 {@link GetAuthorPostsResponseDTO}
+     * @throws com.ozymandias089.devlog_api.global.exception.MemberNotFoundException 작성자가 없을 때(404)
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidCursorException 커서 형식이 잘못된 경우(400)
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidFieldsException 알 수 없는 필드가 있는 경우(400)
+     */
+    @GetMapping(produces = "application/json")
+    @Operation(summary = "Get posts by author", description = "작성자별 게시글 목록(최신순/조회수순). cursor로 다음 페이지 조회. max 20")
+    @ApiResponse(responseCode = "400", description = "커서 형식이 잘못되었거나 fields에 알 수 없는 필드가 있음")
+    public ResponseEntity<GetAuthorPostsResponseDTO> getAuthorPosts(
+            @PathVariable UUID uuid,
+            @RequestParam(defaultValue = "LATEST") AuthorPostSort sort,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = PostController.LIST_FIELDS_DESCRIPTION, example = "title,slug")
+            @RequestParam(required = false) String fields
+    ) {
+        return ResponseEntity.ok(postService.getAuthorPosts(uuid, sort, size, cursor, fields));
+    }
+}
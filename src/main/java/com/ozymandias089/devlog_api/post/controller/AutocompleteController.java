@@ -0,0 +1,53 @@
+package com.ozymandias089.devlog_api.post.controller;
+
+import com.ozymandias089.devlog_api.post.dto.response.GetSuggestionsResponseDTO;
+import com.ozymandias089.devlog_api.post.service.AutocompleteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 자동완성 REST 컨트롤러입니다.
+ *
+ * <p><strong>Base Path:</strong> <code>/api/autocomplete</code></p>
+ * <p>인증 없이 사용할 수 있으며, 키 입력마다 호출해도 되도록 메모리 색인만 조회합니다.</p>
+ *
+ * @since 1.1
+ */
+@RestController
+@RequestMapping("/api/autocomplete")
+@Tag(name = "Autocomplete", description = "Title and username suggestion APIs")
+@RequiredArgsConstructor
+public class AutocompleteController {
+    private final AutocompleteService autocompleteService;
+
+    /**
+     * 게시글 제목을 제안합니다(검색창).
+     *
+     * @param q    입력 중인 검색어
+     * @param size 최대 개수(기본값 10, 최대 10)
+     * @return <strong>200 OK</strong> 와 함께 <code>{slug, title}</code> 목록(조회수 순)
+     */
+    @GetMapping(value = "/titles", produces = "application/json")
+    @Operation(summary = "Suggest post titles", description = "제목(또는 제목 속 단어)이 q로 시작하는 게시글. 조회수 순, max 10")
+    public ResponseEntity<GetSuggestionsResponseDTO> suggestTitles(@RequestParam String q,
+                                                                   @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(autocompleteService.suggestTitles(q, size));
+    }
+
+    /**
+     * 사용자 이름을 제안합니다(멘션 선택기).
+     *
+     * @param q    입력 중인 사용자 이름
+     * @param size 최대 개수(기본값 10, 최대 10)
+     * @return <strong>200 OK</strong> 와 함께 <code>{uuid, username}</code> 목록(작성 게시글 조회수 합 순)
+     */
+    @GetMapping(value = "/usernames", produces = "application/json")
+    @Operation(summary = "Suggest usernames", description = "q로 시작하는 사용자 이름. 작성 게시글 조회수 합 순, max 10")
+    public ResponseEntity<GetSuggestionsResponseDTO> suggestUsernames(@RequestParam String q,
+                                                                      @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(autocompleteService.suggestUsernames(q, size));
+    }
+}
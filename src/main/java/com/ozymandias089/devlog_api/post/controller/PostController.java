@@ -1,23 +1,41 @@
 package com.ozymandias089.devlog_api.post.controller;
 
+import com.ozymandias089.devlog_api.global.exception.PostVersionConflictException;
+import com.ozymandias089.devlog_api.global.util.AcceptEncoding;
+import com.ozymandias089.devlog_api.post.dto.PostVersion;
+import com.ozymandias089.devlog_api.post.dto.StoredPostContent;
 import com.ozymandias089.devlog_api.post.dto.request.CreatePostRequestDTO;
 import com.ozymandias089.devlog_api.post.dto.request.UpdatePostRequestDTO;
 import com.ozymandias089.devlog_api.post.dto.response.GetDetailedPostResponseDTO;
 import com.ozymandias089.devlog_api.post.dto.response.GetPostListResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetPostsBatchResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetRelatedPostsResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetTrendingPostsResponseDTO;
 import com.ozymandias089.devlog_api.post.dto.response.PostCreateResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.SearchPostsResponseDTO;
 import com.ozymandias089.devlog_api.post.service.PostService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.ByteArrayInputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.attribute.UserPrincipal;
+import java.util.List;
 
 /**
  * 게시글(Post) 관리용 REST 컨트롤러입니다.
@@ -29,6 +47,10 @@ import java.nio.file.attribute.UserPrincipal;
  * 인증이 필요한 엔드포인트는 OpenAPI {@link SecurityRequirement} 어노테이션으로 표시되어 있으며,
  * Bearer(JWT) 토큰을 사용합니다.
  *
+ * <h3>필드 선택(sparse fieldset)</h3>
+ * 목록/검색/상세 조회는 <code>fields=title,slug</code>처럼 응답에 포함할 필드를 고를 수 있습니다.
+ * 요청하지 않은 필드는 조회하지도, 응답에 쓰지도 않습니다. 알 수 없는 필드는 400으로 거절합니다.
+ *
  * <h3>응답 코드 일반 가이드</h3>
  * <ul>
  *     <li><strong>200 OK</strong> — 정상 조회</li>
@@ -43,6 +65,14 @@ import java.nio.file.attribute.UserPrincipal;
 @Tag(name = "Post", description = "Post management APIs")
 @RequiredArgsConstructor
 public class PostController {
+    /** 목록 응답의 <code>fields</code> 파라미터 설명(OpenAPI) */
+    static final String LIST_FIELDS_DESCRIPTION = "응답 항목에 포함할 필드(쉼표 구분). 생략 시 전체. "
+            + "허용: title, slug, authorUuid, authorUsername, viewCount, createdAt, excerpt, readingMinutes";
+    /** 상세 응답의 <code>fields</code> 파라미터 설명(OpenAPI) */
+    static final String DETAIL_FIELDS_DESCRIPTION = "응답에 포함할 필드(쉼표 구분). "
+            + "생략 시 title, authorUuid, authorUsername, viewCount, version, createdAt, content, html, toc, tags. "
+            + "허용: 목록 필드 전체와 version, content, html, toc, tags";
+
     private final PostService postService;
 
     /**
@@ -61,6 +91,7 @@ public class PostController {
     @PostMapping(value = "/create")
     @SecurityRequirement(name = "bearerAuth")
     @Operation(summary = "Creates a new Post", description = "토큰과 작성할 내용을 받아 엔티티에 저장합니다.")
+    @ApiResponse(responseCode = "409", description = "기존 게시글과 거의 같은 본문(중복 검사 거부 모드)")
     public ResponseEntity<PostCreateResponseDTO> createNewPost(@AuthenticationPrincipal UserPrincipal principal, @RequestBody @Valid CreatePostRequestDTO requestDTO) {
         PostCreateResponseDTO slug = postService.createPost(principal.getName(), requestDTO);
         return ResponseEntity.created(URI.create("/api/posts/" + slug)).body(slug);
@@ -73,32 +104,190 @@ public class PostController {
      *
      * @param page 0부터 시작하는 페이지 인덱스(기본값 0)
      * @param size 페이지 크기(기본값 20, 서비스 레벨에서 1~20으로 제한)
+     * @param fields (선택) 응답 항목에 포함할 필드(쉼표 구분)
      * @return <strong>200 OK</strong> 와 함께 목록/페이지 정보를 담은 {@link GetPostListResponseDTO}
      * @since 1.0
      */
     @GetMapping(value = "/post-list", produces = "application/json")
     @Operation(summary = "Get Post list", description = "Get List of posts. max 20")
+    @ApiResponse(responseCode = "400", description = "fields에 알 수 없는 필드가 있음")
     public ResponseEntity<GetPostListResponseDTO> getPostList(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = LIST_FIELDS_DESCRIPTION, example = "title,slug")
+            @RequestParam(required = false) String fields
+    ) {
+        return ResponseEntity.ok(postService.getPostList(page, size, fields));
+    }
+
+    /**
+     * 최근 조회수를 시간 감쇠(반감기 기본 6시간)로 가중한 트렌딩 게시글을 조회합니다.
+     *
+     * <p>서버 메모리에 캐시된 순위를 반환하므로 수 초 늦게 반영될 수 있습니다.</p>
+     *
+     * @param size 최대 개수(기본값 10, 서버 캐시 크기로 제한)
+     * @return <strong>200 OK</strong> 와 함께 순위순 목록을 담은 {@link GetTrendingPostsResponseDTO}
+     * @since 1.1
+     */
+    @GetMapping(value = "/trending", produces = "application/json")
+    @Operation(summary = "Get trending posts", description = "최근 조회수(시간 감쇠 가중) 기준 인기 게시글")
+    public ResponseEntity<GetTrendingPostsResponseDTO> getTrendingPosts(@RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(postService.getTrendingPosts(size));
+    }
+
+    /**
+     * 새로 발행되는 게시글을 Server-Sent Events로 구독합니다.
+     *
+     * <p>
+     * 게시글이 생성될 때마다 <code>event: post</code>, <code>id: {게시글 PK}</code>, <code>data: {목록 항목 JSON}</code>을 보냅니다.
+     * 연결 유지를 위해 주기적으로 주석(<code>:ping</code>)을 보내며, 연결은 일정 시간 후 닫히고 클라이언트가 자동 재연결합니다.
+     * 끊긴 동안의 게시글은 다시 보내지 않으므로 재연결 시 목록 첫 페이지로 보완합니다.
+     * </p>
+     *
+     * @return <strong>200 OK</strong> 와 함께 <code>text/event-stream</code> 스트림
+     * @throws com.ozymandias089.devlog_api.global.exception.StreamCapacityExceededException 노드의 구독자 수가 최대치인 경우(503)
+     * @since 1.1
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream new posts", description = "새 게시글 요약을 SSE로 전달(목록 폴링 대체)")
+    @ApiResponse(responseCode = "503", description = "노드의 구독자 수가 최대치")
+    public SseEmitter streamNewPosts() {
+        return postService.subscribeNewPosts();
+    }
+
+    /**
+     * 게시글 제목/본문을 전문 검색합니다.
+     *
+     * <p>결과는 관련도(BM25) 순이며, 다음 페이지는 응답의 <code>nextCursor</code>를 <code>cursor</code>로 넘겨 조회합니다.
+     * 한글은 2글자 단위로 부분 일치하므로 조사가 붙은 어절도 검색됩니다.</p>
+     *
+     * @param q      검색어
+     * @param size   페이지 크기(기본값 20, 최대 20)
+     * @param cursor 이전 응답의 <code>nextCursor</code>(첫 페이지는 생략)
+     * @param fields (선택) 응답 항목에 포함할 필드(쉼표 구분)
+     * @return <strong>200 OK</strong> 와 함께 결과/다음 커서를 담은 {@link SearchPostsResponseDTO}
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidCursorException 커서 형식이 잘못된 경우(400)
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidFieldsException 알 수 없는 필드가 있는 경우(400)
+     * @since 1.1
+     */
+    @GetMapping(value = "/search", produces = "application/json")
+    @Operation(summary = "Search posts", description = "제목/본문 전문 검색(관련도순). cursor로 다음 페이지 조회. max 20")
+    @ApiResponse(responseCode = "400", description = "커서 형식이 잘못되었거나 fields에 알 수 없는 필드가 있음")
+    public ResponseEntity<SearchPostsResponseDTO> searchPosts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = LIST_FIELDS_DESCRIPTION, example = "title,slug")
+            @RequestParam(required = false) String fields
+    ) {
+        return ResponseEntity.ok(postService.searchPosts(q, size, cursor, fields));
+    }
+
+    /**
+     * 여러 게시글 상세를 슬러그로 한 번에 조회합니다.
+     *
+     * <p>
+     * 상세 조회를 연달아 호출하는 대신 사용합니다(첫 화면 위젯, RSS 생성 등). 결과는 요청 순서(중복 제거)이며,
+     * 없는 슬러그는 오류 대신 응답의 <code>missing</code>에 담깁니다. 각 항목에는 <code>slug</code>가 포함됩니다.
+     * </p>
+     *
+     * @param slugs      조회할 슬러그(<code>slugs=a,b,c</code> 또는 반복 파라미터, 최대 <code>app.posts.batch.max-size</code>개)
+     * @param countViews 조회수 증가 여부(기본값 true, RSS 생성처럼 열람이 아닌 경우 false)
+     * @return <strong>200 OK</strong> 와 함께 {@link GetPostsBatchResponseDTO}
+     * @throws com.ozymandias089.devlog_api.global.exception.BatchSizeExceededException 슬러그 수가 최대치를 넘는 경우(400)
+     * @since 1.1
+     */
+    @GetMapping(value = "/batch", produces = "application/json")
+    @Operation(summary = "Read posts in batch", description = "슬러그 목록으로 상세를 한 번에 조회(요청 순서, 없는 슬러그는 missing). countViews=false면 조회수 미증가")
+    @ApiResponse(responseCode = "400", description = "슬러그 수가 최대치를 넘음")
+    public ResponseEntity<GetPostsBatchResponseDTO> getPostsBatch(
+            @RequestParam List<String> slugs,
+            @RequestParam(defaultValue = "true") boolean countViews
     ) {
-        return ResponseEntity.ok(postService.getPostList(page, size));
+        return ResponseEntity.ok(postService.getPostsBySlugs(slugs, countViews));
     }
 
     /**
      * 단일 게시글 상세를 슬러그로 조회합니다.
      *
-     * <p>이 호출은 조회수를 원자적으로 1 증가시킨 뒤, 작성자 정보를 포함한 상세를 반환합니다.</p>
+     * <p>이 호출은 조회수를 원자적으로 1 증가시킨 뒤, 작성자 정보를 포함한 상세를 반환합니다.
+     * 응답의 <code>ETag: "{version}"</code>은 수정/삭제 시 <code>If-Match</code>로 그대로 보낼 수 있습니다.</p>
      *
-     * @param slug 전역 유일 슬러그
-     * @return <strong>200 OK</strong> 와 함께 상세 정보를 담은 {@link GetDetailedPostResponseDTO}
+     * @param slug   전역 유일 슬러그
+     * @param fields (선택) 응답에 포함할 필드(쉼표 구분). 생략 시 제목/작성자/조회수/버전/생성일/본문/HTML/목차
+     * @return <strong>200 OK</strong> 와 함께 상세 정보를 담은 {@link GetDetailedPostResponseDTO}, <code>ETag</code>는 게시글 버전
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidFieldsException 알 수 없는 필드가 있는 경우(400)
      * @implNote 서비스 레이어에서 먼저 조회수를 증가시키고, 이어서 작성자까지 fetch한 엔티티를 조회합니다.
      * @since 1.0
      */
     @GetMapping(value = "/{slug}", produces = "application/json")
     @Operation(summary = "Read a Post", description = "Read a post. Query with slugs")
-    public ResponseEntity<GetDetailedPostResponseDTO> getPostDetails(@PathVariable @Valid String slug) {
-        return ResponseEntity.ok(postService.getPostDetailed(slug));
+    @ApiResponse(responseCode = "400", description = "fields에 알 수 없는 필드가 있음")
+    public ResponseEntity<GetDetailedPostResponseDTO> getPostDetails(
+            @PathVariable @Valid String slug,
+            @Parameter(description = DETAIL_FIELDS_DESCRIPTION, example = "title,html,toc")
+            @RequestParam(required = false) String fields
+    ) {
+        GetDetailedPostResponseDTO post = postService.getPostDetailed(slug, fields);
+        return ResponseEntity.ok().eTag(String.valueOf(post.getVersion())).body(post);
+    }
+
+    /**
+     * 본문이 비슷한 관련 게시글을 조회합니다(조회수 미증가).
+     *
+     * <p>
+     * 본문 어휘의 MinHash 유사도 상위 최대 5건을 미리 계산해 두고 그대로 반환합니다.
+     * 게시글을 작성/수정한 직후에는 수 초 늦게 반영될 수 있습니다.
+     * </p>
+     *
+     * @param slug   전역 유일 슬러그
+     * @param fields (선택) 응답 항목에 포함할 필드(쉼표 구분). 생략 시 전체
+     * @return <strong>200 OK</strong> 와 함께 유사도순 목록을 담은 {@link GetRelatedPostsResponseDTO}
+     * @throws com.ozymandias089.devlog_api.global.exception.PostNotFoundException 게시글이 없을 때
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidFieldsException 알 수 없는 필드가 있는 경우(400)
+     * @since 1.1
+     */
+    @GetMapping(value = "/{slug}/related", produces = "application/json")
+    @Operation(summary = "Get related posts", description = "본문이 비슷한 게시글(MinHash 유사도순, 미리 계산된 상위 5건)")
+    @ApiResponse(responseCode = "400", description = "fields에 알 수 없는 필드가 있음")
+    public ResponseEntity<GetRelatedPostsResponseDTO> getRelatedPosts(
+            @PathVariable String slug,
+            @Parameter(description = LIST_FIELDS_DESCRIPTION, example = "title,slug")
+            @RequestParam(required = false) String fields
+    ) {
+        return ResponseEntity.ok(postService.getRelatedPosts(slug, fields));
+    }
+
+    /**
+     * 게시글 본문 원문만 조회합니다(조회수 미증가).
+     *
+     * <p>
+     * 클라이언트가 <code>Accept-Encoding: gzip</code>을 보내고 본문이 압축 저장되어 있으면,
+     * DB에 저장된 gzip 스트림을 압축 해제 없이 <code>Content-Encoding: gzip</code>으로 그대로 전송합니다.
+     * 그렇지 않으면 UTF-8 평문으로 응답합니다.
+     * </p>
+     *
+     * @param slug           전역 유일 슬러그
+     * @param acceptEncoding 요청의 <code>Accept-Encoding</code> 헤더
+     * @return <strong>200 OK</strong> 와 함께 본문(<code>text/plain; charset=UTF-8</code>)
+     * @throws com.ozymandias089.devlog_api.global.exception.PostNotFoundException 게시글이 없을 때
+     * @since 1.1
+     */
+    @GetMapping(value = "/{slug}/content")
+    @Operation(summary = "Read post content", description = "본문 원문만 반환. gzip 허용 시 저장된 압축 바이트를 그대로 전송")
+    public ResponseEntity<Resource> getPostContent(
+            @PathVariable String slug,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        StoredPostContent content = postService.getPostContent(slug, AcceptEncoding.acceptsGzip(acceptEncoding));
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .contentLength(content.length())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (content.gzip()) response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+        return response.body(new InputStreamResource(new ByteArrayInputStream(content.data(), content.offset(), content.length())));
     }
 
     /**
@@ -122,31 +311,36 @@ public class PostController {
      * @param slug          경로 변수의 슬러그(업데이트 대상 식별자). 슬러그가 정책상 불변이 아닐 수도 있으므로,
      *                      최종 리다이렉트 URI는 서비스에서 반환한 정본 슬러그를 사용합니다.
      * @param requestDTO    수정할 제목/내용을 담은 요청 본문(검증 적용).
+     * @param ifMatch       (선택) 상세 조회 응답의 <code>version</code>을 담은 <code>If-Match: "3"</code>.
+     *                      보내면 그 사이 다른 수정이 있었을 때 덮어쓰지 않고 412로 실패합니다.
      * @param uriComponentsBuilder 현재 요청 컨텍스트를 기반으로 URI를 조립하기 위한 빌더(스프링이 자동 주입).
-     * @return <strong>303 See Other</strong> 와 함께 <code>Location</code> 헤더가 설정된 빈 응답 바디
+     * @return <strong>303 See Other</strong> 와 함께 <code>Location</code> 헤더와 새 버전의 <code>ETag</code>가 설정된 빈 응답 바디
      *
      * @throws com.ozymandias089.devlog_api.global.exception.PostNotFoundException
      *         주어진 슬러그의 게시글이 존재하지 않는 경우
-     * @throws com.ozymandias089.devlog_api.global.exception.InvalidCredentialsException
-     *         인증된 사용자가 게시글 작성자가 아닌 등 권한이 없는 경우
+     * @throws com.ozymandias089.devlog_api.global.exception.ForbiddenActionException
+     *         인증된 사용자가 게시글 작성자가 아닌 경우
+     * @throws com.ozymandias089.devlog_api.global.exception.PostVersionConflictException
+     *         <code>If-Match</code>가 현재 버전과 다르거나 동시 수정이 먼저 커밋된 경우(412)
      * @implNote 리다이렉트 대상 URI는 <em>정본(canonical)</em> 슬러그로 생성됩니다.
      *           (제목 변경에 따른 슬러그 재산정 정책이 도입되어도 안전)
-     * @see com.ozymandias089.devlog_api.post.service.PostService#updatePost(String, String, com.ozymandias089.devlog_api.post.dto.request.UpdatePostRequestDTO)
+     * @see com.ozymandias089.devlog_api.post.service.PostService#updatePost(String, String, com.ozymandias089.devlog_api.post.dto.request.UpdatePostRequestDTO, Long)
      */
     @PatchMapping(value = "/{slug}", produces = "application/json")
     @SecurityRequirement(name="bearerAuth")
-    @Operation(summary = "Updates post", description = "토큰과 슬러그, 제목과 내용이 담긴 DTO를 받아 내용을 수정하고 반환")
+    @Operation(summary = "Updates post", description = "토큰과 슬러그, 제목과 내용이 담긴 DTO를 받아 내용을 수정하고 반환. If-Match로 버전 충돌 감지")
     public ResponseEntity<Void> updatePost(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @PathVariable String slug,
             @RequestBody @Valid UpdatePostRequestDTO requestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             UriComponentsBuilder uriComponentsBuilder
     ) {
-        String canonicalSlug = postService.updatePost(userPrincipal.getName(), slug, requestDTO);
+        PostVersion updated = postService.updatePost(userPrincipal.getName(), slug, requestDTO, parseIfMatch(slug, ifMatch));
         URI location = uriComponentsBuilder.path("/api/posts/{slug}")
-                .buildAndExpand(canonicalSlug)
+                .buildAndExpand(updated.slug())
                 .toUri();
-        return ResponseEntity.status(303).location(location).build();
+        return ResponseEntity.status(303).location(location).eTag(String.valueOf(updated.version())).build();
     }
 
     /**
@@ -163,23 +357,47 @@ public class PostController {
      *
      * @param userPrincipal 인증 주체(사용자 UUID 문자열은 {@link java.nio.file.attribute.UserPrincipal#getName()}에서 획득)
      * @param slug          삭제할 게시글의 전역 유일 슬러그
+     * @param ifMatch       (선택) 기대 버전을 담은 <code>If-Match: "3"</code>
      * @return <strong>303 See Other</strong> (응답 바디 없음) + <code>Location</code> 헤더에 목록 URI
      *
      * @throws com.ozymandias089.devlog_api.global.exception.PostNotFoundException
      *         주어진 슬러그에 해당하는 게시글이 없을 때
      * @throws com.ozymandias089.devlog_api.global.exception.ForbiddenActionException
      *         인증 사용자가 작성자와 일치하지 않아 삭제 권한이 없을 때
+     * @throws com.ozymandias089.devlog_api.global.exception.PostVersionConflictException
+     *         <code>If-Match</code>가 현재 버전과 다를 때(412)
      *
      * @implNote 목록 URI가 바뀔 수 있다면 상수를 사용하거나 URI 빌더 사용을 고려하세요.
-     * @see com.ozymandias089.devlog_api.post.service.PostService#deletePost(String, String)
+     * @see com.ozymandias089.devlog_api.post.service.PostService#deletePost(String, String, Long)
      */
     @DeleteMapping("/{slug}")
     @SecurityRequirement(name = "bearerAuth")
     @Operation(summary = "Deletes post", description = "토큰의 uuid와 슬러그로 검색한 게시글 작성자의 UUID를 비교해 일치한다면 게시글을 삭제합니다.")
-    public ResponseEntity<Void> deletePost(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable String slug) {
-        postService.deletePost(userPrincipal.getName(), slug);
+    public ResponseEntity<Void> deletePost(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable String slug,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        postService.deletePost(userPrincipal.getName(), slug, parseIfMatch(slug, ifMatch));
         return ResponseEntity.status(303)
                 .header("Location", "/api/posts/post-list?page=0&size=20")
                 .build();
     }
+
+    /**
+     * <code>If-Match</code> 헤더에서 기대 버전을 읽습니다. 헤더가 없거나 <code>*</code>이면 null(버전 미검사)입니다.
+     * <code>If-Match</code>는 강한 비교(RFC 9110 13.1.1)이므로 약한 태그(<code>W/</code>)와 버전 형식이 아닌 엔터티 태그는
+     * 어떤 버전과도 일치할 수 없어 412로 처리합니다.
+     */
+    static Long parseIfMatch(String slug, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) return null;
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) throw new PostVersionConflictException(slug);
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) tag = tag.substring(1, tag.length() - 1);
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new PostVersionConflictException(slug);
+        }
+    }
 }
@@ -0,0 +1,133 @@
+package com.ozymandias089.devlog_api.post.controller;
+
+import com.ozymandias089.devlog_api.post.dto.PostVersion;
+import com.ozymandias089.devlog_api.post.dto.request.PatchDraftRequestDTO;
+import com.ozymandias089.devlog_api.post.dto.request.ReplaceDraftRequestDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetDraftResponseDTO;
+import com.ozymandias089.devlog_api.post.service.PostDraftService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.nio.file.attribute.UserPrincipal;
+
+/**
+ * 게시글 초안(자동 저장) REST 컨트롤러입니다.
+ *
+ * <p><strong>Base Path:</strong> <code>/api/posts/{slug}/draft</code></p>
+ * <p>
+ * 모든 요청은 인증이 필요하며 게시글 작성자만 사용할 수 있습니다. 초안 버전은 <code>ETag</code>로 내려가고,
+ * 패치 시 <code>If-Match</code>로 돌려받습니다. 패치가 412로 거부되면 클라이언트가 가진 본문 전체를 <code>PUT</code>해 다시 동기화합니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@RestController
+@RequestMapping("/api/posts/{slug}/draft")
+@Tag(name = "Post", description = "Post management APIs")
+@SecurityRequirement(name = "bearerAuth")
+@RequiredArgsConstructor
+public class PostDraftController {
+    private final PostDraftService postDraftService;
+
+    /**
+     * 초안을 조회합니다. 초안이 없으면 현재 게시글로 시작하는 버전 0의 초안을 반환합니다.
+     *
+     * @param userPrincipal 인증 주체(사용자 UUID)
+     * @param slug          게시글 슬러그
+     * @return <strong>200 OK</strong> 와 함께 초안, <code>ETag: "{초안 버전}"</code>
+     */
+    @GetMapping(produces = "application/json")
+    @Operation(summary = "Get draft", description = "게시글 초안 조회(없으면 현재 게시글로 시작하는 버전 0)")
+    public ResponseEntity<GetDraftResponseDTO> getDraft(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                                                        @PathVariable String slug) {
+        GetDraftResponseDTO draft = postDraftService.getDraft(userPrincipal.getName(), slug);
+        return ResponseEntity.ok().eTag(String.valueOf(draft.getVersion())).body(draft);
+    }
+
+    /**
+     * 초안에 델타 연산을 적용합니다(자동 저장). 게시글은 바뀌지 않습니다.
+     *
+     * @param userPrincipal 인증 주체(사용자 UUID)
+     * @param slug          게시글 슬러그
+     * @param ifMatch       기준 초안 버전(<code>If-Match: "7"</code>, 필수)
+     * @param requestDTO    연산과 선택적 제목
+     * @return <strong>204 No Content</strong> 와 새 초안 버전의 <code>ETag</code>
+     * @throws com.ozymandias089.devlog_api.global.exception.DraftVersionConflictException 기준 버전이 다른 경우(412)
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidDraftPatchException 연산 범위/결과 길이가 잘못된 경우(400)
+     */
+    @PatchMapping(consumes = "application/json")
+    @Operation(summary = "Patch draft", description = "초안에 델타 연산 적용. If-Match로 기준 버전 전달, 충돌 시 412 → PUT으로 재동기화")
+    @ApiResponse(responseCode = "412", description = "기준 버전이 현재 초안 버전과 다름")
+    public ResponseEntity<Void> patchDraft(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                                           @PathVariable String slug,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                           @RequestBody @Valid PatchDraftRequestDTO requestDTO) {
+        long version = postDraftService.patchDraft(userPrincipal.getName(), slug, PostController.parseIfMatch(slug, ifMatch), requestDTO);
+        return ResponseEntity.noContent().eTag(String.valueOf(version)).build();
+    }
+
+    /**
+     * 초안 전체를 교체합니다(재동기화).
+     *
+     * @param userPrincipal 인증 주체(사용자 UUID)
+     * @param slug          게시글 슬러그
+     * @param requestDTO    본문과 선택적 제목
+     * @return <strong>204 No Content</strong> 와 새 초안 버전의 <code>ETag</code>
+     */
+    @PutMapping(consumes = "application/json")
+    @Operation(summary = "Replace draft", description = "초안 전체 교체(패치 충돌 후 재동기화)")
+    public ResponseEntity<Void> replaceDraft(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                                             @PathVariable String slug,
+                                             @RequestBody @Valid ReplaceDraftRequestDTO requestDTO) {
+        long version = postDraftService.replaceDraft(userPrincipal.getName(), slug, requestDTO);
+        return ResponseEntity.noContent().eTag(String.valueOf(version)).build();
+    }
+
+    /**
+     * 초안을 버립니다.
+     *
+     * @param userPrincipal 인증 주체(사용자 UUID)
+     * @param slug          게시글 슬러그
+     * @return <strong>204 No Content</strong>
+     */
+    @DeleteMapping
+    @Operation(summary = "Discard draft", description = "초안 삭제")
+    public ResponseEntity<Void> discardDraft(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                                             @PathVariable String slug) {
+        postDraftService.discardDraft(userPrincipal.getName(), slug);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 초안 내용으로 게시글을 수정하고 초안을 삭제한 뒤, 게시글 상세로 리다이렉트(303 See Other)합니다.
+     *
+     * @param userPrincipal        인증 주체(사용자 UUID)
+     * @param slug                 게시글 슬러그
+     * @param ifMatch              (선택) 게시글 버전(<code>If-Match: "3"</code>). 초안 버전이 아님
+     * @param uriComponentsBuilder URI 빌더
+     * @return <strong>303 See Other</strong> 와 <code>Location: /api/posts/{slug}</code>, 새 게시글 버전의 <code>ETag</code>
+     * @throws com.ozymandias089.devlog_api.global.exception.PostVersionConflictException 게시글 버전이 다른 경우(412)
+     */
+    @PostMapping("/publish")
+    @Operation(summary = "Publish draft", description = "초안 내용으로 게시글 수정 후 초안 삭제. If-Match는 게시글 버전")
+    public ResponseEntity<Void> publishDraft(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                                             @PathVariable String slug,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                             UriComponentsBuilder uriComponentsBuilder) {
+        PostVersion published = postDraftService.publishDraft(userPrincipal.getName(), slug, PostController.parseIfMatch(slug, ifMatch));
+        URI location = uriComponentsBuilder.path("/api/posts/{slug}")
+                .buildAndExpand(published.slug())
+                .toUri();
+        return ResponseEntity.status(303).location(location).eTag(String.valueOf(published.version())).build();
+    }
+}
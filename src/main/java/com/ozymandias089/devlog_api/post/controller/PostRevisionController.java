@@ -0,0 +1,65 @@
+package com.ozymandias089.devlog_api.post.controller;
+
+import com.ozymandias089.devlog_api.post.dto.response.GetRevisionResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetRevisionsResponseDTO;
+import com.ozymandias089.devlog_api.post.service.PostRevisionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 게시글 리비전 이력 REST 컨트롤러입니다.
+ *
+ * <p><strong>Base Path:</strong> <code>/api/posts/{slug}/revisions</code></p>
+ * <p>
+ * 게시글 조회와 마찬가지로 인증 없이 사용할 수 있습니다. 리비전 번호는 해당 작성/수정 직후의 게시글 버전(<code>ETag</code>)과 같습니다.
+ * 보관 기간이 지난 리비전은 주기적으로 정리되어 404가 될 수 있습니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@RestController
+@RequestMapping("/api/posts/{slug}/revisions")
+@Tag(name = "Post", description = "Post management APIs")
+@RequiredArgsConstructor
+public class PostRevisionController {
+    private final PostRevisionService postRevisionService;
+
+    /**
+     * 리비전 목록을 최신순 키셋(커서) 페이지네이션으로 조회합니다. 본문은 포함하지 않습니다.
+     *
+     * @param slug   게시글 슬러그
+     * @param size   페이지 크기(기본값 20, 최대 20)
+     * @param cursor 이전 응답의 <code>nextCursor</code>(첫 페이지는 생략)
+     * @return <strong>200 OK</strong> 와 함께 목록/다음 커서를 담은 {@link GetRevisionsResponseDTO}
+     * @throws com.ozymandias089.devlog_api.global.exception.PostNotFoundException 게시글이 없는 경우(404)
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidCursorException 커서 형식이 잘못된 경우(400)
+     */
+    @GetMapping(produces = "application/json")
+    @Operation(summary = "Get revisions", description = "게시글 리비전 목록(최신순, 본문 제외). cursor로 다음 페이지 조회. max 20")
+    public ResponseEntity<GetRevisionsResponseDTO> getRevisions(@PathVariable String slug,
+                                                                @RequestParam(defaultValue = "20") int size,
+                                                                @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(postRevisionService.getRevisions(slug, size, cursor));
+    }
+
+    /**
+     * 특정 리비전 시점의 제목/본문을 조회합니다.
+     *
+     * @param slug     게시글 슬러그
+     * @param revision 리비전 번호
+     * @return <strong>200 OK</strong> 와 함께 복원한 리비전
+     * @throws com.ozymandias089.devlog_api.global.exception.PostNotFoundException 게시글이 없는 경우(404)
+     * @throws com.ozymandias089.devlog_api.global.exception.RevisionNotFoundException 리비전이 없거나 정리된 경우(404)
+     */
+    @GetMapping(value = "/{revision}", produces = "application/json")
+    @Operation(summary = "Get revision", description = "특정 리비전 시점의 제목/본문")
+    @ApiResponse(responseCode = "404", description = "게시글 또는 리비전이 없음(보관 기간이 지나 정리된 경우 포함)")
+    public ResponseEntity<GetRevisionResponseDTO> getRevision(@PathVariable String slug,
+                                                              @PathVariable long revision) {
+        return ResponseEntity.ok(postRevisionService.getRevision(slug, revision));
+    }
+}
@@ -0,0 +1,81 @@
+package com.ozymandias089.devlog_api.post.controller;
+
+import com.ozymandias089.devlog_api.post.dto.response.GetTagPostsResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetTagsResponseDTO;
+import com.ozymandias089.devlog_api.post.service.PostService;
+import com.ozymandias089.devlog_api.post.service.TagService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 태그 REST 컨트롤러입니다.
+ *
+ * <p><strong>Base Path:</strong> <code>/api/tags</code></p>
+ * <p>모든 조회는 인증 없이 사용할 수 있습니다. 태그 지정은 게시글 작성/수정 요청의 <code>tags</code>로 합니다.</p>
+ *
+ * @since 1.1
+ */
+@RestController
+@RequestMapping("/api/tags")
+@Tag(name = "Tag", description = "Post tag APIs")
+@RequiredArgsConstructor
+public class TagController {
+    private final TagService tagService;
+    private final PostService postService;
+
+    /**
+     * 게시글 수 상위 태그를 조회합니다(태그 클라우드).
+     *
+     * @param size 최대 개수(기본값 50, 최대 100)
+     * @return <strong>200 OK</strong> 와 함께 게시글 수 내림차순 태그 목록
+     */
+    @GetMapping(produces = "application/json")
+    @Operation(summary = "Get tag cloud", description = "게시글 수 상위 태그. max 100")
+    public ResponseEntity<GetTagsResponseDTO> getTags(@RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(tagService.getTopTags(size));
+    }
+
+    /**
+     * 접두사로 시작하는 태그를 조회합니다(에디터 자동완성).
+     *
+     * @param prefix 입력 중인 태그
+     * @param size   최대 개수(기본값 10, 최대 10)
+     * @return <strong>200 OK</strong> 와 함께 게시글 수 내림차순 태그 목록
+     */
+    @GetMapping(value = "/suggest", produces = "application/json")
+    @Operation(summary = "Suggest tags", description = "접두사로 시작하는 태그(게시글 수 순). max 10")
+    public ResponseEntity<GetTagsResponseDTO> suggestTags(@RequestParam String prefix,
+                                                          @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(tagService.suggestTags(prefix, size));
+    }
+
+    /**
+     * 한 태그의 게시글 목록을 최신순 키셋(커서) 페이지네이션으로 조회합니다.
+     *
+     * @param tag    태그(대소문자/공백은 정규화됨)
+     * @param size   페이지 크기(기본값 20, 최대 20)
+     * @param cursor 이전 응답의 <code>nextCursor</code>(첫 페이지는 생략)
+     * @param fields (선택) 응답 항목에 포함할 필드(쉼표 구분, 예: <code>title,slug</code>)
+     * @return <strong>200 OK</strong> 와 함께 목록/다음 커서를 담은 {@link GetTagPostsResponseDTO}
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidTagException 태그 형식이 잘못된 경우(400)
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidCursorException 커서 형식이 잘못된 경우(400)
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidFieldsException 알 수 없는 필드가 있는 경우(400)
+     */
+    @GetMapping(value = "/{tag}/posts", produces = "application/json")
+    @Operation(summary = "Get posts by tag", description = "태그별 게시글 목록(최신순). cursor로 다음 페이지 조회. max 20")
+    @ApiResponse(responseCode = "400", description = "태그/커서 형식이 잘못되었거나 fields에 알 수 없는 필드가 있음")
+    public ResponseEntity<GetTagPostsResponseDTO> getTagPosts(
+            @PathVariable String tag,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = PostController.LIST_FIELDS_DESCRIPTION, example = "title,slug")
+            @RequestParam(required = false) String fields
+    ) {
+        return ResponseEntity.ok(postService.getTagPosts(tag, size, cursor, fields));
+    }
+}
@@ -11,14 +11,18 @@ public class PostSummaryDTO{
     String authorUsername;
     long viewCount;
     Instant createdAt;
+    String excerpt;
+    int readingMinutes;
 
     @Builder
-    public PostSummaryDTO(String title, String slug, String authorUuid, String authorUsername, long viewCount, Instant createdAt) {
+    public PostSummaryDTO(String title, String slug, String authorUuid, String authorUsername, long viewCount, Instant createdAt, String excerpt, int readingMinutes) {
         this.title = title;
         this.slug = slug;
         this.authorUuid = authorUuid;
         this.authorUsername = authorUsername;
         this.viewCount = viewCount;
         this.createdAt = createdAt;
+        this.excerpt = excerpt;
+        this.readingMinutes = readingMinutes;
     }
 }
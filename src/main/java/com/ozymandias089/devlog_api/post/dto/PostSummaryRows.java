@@ -0,0 +1,29 @@
+package com.ozymandias089.devlog_api.post.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * 목록 응답의 <code>posts</code> 배열 요소들을 조회 결과 행에서 JSON 생성기로 직접 쓰는 함수입니다.
+ *
+ * <p>
+ * 행을 {@link PostSummaryDTO} 리스트로 복사하지 않고, 응답 직렬화 시점에 한 번만 순회하며 씁니다.
+ * 배열의 시작/끝은 호출자(응답 DTO)가 씁니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@FunctionalInterface
+public interface PostSummaryRows {
+    /** 항목이 없는 목록 */
+    PostSummaryRows EMPTY = generator -> {};
+
+    /**
+     * 각 항목을 JSON 객체로 씁니다.
+     *
+     * @param generator 응답 JSON 생성기(배열 안에 위치)
+     * @throws IOException 쓰기 실패
+     */
+    void writeTo(JsonGenerator generator) throws IOException;
+}
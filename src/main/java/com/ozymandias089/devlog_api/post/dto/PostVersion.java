@@ -0,0 +1,9 @@
+package com.ozymandias089.devlog_api.post.dto;
+
+/**
+ * 쓰기 작업 후 게시글의 정본 슬러그와 새 버전입니다. 버전은 <code>ETag</code>로 노출됩니다.
+ *
+ * @param slug    정본(canonical) 슬러그
+ * @param version 낙관적 잠금 버전
+ */
+public record PostVersion(String slug, long version) {}
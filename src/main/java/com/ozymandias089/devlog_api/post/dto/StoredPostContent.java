@@ -0,0 +1,14 @@
+package com.ozymandias089.devlog_api.post.dto;
+
+/**
+ * 게시글 본문 원문 응답용 페이로드입니다.
+ *
+ * <p><code>gzip</code>이 true면 <code>data[offset, offset + length)</code>가 gzip 스트림이며,
+ * 압축 해제 없이 <code>Content-Encoding: gzip</code> 본문으로 그대로 보낼 수 있습니다.</p>
+ *
+ * @param data   바이트 배열
+ * @param offset 페이로드 시작 위치
+ * @param length 페이로드 길이
+ * @param gzip   gzip 인코딩 여부(false면 UTF-8 평문)
+ */
+public record StoredPostContent(byte[] data, int offset, int length, boolean gzip) {}
@@ -0,0 +1,14 @@
+package com.ozymandias089.devlog_api.post.dto.request;
+
+/**
+ * 작성자별 게시글 목록의 정렬 기준입니다.
+ *
+ * <ul>
+ *   <li>{@link #LATEST} — 최신순(<code>createdAt DESC, id DESC</code>), <code>idx_post_author_created_at</code> 사용</li>
+ *   <li>{@link #VIEWS} — 조회수순(<code>viewCount DESC, id DESC</code>), <code>idx_post_author_view_count</code> 사용</li>
+ * </ul>
+ */
+public enum AuthorPostSort {
+    LATEST,
+    VIEWS
+}
@@ -4,7 +4,11 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 
+import java.util.List;
+
 public class CreatePostRequestDTO {
     @Getter @NotBlank @Size(max = 150) String title;
     @Getter @NotBlank @Size(max = 20_000) String content;
+    /** 태그(선택, 최대 10개). 소문자/하이픈 형태로 정규화됩니다. */
+    @Getter @Size(max = 10) List<String> tags;
 }
\ No newline at end of file
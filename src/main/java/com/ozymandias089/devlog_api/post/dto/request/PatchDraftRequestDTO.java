@@ -0,0 +1,49 @@
+package com.ozymandias089.devlog_api.post.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 초안 델타 패치 요청 DTO입니다. 기준 버전은 <code>If-Match</code> 헤더로 전달합니다.
+ *
+ * <p>
+ * <code>ops</code>는 순서대로 적용되며, 각 연산의 위치는 <em>앞선 연산을 적용한 뒤</em>의 본문 기준입니다.
+ * 위치/길이 단위는 UTF-16 코드 유닛(JavaScript 문자열 인덱스와 같음)입니다.
+ * </p>
+ *
+ * <h3>예시</h3>
+ * <pre>{@code
+ * // 12번째 위치의 3글자를 "JPA"로 바꾸고 끝에 문장 추가
+ * {
+ *   "ops": [
+ *     { "pos": 12, "del": 3, "ins": "JPA" },
+ *     { "pos": 840, "del": 0, "ins": "\n추가 문장" }
+ *   ]
+ * }
+ * }</pre>
+ *
+ * @since 1.1
+ */
+public class PatchDraftRequestDTO {
+    /** 새 제목(선택, null이면 유지) */
+    @Getter @Size(max = 150) String title;
+    /** 적용할 연산(빈 목록이면 제목만 반영) */
+    @Getter @NotNull @Size(max = 500) @Valid List<Op> ops;
+
+    /**
+     * 삭제 후 삽입 연산 하나. <code>del</code>과 <code>ins</code>로 삽입/삭제/치환을 모두 표현합니다.
+     */
+    public static class Op {
+        /** 시작 위치 */
+        @Getter @Min(0) int pos;
+        /** 삭제할 길이 */
+        @Getter @Min(0) int del;
+        /** 삽입할 문자열(null이면 삽입 없음) */
+        @Getter @Size(max = 20_000) String ins;
+    }
+}
@@ -0,0 +1,99 @@
+package com.ozymandias089.devlog_api.post.dto.request;
+
+import com.ozymandias089.devlog_api.global.exception.InvalidFieldsException;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 응답의 선택 가능한 필드(sparse fieldset)입니다. <code>fields=title,slug</code>처럼 JSON 이름으로 지정합니다.
+ *
+ * <p>
+ * 요청된 필드에 해당하는 컬럼만 조회하며, 작성자 필드({@link #requiresAuthor()})가 없으면 작성자 조인도 하지 않습니다.
+ * 요청하지 않은 필드는 응답 JSON에서 아예 빠집니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+public enum PostField {
+    TITLE("title"),
+    SLUG("slug"),
+    AUTHOR_UUID("authorUuid"),
+    AUTHOR_USERNAME("authorUsername"),
+    VIEW_COUNT("viewCount"),
+    VERSION("version"),
+    CREATED_AT("createdAt"),
+    EXCERPT("excerpt"),
+    READING_MINUTES("readingMinutes"),
+    CONTENT("content"),
+    HTML("html"),
+    TOC("toc"),
+    TAGS("tags");
+
+    /** 목록 응답에서 선택 가능한 필드(기본값은 전체) */
+    public static final Set<PostField> LIST = Collections.unmodifiableSet(EnumSet.of(
+            TITLE, SLUG, AUTHOR_UUID, AUTHOR_USERNAME, VIEW_COUNT, CREATED_AT, EXCERPT, READING_MINUTES));
+
+    /** 상세 응답에서 선택 가능한 필드 */
+    public static final Set<PostField> DETAIL = Collections.unmodifiableSet(EnumSet.allOf(PostField.class));
+
+    /** <code>fields</code>를 생략했을 때의 상세 응답 필드 */
+    public static final Set<PostField> DETAIL_DEFAULT = Collections.unmodifiableSet(EnumSet.of(
+            TITLE, AUTHOR_UUID, AUTHOR_USERNAME, VIEW_COUNT, VERSION, CREATED_AT, CONTENT, HTML, TOC, TAGS));
+
+    /** 슬러그 일괄 조회의 항목 필드(상세 기본 필드 + 슬러그) */
+    public static final Set<PostField> BATCH_DEFAULT = Collections.unmodifiableSet(EnumSet.of(
+            TITLE, SLUG, AUTHOR_UUID, AUTHOR_USERNAME, VIEW_COUNT, VERSION, CREATED_AT, CONTENT, HTML, TOC, TAGS));
+
+    private final String jsonName;
+
+    PostField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    /** 응답 JSON의 필드 이름 */
+    public String jsonName() {
+        return jsonName;
+    }
+
+    /** 작성자 조인이 필요한 필드인지 여부 */
+    public boolean requiresAuthor() {
+        return this == AUTHOR_UUID || this == AUTHOR_USERNAME;
+    }
+
+    /**
+     * <code>fields</code> 파라미터를 해석합니다.
+     *
+     * @param fields  쉼표로 구분한 JSON 필드 이름(생략 또는 공백이면 null 반환)
+     * @param allowed 이 엔드포인트에서 허용하는 필드
+     * @return 요청된 필드 집합. 파라미터가 없으면 null(엔드포인트 기본 응답)
+     * @throws InvalidFieldsException 알 수 없거나 허용되지 않는 필드가 있는 경우
+     */
+    public static Set<PostField> parse(String fields, Set<PostField> allowed) {
+        if (fields == null || fields.isBlank()) return null;
+        EnumSet<PostField> selected = EnumSet.noneOf(PostField.class);
+        Set<String> unknown = new LinkedHashSet<>();
+        for (String raw : fields.split(",")) {
+            String name = raw.trim();
+            if (name.isEmpty()) continue;
+            PostField field = byJsonName(name);
+            if (field == null || !allowed.contains(field)) unknown.add(name);
+            else selected.add(field);
+        }
+        if (!unknown.isEmpty()) {
+            throw new InvalidFieldsException("Unknown field(s): " + String.join(", ", unknown)
+                    + ". Allowed: " + allowed.stream().map(PostField::jsonName).collect(Collectors.joining(", ")));
+        }
+        return selected.isEmpty() ? null : selected;
+    }
+
+    private static PostField byJsonName(String name) {
+        for (PostField field : values()) {
+            if (field.jsonName.equals(name)) return field;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.ozymandias089.devlog_api.post.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+/**
+ * 초안 전체 교체 요청 DTO입니다. 패치가 버전 충돌(412)로 거부됐을 때 클라이언트가 가진 본문으로 다시 동기화하는 데 사용합니다.
+ *
+ * @since 1.1
+ */
+public class ReplaceDraftRequestDTO {
+    /** 새 제목(선택, null이면 유지) */
+    @Getter @Size(max = 150) String title;
+    @Getter @NotNull @Size(max = 20_000) String content;
+}
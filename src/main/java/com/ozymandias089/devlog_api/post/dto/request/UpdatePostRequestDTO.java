@@ -3,11 +3,13 @@ package com.ozymandias089.devlog_api.post.dto.request;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 
+import java.util.List;
+
 /**
  * 게시글 부분 수정(PATCH) 요청 DTO입니다.
  *
  * <p>
- * 두 필드는 모두 선택(optional)입니다. {@code null}이 전달되면 해당 항목은 <b>수정하지 않습니다</b>.
+ * 모든 필드는 선택(optional)입니다. {@code null}이 전달되면 해당 항목은 <b>수정하지 않습니다</b>.
  * 빈 문자열/공백만 있는 값은 서비스 레이어에서 무시되도록 처리되어 있습니다.
  * </p>
  *
@@ -15,6 +17,7 @@ import lombok.Getter;
  * <ul>
  *   <li><b>title</b>: 최대 150자</li>
  *   <li><b>content</b>: 최대 20,000자</li>
+ *   <li><b>tags</b>: 최대 10개. 주어지면 태그 전체를 이 목록으로 교체합니다(빈 배열이면 모두 제거)</li>
  * </ul>
  *
  * <h3>예시</h3>
@@ -34,6 +37,11 @@ import lombok.Getter;
  *   "title": "새 제목",
  *   "content": "새 본문 내용..."
  * }
+ *
+ * // 태그만 교체
+ * {
+ *   "tags": ["spring-boot", "jpa"]
+ * }
  * }</pre>
  *
  * @implNote 문자열 길이만 제한합니다. 공백/빈 문자열은 서비스에서 필터링하여 미수정으로 처리합니다.
@@ -43,4 +51,5 @@ import lombok.Getter;
 public class UpdatePostRequestDTO {
         @Getter @Size(max = 150) String title;
         @Getter @Size(max = 20_000) String content;
+        @Getter @Size(max = 10) List<String> tags;
 }
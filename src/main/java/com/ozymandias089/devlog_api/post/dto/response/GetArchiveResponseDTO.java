@@ -0,0 +1,57 @@
+package com.ozymandias089.devlog_api.post.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.ozymandias089.devlog_api.post.repository.PostMonthCountRepository;
+import lombok.Builder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 보관함 응답. 연도별로 묶어 <code>{"year":2026,"postCount":57,"months":[{"month":10,"postCount":42}, ...]}</code>
+ * 형식으로 쓰며, 연도와 월 모두 최신순입니다.
+ */
+public class GetArchiveResponseDTO extends JsonSerializable.Base {
+    /** <code>month DESC</code> 순 월별 게시글 수 */
+    List<PostMonthCountRepository.MonthCountRow> months;
+
+    @Builder
+    public GetArchiveResponseDTO(List<PostMonthCountRepository.MonthCountRow> months) {
+        this.months = months;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject();
+        gen.writeArrayFieldStart("years");
+        for (int i = 0; i < months.size(); ) {
+            int year = months.get(i).getMonth() / 100;
+            int end = i;
+            long total = 0;
+            while (end < months.size() && months.get(end).getMonth() / 100 == year) total += months.get(end++).getPostCount();
+
+            gen.writeStartObject();
+            gen.writeNumberField("year", year);
+            gen.writeNumberField("postCount", total);
+            gen.writeArrayFieldStart("months");
+            for (; i < end; i++) {
+                gen.writeStartObject();
+                gen.writeNumberField("month", months.get(i).getMonth() % 100);
+                gen.writeNumberField("postCount", months.get(i).getPostCount());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}
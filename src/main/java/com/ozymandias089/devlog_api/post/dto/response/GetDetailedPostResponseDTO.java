@@ -1,23 +1,98 @@
 package com.ozymandias089.devlog_api.post.dto.response;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.ozymandias089.devlog_api.post.dto.request.PostField;
 import lombok.Builder;
+import lombok.Getter;
+
+import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
+import java.util.Set;
 
-public class GetDetailedPostResponseDTO{
+/**
+ * 게시글 상세 응답. <code>fields</code>에 포함된 필드만 씁니다(생략 시 {@link PostField#DETAIL_DEFAULT}).
+ */
+public class GetDetailedPostResponseDTO extends JsonSerializable.Base {
     String title;
+    String slug;
     String authorUuid;
     String authorUsername;
     long viewCount;
+    /** 낙관적 잠금 버전(수정/삭제 시 <code>If-Match: "version"</code>으로 전달). <code>fields</code>와 무관하게 항상 채워 ETag로 내보냅니다. */
+    @Getter
+    long version;
     Instant createdAt;
+    String excerpt;
+    int readingMinutes;
     String content;
+    /** 본문을 렌더링한 정제 HTML */
+    String html;
+    /** 목차(JSON 배열 그대로 출력) */
+    String toc;
+    /** 정규화된 태그 */
+    List<String> tags;
+    /** 응답에 쓸 필드 */
+    Set<PostField> fields;
 
     @Builder
-    public GetDetailedPostResponseDTO (String title, String authorUuid, String authorUsername, long viewCount, Instant createdAt, String content) {
+    public GetDetailedPostResponseDTO (String title, String slug, String authorUuid, String authorUsername, long viewCount, long version, Instant createdAt, String excerpt, int readingMinutes, String content, String html, String toc, List<String> tags, Set<PostField> fields) {
         this.title = title;
+        this.slug = slug;
         this.authorUuid= authorUuid;
         this.authorUsername = authorUsername;
         this.viewCount = viewCount;
+        this.version = version;
         this.createdAt= createdAt;
+        this.excerpt = excerpt;
+        this.readingMinutes = readingMinutes;
         this.content = content;
+        this.html = html;
+        this.toc = toc;
+        this.tags = tags == null ? List.of() : tags;
+        this.fields = fields == null ? PostField.DETAIL_DEFAULT : fields;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject();
+        for (PostField field : fields) {
+            String name = field.jsonName();
+            switch (field) {
+                case TITLE -> gen.writeStringField(name, title);
+                case SLUG -> gen.writeStringField(name, slug);
+                case AUTHOR_UUID -> gen.writeStringField(name, authorUuid);
+                case AUTHOR_USERNAME -> gen.writeStringField(name, authorUsername);
+                case VIEW_COUNT -> gen.writeNumberField(name, viewCount);
+                case VERSION -> gen.writeNumberField(name, version);
+                case CREATED_AT -> {
+                    if (createdAt == null) gen.writeNullField(name);
+                    else gen.writeStringField(name, createdAt.toString());
+                }
+                case EXCERPT -> gen.writeStringField(name, excerpt);
+                case READING_MINUTES -> gen.writeNumberField(name, readingMinutes);
+                case CONTENT -> gen.writeStringField(name, content);
+                case HTML -> gen.writeStringField(name, html);
+                case TOC -> {
+                    gen.writeFieldName(name);
+                    if (toc == null) gen.writeNull();
+                    else gen.writeRawValue(toc);
+                }
+                case TAGS -> {
+                    gen.writeArrayFieldStart(name);
+                    for (String tag : tags) gen.writeString(tag);
+                    gen.writeEndArray();
+                }
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
     }
 }
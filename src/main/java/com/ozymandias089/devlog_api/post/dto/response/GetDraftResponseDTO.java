@@ -0,0 +1,47 @@
+package com.ozymandias089.devlog_api.post.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * 게시글 초안 응답. 이후 패치는 <code>version</code>을 <code>If-Match</code>로 보내야 합니다.
+ */
+public class GetDraftResponseDTO extends JsonSerializable.Base {
+    String title;
+    String content;
+    /** 초안 버전(게시글 버전과 별개) */
+    @Getter long version;
+    /** 마지막 변경 시각(아직 수정하지 않은 초안이면 null) */
+    Instant updatedAt;
+
+    @Builder
+    public GetDraftResponseDTO(String title, String content, long version, Instant updatedAt) {
+        this.title = title;
+        this.content = content;
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("title", title);
+        gen.writeStringField("content", content);
+        gen.writeNumberField("version", version);
+        if (updatedAt == null) gen.writeNullField("updatedAt");
+        else gen.writeStringField("updatedAt", updatedAt.toString());
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}
@@ -1,12 +1,19 @@
 package com.ozymandias089.devlog_api.post.dto.response;
 
-import com.ozymandias089.devlog_api.post.dto.PostSummaryDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.ozymandias089.devlog_api.post.dto.PostSummaryRows;
 import lombok.Builder;
 
-import java.util.List;
+import java.io.IOException;
 
-public class GetPostListResponseDTO{
-    List<PostSummaryDTO> posts;
+/**
+ * 게시글 목록 응답. <code>posts</code>는 직렬화 시점에 조회 결과 행에서 바로 씁니다({@link PostSummaryRows}).
+ */
+public class GetPostListResponseDTO extends JsonSerializable.Base {
+    PostSummaryRows posts;
     int page;
     int size;
     long totalElements;
@@ -15,7 +22,7 @@ public class GetPostListResponseDTO{
     boolean hasPrev;
 
     @Builder
-    public GetPostListResponseDTO(List<PostSummaryDTO> posts, int page, int size, long totalElements, int totalPages, boolean hasNext, boolean hasPrev) {
+    public GetPostListResponseDTO(PostSummaryRows posts, int page, int size, long totalElements, int totalPages, boolean hasNext, boolean hasPrev) {
         this.posts = posts;
         this.page = page;
         this.size = size;
@@ -24,4 +31,24 @@ public class GetPostListResponseDTO{
         this.hasNext = hasNext;
         this.hasPrev = hasPrev;
     }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject();
+        gen.writeArrayFieldStart("posts");
+        posts.writeTo(gen);
+        gen.writeEndArray();
+        gen.writeNumberField("page", page);
+        gen.writeNumberField("size", size);
+        gen.writeNumberField("totalElements", totalElements);
+        gen.writeNumberField("totalPages", totalPages);
+        gen.writeBooleanField("hasNext", hasNext);
+        gen.writeBooleanField("hasPrev", hasPrev);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
 }
@@ -0,0 +1,41 @@
+package com.ozymandias089.devlog_api.post.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import lombok.Builder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 슬러그 일괄 조회 응답. <code>posts</code>는 요청 순서(중복 제거)이며, 없는 슬러그는 <code>missing</code>에 요청 순서로 담깁니다.
+ */
+public class GetPostsBatchResponseDTO extends JsonSerializable.Base {
+    List<GetDetailedPostResponseDTO> posts;
+    List<String> missing;
+
+    @Builder
+    public GetPostsBatchResponseDTO(List<GetDetailedPostResponseDTO> posts, List<String> missing) {
+        this.posts = posts;
+        this.missing = missing;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject();
+        gen.writeArrayFieldStart("posts");
+        for (GetDetailedPostResponseDTO post : posts) post.serialize(gen, serializers);
+        gen.writeEndArray();
+        gen.writeArrayFieldStart("missing");
+        for (String slug : missing) gen.writeString(slug);
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}
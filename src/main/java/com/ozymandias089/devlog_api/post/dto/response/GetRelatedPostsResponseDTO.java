@@ -0,0 +1,36 @@
+package com.ozymandias089.devlog_api.post.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.ozymandias089.devlog_api.post.dto.PostSummaryRows;
+import lombok.Builder;
+
+import java.io.IOException;
+
+/**
+ * 관련 게시글 목록 응답(유사도 내림차순). <code>posts</code>는 직렬화 시점에 조회 결과 행에서 바로 씁니다({@link PostSummaryRows}).
+ */
+public class GetRelatedPostsResponseDTO extends JsonSerializable.Base {
+    PostSummaryRows posts;
+
+    @Builder
+    public GetRelatedPostsResponseDTO(PostSummaryRows posts) {
+        this.posts = posts;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject();
+        gen.writeArrayFieldStart("posts");
+        posts.writeTo(gen);
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ozymandias089.devlog_api.post.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import lombok.Builder;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * 복원한 게시글 리비전 응답. <code>content</code>는 해당 리비전 시점의 마크다운 원문입니다.
+ */
+public class GetRevisionResponseDTO extends JsonSerializable.Base {
+    long revision;
+    String title;
+    String content;
+    /** 리비전이 만들어진 시각(게시글 작성/수정 시각) */
+    Instant createdAt;
+
+    @Builder
+    public GetRevisionResponseDTO(long revision, String title, String content, Instant createdAt) {
+        this.revision = revision;
+        this.title = title;
+        this.content = content;
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("revision", revision);
+        gen.writeStringField("title", title);
+        gen.writeStringField("content", content);
+        gen.writeStringField("createdAt", createdAt.toString());
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}
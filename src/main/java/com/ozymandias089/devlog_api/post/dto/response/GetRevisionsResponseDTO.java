@@ -0,0 +1,55 @@
+package com.ozymandias089.devlog_api.post.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.ozymandias089.devlog_api.post.entity.PostRevisionEntity;
+import com.ozymandias089.devlog_api.post.repository.PostRevisionRepository;
+import lombok.Builder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 게시글 리비전 목록 응답. 항목은 <code>{"revision":3,"title":"...","snapshot":false,"createdAt":"..."}</code> 형식이며
+ * 리비전 번호 내림차순입니다. 본문은 포함하지 않습니다.
+ */
+public class GetRevisionsResponseDTO extends JsonSerializable.Base {
+    List<PostRevisionRepository.RevisionRow> revisions;
+    int size;
+    String nextCursor;
+    boolean hasNext;
+
+    @Builder
+    public GetRevisionsResponseDTO(List<PostRevisionRepository.RevisionRow> revisions, int size, String nextCursor, boolean hasNext) {
+        this.revisions = revisions;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject();
+        gen.writeArrayFieldStart("revisions");
+        for (PostRevisionRepository.RevisionRow row : revisions) {
+            gen.writeStartObject();
+            gen.writeNumberField("revision", row.getRevision());
+            gen.writeStringField("title", row.getTitle());
+            gen.writeBooleanField("snapshot", row.getKind() == PostRevisionEntity.Kind.SNAPSHOT);
+            gen.writeStringField("createdAt", row.getCreatedAt().toString());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeNumberField("size", size);
+        gen.writeStringField("nextCursor", nextCursor);
+        gen.writeBooleanField("hasNext", hasNext);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}
@@ -0,0 +1,49 @@
+package com.ozymandias089.devlog_api.post.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.ozymandias089.devlog_api.post.search.AutocompleteIndex;
+import lombok.Builder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 자동완성 응답. 항목의 필드 이름은 종류에 따라 다릅니다
+ * (제목: <code>{"slug":"...","title":"..."}</code>, 사용자 이름: <code>{"uuid":"...","username":"..."}</code>).
+ */
+public class GetSuggestionsResponseDTO extends JsonSerializable.Base {
+    /** 자연 키 필드 이름 */
+    String refField;
+    /** 표시 텍스트 필드 이름 */
+    String textField;
+    List<AutocompleteIndex.Suggestion> suggestions;
+
+    @Builder
+    public GetSuggestionsResponseDTO(String refField, String textField, List<AutocompleteIndex.Suggestion> suggestions) {
+        this.refField = refField;
+        this.textField = textField;
+        this.suggestions = suggestions;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject();
+        gen.writeArrayFieldStart("suggestions");
+        for (AutocompleteIndex.Suggestion suggestion : suggestions) {
+            gen.writeStartObject();
+            gen.writeStringField(refField, suggestion.ref());
+            gen.writeStringField(textField, suggestion.text());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}
@@ -0,0 +1,49 @@
+package com.ozymandias089.devlog_api.post.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.ozymandias089.devlog_api.post.dto.PostSummaryRows;
+import lombok.Builder;
+
+import java.io.IOException;
+
+/**
+ * 태그별 게시글 목록 응답. <code>posts</code>는 직렬화 시점에 조회 결과 행에서 바로 씁니다({@link PostSummaryRows}).
+ */
+public class GetTagPostsResponseDTO extends JsonSerializable.Base {
+    /** 정규화된 태그 */
+    String tag;
+    PostSummaryRows posts;
+    int size;
+    String nextCursor;
+    boolean hasNext;
+
+    @Builder
+    public GetTagPostsResponseDTO(String tag, PostSummaryRows posts, int size, String nextCursor, boolean hasNext) {
+        this.tag = tag;
+        this.posts = posts;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("tag", tag);
+        gen.writeArrayFieldStart("posts");
+        posts.writeTo(gen);
+        gen.writeEndArray();
+        gen.writeNumberField("size", size);
+        gen.writeStringField("nextCursor", nextCursor);
+        gen.writeBooleanField("hasNext", hasNext);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}
@@ -0,0 +1,42 @@
+package com.ozymandias089.devlog_api.post.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.ozymandias089.devlog_api.post.repository.TagCountRepository;
+import lombok.Builder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 태그 목록 응답(태그 클라우드/자동완성). 항목은 <code>{"tag":"...","postCount":0}</code> 형식이며 게시글 수 내림차순입니다.
+ */
+public class GetTagsResponseDTO extends JsonSerializable.Base {
+    List<TagCountRepository.TagCountRow> tags;
+
+    @Builder
+    public GetTagsResponseDTO(List<TagCountRepository.TagCountRow> tags) {
+        this.tags = tags;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject();
+        gen.writeArrayFieldStart("tags");
+        for (TagCountRepository.TagCountRow row : tags) {
+            gen.writeStartObject();
+            gen.writeStringField("tag", row.getTag());
+            gen.writeNumberField("postCount", row.getPostCount());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}
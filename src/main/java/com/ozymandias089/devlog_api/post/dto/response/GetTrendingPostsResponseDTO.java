@@ -0,0 +1,18 @@
+package com.ozymandias089.devlog_api.post.dto.response;
+
+import com.ozymandias089.devlog_api.post.dto.PostSummaryDTO;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.List;
+
+public class GetTrendingPostsResponseDTO {
+    List<PostSummaryDTO> posts;
+    Instant refreshedAt;
+
+    @Builder
+    public GetTrendingPostsResponseDTO(List<PostSummaryDTO> posts, Instant refreshedAt) {
+        this.posts = posts;
+        this.refreshedAt = refreshedAt;
+    }
+}
@@ -0,0 +1,103 @@
+package com.ozymandias089.devlog_api.post.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글 본문을 압축 바이트로 저장하는 JPA 컨버터입니다.
+ *
+ * <p>
+ * 저장 형식은 <code>[코덱 마커 1바이트][페이로드]</code>입니다.
+ * <ul>
+ *   <li>{@link #RAW} (0) — UTF-8 원문. 짧거나 압축 이득이 없는 본문</li>
+ *   <li>{@link #GZIP} (1) — UTF-8 원문을 gzip(RFC 1952)으로 압축. 페이로드를 그대로
+ *       <code>Content-Encoding: gzip</code> 응답 본문으로 보낼 수 있습니다.</li>
+ * </ul>
+ * 행마다 마커를 두므로 코덱을 바꾸거나 추가해도 기존 행을 다시 쓸 필요가 없습니다.
+ * </p>
+ */
+@Converter
+public class ContentCodec implements AttributeConverter<String, byte[]> {
+    public static final byte RAW = 0;
+    public static final byte GZIP = 1;
+
+    /** 이보다 짧은 본문은 압축하지 않습니다(gzip 헤더 오버헤드가 이득보다 큼). */
+    static final int MIN_COMPRESS_BYTES = 256;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String content) {
+        return content == null ? null : encode(content);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        return stored == null ? null : decode(stored);
+    }
+
+    /**
+     * 본문을 저장 형식으로 인코딩합니다. 압축 결과가 원문보다 작을 때만 gzip을 사용합니다.
+     */
+    public static byte[] encode(String content) {
+        byte[] utf8 = content.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length >= MIN_COMPRESS_BYTES) {
+            byte[] compressed = gzip(utf8);
+            if (compressed.length + 1 < utf8.length) return withMarker(GZIP, compressed, compressed.length);
+        }
+        return withMarker(RAW, utf8, utf8.length);
+    }
+
+    /**
+     * 저장 형식을 본문 문자열로 디코딩합니다.
+     *
+     * @throws IllegalStateException 알 수 없는 마커이거나 압축 데이터가 손상된 경우
+     */
+    public static String decode(byte[] stored) {
+        if (stored.length == 0) return "";
+        return switch (stored[0]) {
+            case RAW -> new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+            case GZIP -> new String(gunzip(stored), StandardCharsets.UTF_8);
+            default -> throw new IllegalStateException("Unknown content codec marker: " + stored[0]);
+        };
+    }
+
+    /**
+     * 저장 형식이 gzip 페이로드인지 여부를 반환합니다(마커 이후 바이트가 온전한 gzip 스트림).
+     */
+    public static boolean isGzip(byte[] stored) {
+        return stored != null && stored.length > 0 && stored[0] == GZIP;
+    }
+
+    private static byte[] withMarker(byte marker, byte[] payload, int length) {
+        byte[] out = new byte[length + 1];
+        out[0] = marker;
+        System.arraycopy(payload, 0, out, 1, length);
+        return out;
+    }
+
+    private static byte[] gzip(byte[] utf8) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(utf8.length / 3 + 32);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(utf8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] stored) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(stored, 1, stored.length - 1))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupted compressed post content", e);
+        }
+    }
+}
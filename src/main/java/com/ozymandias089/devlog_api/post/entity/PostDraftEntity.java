@@ -0,0 +1,64 @@
+package com.ozymandias089.devlog_api.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 게시글 수정 중 자동 저장되는 초안입니다. 게시글당 하나이며, 발행(publish)하거나 버리면 삭제됩니다.
+ *
+ * <p>
+ * {@code version}은 모든 노드가 조건부로 올리는 정본 버전이고, 제목/본문은 노드 메모리의 버퍼
+ * ({@link com.ozymandias089.devlog_api.post.provider.PostDraftProvider})가 디바운스된 주기로 저장하는 사본입니다.
+ * {@code savedVersion}은 저장된 본문이 어느 버전의 것인지 나타내며, {@code version}보다 작으면 최신 본문이 아직 어떤 노드의 버퍼에만 있습니다.
+ * 본문은 게시글과 같이 {@link ContentCodec}으로 압축해 저장합니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Entity
+@Table(name = "post_draft")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostDraftEntity {
+    /** 게시글 PK */
+    @Id
+    @Getter
+    private Long postId;
+
+    @Getter
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Getter
+    @Convert(converter = ContentCodec.class)
+    @Column(name = "content_body", columnDefinition = "LONGBLOB")
+    private String content;
+
+    /** 초안 버전(패치마다 1 증가, 게시글 버전과 별개) */
+    @Getter
+    @Column(nullable = false)
+    private Long version;
+
+    /** 저장된 제목/본문의 초안 버전 */
+    @Getter
+    @Column(nullable = false)
+    private Long savedVersion;
+
+    @Getter
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @Builder
+    public PostDraftEntity(Long postId, String title, String content, Long version, Long savedVersion, Instant updatedAt) {
+        this.postId = postId;
+        this.title = title;
+        this.content = content;
+        this.version = version;
+        this.savedVersion = savedVersion;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,6 +17,8 @@ import java.time.Instant;
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "post",
         indexes = {
+                @Index(name = "uk_post_slug", columnList = "slug", unique = true),
+                @Index(name = "idx_post_created_at", columnList = "createdAt"),
                 @Index(name = "idx_post_author_created_at", columnList = "author_id, createdAt"),
                 @Index(name = "idx_post_author_view_count", columnList = "author_id, viewCount")
         })
@@ -38,15 +41,85 @@ public class PostEntity {
     @Column(nullable = false, length = 200)
     private String title;
 
-    @Getter
-    @Lob
+    /**
+     * 본문. {@link ContentCodec}으로 압축되어 <code>content_body</code>에 저장됩니다.
+     */
     @Basic(fetch = FetchType.LAZY)
+    @Convert(converter = ContentCodec.class)
+    @Column(name = "content_body", columnDefinition = "LONGBLOB")
     private String content;
 
+    /**
+     * 압축 저장 도입 이전의 비압축 본문 컬럼(<code>content</code>).
+     * 백필이 끝나면 모든 행에서 null이며, 그 전까지는 {@link #getContent()}가 이 값으로 폴백합니다.
+     */
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "content")
+    private String legacyContent;
+
+    /**
+     * 본문을 렌더링한 정제 HTML. {@link ContentCodec}으로 압축되어 <code>content_html</code>에 저장됩니다.
+     * 렌더링 도입 이전의 행은 백필 전까지 null입니다.
+     */
+    @Getter
+    @Basic(fetch = FetchType.LAZY)
+    @Convert(converter = ContentCodec.class)
+    @Column(name = "content_html", columnDefinition = "LONGBLOB")
+    private String renderedHtml;
+
+    /**
+     * 목차 JSON 배열.
+     */
+    @Getter
+    @Basic(fetch = FetchType.LAZY)
+    @Column(columnDefinition = "TEXT")
+    private String toc;
+
+    /**
+     * 목록 미리보기용 평문 발췌(본문 LOB을 읽지 않고 목록에 표시).
+     */
+    @Getter
+    @Column(length = 400)
+    private String excerpt;
+
+    /**
+     * 본문 단어 수.
+     */
+    @Getter
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer wordCount = 0;
+
+    /**
+     * 예상 읽기 시간(분).
+     */
+    @Getter
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer readingMinutes = 0;
+
+    /**
+     * {@link #renderedHtml}을 만든 렌더러 버전. 0이면 아직 렌더링되지 않았습니다.
+     */
+    @Getter
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer rendererVersion = 0;
+
     @Getter
     @Column(nullable = false)
     private Long viewCount = 0L;
 
+    /**
+     * 낙관적 잠금 버전. 수정/삭제 시 <code>If-Match</code>(ETag)와 비교합니다.
+     */
+    @Getter
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version = 0L;
+
     @Getter
     @CreatedDate
     @Column(nullable = false, updatable = false)
@@ -72,7 +145,34 @@ public class PostEntity {
         this.title = title;
     }
 
+    /**
+     * 본문을 반환합니다. 아직 압축 컬럼으로 옮겨지지 않은 행은 기존 컬럼 값을 반환합니다.
+     */
+    public String getContent() {
+        return content != null ? content : legacyContent;
+    }
+
     public void updateContent(String content) {
         this.content = content;
+        this.legacyContent = null;
+    }
+
+    /**
+     * 본문 렌더링 결과를 반영합니다.
+     *
+     * @param html            정제된 HTML
+     * @param toc             목차 JSON
+     * @param excerpt         평문 발췌
+     * @param wordCount       단어 수
+     * @param readingMinutes  예상 읽기 시간(분)
+     * @param rendererVersion 렌더러 버전
+     */
+    public void applyRendering(String html, String toc, String excerpt, int wordCount, int readingMinutes, int rendererVersion) {
+        this.renderedHtml = html;
+        this.toc = toc;
+        this.excerpt = excerpt;
+        this.wordCount = wordCount;
+        this.readingMinutes = readingMinutes;
+        this.rendererVersion = rendererVersion;
     }
 }
@@ -0,0 +1,62 @@
+package com.ozymandias089.devlog_api.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 게시글 본문의 SimHash 지문입니다({@link com.ozymandias089.devlog_api.post.search.SimHash}). 게시글당 하나입니다.
+ *
+ * <p>
+ * 본문이 바뀌는 쓰기 트랜잭션에서 함께 갱신됩니다. 본문이 너무 짧아 지문이 없어도 행은 남기므로
+ * 백필은 행이 없는 게시글만 읽으면 됩니다. <code>duplicateOfPostId</code>는 작성 시 거의 같은 글로 판정되어
+ * 표시(flag)만 하고 통과시킨 경우의 원본 게시글 PK이며, <code>idx_post_fingerprint_duplicate_of</code>로 검토 대상을 찾습니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Entity
+@Table(name = "post_fingerprint",
+        indexes = @Index(name = "idx_post_fingerprint_duplicate_of", columnList = "duplicateOfPostId"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostFingerprintEntity {
+    /** 게시글 PK */
+    @Id
+    @Getter
+    private Long postId;
+
+    /** 64비트 지문(본문이 너무 짧으면 null) */
+    @Getter
+    private Long fingerprint;
+
+    /** 작성 시 판정된 원본 게시글 PK(중복이 아니면 null) */
+    @Getter
+    private Long duplicateOfPostId;
+
+    @Getter
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @Builder
+    public PostFingerprintEntity(Long postId, Long fingerprint, Long duplicateOfPostId, Instant updatedAt) {
+        this.postId = postId;
+        this.fingerprint = fingerprint;
+        this.duplicateOfPostId = duplicateOfPostId;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * 본문 수정 후 지문을 교체합니다.
+     *
+     * @param fingerprint 새 지문(없으면 null)
+     * @param updatedAt   갱신 시각
+     */
+    public void update(Long fingerprint, Instant updatedAt) {
+        this.fingerprint = fingerprint;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ozymandias089.devlog_api.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 월별 게시글 수입니다. 게시글 작성/삭제 트랜잭션에서 증감하며, 보관함(연/월 목록)은 이 테이블만 읽습니다.
+ *
+ * <p>
+ * 월은 <code>yyyyMM</code> 정수(예: <code>202610</code>)이며 {@code app.posts.archive.zone} 기준입니다.
+ * 주기적인 재집계가 <code>post</code>에서 다시 센 값으로 덮어쓰며, 게시글이 없는 월은 0이거나 행이 없습니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Entity
+@Table(name = "post_month_count")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostMonthCountEntity {
+    @Id
+    @Getter
+    private Integer month;
+
+    @Getter
+    @Column(nullable = false)
+    private Long postCount;
+}
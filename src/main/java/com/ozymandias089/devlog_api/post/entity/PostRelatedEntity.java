@@ -0,0 +1,50 @@
+package com.ozymandias089.devlog_api.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 미리 계산해 둔 관련 게시글 한 건입니다. 게시글마다 유사도 상위 몇 건만 저장합니다.
+ *
+ * <p>
+ * <code>idx_post_related_related</code>는 어떤 게시글이 바뀌거나 삭제될 때 그 글을 관련 글로 가진 게시글을
+ * 찾아 다시 계산하기 위한 역방향 인덱스입니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Entity
+@Table(name = "post_related",
+        indexes = {
+                @Index(name = "uk_post_related_post_related", columnList = "postId, relatedPostId", unique = true),
+                @Index(name = "idx_post_related_related", columnList = "relatedPostId")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostRelatedEntity {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Getter
+    private Long id;
+
+    @Getter
+    @Column(nullable = false)
+    private Long postId;
+
+    @Getter
+    @Column(nullable = false)
+    private Long relatedPostId;
+
+    /** 추정 자카드 유사도(0~1) */
+    @Getter
+    @Column(nullable = false)
+    private Double score;
+
+    @Builder
+    public PostRelatedEntity(Long postId, Long relatedPostId, Double score) {
+        this.postId = postId;
+        this.relatedPostId = relatedPostId;
+        this.score = score;
+    }
+}
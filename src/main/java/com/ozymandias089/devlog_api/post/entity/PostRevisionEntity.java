@@ -0,0 +1,84 @@
+package com.ozymandias089.devlog_api.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 게시글 리비전(수정 이력) 한 건입니다. 리비전 번호는 그 수정 후의 게시글 버전과 같습니다.
+ *
+ * <p>
+ * 대부분의 리비전은 직전 리비전 대비 줄 단위 델타({@link com.ozymandias089.devlog_api.post.provider.RevisionDelta})만 저장하고,
+ * 일정 간격마다 전체 본문 스냅샷을 저장합니다. 어떤 리비전이든 가장 가까운 이전 스냅샷에서 정해진 개수 이하의 델타를 적용해 복원합니다.
+ * 본문/델타는 {@link ContentCodec}으로 압축해 저장합니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Entity
+@Table(name = "post_revision",
+        indexes = {
+                @Index(name = "uk_post_revision_post_revision", columnList = "postId, revision", unique = true),
+                @Index(name = "idx_post_revision_created_at", columnList = "createdAt")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostRevisionEntity {
+    /** 저장 형식 */
+    public enum Kind { SNAPSHOT, DELTA }
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Getter
+    private Long id;
+
+    @Getter
+    @Column(nullable = false)
+    private Long postId;
+
+    /** 수정 후 게시글 버전 */
+    @Getter
+    @Column(nullable = false)
+    private Long revision;
+
+    @Getter
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Kind kind;
+
+    @Getter
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    /** 스냅샷이면 전체 본문, 델타면 직전 리비전 대비 스크립트 */
+    @Getter
+    @Convert(converter = ContentCodec.class)
+    @Column(name = "body", columnDefinition = "LONGBLOB")
+    private String body;
+
+    @Getter
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Builder
+    public PostRevisionEntity(Long postId, Long revision, Kind kind, String title, String body, Instant createdAt) {
+        this.postId = postId;
+        this.revision = revision;
+        this.kind = kind;
+        this.title = title;
+        this.body = body;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 복원한 전체 본문으로 이 리비전을 스냅샷으로 바꿉니다(이전 이력 정리 전).
+     *
+     * @param content 이 리비전의 전체 본문
+     */
+    public void convertToSnapshot(String content) {
+        this.kind = Kind.SNAPSHOT;
+        this.body = content;
+    }
+}
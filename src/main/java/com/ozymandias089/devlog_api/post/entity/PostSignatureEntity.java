@@ -0,0 +1,53 @@
+package com.ozymandias089.devlog_api.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 게시글 본문의 MinHash 서명입니다({@link com.ozymandias089.devlog_api.post.search.MinHash}). 게시글당 하나입니다.
+ *
+ * <p>본문이 바뀌는 쓰기 트랜잭션에서 함께 갱신되며, 관련 게시글 계산은 본문 대신 이 서명만 읽습니다.</p>
+ *
+ * @since 1.1
+ */
+@Entity
+@Table(name = "post_signature")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostSignatureEntity {
+    /** 게시글 PK */
+    @Id
+    @Getter
+    private Long postId;
+
+    /** 서명(빅엔디언 int × {@value com.ozymandias089.devlog_api.post.search.MinHash#SIZE}) */
+    @Getter
+    @Column(nullable = false, length = 256)
+    private byte[] signature;
+
+    @Getter
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @Builder
+    public PostSignatureEntity(Long postId, byte[] signature, Instant updatedAt) {
+        this.postId = postId;
+        this.signature = signature;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * 서명을 교체합니다.
+     *
+     * @param signature 새 서명
+     * @param updatedAt 갱신 시각
+     */
+    public void update(byte[] signature, Instant updatedAt) {
+        this.signature = signature;
+        this.updatedAt = updatedAt;
+    }
+}
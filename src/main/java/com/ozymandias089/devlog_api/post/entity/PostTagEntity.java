@@ -0,0 +1,52 @@
+package com.ozymandias089.devlog_api.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 게시글-태그 연결(역색인)입니다.
+ *
+ * <p>
+ * 게시글 생성 시각을 함께 저장해, 태그별 최신순 목록을 <code>idx_post_tag_tag_created_at (tag, createdAt, postId)</code>
+ * 인덱스만으로(커버링) 키셋 페이지네이션할 수 있게 합니다. 게시글 생성 시각은 바뀌지 않으므로 복제해도 어긋나지 않습니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Entity
+@Table(name = "post_tag",
+        indexes = {
+                @Index(name = "idx_post_tag_tag_created_at", columnList = "tag, createdAt, postId"),
+                @Index(name = "uk_post_tag_post_tag", columnList = "postId, tag", unique = true)
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostTagEntity {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Getter
+    private Long id;
+
+    @Getter
+    @Column(nullable = false)
+    private Long postId;
+
+    @Getter
+    @Column(nullable = false, length = 30)
+    private String tag;
+
+    /** 게시글 생성 시각(정렬 키) */
+    @Getter
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Builder
+    public PostTagEntity(Long postId, String tag, Instant createdAt) {
+        this.postId = postId;
+        this.tag = tag;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,28 @@
+package com.ozymandias089.devlog_api.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 태그별 게시글 수입니다. 태그 연결이 바뀔 때 같은 트랜잭션에서 증감하며, 태그 클라우드/자동완성은 이 테이블만 읽습니다.
+ *
+ * @since 1.1
+ */
+@Entity
+@Table(name = "tag_count",
+        indexes = {
+                @Index(name = "idx_tag_count_post_count", columnList = "postCount")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TagCountEntity {
+    @Id
+    @Getter
+    @Column(length = 30)
+    private String tag;
+
+    @Getter
+    @Column(nullable = false)
+    private Long postCount;
+}
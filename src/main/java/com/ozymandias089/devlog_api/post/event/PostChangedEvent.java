@@ -0,0 +1,34 @@
+package com.ozymandias089.devlog_api.post.event;
+
+/**
+ * 게시글 변경(생성/수정/삭제) 도메인 이벤트입니다.
+ *
+ * <p>
+ * {@code PostService}의 쓰기 트랜잭션 안에서 발행되며, 리스너는
+ * {@link org.springframework.transaction.event.TransactionalEventListener}로 커밋 이후에만 반응합니다.
+ * 롤백된 변경은 캐시/인덱스 등 파생 저장소에 반영되지 않습니다.
+ * 같은 트랜잭션에서 아웃박스에도 기록되어 다른 노드로 전파됩니다({@link com.ozymandias089.devlog_api.global.outbox.OutboxAppender}).
+ * </p>
+ *
+ * @param type   변경 종류
+ * @param postId 게시글 PK
+ * @param slug   게시글 슬러그(삭제 이후에도 식별할 수 있도록 함께 전달)
+ * @param version 변경 후 게시글 버전(삭제는 마지막 버전 + 1). 다른 노드에서 역순 수신을 걸러내는 데 씁니다.
+ * @since 1.1
+ */
+public record PostChangedEvent(Type type, Long postId, String slug, Long version) {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    public static PostChangedEvent created(Long postId, String slug, Long version) {
+        return new PostChangedEvent(Type.CREATED, postId, slug, version);
+    }
+
+    public static PostChangedEvent updated(Long postId, String slug, Long version) {
+        return new PostChangedEvent(Type.UPDATED, postId, slug, version);
+    }
+
+    public static PostChangedEvent deleted(Long postId, String slug, Long version) {
+        return new PostChangedEvent(Type.DELETED, postId, slug, version);
+    }
+}
@@ -0,0 +1,229 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import com.ozymandias089.devlog_api.global.exception.DuplicatePostException;
+import com.ozymandias089.devlog_api.post.entity.PostFingerprintEntity;
+import com.ozymandias089.devlog_api.post.repository.PostFingerprintRepository;
+import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import com.ozymandias089.devlog_api.post.search.DuplicatePostIndex;
+import com.ozymandias089.devlog_api.post.search.SimHash;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 새 게시글이 기존 게시글과 거의 같은지(스팸 계정의 복사본 등) 검사하고, 게시글의 SimHash 지문을 기록합니다.
+ *
+ * <p>
+ * {@link #check}는 게시글 작성 트랜잭션을 열기 <em>전에</em> 본문 지문을 계산해 {@link DuplicatePostIndex}에서
+ * 해밍 거리 {@code maxDistance} 이하인 게시글을 찾습니다(DB 조회 없음). 처리 방식은 {@code mode}로 정합니다.
+ * </p>
+ * <ul>
+ *   <li>{@link Mode#REJECT} — {@link DuplicatePostException}(409)으로 거부합니다. 슬러그 할당/저장을 시도하지 않습니다.</li>
+ *   <li>{@link Mode#FLAG} — 작성은 허용하고 지문 행에 원본 게시글 PK를 남겨 검토 대상으로 표시합니다.</li>
+ *   <li>{@link Mode#OFF} — 검사하지 않습니다(지문은 계속 기록).</li>
+ * </ul>
+ * <p>판정 결과는 <code>/actuator/metrics/posts.duplicates</code>(tag <code>action</code>)로 집계합니다.</p>
+ *
+ * <p>
+ * 기능 도입 이전 게시글은 기동 시 별도 스레드에서 지문을 백필한 뒤 색인을 만듭니다.
+ * 본문은 {@code batchSize}건씩 읽고 지문 계산은 {@code threads}개의 작업 스레드에서 병렬로 수행합니다.
+ * </p>
+ *
+ * @implNote 색인은 커밋 이후 갱신되므로, 거의 동시에 작성된 두 복사본은 서로를 보지 못하고 모두 통과할 수 있습니다.
+ * @since 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DuplicatePostProvider {
+    private static final String METRIC = "posts.duplicates";
+
+    private final PostFingerprintRepository postFingerprintRepository;
+    private final PostRepository postRepository;
+    private final DuplicatePostIndex duplicatePostIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    /** 거의 같은 글의 처리 방식 */
+    public enum Mode { OFF, FLAG, REJECT }
+
+    @Value("${app.posts.duplicate.mode:FLAG}")
+    private Mode mode;
+
+    /** 거의 같은 글로 보는 최대 해밍 거리(0~{@value DuplicatePostIndex#MAX_DISTANCE}) */
+    @Value("${app.posts.duplicate.max-distance:6}")
+    private int maxDistance;
+
+    /** 백필 시 한 번에 읽는 게시글 수 */
+    @Value("${app.posts.duplicate.backfill-batch-size:500}")
+    private int batchSize;
+
+    /** 백필 작업 스레드 수 */
+    @Value("${app.posts.duplicate.backfill-threads:4}")
+    private int threads;
+
+    private volatile Thread driver;
+
+    /**
+     * 작성 전 검사 결과입니다. 그대로 {@link #recordCreated}에 넘깁니다.
+     *
+     * @param fingerprint 본문 지문(본문이 너무 짧으면 null)
+     * @param duplicateOf 표시 모드에서 판정된 원본 게시글 PK(중복이 아니면 null)
+     */
+    public record Check(Long fingerprint, Long duplicateOf) {}
+
+    /**
+     * 새 게시글 본문이 기존 게시글과 거의 같은지 검사합니다. 트랜잭션 밖에서 호출합니다.
+     *
+     * @param content 본문
+     * @return 검사 결과
+     * @throws DuplicatePostException 거부 모드에서 거의 같은 게시글이 있는 경우
+     */
+    public Check check(String content) {
+        Long fingerprint = SimHash.fingerprint(content);
+        if (fingerprint == null || mode == Mode.OFF) return new Check(fingerprint, null);
+
+        Optional<DuplicatePostIndex.Match> match = duplicatePostIndex.findNearest(fingerprint,
+                Math.min(Math.max(maxDistance, 0), DuplicatePostIndex.MAX_DISTANCE));
+        if (match.isEmpty()) return new Check(fingerprint, null);
+
+        DuplicatePostIndex.Match m = match.get();
+        meterRegistry.counter(METRIC, "action", mode == Mode.REJECT ? "rejected" : "flagged").increment();
+        if (mode == Mode.REJECT) {
+            log.info("Rejected near-duplicate of post {} (distance {})", m.postId(), m.distance());
+            throw new DuplicatePostException();
+        }
+        log.info("Flagged near-duplicate of post {} (distance {})", m.postId(), m.distance());
+        return new Check(fingerprint, m.postId());
+    }
+
+    /**
+     * 새 게시글의 지문을 기록합니다. 게시글 작성 트랜잭션 안에서 호출합니다.
+     *
+     * @param postId    게시글 PK
+     * @param check     {@link #check}의 결과
+     * @param createdAt 작성 시각
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Long postId, Check check, Instant createdAt) {
+        postFingerprintRepository.save(PostFingerprintEntity.builder()
+                .postId(postId)
+                .fingerprint(check.fingerprint())
+                .duplicateOfPostId(check.duplicateOf())
+                .updatedAt(createdAt)
+                .build());
+    }
+
+    /**
+     * 수정된 본문의 지문을 기록합니다(수정은 검사하지 않음). 게시글 수정 트랜잭션 안에서 호출합니다.
+     *
+     * @param postId    게시글 PK
+     * @param content   새 본문
+     * @param updatedAt 수정 시각
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(Long postId, String content, Instant updatedAt) {
+        Long fingerprint = SimHash.fingerprint(content);
+        postFingerprintRepository.findById(postId).ifPresentOrElse(
+                entity -> entity.update(fingerprint, updatedAt),
+                () -> postFingerprintRepository.save(PostFingerprintEntity.builder()
+                        .postId(postId).fingerprint(fingerprint).updatedAt(updatedAt).build()));
+    }
+
+    /**
+     * 애플리케이션 기동 시 지문 백필과 색인 구축을 백그라운드 스레드로 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeOnStartup() {
+        Thread thread = new Thread(() -> {
+            try {
+                int backfilled = backfill();
+                if (backfilled > 0) log.info("Backfilled SimHash fingerprints for {} posts", backfilled);
+                duplicatePostIndex.rebuild();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("Duplicate index initialization stopped: {}", e.getMessage());
+            }
+        }, "post-fingerprint-backfill");
+        thread.setDaemon(true);
+        driver = thread;
+        thread.start();
+    }
+
+    /**
+     * 지문 행이 없는 게시글의 지문을 병렬로 계산해 저장합니다.
+     *
+     * @return 저장한 행 수
+     * @throws InterruptedException 종료 요청으로 중단된 경우
+     */
+    public int backfill() throws InterruptedException, ExecutionException {
+        AtomicInteger workerSeq = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(threads, 1), r -> {
+            Thread t = new Thread(r, "post-fingerprint-" + workerSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            int saved = 0;
+            long afterId = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                List<Long> ids = postFingerprintRepository.findPostIdsWithoutFingerprint(afterId, Limit.of(batchSize));
+                if (ids.isEmpty()) break;
+
+                List<Long> sourceIds = new ArrayList<>(ids.size());
+                List<Future<Long>> results = new ArrayList<>(ids.size());
+                for (PostRepository.SearchSource source : postRepository.findSearchSourcesByIdIn(ids)) {
+                    sourceIds.add(source.getId());
+                    results.add(workers.submit(() -> SimHash.fingerprint(source.getBody())));
+                }
+                List<Long> fingerprints = new ArrayList<>(results.size());
+                for (Future<Long> result : results) fingerprints.add(result.get());
+                Instant now = Instant.now(clock);
+                Integer rows = transactionTemplate.execute(status -> {
+                    int inserted = 0;
+                    for (int i = 0; i < fingerprints.size(); i++) {
+                        // 그 사이 쓰기 경로가 이미 저장했으면 건너뜀
+                        inserted += postFingerprintRepository.insertIfAbsent(sourceIds.get(i), fingerprints.get(i), now);
+                    }
+                    return inserted;
+                });
+                if (rows != null) saved += rows;
+                afterId = ids.get(ids.size() - 1);
+            }
+            return saved;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * 종료 시 진행 중인 백필을 중단합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        Thread thread = driver;
+        if (thread != null) thread.interrupt();
+    }
+}
@@ -0,0 +1,421 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ozymandias089.devlog_api.member.event.MemberChangedEvent;
+import com.ozymandias089.devlog_api.member.repository.MemberRepository;
+import com.ozymandias089.devlog_api.post.dto.PostSummaryRows;
+import com.ozymandias089.devlog_api.post.dto.request.PostField;
+import com.ozymandias089.devlog_api.post.dto.response.GetPostListResponseDTO;
+import com.ozymandias089.devlog_api.post.event.PostChangedEvent;
+import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis Sorted Set으로 "최신 게시글 N개" 요약을 물질화(materialize)해 두는 피드입니다.
+ *
+ * <p>
+ * 목록 첫 페이지들은 가장 빈번한 조회이므로, 윈도우(최신 N개) 안의 요청은 SQL 없이 Redis에서 바로 응답합니다.
+ * 윈도우를 벗어나거나 피드가 준비되지 않은 경우 {@link Optional#empty()}를 반환하여 호출자가 DB로 폴백하도록 합니다.
+ * </p>
+ *
+ * <h3>Redis 키 구성</h3>
+ * <ul>
+ *   <li><code>FEED:LATEST:IDS</code> — ZSET. member = 0 패딩된 PK, score = createdAt(epoch millis).
+ *       동점은 member 사전순(=PK 순)으로 정렬되어 DB의 <code>createdAt DESC, id DESC</code>와 일치합니다.</li>
+ *   <li><code>FEED:LATEST:POSTS</code> — HASH. PK → 요약 JSON</li>
+ *   <li><code>FEED:LATEST:VIEWS</code> — HASH. PK → 조회수(조회 시 원자적 증가)</li>
+ *   <li><code>FEED:LATEST:VERSIONS</code> — HASH. PK → updatedAt(epoch millis). 늦게 도착한 오래된 갱신을 무시합니다.</li>
+ *   <li><code>FEED:LATEST:META</code> — HASH. <code>ready</code>, <code>total</code>(전체 게시글 수), <code>snapshotAt</code></li>
+ *   <li><code>FEED:LATEST:SEQ</code> — 쓰기 시퀀스. 재구성(rebuild) 도중 끼어든 쓰기를 감지합니다.</li>
+ * </ul>
+ *
+ * <h3>동시성</h3>
+ * <p>
+ * 모든 변경은 Lua 스크립트로 원자적으로 수행됩니다. 피드는 "가장 최신 K개(K ≤ N)를 빠짐없이 보유"라는 불변식을 유지하며,
+ * 윈도우보다 오래된 게시글은 빈틈을 만들지 않도록 삽입하지 않습니다. 재구성은 DB 조회 전에 읽어 둔 시퀀스가
+ * 쓰기 시점까지 변하지 않았을 때만 반영(낙관적 검증)하고, 그렇지 않으면 재시도합니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LatestPostFeedProvider {
+    private static final String KEY_IDS = "FEED:LATEST:IDS";
+    private static final String KEY_POSTS = "FEED:LATEST:POSTS";
+    private static final String KEY_VIEWS = "FEED:LATEST:VIEWS";
+    private static final String KEY_VERSIONS = "FEED:LATEST:VERSIONS";
+    private static final String KEY_META = "FEED:LATEST:META";
+    private static final String KEY_SEQ = "FEED:LATEST:SEQ";
+    private static final List<String> KEYS = List.of(KEY_IDS, KEY_POSTS, KEY_VIEWS, KEY_VERSIONS, KEY_META, KEY_SEQ);
+
+    private static final int REBUILD_ATTEMPTS = 3;
+
+    /**
+     * 생성/수정 반영. ARGV: member, score, json, views, version, capacity, created(1/0), eventTime
+     */
+    private static final RedisScript<Long> UPSERT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[6])
+            if redis.call('HGET', KEYS[5], 'ready') ~= '1' then return 0 end
+            local member = ARGV[1]
+            local score = tonumber(ARGV[2])
+            local version = tonumber(ARGV[5])
+            local capacity = tonumber(ARGV[6])
+            local created = ARGV[7] == '1'
+            if redis.call('ZSCORE', KEYS[1], member) then
+              local current = tonumber(redis.call('HGET', KEYS[4], member) or '-1')
+              if version < current then return 0 end
+              redis.call('HSET', KEYS[2], member, ARGV[3])
+              redis.call('HSET', KEYS[4], member, ARGV[5])
+              return 1
+            end
+            if not created then return 0 end
+            local total = tonumber(redis.call('HGET', KEYS[5], 'total') or '0')
+            local snapshotAt = tonumber(redis.call('HGET', KEYS[5], 'snapshotAt') or '0')
+            local card = redis.call('ZCARD', KEYS[1])
+            local insert = card >= total
+            if tonumber(ARGV[8]) >= snapshotAt then
+              redis.call('HINCRBY', KEYS[5], 'total', 1)
+            end
+            if not insert and card > 0 then
+              local lowest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+              local lowestScore = tonumber(lowest[2])
+              insert = score > lowestScore or (score == lowestScore and member > lowest[1])
+            end
+            if not insert then return 0 end
+            redis.call('ZADD', KEYS[1], score, member)
+            redis.call('HSET', KEYS[2], member, ARGV[3])
+            redis.call('HSET', KEYS[3], member, ARGV[4])
+            redis.call('HSET', KEYS[4], member, ARGV[5])
+            card = card + 1
+            if card > capacity then
+              local evicted = redis.call('ZRANGE', KEYS[1], 0, card - capacity - 1)
+              redis.call('ZREMRANGEBYRANK', KEYS[1], 0, card - capacity - 1)
+              for _, m in ipairs(evicted) do
+                redis.call('HDEL', KEYS[2], m)
+                redis.call('HDEL', KEYS[3], m)
+                redis.call('HDEL', KEYS[4], m)
+              end
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 삭제 반영. ARGV: member, eventTime
+     */
+    private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[6])
+            if redis.call('HGET', KEYS[5], 'ready') ~= '1' then return 0 end
+            local removed = redis.call('ZREM', KEYS[1], ARGV[1])
+            redis.call('HDEL', KEYS[2], ARGV[1])
+            redis.call('HDEL', KEYS[3], ARGV[1])
+            redis.call('HDEL', KEYS[4], ARGV[1])
+            local snapshotAt = tonumber(redis.call('HGET', KEYS[5], 'snapshotAt') or '0')
+            if removed == 1 or tonumber(ARGV[2]) >= snapshotAt then
+              local total = tonumber(redis.call('HGET', KEYS[5], 'total') or '0')
+              if total > 0 then redis.call('HINCRBY', KEYS[5], 'total', -1) end
+            end
+            return removed
+            """, Long.class);
+
+    /**
+     * 조회수 반영. 윈도우 안에 있는 게시글만 증가시킵니다. ARGV: member
+     */
+    private static final RedisScript<Long> VIEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[3], ARGV[1]) == 1 then
+              return redis.call('HINCRBY', KEYS[3], ARGV[1], 1)
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 전체 재구성. ARGV: expectedSeq, total, snapshotAt, (member, score, json, views, version)*
+     */
+    private static final RedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>("""
+            local seq = redis.call('GET', KEYS[6]) or '0'
+            if seq ~= ARGV[1] then return 0 end
+            redis.call('DEL', KEYS[1], KEYS[2], KEYS[3], KEYS[4])
+            for i = 4, #ARGV, 5 do
+              redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+              redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 2])
+              redis.call('HSET', KEYS[3], ARGV[i], ARGV[i + 3])
+              redis.call('HSET', KEYS[4], ARGV[i], ARGV[i + 4])
+            end
+            redis.call('HSET', KEYS[5], 'total', ARGV[2], 'snapshotAt', ARGV[3], 'ready', '1')
+            return 1
+            """, Long.class);
+
+    /**
+     * 페이지 조회. ARGV: offset, count. 반환: [total, (json, views)*] 또는 윈도우 밖이면 nil
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[5], 'ready') ~= '1' then return nil end
+            local total = tonumber(redis.call('HGET', KEYS[5], 'total') or '0')
+            local card = redis.call('ZCARD', KEYS[1])
+            local offset = tonumber(ARGV[1])
+            local count = tonumber(ARGV[2])
+            if card < total and offset + count > card then return nil end
+            local result = { tostring(total) }
+            for _, m in ipairs(redis.call('ZREVRANGE', KEYS[1], offset, offset + count - 1)) do
+              table.insert(result, redis.call('HGET', KEYS[2], m))
+              table.insert(result, redis.call('HGET', KEYS[3], m) or '0')
+            end
+            return result
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    /** 윈도우 크기(보관할 최신 게시글 수) */
+    @Value("${app.posts.feed.size:200}")
+    private int capacity;
+
+    /**
+     * Redis에 저장되는 요약 엔트리. 조회수는 변경 빈도가 높아 별도 HASH로 분리합니다.
+     */
+    record FeedEntry(Long id, String slug, String title, String authorUuid, String authorUsername, Instant createdAt,
+                     String excerpt, Integer readingMinutes) {}
+
+    /* ==================== 조회 ==================== */
+
+    /**
+     * 최신순 목록의 한 페이지를 피드에서 조회합니다.
+     *
+     * @param page 0 이상의 페이지 인덱스
+     * @param size 페이지 크기(호출자가 캡 처리한 값)
+     * @param fields 응답에 쓸 필드(null이면 전체)
+     * @return 윈도우 안의 요청이면 응답 DTO, 아니면(또는 Redis 장애 시) {@link Optional#empty()}
+     * @implNote 요약 JSON은 역직렬화하지 않고 응답 직렬화 시점에 토큰 단위로 복사합니다({@link PostSummaryJsonWriter#ofFeedEntries}).
+     */
+    public Optional<GetPostListResponseDTO> readPage(int page, int size, Set<PostField> fields) {
+        long offset = (long) page * size;
+        if (offset + size > capacity) return Optional.empty();
+        try {
+            List<?> raw = stringRedisTemplate.execute(READ_SCRIPT, KEYS, String.valueOf(offset), String.valueOf(size));
+            if (raw == null || raw.isEmpty()) return Optional.empty();
+
+            long total = Long.parseLong(String.valueOf(raw.get(0)));
+            PostSummaryRows posts = PostSummaryJsonWriter.ofFeedEntries(objectMapper.getFactory(), raw, fields);
+            return Optional.of(PostMapper.toGetPostListResponseDTO(posts, page, size, total));
+        } catch (Exception e) {
+            log.warn("Latest post feed read failed, falling back to DB: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /* ==================== 갱신 ==================== */
+
+    /**
+     * 커밋된 게시글 변경을 피드에 반영합니다.
+     *
+     * <p>이벤트에는 PK만 담겨 있으므로 커밋 이후의 최신 상태를 다시 읽어 반영합니다.
+     * 반영에 실패하면 피드를 무효화하여 다음 재구성 전까지 DB로 폴백되도록 합니다.</p>
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onPostChanged(PostChangedEvent event) {
+        String eventTime = String.valueOf(clock.millis());
+        try {
+            switch (event.type()) {
+                case CREATED, UPDATED -> postRepository.findProjectedById(event.postId()).ifPresent(row ->
+                        upsert(row, event.type() == PostChangedEvent.Type.CREATED, eventTime));
+                case DELETED -> stringRedisTemplate.execute(DELETE_SCRIPT, KEYS, member(event.postId()), eventTime);
+            }
+        } catch (Exception e) {
+            log.warn("Latest post feed update failed for post {}: {}", event.postId(), e.getMessage());
+            invalidate();
+        }
+    }
+
+    /**
+     * 커밋된 회원 변경(표시 이름 변경, 탈퇴)을 피드에 반영합니다.
+     *
+     * <p>
+     * 요약 JSON에 작성자 이름이 들어 있으므로, 윈도우 안의 그 작성자 게시글을 다시 읽어 덮어씁니다.
+     * 탈퇴로 게시글이 함께 삭제된 경우에는 게시글 변경 이벤트가 없으므로 피드를 재구성합니다.
+     * 피드는 노드가 공유하는 Redis에 있으므로 변경이 커밋된 노드에서 한 번만 반영하면 됩니다.
+     * </p>
+     *
+     * @param event 회원 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        try {
+            if (!memberRepository.existsById(event.memberId())) {
+                rebuild();
+                return;
+            }
+            Set<String> members = stringRedisTemplate.opsForZSet().range(KEY_IDS, 0, -1);
+            if (members == null || members.isEmpty()) return;
+            List<Long> ids = members.stream().map(Long::valueOf).toList();
+            String eventTime = String.valueOf(clock.millis());
+            for (PostRepository.ListRow row : postRepository.findProjectedByAuthorIdAndIdIn(event.memberId(), ids)) {
+                upsert(row, false, eventTime);
+            }
+        } catch (Exception e) {
+            log.warn("Latest post feed update failed for member {}: {}", event.memberId(), e.getMessage());
+            invalidate();
+        }
+    }
+
+    /**
+     * 윈도우 안의 게시글이면 요약을 DB의 현재 상태로 다시 씁니다. 버전(updatedAt)을 바꾸지 않는 벌크 갱신
+     * (예: 재렌더링으로 채운 발췌문/읽기 시간) 뒤에 호출합니다.
+     *
+     * @param postId 게시글 PK
+     */
+    public void refresh(Long postId) {
+        try {
+            if (stringRedisTemplate.opsForZSet().score(KEY_IDS, member(postId)) == null) return;
+            String eventTime = String.valueOf(clock.millis());
+            postRepository.findProjectedById(postId).ifPresent(row -> upsert(row, false, eventTime));
+        } catch (Exception e) {
+            log.warn("Latest post feed refresh failed for post {}: {}", postId, e.getMessage());
+            invalidate();
+        }
+    }
+
+    /**
+     * 윈도우 안의 게시글이면 캐시된 조회수를 1 증가시킵니다.
+     *
+     * @param postId 게시글 PK
+     */
+    public void recordView(Long postId) {
+        try {
+            stringRedisTemplate.execute(VIEW_SCRIPT, KEYS, member(postId));
+        } catch (Exception e) {
+            log.debug("Latest post feed view count update skipped: {}", e.getMessage());
+        }
+    }
+
+    /* ==================== 재구성 ==================== */
+
+    /**
+     * 애플리케이션 기동 시 MySQL로부터 피드를 재구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 주기적으로 피드를 재구성하여 누락된 갱신이나 카운트 드리프트를 바로잡습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.posts.feed.rebuild-interval:PT10M}", initialDelayString = "${app.posts.feed.rebuild-interval:PT10M}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * MySQL의 최신 N개 게시글로 피드를 원자적으로 재구성합니다.
+     *
+     * <p>DB 조회 전에 쓰기 시퀀스를 읽어 두고, 재구성 스크립트는 시퀀스가 그대로일 때만 반영합니다.
+     * 그 사이 다른 쓰기가 있었다면 최대 {@value #REBUILD_ATTEMPTS}회 재시도합니다.</p>
+     *
+     * @return 재구성에 성공하면 true
+     */
+    public boolean rebuild() {
+        try {
+            for (int attempt = 1; attempt <= REBUILD_ATTEMPTS; attempt++) {
+                String seq = Optional.ofNullable(stringRedisTemplate.opsForValue().get(KEY_SEQ)).orElse("0");
+                String snapshotAt = String.valueOf(clock.millis());
+
+                Page<PostRepository.ListRow> newest = postRepository.findAllProjectedBy(PageRequest.of(0, capacity, PostRepository.LATEST_FIRST));
+
+                List<String> args = new ArrayList<>(3 + newest.getNumberOfElements() * 5);
+                args.add(seq);
+                args.add(String.valueOf(newest.getTotalElements()));
+                args.add(snapshotAt);
+                for (PostRepository.ListRow row : newest.getContent()) {
+                    args.addAll(List.of(toScriptArgs(row)));
+                }
+
+                Long applied = stringRedisTemplate.execute(REBUILD_SCRIPT, KEYS, args.toArray());
+                if (applied != null && applied == 1L) {
+                    log.info("Latest post feed rebuilt with {} of {} posts", newest.getNumberOfElements(), newest.getTotalElements());
+                    return true;
+                }
+                log.debug("Latest post feed rebuild raced with a writer (attempt {})", attempt);
+            }
+            log.warn("Latest post feed rebuild gave up after {} attempts; list requests fall back to DB", REBUILD_ATTEMPTS);
+        } catch (Exception e) {
+            log.warn("Latest post feed rebuild failed: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * 피드를 사용 불가 상태로 표시합니다. 이후 조회는 재구성 전까지 DB로 폴백합니다.
+     */
+    public void invalidate() {
+        try {
+            stringRedisTemplate.opsForHash().put(KEY_META, "ready", "0");
+        } catch (Exception e) {
+            log.warn("Latest post feed invalidation failed: {}", e.getMessage());
+        }
+    }
+
+    /* ==================== 내부 유틸 ==================== */
+
+    private void upsert(PostRepository.ListRow row, boolean created, String eventTime) {
+        String[] entry = toScriptArgs(row);
+        stringRedisTemplate.execute(UPSERT_SCRIPT, KEYS,
+                entry[0], entry[1], entry[2], entry[3], entry[4],
+                String.valueOf(capacity), created ? "1" : "0", eventTime);
+    }
+
+    private String[] toScriptArgs(PostRepository.ListRow row) {
+        FeedEntry entry = new FeedEntry(row.getId(), row.getSlug(), row.getTitle(),
+                row.getAuthor().getUuid().toString(), row.getAuthor().getUsername(), row.getCreatedAt(),
+                row.getExcerpt(), row.getReadingMinutes());
+        try {
+            return new String[] {
+                    member(row.getId()),
+                    String.valueOf(row.getCreatedAt().toEpochMilli()),
+                    objectMapper.writeValueAsString(entry),
+                    String.valueOf(row.getViewCount()),
+                    String.valueOf(row.getUpdatedAt().toEpochMilli())
+            };
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize feed entry for post " + row.getId(), e);
+        }
+    }
+
+    /**
+     * ZSET 동점 정렬이 PK 순서와 일치하도록 19자리로 0 패딩합니다.
+     */
+    private static String member(Long postId) {
+        return String.format("%019d", postId);
+    }
+}
@@ -0,0 +1,267 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.node.*;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 게시글 본문(Markdown)을 정제된 HTML과 목차(TOC), 목록용 요약 정보(발췌문/단어 수/읽기 시간)로 렌더링합니다.
+ *
+ * <p>
+ * 렌더링은 작성/수정 시점에 한 번만 수행하고 결과를 게시글과 함께 저장합니다.
+ * 웹/RSS/메일 등 모든 소비자는 저장된 HTML을 그대로 사용합니다.
+ * </p>
+ *
+ * <h3>정제(sanitize) 규칙</h3>
+ * <ul>
+ *   <li>본문의 원시 HTML 블록/인라인은 태그로 해석하지 않고 이스케이프합니다.</li>
+ *   <li>링크/이미지 URL은 허용된 스킴(http, https, mailto 등)만 유지합니다.</li>
+ *   <li>링크에는 <code>rel="nofollow noopener noreferrer"</code>를 붙입니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 출력 형식(정제 규칙, 확장, 목차 구조 등)이 바뀌면 {@link #RENDERER_VERSION}을 올려야 합니다.
+ * 저장된 버전이 낮은 게시글은 {@link PostRenderBackfillProvider}가 백그라운드에서 다시 렌더링합니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Component
+@RequiredArgsConstructor
+public class MarkdownRenderer {
+    /** 현재 렌더러 출력 형식의 버전 */
+    public static final int RENDERER_VERSION = 2;
+
+    /** 발췌문 최대 길이(코드 포인트) */
+    public static final int EXCERPT_LENGTH = 200;
+    /** 읽기 시간 계산 기준(분당 단어 수) */
+    private static final int WORDS_PER_MINUTE = 200;
+
+    private static final List<Extension> EXTENSIONS = List.of(TablesExtension.create(), StrikethroughExtension.create());
+    private static final Parser PARSER = Parser.builder().extensions(EXTENSIONS).build();
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 렌더링 결과.
+     *
+     * @param html    정제된 HTML
+     * @param tocJson 목차 JSON 배열(<code>[{"level":2,"text":"...","id":"..."}]</code>)
+     * @param excerpt        본문 앞부분의 평문 발췌(코드 블록 제외, 최대 {@value #EXCERPT_LENGTH}자)
+     * @param wordCount      단어 수(공백 기준, 코드 블록 포함)
+     * @param readingMinutes 예상 읽기 시간(분, 본문이 있으면 최소 1)
+     * @param version 렌더러 버전
+     */
+    public record Rendered(String html, String tocJson, String excerpt, int wordCount, int readingMinutes, int version) {}
+
+    /**
+     * 목차 항목. <code>id</code>는 HTML 제목 요소의 <code>id</code> 속성과 같습니다.
+     */
+    public record TocEntry(int level, String text, String id) {}
+
+    /**
+     * Markdown 본문을 렌더링합니다.
+     *
+     * @param markdown 본문(null이면 빈 문자열로 취급)
+     * @return HTML, 목차, 렌더러 버전
+     */
+    public Rendered render(String markdown) {
+        Node document = PARSER.parse(markdown == null ? "" : markdown);
+
+        Map<Node, String> headingIds = new IdentityHashMap<>();
+        List<TocEntry> toc = new ArrayList<>();
+        document.accept(new AbstractVisitor() {
+            private final Map<String, Integer> used = new HashMap<>();
+
+            @Override
+            public void visit(Heading heading) {
+                String text = textOf(heading).trim();
+                String id = uniqueId(anchorOf(text), used);
+                headingIds.put(heading, id);
+                toc.add(new TocEntry(heading.getLevel(), text, id));
+            }
+        });
+
+        HtmlRenderer renderer = HtmlRenderer.builder()
+                .extensions(EXTENSIONS)
+                .escapeHtml(true)
+                .sanitizeUrls(true)
+                .attributeProviderFactory(context -> (node, tagName, attributes) -> {
+                    String id = headingIds.get(node);
+                    if (id != null) attributes.put("id", id);
+                    if (node instanceof Link) attributes.put("rel", "nofollow noopener noreferrer");
+                })
+                .build();
+
+        try {
+            PlainText plain = plainTextOf(document);
+            int words = plain.wordCount();
+            int minutes = words == 0 ? 0 : (words + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE;
+            return new Rendered(renderer.render(document), objectMapper.writeValueAsString(toc),
+                    excerptOf(plain.text()), words, minutes, RENDERER_VERSION);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize table of contents", e);
+        }
+    }
+
+    /* ==================== 내부 유틸 ==================== */
+
+    private record PlainText(String text, int wordCount) {}
+
+    /**
+     * 문서의 평문을 추출합니다. 블록 사이는 공백으로 구분하고, 코드 블록은 단어 수에만 반영합니다.
+     */
+    private static PlainText plainTextOf(Node document) {
+        StringBuilder sb = new StringBuilder();
+        int[] codeWords = {0};
+        document.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Text text) {
+                sb.append(text.getLiteral());
+            }
+
+            @Override
+            public void visit(Code code) {
+                sb.append(code.getLiteral());
+            }
+
+            @Override
+            public void visit(SoftLineBreak softLineBreak) {
+                sb.append(' ');
+            }
+
+            @Override
+            public void visit(HardLineBreak hardLineBreak) {
+                sb.append(' ');
+            }
+
+            @Override
+            public void visit(FencedCodeBlock fencedCodeBlock) {
+                codeWords[0] += countWords(fencedCodeBlock.getLiteral());
+            }
+
+            @Override
+            public void visit(IndentedCodeBlock indentedCodeBlock) {
+                codeWords[0] += countWords(indentedCodeBlock.getLiteral());
+            }
+
+            @Override
+            protected void visitChildren(Node parent) {
+                super.visitChildren(parent);
+                if (parent instanceof Block) sb.append(' ');
+            }
+        });
+        String text = sb.toString();
+        return new PlainText(text, countWords(text) + codeWords[0]);
+    }
+
+    private static int countWords(String text) {
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0, n = text.length(); i < n; ) {
+            int cp = text.codePointAt(i);
+            i += Character.charCount(cp);
+            boolean space = Character.isWhitespace(cp) || Character.isSpaceChar(cp);
+            if (!space && !inWord) words++;
+            inWord = !space;
+        }
+        return words;
+    }
+
+    /**
+     * 공백을 하나로 접고 {@value #EXCERPT_LENGTH}자까지 자릅니다. 잘린 경우 가능한 한 단어 경계에서 끊고 말줄임표를 붙입니다.
+     */
+    private static String excerptOf(String text) {
+        StringBuilder sb = new StringBuilder(Math.min(text.length(), EXCERPT_LENGTH * 2));
+        int length = 0;
+        int lastSpace = -1;
+        boolean pendingSpace = false;
+        for (int i = 0, n = text.length(); i < n; ) {
+            int cp = text.codePointAt(i);
+            i += Character.charCount(cp);
+            if (Character.isWhitespace(cp) || Character.isSpaceChar(cp)) {
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+            if (length + (pendingSpace ? 1 : 0) >= EXCERPT_LENGTH) {
+                if (lastSpace > sb.length() - 30 && lastSpace > 0) sb.setLength(lastSpace);
+                return sb.append('…').toString();
+            }
+            if (pendingSpace) {
+                lastSpace = sb.length();
+                sb.append(' ');
+                length++;
+                pendingSpace = false;
+            }
+            sb.appendCodePoint(cp);
+            length++;
+        }
+        return sb.toString();
+    }
+
+    private static String textOf(Node node) {
+        StringBuilder sb = new StringBuilder();
+        node.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Text text) {
+                sb.append(text.getLiteral());
+            }
+
+            @Override
+            public void visit(Code code) {
+                sb.append(code.getLiteral());
+            }
+
+            @Override
+            public void visit(SoftLineBreak softLineBreak) {
+                sb.append(' ');
+            }
+        });
+        return sb.toString();
+    }
+
+    /**
+     * 제목 텍스트로 앵커 id를 만듭니다. 문자/숫자(한글 포함)는 소문자로 유지하고, 공백/하이픈 구간은 하이픈 하나로 바꿉니다.
+     */
+    private static String anchorOf(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean pendingHyphen = false;
+        for (int i = 0, n = text.length(); i < n; ) {
+            int cp = text.codePointAt(i);
+            i += Character.charCount(cp);
+            if (Character.isLetterOrDigit(cp)) {
+                if (pendingHyphen && sb.length() > 0) sb.append('-');
+                pendingHyphen = false;
+                sb.appendCodePoint(Character.toLowerCase(cp));
+            } else if (Character.isWhitespace(cp) || cp == '-' || cp == '_') {
+                pendingHyphen = true;
+            }
+        }
+        return sb.length() == 0 ? "section" : sb.toString();
+    }
+
+    private static String uniqueId(String base, Map<String, Integer> used) {
+        Integer seen = used.get(base);
+        if (seen == null) {
+            used.put(base, 0);
+            return base;
+        }
+        String candidate;
+        do {
+            seen++;
+            candidate = base + "-" + seen;
+        } while (used.containsKey(candidate));
+        used.put(base, seen);
+        used.put(candidate, 0);
+        return candidate;
+    }
+}
@@ -0,0 +1,314 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ozymandias089.devlog_api.global.exception.StreamCapacityExceededException;
+import com.ozymandias089.devlog_api.post.event.PostChangedEvent;
+import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 새로 발행된 게시글을 Server-Sent Events로 구독자에게 전달합니다(목록 폴링 대체).
+ *
+ * <p>
+ * 게시글 생성이 커밋되면 요약 JSON을 Redis 채널 <code>{@value #CHANNEL}</code>에 발행하고,
+ * 모든 노드가 같은 채널을 구독해 자기 노드에 연결된 구독자에게 전달합니다. 따라서 구독자는 어느 노드에 붙어도 됩니다.
+ * </p>
+ *
+ * <h3>연결 관리</h3>
+ * <ul>
+ *   <li>구독 연결은 서블릿 비동기 요청({@link SseEmitter})이므로 대기 중인 연결이 요청 스레드를 점유하지 않습니다.</li>
+ *   <li>이벤트는 한 번만 직렬화해 구독자마다 크기 {@code outboxSize}의 전송 대기열에 넣기만 합니다(Redis 리스너 스레드는 블로킹하지 않음).
+ *       소수의 전송 스레드가 대기열이 찬 구독자별로 비우며, 구독자당 전송 작업은 많아야 하나이므로 작업 큐도 구독자 수로 제한됩니다.</li>
+ *   <li>느린 구독자는 끊습니다. 대기열이 가득 차거나 한 번의 전송이 {@code sendTimeout}을 넘기면 전달 대상에서 빼고 연결을 닫으므로,
+ *       한 구독자의 지연이 메모리를 늘리거나 다른 구독자의 전달을 막지 않습니다(클라이언트는 재연결 후 목록으로 보완).
+ *       이미 막힌 쓰기 자체는 컨테이너의 쓰기 제한 시간(<code>server.tomcat.connection-timeout</code>)에 끝나며,
+ *       그동안 점유되는 전송 스레드는 하나뿐입니다.</li>
+ *   <li>주기적인 하트비트(SSE 주석)로 프록시의 유휴 연결 종료를 막고 끊긴 연결을 정리합니다.
+ *       하트비트는 대기열이 빈 구독자에게만 넣어 밀린 구독자에게 쌓이지 않습니다.</li>
+ *   <li>노드당 구독자 수가 {@code maxSubscribers}를 넘으면 503으로 거절합니다. 연결은 {@code timeout} 후 닫히며
+ *       브라우저 <code>EventSource</code>가 자동으로 다시 연결합니다.</li>
+ * </ul>
+ *
+ * <p>전달은 최선 노력(at-most-once)입니다. 연결이 끊긴 동안 발행된 게시글은 재연결 후 목록 첫 페이지로 보완해야 합니다.</p>
+ *
+ * @since 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewPostStreamProvider {
+    static final String CHANNEL = "POST:NEW";
+    /** 클라이언트 재연결 대기 시간(ms) */
+    private static final long RECONNECT_MILLIS = 3000;
+
+    private final PostRepository postRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    /** 노드당 최대 구독자 수 */
+    @Value("${app.posts.stream.max-subscribers:20000}")
+    private int maxSubscribers;
+
+    /** 구독 연결 유지 시간(경과 후 닫고 클라이언트가 재연결) */
+    @Value("${app.posts.stream.timeout:PT30M}")
+    private Duration timeout;
+
+    /** 전송 스레드 수 */
+    @Value("${app.posts.stream.send-threads:4}")
+    private int sendThreads;
+
+    /** 구독자별 전송 대기열 크기(가득 차면 느린 구독자로 보고 끊음) */
+    @Value("${app.posts.stream.outbox-size:16}")
+    private int outboxSize;
+
+    /** 이벤트 하나의 전송이 이 시간을 넘기면 느린 구독자로 보고 끊음 */
+    @Value("${app.posts.stream.send-timeout:PT10S}")
+    private Duration sendTimeout;
+
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private ThreadPoolExecutor sender;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger seq = new AtomicInteger();
+        int threads = Math.max(sendThreads, 1);
+        sender = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(maxSubscribers, 1)), r -> {
+            Thread t = new Thread(r, "post-stream-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+    }
+
+    /* ==================== 구독 ==================== */
+
+    /**
+     * 새 구독 연결을 엽니다.
+     *
+     * @return 이 노드에 등록된 SSE 연결
+     * @throws StreamCapacityExceededException 노드의 구독자 수가 최대치인 경우(503)
+     */
+    public SseEmitter subscribe() {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new StreamCapacityExceededException(maxSubscribers);
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        subscribers.put(emitter, new Subscriber(emitter, outboxSize));
+        emitter.onCompletion(() -> remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(emitter));
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(RECONNECT_MILLIS).comment("connected"));
+        } catch (IOException | IllegalStateException e) {
+            remove(emitter);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    private void remove(SseEmitter emitter) {
+        if (subscribers.remove(emitter) != null) subscriberCount.decrementAndGet();
+    }
+
+    /**
+     * 느린 구독자를 끊습니다. 즉시 전달 대상에서 빼고, 연결은 진행 중인 전송이 없으면 바로,
+     * 있으면 그 전송이 끝난 뒤 전송 스레드가 닫습니다(emitter 잠금을 기다리며 호출 스레드가 막히지 않도록).
+     */
+    private void disconnect(Subscriber subscriber, String reason) {
+        if (subscribers.remove(subscriber.emitter) == null) return;
+        subscriberCount.decrementAndGet();
+        subscriber.closed = true;
+        subscriber.outbox.clear();
+        log.debug("Disconnecting slow new post stream subscriber: {}", reason);
+        if (subscriber.draining.compareAndSet(false, true)) close(subscriber);
+    }
+
+    private void close(Subscriber subscriber) {
+        try {
+            subscriber.emitter.completeWithError(new IOException("Slow subscriber disconnected"));
+        } catch (Exception ignored) {
+            // 이미 닫힌 연결
+        }
+    }
+
+    /* ==================== 발행 ==================== */
+
+    /**
+     * 게시글 생성이 커밋되면 요약을 Redis 채널로 발행합니다. 수정/삭제는 전달하지 않습니다.
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() != PostChangedEvent.Type.CREATED) return;
+        try {
+            PostRepository.ListRow row = postRepository.findProjectedById(event.postId()).orElse(null);
+            if (row != null) stringRedisTemplate.convertAndSend(CHANNEL, row.getId() + ":" + summaryJson(row));
+        } catch (Exception e) {
+            log.warn("New post stream publish failed for post {}: {}", event.postId(), e.getMessage());
+        }
+    }
+
+    private String summaryJson(PostRepository.ListRow row) throws IOException {
+        StringWriter out = new StringWriter(256);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            PostSummaryJsonWriter.writeSummary(generator, row.getTitle(), row.getSlug(),
+                    row.getAuthor().getUuid().toString(), row.getAuthor().getUsername(),
+                    row.getViewCount() == null ? 0L : row.getViewCount(), row.getCreatedAt(),
+                    row.getExcerpt(), row.getReadingMinutes() == null ? 0 : row.getReadingMinutes());
+        }
+        return out.toString();
+    }
+
+    /* ==================== 전달 ==================== */
+
+    /**
+     * 채널 메시지(<code>id:json</code>)를 이 노드의 구독자에게 전달합니다.
+     */
+    private void onMessage(String payload) {
+        int sep = payload.indexOf(':');
+        if (sep <= 0) return;
+        Set<ResponseBodyEmitter.DataWithMediaType> event = SseEmitter.event()
+                .id(payload.substring(0, sep))
+                .name("post")
+                .data(payload.substring(sep + 1))
+                .build();
+        for (Subscriber subscriber : new ArrayList<>(subscribers.values())) {
+            if (subscriber.outbox.offer(event)) schedule(subscriber);
+            else disconnect(subscriber, "outbox full");
+        }
+    }
+
+    /**
+     * 하트비트(SSE 주석)를 보내 유휴 연결을 유지하고 끊긴 연결을 정리합니다.
+     * 밀린 구독자에게는 넣지 않고, 전송 하나가 {@code sendTimeout}을 넘긴 구독자는 끊습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.posts.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        if (subscriberCount.get() == 0) return;
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        long now = System.nanoTime();
+        for (Subscriber subscriber : new ArrayList<>(subscribers.values())) {
+            long since = subscriber.sendingSinceNanos;
+            if (since != 0 && now - since > sendTimeout.toNanos()) {
+                disconnect(subscriber, "send exceeded " + sendTimeout);
+            } else if (subscriber.outbox.isEmpty() && subscriber.outbox.offer(ping)) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    /**
+     * 구독자의 대기열을 비우는 작업을 하나만 전송 스레드에 넘깁니다.
+     */
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) return;
+        try {
+            sender.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+            disconnect(subscriber, "sender saturated");
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            Set<ResponseBodyEmitter.DataWithMediaType> event;
+            while (!subscriber.closed && (event = subscriber.outbox.poll()) != null) {
+                if (!send(subscriber, event)) return;
+            }
+            if (subscriber.closed) {
+                close(subscriber);
+                return;
+            }
+            subscriber.draining.set(false);
+            // 내려놓는 사이 들어온 이벤트/종료 요청은 다른 스레드가 작업을 넘기지 못했을 수 있으므로 다시 확인
+            if ((subscriber.outbox.isEmpty() && !subscriber.closed) || !subscriber.draining.compareAndSet(false, true)) return;
+        }
+    }
+
+    private boolean send(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        subscriber.sendingSinceNanos = System.nanoTime();
+        try {
+            subscriber.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결: 컨테이너가 비동기 요청을 정리하므로 목록에서만 뺀다(작업은 draining을 쥔 채 끝내 재예약을 막음)
+            remove(subscriber.emitter);
+            subscriber.outbox.clear();
+            return false;
+        } finally {
+            subscriber.sendingSinceNanos = 0;
+        }
+    }
+
+    /**
+     * 종료 시 전송을 멈추고 모든 연결을 닫습니다(클라이언트는 다른 노드로 재연결).
+     */
+    @PreDestroy
+    public void stop() {
+        if (sender != null) sender.shutdownNow();
+        for (SseEmitter emitter : new ArrayList<>(subscribers.keySet())) {
+            remove(emitter);
+            emitter.complete();
+        }
+    }
+
+    /**
+     * 구독 연결 하나와 그 전송 대기열.
+     */
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> outbox;
+        /** 대기열을 비우는 작업이 예약/실행 중인지 */
+        private final AtomicBoolean draining = new AtomicBoolean();
+        /** 진행 중인 전송의 시작 시각(System.nanoTime, 전송 중이 아니면 0) */
+        private volatile long sendingSinceNanos;
+        /** 느린 구독자로 끊기로 한 경우 */
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, int outboxSize) {
+            this.emitter = emitter;
+            this.outbox = new ArrayBlockingQueue<>(Math.max(outboxSize, 1));
+        }
+    }
+}
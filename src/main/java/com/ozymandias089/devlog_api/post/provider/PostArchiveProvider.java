@@ -0,0 +1,192 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import com.ozymandias089.devlog_api.global.exception.InvalidArchiveMonthException;
+import com.ozymandias089.devlog_api.post.repository.PostMonthCountRepository;
+import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+/**
+ * 월별 게시글 수(<code>post_month_count</code>)를 관리하고, 보관함의 월을 시각 범위로 바꿉니다.
+ *
+ * <p>
+ * 게시글 작성/삭제 트랜잭션에서 그 게시글이 속한 월의 개수를 upsert로 증감하므로, 보관함은 요청마다
+ * <code>createdAt</code>을 <code>GROUP BY</code>하지 않습니다. 월은 {@code zone} 기준 달력 월입니다.
+ * </p>
+ *
+ * <p>
+ * 증감 값은 기동 시(기능 도입 이전 게시글 포함)와 {@code recountCron}마다 절대값으로 다시 셉니다. 첫 게시글의 월부터 이번 달까지
+ * 월마다 <code>INSERT … SELECT count(*) … ON DUPLICATE KEY UPDATE</code> 한 문장으로 덮어쓰고(<code>idx_post_created_at</code> 범위 스캔),
+ * 범위 밖 월의 행은 지웁니다. 문장 단위로 원자적이라 동시에 커밋되는 작성/삭제와 겹쳐도 값이 어긋나지 않으며, 여러 노드가 동시에 실행해도
+ * 결과가 같습니다. 따라서 증감 누락이나 {@code zone} 변경으로 생긴 차이도 다음 재집계에서 바로잡힙니다.
+ * </p>
+ * @since 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostArchiveProvider {
+    /** 보관함에서 허용하는 가장 이른 연도 */
+    public static final int MIN_YEAR = 1970;
+    /** 보관함에서 허용하는 가장 늦은 연도 */
+    public static final int MAX_YEAR = 9999;
+
+    private final PostMonthCountRepository postMonthCountRepository;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    /** 월 경계를 정하는 시간대 */
+    @Value("${app.posts.archive.zone:UTC}")
+    private ZoneId zone;
+
+    private volatile Thread driver;
+
+    /**
+     * 새 게시글을 작성 월의 개수에 더합니다. 게시글 작성 트랜잭션 안에서 호출합니다.
+     *
+     * @param createdAt 작성 시각
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Instant createdAt) {
+        postMonthCountRepository.addPostCount(monthKey(createdAt), 1);
+    }
+
+    /**
+     * 삭제된 게시글을 작성 월의 개수에서 뺍니다. 게시글 삭제 트랜잭션 안에서 호출합니다.
+     *
+     * @param createdAt 삭제된 게시글의 작성 시각
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Instant createdAt) {
+        postMonthCountRepository.addPostCount(monthKey(createdAt), -1);
+    }
+
+    /**
+     * 연/월을 검증해 {@link YearMonth}로 바꿉니다.
+     *
+     * @param year  연도({@value #MIN_YEAR}~{@value #MAX_YEAR})
+     * @param month 월(1~12)
+     * @return 연월
+     * @throws InvalidArchiveMonthException 범위를 벗어난 경우
+     */
+    public YearMonth toYearMonth(int year, int month) {
+        if (year < MIN_YEAR || year > MAX_YEAR || month < 1 || month > 12) {
+            throw new InvalidArchiveMonthException("Invalid archive month: " + year + "/" + month);
+        }
+        return YearMonth.of(year, month);
+    }
+
+    /**
+     * 월의 시작 시각(포함)입니다.
+     */
+    public Instant startOf(YearMonth month) {
+        return month.atDay(1).atStartOfDay(zone).toInstant();
+    }
+
+    /**
+     * 다음 달의 시작 시각(제외)입니다.
+     */
+    public Instant endOf(YearMonth month) {
+        return startOf(month.plusMonths(1));
+    }
+
+    /**
+     * 시각이 속한 월의 키(<code>yyyyMM</code>)입니다.
+     */
+    public int monthKey(Instant instant) {
+        YearMonth month = YearMonth.from(instant.atZone(zone));
+        return monthKey(month);
+    }
+
+    /**
+     * 연월의 키(<code>yyyyMM</code>)입니다.
+     */
+    public static int monthKey(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    /**
+     * 애플리케이션 기동 시 백그라운드 스레드로 월별 게시글 수를 다시 셉니다(기능 도입 이전 게시글 포함).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recountOnStartup() {
+        Thread thread = new Thread(() -> {
+            try {
+                recountAll();
+            } catch (Exception e) {
+                log.warn("Monthly post count recount stopped: {}", e.getMessage());
+            }
+        }, "post-month-count-recount");
+        thread.setDaemon(true);
+        driver = thread;
+        thread.start();
+    }
+
+    /**
+     * 설정된 주기마다 월별 게시글 수를 다시 셉니다(<code>-</code>면 비활성).
+     */
+    @Scheduled(cron = "${app.posts.archive.recount-cron:0 45 4 * * *}")
+    public void recountOnSchedule() {
+        try {
+            recountAll();
+        } catch (Exception e) {
+            log.warn("Monthly post count recount failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 첫 게시글의 월부터 이번 달까지 월마다 게시글 수를 다시 세어 덮어쓰고, 범위 밖 월의 행을 지웁니다.
+     *
+     * @return 다시 센 월 수
+     */
+    public int recountAll() {
+        Instant min = postRepository.findMinCreatedAt();
+        Instant max = postRepository.findMaxCreatedAt();
+        YearMonth current = YearMonth.now(clock.withZone(zone));
+        if (min == null || max == null) {
+            transactionTemplate.executeWithoutResult(status -> postMonthCountRepository.deleteAllInBatch());
+            return 0;
+        }
+        YearMonth first = YearMonth.from(min.atZone(zone));
+        YearMonth lastPost = YearMonth.from(max.atZone(zone));
+        YearMonth last = lastPost.isAfter(current) ? lastPost : current;
+
+        int months = 0;
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            if (Thread.currentThread().isInterrupted()) return months;
+            YearMonth target = month;
+            transactionTemplate.executeWithoutResult(status ->
+                    postMonthCountRepository.recount(monthKey(target), startOf(target), endOf(target)));
+            months++;
+        }
+        // 실행 중 달이 바뀌어 쓰기 경로가 만든 다음 달 행은 남긴다
+        int keepTo = monthKey(last.plusMonths(1));
+        transactionTemplate.executeWithoutResult(status -> postMonthCountRepository.deleteOutside(monthKey(first), keepTo));
+        log.info("Recounted monthly post counts for {} months", months);
+        return months;
+    }
+
+    /**
+     * 종료 시 진행 중인 기동 재집계를 중단합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        Thread thread = driver;
+        if (thread != null) thread.interrupt();
+    }
+}
@@ -0,0 +1,80 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import com.ozymandias089.devlog_api.post.entity.ContentCodec;
+import com.ozymandias089.devlog_api.post.entity.PostEntity;
+import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 압축 저장 도입 이전의 비압축 본문(<code>content</code> 컬럼)을 압축 컬럼(<code>content_body</code>)으로 옮깁니다.
+ *
+ * <p>
+ * 기동 시 한 번 실행되며, PK 오름차순으로 {@code batchSize}건씩 기존 본문을 읽어 {@link ContentCodec}으로 인코딩한 뒤
+ * 게시글마다 짧은 트랜잭션의 네이티브 벌크 업데이트로 압축 컬럼을 채우고 기존 컬럼을 비웁니다.
+ * 엔티티 더티 체킹을 거치지 않으므로 <code>version</code>/<code>updated_at</code>이 바뀌지 않고, 동시 수정과 낙관적 잠금 충돌도 없습니다
+ * (그 사이 수정된 행은 이미 압축 컬럼에 저장되었으므로 건너뜀). 한 행이 실패해도 로그만 남기고 다음 행으로 진행하며,
+ * 중간에 중단되어도 남은 행부터 다시 시작합니다.
+ * </p>
+ *
+ * <p>백필이 끝나기 전에도 {@link PostEntity#getContent()}가 기존 컬럼으로 폴백하므로 조회에는 영향이 없습니다.</p>
+ *
+ * @since 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostContentBackfillProvider {
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /** 한 트랜잭션에서 옮길 게시글 수 */
+    @Value("${app.posts.content.backfill-batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 애플리케이션 기동 시 남아 있는 비압축 본문을 옮깁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        try {
+            int migrated = backfill();
+            if (migrated > 0) log.info("Migrated {} post bodies to compressed storage", migrated);
+        } catch (Exception e) {
+            log.warn("Post content backfill stopped: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 남은 비압축 본문을 모두 옮깁니다.
+     *
+     * @return 옮긴 게시글 수
+     */
+    public int backfill() {
+        int migrated = 0;
+        long afterId = 0;
+        while (true) {
+            List<PostRepository.LegacyContent> batch = postRepository.findLegacyContents(afterId, Limit.of(batchSize));
+            if (batch.isEmpty()) return migrated;
+
+            for (PostRepository.LegacyContent row : batch) {
+                try {
+                    byte[] body = ContentCodec.encode(row.getLegacyContent());
+                    Integer rows = transactionTemplate.execute(status -> postRepository.migrateLegacyContent(row.getId(), body));
+                    if (rows != null && rows > 0) migrated++;
+                } catch (Exception e) {
+                    log.warn("Skipped post content backfill for id={}: {}", row.getId(), e.getMessage());
+                }
+            }
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+    }
+}
@@ -0,0 +1,493 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import com.ozymandias089.devlog_api.global.exception.DraftVersionConflictException;
+import com.ozymandias089.devlog_api.global.exception.InvalidDraftPatchException;
+import com.ozymandias089.devlog_api.global.exception.PostNotFoundException;
+import com.ozymandias089.devlog_api.global.outbox.CacheInvalidationEvent;
+import com.ozymandias089.devlog_api.post.dto.request.PatchDraftRequestDTO;
+import com.ozymandias089.devlog_api.post.entity.ContentCodec;
+import com.ozymandias089.devlog_api.post.entity.PostDraftEntity;
+import com.ozymandias089.devlog_api.post.event.PostChangedEvent;
+import com.ozymandias089.devlog_api.post.repository.PostDraftRepository;
+import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 초안의 노드 메모리 버퍼와 디바운스 저장을 담당합니다.
+ *
+ * <p>
+ * 에디터는 몇 초마다 본문 전체 대신 델타 연산({@link PatchDraftRequestDTO.Op})만 보냅니다. 패치는 메모리 버퍼에 적용하고,
+ * 버퍼는 마지막 변경 후 {@code debounce} 동안 추가 변경이 없거나 첫 미저장 변경 후 {@code maxDelay}가 지나면
+ * <code>post_draft</code>에 본문을 한 번 저장합니다. 따라서 연속 타이핑 중의 여러 패치는 한 번의 본문 쓰기로 합쳐집니다.
+ * 패치는 게시글 본문/버전을 바꾸지 않으며 게시글 변경 이벤트도 발행하지 않습니다.
+ * </p>
+ *
+ * <h3>버전</h3>
+ * <ul>
+ *   <li>초안 버전의 정본은 DB입니다. 패치는 <code>version = :base</code> 조건부 증가(PK 한 행, 본문 미포함)에 성공해야 버퍼에 적용되므로,
+ *       어느 노드로 라우팅되든 한 버전에는 한 패치만 적용됩니다. 실패하면 {@link DraftVersionConflictException}(412).</li>
+ *   <li>버퍼가 DB 버전보다 뒤처져 있으면 저장된 본문으로 다시 읽습니다. 최신 본문이 아직 다른 노드의 버퍼에만 있으면(디바운스 중)
+ *       412가 되고, 클라이언트는 자신이 가진 본문 전체로 교체({@link #replace})해 다시 동기화합니다. 교체는 행을 잠그고 바로 저장합니다.</li>
+ *   <li>본문 저장은 <code>version = :version</code> 조건부입니다. 실패는 그 사이 다른 노드가 교체했거나 초안을 버렸다는 뜻이므로
+ *       대체된 버퍼를 내립니다(같은 노드의 후속 패치로 버전이 오른 경우는 다음 저장에 반영).</li>
+ * </ul>
+ *
+ * <p>
+ * 라우팅과 무관하게 확인된 패치는 유실되거나 덮어써지지 않습니다. 다만 같은 게시글의 요청이 디바운스 시간 안에 노드를 오가면
+ * 교체가 필요해지므로, 스티키 라우팅일 때 가장 효율적입니다. 저장되지 않은 변경은 종료 시 모두 저장하며,
+ * 비정상 종료 시에는 최대 {@code maxDelay} 분량의 변경이 유실될 수 있습니다(다음 패치가 412를 받아 클라이언트가 재동기화).
+ * </p>
+ *
+ * @since 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDraftProvider {
+    private final PostRepository postRepository;
+    private final PostDraftRepository postDraftRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    /** 슬러그 → 버퍼 */
+    private final Map<String, Buffer> buffers = new ConcurrentHashMap<>();
+
+    /** 마지막 변경 후 이 시간 동안 변경이 없으면 저장 */
+    @Value("${app.posts.draft.debounce:PT2S}")
+    private Duration debounce;
+
+    /** 연속 변경 중이어도 첫 미저장 변경 후 이 시간이 지나면 저장 */
+    @Value("${app.posts.draft.max-delay:PT10S}")
+    private Duration maxDelay;
+
+    /** 저장이 끝난 뒤 이 시간 동안 접근이 없는 버퍼는 메모리에서 내림 */
+    @Value("${app.posts.draft.idle-timeout:PT10M}")
+    private Duration idleTimeout;
+
+    /** 노드가 메모리에 유지하는 최대 버퍼 수(넘으면 새 초안은 버퍼 없이 바로 저장) */
+    @Value("${app.posts.draft.max-buffers:10000}")
+    private int maxBuffers;
+
+    /** 초안 본문 최대 길이 */
+    public static final int MAX_LENGTH = 20_000;
+
+    /**
+     * 초안의 현재 상태입니다.
+     *
+     * @param postId     게시글 PK
+     * @param authorUuid 게시글 작성자 UUID
+     * @param title      제목
+     * @param content    본문
+     * @param version    초안 버전(수정 전이면 0)
+     * @param updatedAt  마지막 변경 시각(수정 전이면 null)
+     */
+    public record Draft(Long postId, UUID authorUuid, String title, String content, long version, Instant updatedAt) {}
+
+    /**
+     * 초안을 조회합니다. 초안이 없으면 현재 게시글 제목/본문으로 시작하는 버전 0의 초안을 반환합니다(저장하지 않음).
+     *
+     * @param slug 게시글 슬러그
+     * @return 초안
+     * @throws PostNotFoundException 게시글이 없는 경우
+     */
+    public Draft read(String slug) {
+        return read(slug, false);
+    }
+
+    /**
+     * DB의 현재 버전에 해당하는 초안을 조회합니다(발행용).
+     *
+     * @param slug 게시글 슬러그
+     * @return 초안
+     * @throws PostNotFoundException          게시글이 없는 경우
+     * @throws DraftVersionConflictException 최신 본문이 아직 다른 노드의 버퍼에만 있는 경우
+     */
+    public Draft readCurrent(String slug) {
+        return read(slug, true);
+    }
+
+    private Draft read(String slug, boolean requireCurrent) {
+        while (true) {
+            Buffer buffer = acquire(slug);
+            long stored = postDraftRepository.findVersionByPostId(buffer.postId).orElse(0L);
+            synchronized (buffer) {
+                if (isDetached(slug, buffer)) continue;
+                if (buffer.version != stored) stored = reload(buffer);
+                if (requireCurrent && buffer.version != stored) throw new DraftVersionConflictException(slug, stored);
+                buffer.touch();
+                return buffer.toDraft();
+            }
+        }
+    }
+
+    /**
+     * 게시글 작성자 UUID를 반환합니다. 버퍼가 있으면 DB에 접근하지 않고, 없으면 작성자만 조회하며 버퍼를 만들지 않습니다
+     * (작성자가 아닌 요청이 본문을 메모리에 올리지 못하도록).
+     *
+     * @param slug 게시글 슬러그
+     * @return 작성자 UUID
+     * @throws PostNotFoundException 게시글이 없는 경우
+     */
+    public UUID authorOf(String slug) {
+        Buffer buffer = buffers.get(slug);
+        if (buffer != null) return buffer.authorUuid;
+        return postRepository.findWriteTargetBySlug(slug)
+                .map(PostRepository.WriteTarget::getAuthorUuid)
+                .orElseThrow(() -> new PostNotFoundException(slug));
+    }
+
+    /**
+     * 델타 연산을 적용합니다.
+     *
+     * @param slug        게시글 슬러그
+     * @param baseVersion 클라이언트가 알고 있는 초안 버전
+     * @param title       새 제목(null이면 유지)
+     * @param ops         순서대로 적용할 연산
+     * @return 적용 후 초안 버전
+     * @throws DraftVersionConflictException 기준 버전이 현재 버전과 다른 경우
+     * @throws InvalidDraftPatchException    연산 범위가 본문을 벗어나거나 결과가 최대 길이를 넘는 경우
+     */
+    public long patch(String slug, long baseVersion, String title, List<PatchDraftRequestDTO.Op> ops) {
+        while (true) {
+            Buffer buffer = acquire(slug);
+            long version;
+            synchronized (buffer) {
+                // 버전을 올린 뒤 내려간 버퍼에 적용하면 저장되지 않으므로 다시 가져옴
+                if (isDetached(slug, buffer)) continue;
+                if (buffer.version != baseVersion) {
+                    long stored = reload(buffer);
+                    if (buffer.version != baseVersion) throw new DraftVersionConflictException(slug, stored);
+                }
+                validateOps(buffer.content.length(), ops);
+                if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> incrementVersion(buffer, baseVersion)))) {
+                    throw new DraftVersionConflictException(slug, reload(buffer));
+                }
+                applyOps(buffer.content, ops);
+                if (title != null && !title.isBlank()) buffer.title = title.trim();
+                version = buffer.markChanged(Instant.now(clock));
+            }
+            if (!buffer.cached) flush(slug, buffer);
+            return version;
+        }
+    }
+
+    /**
+     * 초안 전체를 교체합니다(충돌 후 재동기화). 기준 버전 검사 없이 DB의 현재 버전보다 1 높은 버전으로 바로 저장하므로
+     * 다른 노드의 버퍼보다 항상 우선합니다.
+     *
+     * @param slug    게시글 슬러그
+     * @param title   새 제목(null이면 유지)
+     * @param content 새 본문
+     * @return 교체 후 초안 버전
+     */
+    public long replace(String slug, String title, String content) {
+        if (content.length() > MAX_LENGTH) throw new InvalidDraftPatchException("Draft exceeds " + MAX_LENGTH + " characters");
+        while (true) {
+            Buffer buffer = acquire(slug);
+            synchronized (buffer) {
+                if (isDetached(slug, buffer)) continue;
+                String newTitle = title != null && !title.isBlank() ? title.trim() : buffer.title;
+                Instant now = Instant.now(clock);
+                Long version = transactionTemplate.execute(status -> {
+                    postDraftRepository.insertIfAbsent(buffer.postId, newTitle, ContentCodec.encode(content), now);
+                    long next = postDraftRepository.lockVersion(buffer.postId).orElse(0L) + 1;
+                    postDraftRepository.overwrite(buffer.postId, newTitle, content, next, now);
+                    return next;
+                });
+                buffer.reset(newTitle, content, version, now);
+                buffer.touch();
+                return version;
+            }
+        }
+    }
+
+    /**
+     * 초안을 버립니다(메모리 버퍼와 저장된 행 모두).
+     *
+     * @param slug 게시글 슬러그
+     */
+    public void discard(String slug) {
+        Buffer buffer = acquire(slug);
+        evict(slug);
+        transactionTemplate.executeWithoutResult(status -> postDraftRepository.deleteByPostId(buffer.postId));
+    }
+
+    /**
+     * 삭제된 게시글의 버퍼를 내립니다(저장된 행은 게시글 삭제 트랜잭션에서 함께 삭제됨).
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) evict(event.slug());
+    }
+
+    /**
+     * 다른 노드에서 삭제된 게시글의 버퍼를 내립니다.
+     *
+     * @param event 노드 간 무효화 알림
+     */
+    @EventListener
+    public void onRemoteChange(CacheInvalidationEvent event) {
+        if (event.entity() == CacheInvalidationEvent.Entity.POST && event.change() == CacheInvalidationEvent.Change.DELETED) {
+            evict(event.key());
+        }
+    }
+
+    /**
+     * 디바운스 조건을 만족한 버퍼를 저장하고, 오래 접근하지 않은 버퍼를 내립니다.
+     * 내리는 판단과 제거는 버퍼 모니터 안에서 함께 하므로, 이미 버퍼를 가져간 패치는 내려간 버퍼를 보고 다시 가져옵니다.
+     */
+    @Scheduled(fixedDelayString = "${app.posts.draft.flush-interval:PT1S}")
+    public void flushDue() {
+        long now = System.nanoTime();
+        buffers.forEach((slug, buffer) -> {
+            boolean due;
+            synchronized (buffer) {
+                due = buffer.isDirty() && (now - buffer.lastChangeNanos >= debounce.toNanos()
+                        || now - buffer.dirtySinceNanos >= maxDelay.toNanos());
+                if (!buffer.isDirty() && now - buffer.lastAccessNanos >= idleTimeout.toNanos()) {
+                    buffer.discarded = true;
+                    buffers.remove(slug, buffer);
+                }
+            }
+            if (due) flush(slug, buffer);
+        });
+    }
+
+    /**
+     * 종료 시 저장되지 않은 초안을 모두 저장합니다.
+     */
+    @PreDestroy
+    public void flushAll() {
+        buffers.forEach(this::flush);
+    }
+
+    /* ==================== 내부 구현 ==================== */
+
+    /**
+     * 버퍼를 가져옵니다. 없으면 저장된 초안(없으면 게시글)으로 만듭니다.
+     */
+    private Buffer acquire(String slug) {
+        Buffer buffer = buffers.get(slug);
+        if (buffer != null) return buffer;
+
+        PostRepository.WriteTarget target = postRepository.findWriteTargetBySlug(slug)
+                .orElseThrow(() -> new PostNotFoundException(slug));
+        Buffer loaded = postDraftRepository.findById(target.getId())
+                .map(draft -> new Buffer(target.getId(), target.getAuthorUuid(), draft.getTitle(), draft.getContent(),
+                        draft.getSavedVersion(), draft.getUpdatedAt()))
+                .orElseGet(() -> {
+                    PostRepository.SearchSource post = postSource(target.getId());
+                    return new Buffer(target.getId(), target.getAuthorUuid(), post.getTitle(), post.getBody(), 0, null);
+                });
+
+        if (buffers.size() >= maxBuffers) {
+            loaded.cached = false;
+            return loaded;
+        }
+        Buffer existing = buffers.putIfAbsent(slug, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private PostRepository.SearchSource postSource(Long postId) {
+        return postRepository.findSearchSourcesByIdIn(List.of(postId)).stream()
+                .findFirst().orElseThrow(() -> new PostNotFoundException(String.valueOf(postId)));
+    }
+
+    /**
+     * 패치의 버전 검사: DB의 초안 버전을 기준 버전에서 1 올립니다. 버전 0이면 현재 버퍼 내용으로 시작 행을 먼저 만듭니다.
+     * 호출자는 버퍼 모니터를 쥐고 있습니다.
+     */
+    private boolean incrementVersion(Buffer buffer, long baseVersion) {
+        if (baseVersion == 0) {
+            postDraftRepository.insertIfAbsent(buffer.postId, buffer.title, ContentCodec.encode(buffer.content.toString()),
+                    Instant.now(clock));
+        }
+        return postDraftRepository.incrementVersion(buffer.postId, baseVersion) > 0;
+    }
+
+    /**
+     * 버퍼 버전이 DB와 다를 때 저장된 초안으로 다시 맞춥니다. 호출자는 버퍼 모니터를 쥐고 있습니다.
+     *
+     * <p>
+     * 행이 없으면(다른 노드에서 버림) 게시글로 시작하는 버전 0이 되고, 있으면 저장된 본문과 그 버전을 가져옵니다.
+     * 저장된 본문이 DB 버전보다 오래됐으면(최신 본문이 다른 노드의 버퍼에만 있음) 버퍼 버전은 DB 버전보다 작게 남습니다.
+     * 버전이 달라진 버퍼의 미저장 변경은 교체/삭제로 대체된 것이므로 버립니다.
+     * </p>
+     *
+     * @return DB의 현재 초안 버전(행이 없으면 0)
+     */
+    private long reload(Buffer buffer) {
+        PostDraftEntity draft = postDraftRepository.findById(buffer.postId).orElse(null);
+        if (draft == null) {
+            if (buffer.version != 0) {
+                PostRepository.SearchSource post = postSource(buffer.postId);
+                buffer.reset(post.getTitle(), post.getBody(), 0, null);
+            }
+            return 0;
+        }
+        if (buffer.version != draft.getVersion()) {
+            if (buffer.isDirty()) log.debug("Draft of post {} was replaced elsewhere, dropping local v{}", buffer.postId, buffer.version);
+            buffer.reset(draft.getTitle(), draft.getContent(), draft.getSavedVersion(), draft.getUpdatedAt());
+        }
+        return draft.getVersion();
+    }
+
+    private void evict(String slug) {
+        if (slug == null) return;
+        Buffer buffer;
+        while ((buffer = buffers.get(slug)) != null) {
+            synchronized (buffer) {
+                buffer.discarded = true;
+                buffers.remove(slug, buffer);
+            }
+        }
+    }
+
+    /**
+     * 버퍼가 내려졌거나(버림/유휴/대체) 맵의 현재 버퍼가 아니면 true. 호출자는 버퍼 모니터를 쥐고 있습니다.
+     * 맵에 넣지 않은 일회용 버퍼는 내려가지 않는 한 유효합니다.
+     */
+    private boolean isDetached(String slug, Buffer buffer) {
+        return buffer.discarded || (buffer.cached && buffers.get(slug) != buffer);
+    }
+
+    /**
+     * 버퍼의 현재 본문을 저장합니다. 저장하는 동안의 패치는 다음 저장에 반영됩니다.
+     */
+    private void flush(String slug, Buffer buffer) {
+        String title;
+        String content;
+        long version;
+        Instant updatedAt;
+        synchronized (buffer) {
+            if (buffer.discarded || !buffer.isDirty()) return;
+            title = buffer.title;
+            content = buffer.content.toString();
+            version = buffer.version;
+            updatedAt = buffer.updatedAt;
+        }
+        try {
+            Integer written = transactionTemplate.execute(status ->
+                    postDraftRepository.saveContent(buffer.postId, title, content, version, updatedAt));
+            synchronized (buffer) {
+                if (written != null && written > 0) {
+                    buffer.markPersisted(version);
+                } else if (buffer.version == version) {
+                    // 같은 노드의 후속 패치가 아니라 교체/삭제로 버전이 바뀐 경우: 대체된 버퍼이므로 내림
+                    log.debug("Draft of post {} was replaced elsewhere, dropping local buffer v{}", buffer.postId, version);
+                    buffer.discarded = true;
+                    buffers.remove(slug, buffer);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to save draft of post {}, retrying next round: {}", buffer.postId, e.getMessage());
+        }
+    }
+
+    /**
+     * 연산 범위와 결과 길이를 검증합니다(버전을 올리기 전에 실패하도록).
+     */
+    private static void validateOps(int length, List<PatchDraftRequestDTO.Op> ops) {
+        for (PatchDraftRequestDTO.Op op : ops) {
+            int insert = op.getIns() == null ? 0 : op.getIns().length();
+            if (op.getPos() < 0 || op.getDel() < 0 || op.getPos() > length || op.getDel() > length - op.getPos()) {
+                throw new InvalidDraftPatchException("Op out of range: pos=" + op.getPos() + ", del=" + op.getDel() + ", length=" + length);
+            }
+            length = length - op.getDel() + insert;
+            if (length > MAX_LENGTH) throw new InvalidDraftPatchException("Draft exceeds " + MAX_LENGTH + " characters");
+        }
+    }
+
+    /**
+     * 검증된 연산을 순서대로 적용합니다.
+     */
+    private static void applyOps(StringBuilder content, List<PatchDraftRequestDTO.Op> ops) {
+        for (PatchDraftRequestDTO.Op op : ops) {
+            content.replace(op.getPos(), op.getPos() + op.getDel(), op.getIns() == null ? "" : op.getIns());
+        }
+    }
+
+    /**
+     * 게시글 하나의 초안 버퍼. 모든 필드는 버퍼 모니터로 보호합니다.
+     */
+    private static final class Buffer {
+        private final Long postId;
+        private final UUID authorUuid;
+        private final StringBuilder content;
+        private String title;
+        private long version;
+        private long persistedVersion;
+        private Instant updatedAt;
+        private long dirtySinceNanos;
+        private long lastChangeNanos;
+        private long lastAccessNanos;
+        private boolean discarded;
+        /** false면 버퍼 상한 초과로 맵에 넣지 않은 일회용 버퍼(변경 즉시 저장) */
+        private volatile boolean cached = true;
+
+        private Buffer(Long postId, UUID authorUuid, String title, String content, long version, Instant updatedAt) {
+            this.postId = postId;
+            this.authorUuid = authorUuid;
+            this.title = title;
+            this.content = new StringBuilder(content == null ? "" : content);
+            this.version = version;
+            this.persistedVersion = version;
+            this.updatedAt = updatedAt;
+            this.lastAccessNanos = System.nanoTime();
+        }
+
+        private boolean isDirty() {
+            return version > persistedVersion;
+        }
+
+        private void touch() {
+            lastAccessNanos = System.nanoTime();
+        }
+
+        private long markChanged(Instant now) {
+            long nanos = System.nanoTime();
+            if (!isDirty()) dirtySinceNanos = nanos;
+            lastChangeNanos = nanos;
+            lastAccessNanos = nanos;
+            updatedAt = now;
+            return ++version;
+        }
+
+        private void reset(String title, String content, long version, Instant updatedAt) {
+            this.title = title;
+            this.content.setLength(0);
+            this.content.append(content == null ? "" : content);
+            this.version = version;
+            this.persistedVersion = version;
+            this.updatedAt = updatedAt;
+        }
+
+        private void markPersisted(long version) {
+            persistedVersion = Math.max(persistedVersion, version);
+            if (isDirty()) dirtySinceNanos = lastChangeNanos;
+        }
+
+        private Draft toDraft() {
+            return new Draft(postId, authorUuid, title, content.toString(), version, updatedAt);
+        }
+    }
+}
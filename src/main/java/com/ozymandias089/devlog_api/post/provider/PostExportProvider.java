@@ -0,0 +1,152 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ozymandias089.devlog_api.post.entity.ContentCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * 전체 게시글을 NDJSON(한 줄에 JSON 객체 하나)으로 스트리밍합니다(백업/분석 적재용).
+ *
+ * <p>
+ * PK 오름차순으로 {@code chunkSize}건씩 끊어 읽습니다. 각 청크는 <code>id &gt; :after</code> 조건의 쿼리 한 번이며,
+ * 전진 전용(forward-only) 읽기 전용 커서로 행을 하나씩 받아 바로 출력 스트림에 씁니다.
+ * 따라서 힙 사용량은 테이블 크기와 무관하게 행 하나 분량으로 일정합니다.
+ * </p>
+ *
+ * <p>
+ * 청크 쿼리는 각각 자동 커밋으로 실행되므로 내보내기 전체에 걸친 트랜잭션이나 커넥션 점유가 없습니다.
+ * 그 대가로 결과는 단일 시점 스냅샷이 아니며, 내보내는 동안 수정된 게시글은 수정 전/후 어느 쪽이든 나올 수 있습니다.
+ * </p>
+ *
+ * <h3>출력 형식</h3>
+ * <pre>{"id":1,"slug":"...","title":"...","authorUuid":"...","authorUsername":"...","content":"...","viewCount":0,"createdAt":"...","updatedAt":"..."}</pre>
+ * <p>중단된 경우 마지막으로 받은 줄의 <code>id</code>를 <code>after</code>로 넘기면 그 다음 게시글부터 이어서 받을 수 있습니다.</p>
+ *
+ * @since 1.1
+ */
+@Component
+@RequiredArgsConstructor
+public class PostExportProvider {
+    private static final String CHUNK_SQL = """
+            select p.id, p.slug, p.title, p.content_body, p.content, p.view_count, p.created_at, p.updated_at,
+                   m.uuid, m.username
+            from post p join member m on m.id = p.author_id
+            where p.id > ?
+            order by p.id
+            limit ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /** 쿼리 한 번에 읽는 게시글 수 */
+    @Value("${app.posts.export.chunk-size:5000}")
+    private int chunkSize;
+
+    /**
+     * <code>afterId</code>보다 큰 PK의 게시글을 모두 NDJSON으로 씁니다.
+     *
+     * @param afterId 이 PK보다 큰 게시글부터 내보냄(처음부터면 0)
+     * @param out     출력 스트림(닫지 않음)
+     * @return 내보낸 게시글 수
+     * @throws IOException 출력 스트림 쓰기 실패(클라이언트 연결 종료 등)
+     */
+    public long export(long afterId, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        long exported = 0;
+        long cursor = afterId;
+        try {
+            while (true) {
+                ChunkWriter chunk = new ChunkWriter(generator);
+                final long from = cursor;
+                jdbcTemplate.query(con -> {
+                    PreparedStatement ps = con.prepareStatement(CHUNK_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    // MySQL Connector/J: 결과 전체를 버퍼링하지 않고 행 단위로 받음
+                    ps.setFetchSize(Integer.MIN_VALUE);
+                    ps.setLong(1, from);
+                    ps.setInt(2, chunkSize);
+                    return ps;
+                }, chunk::write);
+                generator.flush();
+
+                exported += chunk.rows;
+                if (chunk.rows < chunkSize) return exported;
+                cursor = chunk.lastId;
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            generator.close();
+        }
+    }
+
+    /**
+     * 한 청크의 행을 NDJSON 줄로 쓰고 마지막 PK를 기억합니다.
+     */
+    private static final class ChunkWriter {
+        private final JsonGenerator generator;
+        private int rows;
+        private long lastId;
+
+        private ChunkWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        private void write(ResultSet rs) throws SQLException {
+            lastId = rs.getLong("id");
+            try {
+                generator.writeStartObject();
+                generator.writeNumberField("id", lastId);
+                generator.writeStringField("slug", rs.getString("slug"));
+                generator.writeStringField("title", rs.getString("title"));
+                generator.writeStringField("authorUuid", uuidOf(rs.getObject("uuid")));
+                generator.writeStringField("authorUsername", rs.getString("username"));
+                generator.writeStringField("content", contentOf(rs.getBytes("content_body"), rs.getString("content")));
+                generator.writeNumberField("viewCount", rs.getLong("view_count"));
+                generator.writeStringField("createdAt", instantOf(rs.getTimestamp("created_at")));
+                generator.writeStringField("updatedAt", instantOf(rs.getTimestamp("updated_at")));
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rows++;
+        }
+    }
+
+    private static String contentOf(byte[] body, String legacy) {
+        return body != null ? ContentCodec.decode(body) : legacy;
+    }
+
+    private static String instantOf(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant().toString();
+    }
+
+    /**
+     * UUID 컬럼 값을 문자열로 변환합니다. MySQL에서는 <code>BINARY(16)</code>으로 저장됩니다.
+     */
+    private static String uuidOf(Object value) {
+        if (value instanceof byte[] bytes && bytes.length == 16) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong()).toString();
+        }
+        return value == null ? null : value.toString();
+    }
+}
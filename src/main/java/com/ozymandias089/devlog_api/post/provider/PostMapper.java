@@ -2,15 +2,37 @@ package com.ozymandias089.devlog_api.post.provider;
 
 import com.ozymandias089.devlog_api.member.entity.MemberEntity;
 import com.ozymandias089.devlog_api.post.dto.PostSummaryDTO;
+import com.ozymandias089.devlog_api.post.dto.PostSummaryRows;
+import com.ozymandias089.devlog_api.post.dto.request.PostField;
+import com.ozymandias089.devlog_api.post.dto.response.GetArchivePostsResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetArchiveResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetAuthorPostsResponseDTO;
 import com.ozymandias089.devlog_api.post.dto.response.GetDetailedPostResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetDraftResponseDTO;
 import com.ozymandias089.devlog_api.post.dto.response.GetPostListResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetPostsBatchResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetRelatedPostsResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetRevisionResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetRevisionsResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetSuggestionsResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetTagPostsResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetTagsResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetTrendingPostsResponseDTO;
 import com.ozymandias089.devlog_api.post.dto.response.PostCreateResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.SearchPostsResponseDTO;
 import com.ozymandias089.devlog_api.post.entity.PostEntity;
+import com.ozymandias089.devlog_api.post.repository.PostFieldsRepository;
+import com.ozymandias089.devlog_api.post.repository.PostMonthCountRepository;
 import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import com.ozymandias089.devlog_api.post.repository.PostRevisionRepository;
+import com.ozymandias089.devlog_api.post.repository.TagCountRepository;
+import com.ozymandias089.devlog_api.post.search.AutocompleteIndex;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Post 도메인의 엔티티/DTO 매핑 유틸리티입니다.
@@ -49,51 +71,294 @@ public final class PostMapper {
     }
 
     /**
-     * 목록 화면용 인터페이스 프로젝션({@link PostRepository.ListRow}) 페이지를
-     * {@link PostSummaryDTO} 리스트로 변환합니다.
+     * 개별 필드로부터 {@link PostSummaryDTO}를 생성합니다.
      *
-     * <p>
-     * 성능을 위해 {@link Page#getContent()}로 현재 페이지의 데이터만 매핑합니다.
-     * 프로젝션은 필요한 필드만 조회하므로 N+1 없이 가볍게 동작합니다.
-     * </p>
+     * <p>DB 프로젝션이 아닌 캐시(예: Redis 최신 피드)에서 복원한 값으로 목록 항목을 만들 때 사용합니다.</p>
+     */
+    public static PostSummaryDTO toPostSummaryDTO(String title, String slug, String authorUuid, String authorUsername, long viewCount, Instant createdAt,
+                                                  String excerpt, int readingMinutes) {
+        return PostSummaryDTO.builder()
+                .title(title)
+                .slug(slug)
+                .authorUuid(authorUuid)
+                .authorUsername(authorUsername)
+                .viewCount(viewCount)
+                .createdAt(createdAt)
+                .excerpt(excerpt)
+                .readingMinutes(readingMinutes)
+                .build();
+    }
+
+    public static GetDetailedPostResponseDTO toGetDetailedPostResponseDTO(PostEntity post, String html, String toc, List<String> tags) {
+        return toGetDetailedPostResponseDTO(post, html, toc, tags, null);
+    }
+
+    /**
+     * 엔티티로 상세 응답 DTO를 생성합니다.
      *
-     * @param pageData {@link PostRepository.ListRow} 프로젝션 페이지
-     * @return 변환된 {@link PostSummaryDTO} 리스트
+     * @param tags   정규화된 태그
+     * @param fields 응답에 쓸 필드(null이면 {@link PostField#DETAIL_DEFAULT})
      */
-    public static List<PostSummaryDTO> toPostSummaryDTOs(Page<PostRepository.ListRow> pageData) {
-        return pageData.getContent().stream()
-                .map(row ->
-                        PostSummaryDTO.builder()
-                                .title(row.getTitle())
-                                .slug(row.getSlug())
-                                .authorUuid(row.getAuthor().getUuid().toString())
-                                .authorUsername(row.getAuthor().getUsername())
-                                .viewCount(row.getViewCount())
-                                .createdAt(row.getCreatedAt())
-                                .build()
-                ).toList();
-    }
-
-    public static GetDetailedPostResponseDTO toGetDetailedPostResponseDTO(PostEntity post) {
+    public static GetDetailedPostResponseDTO toGetDetailedPostResponseDTO(PostEntity post, String html, String toc, List<String> tags,
+                                                                          Set<PostField> fields) {
         return GetDetailedPostResponseDTO.builder()
+                .fields(fields)
+                .slug(post.getSlug())
                 .title(post.getTitle())
                 .authorUuid(post.getAuthor().getUuid().toString())
                 .authorUsername(post.getAuthor().getUsername())
                 .viewCount(post.getViewCount())
+                .version(post.getVersion())
                 .createdAt(post.getCreatedAt())
                 .content(post.getContent())
+                .html(html)
+                .toc(toc)
+                .tags(tags)
                 .build();
     }
 
-    public static GetPostListResponseDTO toGetPostListResponseDTO(List<PostSummaryDTO> posts, Page<PostRepository.ListRow> pageData) {
+    public static GetDraftResponseDTO toGetDraftResponseDTO(PostDraftProvider.Draft draft) {
+        return GetDraftResponseDTO.builder()
+                .title(draft.title())
+                .content(draft.content())
+                .version(draft.version())
+                .updatedAt(draft.updatedAt())
+                .build();
+    }
+
+    /**
+     * 게시글 리비전 목록 응답 DTO를 생성합니다.
+     *
+     * @param revisions  페이지 항목(리비전 번호 내림차순)
+     * @param size       페이지 크기
+     * @param nextCursor 다음 페이지 커서(마지막 페이지면 null)
+     */
+    public static GetRevisionsResponseDTO toGetRevisionsResponseDTO(List<PostRevisionRepository.RevisionRow> revisions, int size, String nextCursor) {
+        return GetRevisionsResponseDTO.builder()
+                .revisions(revisions)
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+
+    public static GetRevisionResponseDTO toGetRevisionResponseDTO(PostRevisionProvider.Revision revision) {
+        return GetRevisionResponseDTO.builder()
+                .revision(revision.revision())
+                .title(revision.title())
+                .content(revision.content())
+                .createdAt(revision.createdAt())
+                .build();
+    }
+
+    /**
+     * 자동완성 응답 DTO를 생성합니다.
+     *
+     * @param refField    자연 키 필드 이름(<code>slug</code>, <code>uuid</code>)
+     * @param textField   표시 텍스트 필드 이름(<code>title</code>, <code>username</code>)
+     * @param suggestions 제안 목록
+     */
+    public static GetSuggestionsResponseDTO toGetSuggestionsResponseDTO(String refField, String textField, List<AutocompleteIndex.Suggestion> suggestions) {
+        return GetSuggestionsResponseDTO.builder()
+                .refField(refField)
+                .textField(textField)
+                .suggestions(suggestions)
+                .build();
+    }
+
+    public static GetPostsBatchResponseDTO toGetPostsBatchResponseDTO(List<GetDetailedPostResponseDTO> posts, List<String> missing) {
+        return GetPostsBatchResponseDTO.builder()
+                .posts(posts)
+                .missing(missing)
+                .build();
+    }
+
+    /**
+     * 필드 튜플({@link PostFieldsRepository})에서 요청된 필드만 담은 상세 응답 DTO를 생성합니다.
+     *
+     * @param tuple  요청된 필드만 조회한 튜플
+     * @param fields 응답에 쓸 필드
+     * @param html   HTML(요청되지 않았으면 null)
+     * @param toc    목차 JSON(요청되지 않았으면 null)
+     * @param tags   태그(요청되지 않았으면 null)
+     */
+    public static GetDetailedPostResponseDTO toGetDetailedPostResponseDTO(Tuple tuple, Set<PostField> fields, String html, String toc,
+                                                                          List<String> tags) {
+        GetDetailedPostResponseDTO.GetDetailedPostResponseDTOBuilder builder = GetDetailedPostResponseDTO.builder()
+                .fields(fields)
+                .html(html)
+                .toc(toc)
+                .tags(tags)
+                .version(tuple.get(PostField.VERSION.jsonName(), Long.class));
+        for (PostField field : fields) {
+            switch (field) {
+                case TITLE -> builder.title(tuple.get(field.jsonName(), String.class));
+                case SLUG -> builder.slug(tuple.get(field.jsonName(), String.class));
+                case AUTHOR_UUID -> builder.authorUuid(String.valueOf(tuple.get(field.jsonName())));
+                case AUTHOR_USERNAME -> builder.authorUsername(tuple.get(field.jsonName(), String.class));
+                case VIEW_COUNT -> builder.viewCount(tuple.get(field.jsonName(), Long.class));
+                case CREATED_AT -> builder.createdAt(tuple.get(field.jsonName(), Instant.class));
+                case EXCERPT -> builder.excerpt(tuple.get(field.jsonName(), String.class));
+                case READING_MINUTES -> builder.readingMinutes(tuple.get(field.jsonName(), Integer.class));
+                case CONTENT -> {
+                    String content = tuple.get(field.jsonName(), String.class);
+                    builder.content(content != null ? content : tuple.get(PostFieldsRepository.LEGACY_CONTENT, String.class));
+                }
+                case VERSION, HTML, TOC, TAGS -> { }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 페이지 정보를 직접 계산하여 목록 응답 DTO를 생성합니다.
+     *
+     * <p>페이지 메타데이터 계산 규칙은 Spring Data {@link org.springframework.data.domain.Page}와 동일합니다.</p>
+     *
+     * @param posts         현재 페이지 항목(직렬화 시점에 결과 행에서 바로 씀)
+     * @param page          0부터 시작하는 페이지 인덱스
+     * @param size          페이지 크기(1 이상)
+     * @param totalElements 전체 게시글 수
+     */
+    public static GetPostListResponseDTO toGetPostListResponseDTO(PostSummaryRows posts, int page, int size, long totalElements) {
+        int totalPages = (int) ((totalElements + size - 1) / size);
         return GetPostListResponseDTO.builder()
                 .posts(posts)
-                .page(pageData.getNumber())
-                .size(pageData.getSize())
-                .totalElements(pageData.getTotalElements())
-                .totalPages(pageData.getTotalPages())
-                .hasNext(pageData.hasNext())
-                .hasPrev(pageData.hasPrevious())
+                .page(page)
+                .size(size)
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .hasNext(page + 1 < totalPages)
+                .hasPrev(page > 0)
+                .build();
+    }
+
+    /**
+     * 목록용 프로젝션 한 행을 {@link PostSummaryDTO}로 변환합니다.
+     */
+    public static PostSummaryDTO toPostSummaryDTO(PostRepository.ListRow row) {
+        return toPostSummaryDTO(
+                row.getTitle(),
+                row.getSlug(),
+                row.getAuthor().getUuid().toString(),
+                row.getAuthor().getUsername(),
+                row.getViewCount(),
+                row.getCreatedAt(),
+                row.getExcerpt(),
+                row.getReadingMinutes() == null ? 0 : row.getReadingMinutes());
+    }
+
+    /**
+     * 검색 결과 응답 DTO를 생성합니다.
+     *
+     * @param posts      순위순 결과
+     * @param size       요청 페이지 크기
+     * @param nextCursor 다음 페이지 커서(마지막 페이지면 null)
+     */
+    public static SearchPostsResponseDTO toSearchPostsResponseDTO(PostSummaryRows posts, int size, String nextCursor) {
+        return SearchPostsResponseDTO.builder()
+                .posts(posts)
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+
+    public static GetTagsResponseDTO toGetTagsResponseDTO(List<TagCountRepository.TagCountRow> tags) {
+        return GetTagsResponseDTO.builder()
+                .tags(tags)
+                .build();
+    }
+
+    /**
+     * 관련 게시글 목록 응답 DTO를 생성합니다.
+     *
+     * @param posts 유사도순 항목
+     */
+    public static GetRelatedPostsResponseDTO toGetRelatedPostsResponseDTO(PostSummaryRows posts) {
+        return GetRelatedPostsResponseDTO.builder()
+                .posts(posts)
+                .build();
+    }
+
+    /**
+     * 태그별 게시글 목록 응답 DTO를 생성합니다.
+     *
+     * @param tag        정규화된 태그
+     * @param posts      페이지 항목
+     * @param size       페이지 크기
+     * @param nextCursor 다음 페이지 커서(마지막 페이지면 null)
+     */
+    public static GetTagPostsResponseDTO toGetTagPostsResponseDTO(String tag, PostSummaryRows posts, int size, String nextCursor) {
+        return GetTagPostsResponseDTO.builder()
+                .tag(tag)
+                .posts(posts)
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+
+    /**
+     * 보관함 응답 DTO를 생성합니다.
+     *
+     * @param months <code>month DESC</code> 순 월별 게시글 수
+     */
+    public static GetArchiveResponseDTO toGetArchiveResponseDTO(List<PostMonthCountRepository.MonthCountRow> months) {
+        return GetArchiveResponseDTO.builder()
+                .months(months)
+                .build();
+    }
+
+    /**
+     * 월별 게시글 목록 응답 DTO를 생성합니다.
+     *
+     * @param year       연도
+     * @param month      월
+     * @param postCount  그 달의 전체 게시글 수
+     * @param posts      페이지 항목
+     * @param size       페이지 크기
+     * @param nextCursor 다음 페이지 커서(마지막 페이지면 null)
+     */
+    public static GetArchivePostsResponseDTO toGetArchivePostsResponseDTO(int year, int month, long postCount, PostSummaryRows posts,
+                                                                           int size, String nextCursor) {
+        return GetArchivePostsResponseDTO.builder()
+                .year(year)
+                .month(month)
+                .postCount(postCount)
+                .posts(posts)
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+
+    /**
+     * 작성자별 목록 응답 DTO를 생성합니다.
+     *
+     * @param posts      현재 페이지 항목
+     * @param size       요청 페이지 크기
+     * @param nextCursor 다음 페이지 커서(마지막 페이지면 null)
+     */
+    public static GetAuthorPostsResponseDTO toGetAuthorPostsResponseDTO(PostSummaryRows posts, int size, String nextCursor) {
+        return GetAuthorPostsResponseDTO.builder()
+                .posts(posts)
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+
+    /**
+     * 트렌딩 목록 응답 DTO를 생성합니다.
+     *
+     * @param posts       순위순 항목
+     * @param refreshedAt 순위 스냅샷 갱신 시각(아직 없으면 null)
+     */
+    public static GetTrendingPostsResponseDTO toGetTrendingPostsResponseDTO(List<PostSummaryDTO> posts, Instant refreshedAt) {
+        return GetTrendingPostsResponseDTO.builder()
+                .posts(posts)
+                .refreshedAt(refreshedAt)
                 .build();
     }
 
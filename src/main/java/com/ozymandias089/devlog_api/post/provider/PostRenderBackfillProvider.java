@@ -0,0 +1,131 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 렌더링 결과가 없거나 현재 {@link MarkdownRenderer#RENDERER_VERSION}보다 오래된 게시글을 백그라운드에서 다시 렌더링합니다.
+ * HTML/목차와 함께 목록용 발췌문/단어 수/읽기 시간도 이 작업으로 채워집니다.
+ *
+ * <p>
+ * 기동 시 별도 스레드에서 한 번 실행됩니다. PK 오름차순으로 {@code batchSize}건씩 본문을 읽고,
+ * 렌더링은 {@code threads}개의 작업 스레드에서 병렬로 수행합니다. 결과는 게시글마다 짧은 트랜잭션의 벌크 업데이트로 저장하며,
+ * 그 사이 본문이 수정된 게시글은 건너뜁니다(수정 시점에 이미 현재 버전으로 렌더링됨). 반영한 게시글이 최신 피드 윈도우 안에
+ * 있으면 피드 요약도 갱신합니다({@link LatestPostFeedProvider#refresh}).
+ * 중간에 중단되어도 다음 기동 시 남은 행부터 다시 시작합니다.
+ * </p>
+ *
+ * <p>재렌더링이 끝나기 전의 게시글은 상세 조회 시 요청 단위로 렌더링되므로 응답에는 영향이 없습니다.</p>
+ *
+ * @since 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostRenderBackfillProvider {
+    private final PostRepository postRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final LatestPostFeedProvider latestPostFeedProvider;
+    private final TransactionTemplate transactionTemplate;
+
+    /** 한 번에 읽어 렌더링할 게시글 수 */
+    @Value("${app.posts.render.backfill-batch-size:100}")
+    private int batchSize;
+
+    /** 렌더링 작업 스레드 수 */
+    @Value("${app.posts.render.backfill-threads:4}")
+    private int threads;
+
+    private volatile Thread driver;
+
+    /**
+     * 애플리케이션 기동 시 재렌더링을 백그라운드 스레드로 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rerenderOnStartup() {
+        Thread thread = new Thread(() -> {
+            try {
+                int rendered = rerender();
+                if (rendered > 0) log.info("Re-rendered {} posts with renderer v{}", rendered, MarkdownRenderer.RENDERER_VERSION);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("Post re-render stopped: {}", e.getMessage());
+            }
+        }, "post-render-backfill");
+        thread.setDaemon(true);
+        driver = thread;
+        thread.start();
+    }
+
+    /**
+     * 오래된 렌더링 결과를 모두 갱신합니다.
+     *
+     * @return 갱신한 게시글 수
+     * @throws InterruptedException 종료 요청으로 중단된 경우
+     */
+    public int rerender() throws InterruptedException, ExecutionException {
+        AtomicInteger workerSeq = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(threads, 1), r -> {
+            Thread t = new Thread(r, "post-render-" + workerSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            int rendered = 0;
+            long afterId = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                List<Long> ids = postRepository.findStaleRenderIds(afterId, MarkdownRenderer.RENDERER_VERSION, Limit.of(batchSize));
+                if (ids.isEmpty()) break;
+
+                List<Future<Boolean>> results = new ArrayList<>(ids.size());
+                for (PostRepository.SearchSource source : postRepository.findSearchSourcesByIdIn(ids)) {
+                    results.add(workers.submit(() -> renderOne(source)));
+                }
+                for (Future<Boolean> result : results) {
+                    if (result.get()) rendered++;
+                }
+                afterId = ids.get(ids.size() - 1);
+            }
+            return rendered;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private boolean renderOne(PostRepository.SearchSource source) {
+        MarkdownRenderer.Rendered rendered = markdownRenderer.render(source.getBody());
+        Integer rows = transactionTemplate.execute(status -> postRepository.updateRendering(
+                source.getId(), rendered.html(), rendered.tocJson(), rendered.excerpt(), rendered.wordCount(),
+                rendered.readingMinutes(), rendered.version(), source.getUpdatedAt()));
+        if (rows == null || rows == 0) return false;
+        // 벌크 업데이트는 게시글 변경 이벤트가 없으므로 피드의 발췌문/읽기 시간을 직접 갱신
+        latestPostFeedProvider.refresh(source.getId());
+        return true;
+    }
+
+    /**
+     * 종료 시 진행 중인 재렌더링을 중단합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        Thread thread = driver;
+        if (thread != null) thread.interrupt();
+    }
+}
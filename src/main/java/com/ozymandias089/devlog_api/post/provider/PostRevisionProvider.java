@@ -0,0 +1,235 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import com.ozymandias089.devlog_api.post.entity.PostRevisionEntity;
+import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import com.ozymandias089.devlog_api.post.repository.PostRevisionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 리비전 이력을 기록/복원/정리합니다.
+ *
+ * <p>
+ * 게시글을 만들거나 수정하는 트랜잭션 안에서 리비전을 하나씩 추가합니다. 리비전 번호는 수정 후 게시글 버전과 같으므로
+ * 이력은 버전마다 빠짐없이 이어집니다. 본문이 바뀐 리비전은 직전 본문 대비 줄 단위 델타({@link RevisionDelta})만,
+ * 제목/태그만 바뀐 리비전은 "변경 없음" 표시만 저장합니다. 마지막 스냅샷에서 {@code snapshotInterval}번째 리비전이거나
+ * 델타가 본문보다 커지면 전체 본문 스냅샷을 저장하므로, 복원 시 적용하는 델타는 최대 {@code snapshotInterval - 1}개입니다.
+ * </p>
+ *
+ * <p>
+ * 이력 도입 이전에 만들어진 게시글은 첫 수정 시 수정 전 본문을 기준 스냅샷으로 먼저 남깁니다.
+ * 보관 기간({@code retention})이 지난 리비전은 주기적으로 정리하며, 남는 가장 오래된 리비전을 스냅샷으로 바꾼 뒤 그 이전을 삭제합니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostRevisionProvider {
+    private final PostRevisionRepository postRevisionRepository;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    /** 스냅샷 간격(리비전 수) */
+    @Value("${app.posts.revision.snapshot-interval:10}")
+    private int snapshotInterval;
+
+    /** 델타 계산 시 허용하는 최대 편집 줄 수(넘으면 스냅샷) */
+    @Value("${app.posts.revision.max-diff-edits:2000}")
+    private int maxDiffEdits;
+
+    /** 리비전 보관 기간(최신 리비전은 항상 유지) */
+    @Value("${app.posts.revision.retention:P180D}")
+    private Duration retention;
+
+    /** 정리 작업이 한 번에 읽는 게시글 수 */
+    @Value("${app.posts.revision.compaction-batch-size:100}")
+    private int compactionBatchSize;
+
+    /**
+     * 수정 전 이력 상태입니다. {@link #prepare}로 만들어 {@link #recordUpdated}에 넘깁니다.
+     *
+     * @param postId          게시글 PK
+     * @param latest          최신 리비전(이력이 없으면 null)
+     * @param latestSnapshot  최신 스냅샷 리비전(없으면 null)
+     * @param previousContent 수정 전 본문(본문이 바뀌거나 기준 스냅샷이 필요할 때만 읽음)
+     */
+    public record Base(Long postId, Long latest, Long latestSnapshot, String previousContent) {}
+
+    /**
+     * 복원한 리비전입니다.
+     *
+     * @param revision  리비전 번호
+     * @param title     제목
+     * @param content   본문
+     * @param createdAt 리비전 생성 시각
+     */
+    public record Revision(long revision, String title, String content, Instant createdAt) {}
+
+    /**
+     * 새 게시글의 첫 리비전(스냅샷)을 기록합니다.
+     *
+     * @param postId    게시글 PK
+     * @param revision  게시글 버전
+     * @param title     제목
+     * @param content   본문
+     * @param createdAt 생성 시각
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Long postId, long revision, String title, String content, Instant createdAt) {
+        save(postId, revision, PostRevisionEntity.Kind.SNAPSHOT, title, content, createdAt);
+    }
+
+    /**
+     * 수정 전 이력 상태를 읽습니다. 게시글을 수정하기 <em>전에</em> 호출해야 합니다.
+     *
+     * @param postId          게시글 PK
+     * @param currentVersion  수정 전 게시글 버전
+     * @param contentChanging 본문이 바뀌는지 여부(바뀌면 델타 계산을 위해 수정 전 본문을 읽음)
+     * @return 이력 상태
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Base prepare(Long postId, long currentVersion, boolean contentChanging) {
+        PostRevisionRepository.HistoryHead head = postRevisionRepository.findHistoryHead(postId);
+        boolean needsBase = head.getLatest() == null || head.getLatest() < currentVersion;
+        String previous = contentChanging || needsBase ? currentContent(postId) : null;
+        return new Base(postId, head.getLatest(), head.getLatestSnapshot(), previous);
+    }
+
+    /**
+     * 수정 리비전을 기록합니다. 게시글을 수정한 <em>뒤</em> 같은 트랜잭션에서 호출합니다.
+     *
+     * @param base          {@link #prepare}의 결과
+     * @param previousTitle 수정 전 제목(기준 스냅샷용)
+     * @param revision      수정 후 게시글 버전
+     * @param title         수정 후 제목
+     * @param content       수정 후 본문(본문이 바뀌지 않았으면 null)
+     * @param updatedAt     수정 시각
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(Base base, String previousTitle, long revision, String title, String content, Instant updatedAt) {
+        Long latestSnapshot = base.latestSnapshot();
+        if (base.latest() == null || base.latest() < revision - 1) {
+            // 이력 도입 이전 게시글(또는 이력 공백): 수정 전 상태를 기준 스냅샷으로 남긴다.
+            save(base.postId(), revision - 1, PostRevisionEntity.Kind.SNAPSHOT, previousTitle, base.previousContent(), updatedAt);
+            latestSnapshot = revision - 1;
+        }
+
+        if (latestSnapshot == null || revision - latestSnapshot >= snapshotInterval) {
+            String full = content != null ? content
+                    : base.previousContent() != null ? base.previousContent() : currentContent(base.postId());
+            save(base.postId(), revision, PostRevisionEntity.Kind.SNAPSHOT, title, full, updatedAt);
+            return;
+        }
+        if (content == null) {
+            save(base.postId(), revision, PostRevisionEntity.Kind.DELTA, title, RevisionDelta.UNCHANGED, updatedAt);
+            return;
+        }
+        String delta = RevisionDelta.diff(base.previousContent(), content, maxDiffEdits);
+        if (delta.length() >= content.length()) {
+            save(base.postId(), revision, PostRevisionEntity.Kind.SNAPSHOT, title, content, updatedAt);
+        } else {
+            save(base.postId(), revision, PostRevisionEntity.Kind.DELTA, title, delta, updatedAt);
+        }
+    }
+
+    /**
+     * 리비전을 복원합니다. 가장 가까운 이전 스냅샷부터 대상 리비전까지의 행만 읽습니다.
+     *
+     * @param postId   게시글 PK
+     * @param revision 리비전 번호
+     * @return 복원한 리비전. 없거나 정리된 리비전이면 {@link Optional#empty()}
+     * @throws IllegalStateException 이력이 손상된 경우
+     */
+    public Optional<Revision> read(Long postId, long revision) {
+        Long snapshot = postRevisionRepository.findSnapshotRevisionAtOrBefore(postId, revision);
+        if (snapshot == null) return Optional.empty();
+        List<PostRevisionEntity> chain = postRevisionRepository.findChain(postId, snapshot, revision);
+        if (chain.isEmpty() || chain.get(chain.size() - 1).getRevision() != revision) return Optional.empty();
+        if (chain.size() != revision - snapshot + 1) {
+            throw new IllegalStateException("Revision history of post " + postId + " has a gap before revision " + revision);
+        }
+
+        String content = chain.get(0).getBody();
+        for (PostRevisionEntity entry : chain.subList(1, chain.size())) {
+            content = entry.getKind() == PostRevisionEntity.Kind.SNAPSHOT ? entry.getBody() : RevisionDelta.apply(content, entry.getBody());
+        }
+        PostRevisionEntity last = chain.get(chain.size() - 1);
+        return Optional.of(new Revision(revision, last.getTitle(), content, last.getCreatedAt()));
+    }
+
+    /**
+     * 보관 기간이 지난 리비전을 정리합니다. 게시글마다 짧은 트랜잭션으로 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.posts.revision.compaction-interval:PT6H}",
+            initialDelayString = "${app.posts.revision.compaction-interval:PT6H}")
+    public void compact() {
+        Instant cutoff = Instant.now(clock).minus(retention);
+        long afterId = 0;
+        int deleted = 0;
+        while (true) {
+            List<Long> postIds = postRevisionRepository.findPostIdsWithRevisionsBefore(cutoff, afterId, Limit.of(compactionBatchSize));
+            if (postIds.isEmpty()) break;
+            for (Long postId : postIds) {
+                try {
+                    Integer rows = transactionTemplate.execute(status -> compactPost(postId, cutoff));
+                    if (rows != null) deleted += rows;
+                } catch (Exception e) {
+                    log.warn("Failed to compact revisions of post {}: {}", postId, e.getMessage());
+                }
+            }
+            afterId = postIds.get(postIds.size() - 1);
+        }
+        if (deleted > 0) log.info("Compacted {} post revisions older than {}", deleted, cutoff);
+    }
+
+    /**
+     * 보관 기간 안의 첫 리비전(없으면 최신 리비전)을 스냅샷으로 바꾸고 그 이전 리비전을 삭제합니다.
+     */
+    private int compactPost(Long postId, Instant cutoff) {
+        Long keepFrom = postRevisionRepository.findFirstRevisionSince(postId, cutoff);
+        if (keepFrom == null) keepFrom = postRevisionRepository.findHistoryHead(postId).getLatest();
+        if (keepFrom == null) return 0;
+
+        PostRevisionEntity keep = postRevisionRepository.findByPostIdAndRevision(postId, keepFrom);
+        if (keep.getKind() == PostRevisionEntity.Kind.DELTA) {
+            long revision = keepFrom;
+            String content = read(postId, revision)
+                    .orElseThrow(() -> new IllegalStateException("Cannot restore revision " + revision + " of post " + postId))
+                    .content();
+            keep.convertToSnapshot(content);
+        }
+        return postRevisionRepository.deleteOlderThan(postId, keepFrom);
+    }
+
+    private void save(Long postId, long revision, PostRevisionEntity.Kind kind, String title, String body, Instant createdAt) {
+        postRevisionRepository.save(PostRevisionEntity.builder()
+                .postId(postId)
+                .revision(revision)
+                .kind(kind)
+                .title(title)
+                .body(body == null ? "" : body)
+                .createdAt(createdAt)
+                .build());
+    }
+
+    private String currentContent(Long postId) {
+        return postRepository.findSearchSourcesByIdIn(List.of(postId)).stream()
+                .findFirst().map(PostRepository.SearchSource::getBody).orElse("");
+    }
+}
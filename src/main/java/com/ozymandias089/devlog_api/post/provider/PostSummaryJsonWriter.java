@@ -0,0 +1,215 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.ozymandias089.devlog_api.post.dto.PostSummaryDTO;
+import com.ozymandias089.devlog_api.post.dto.PostSummaryRows;
+import com.ozymandias089.devlog_api.post.dto.request.PostField;
+import com.ozymandias089.devlog_api.post.repository.PostFieldsRepository;
+import jakarta.persistence.Tuple;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 목록 항목({@link PostSummaryDTO}와 같은 JSON 형식)을 조회 결과 행에서 바로 쓰는 유틸리티입니다.
+ *
+ * <p>
+ * 목록 응답은 행 → DTO → 응답 DTO → Jackson 순회의 복사 단계를 거치지 않고,
+ * 직렬화 시점에 결과 행을 한 번 순회하며 {@link JsonGenerator}에 필드를 씁니다.
+ * 정적(static) 메서드만을 제공하며 상태를 가지지 않습니다(스레드 세이프).
+ * </p>
+ *
+ * <h3>요약 튜플 형식</h3>
+ * <p>
+ * <code>PostRepository.findSummaryTuples*</code>가 반환하는 <code>Object[]</code>의 열 순서는
+ * {@link #ID}, {@link #TITLE}, {@link #SLUG}, {@link #AUTHOR_UUID}, {@link #AUTHOR_USERNAME},
+ * {@link #VIEW_COUNT}, {@link #CREATED_AT}, {@link #EXCERPT}, {@link #READING_MINUTES}입니다.
+ * </p>
+ *
+ * <h3>필드 선택</h3>
+ * <p>
+ * <code>fields=</code>로 필드를 고른 목록은 {@link PostFieldsRepository}의 {@link Tuple}을 받아 요청된 필드만
+ * {@link PostField} 선언 순서로 씁니다. Redis 피드 항목도 같은 필드만 복사합니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+public final class PostSummaryJsonWriter {
+    public static final int ID = 0;
+    public static final int TITLE = 1;
+    public static final int SLUG = 2;
+    public static final int AUTHOR_UUID = 3;
+    public static final int AUTHOR_USERNAME = 4;
+    public static final int VIEW_COUNT = 5;
+    public static final int CREATED_AT = 6;
+    public static final int EXCERPT = 7;
+    public static final int READING_MINUTES = 8;
+
+    private PostSummaryJsonWriter() {}
+
+    /**
+     * 요약 튜플들을 주어진 순서대로 씁니다.
+     *
+     * @param tuples 요약 튜플(정렬된 조회 결과)
+     */
+    public static PostSummaryRows ofTuples(List<Object[]> tuples) {
+        if (tuples.isEmpty()) return PostSummaryRows.EMPTY;
+        return generator -> {
+            for (Object[] tuple : tuples) writeTuple(generator, tuple);
+        };
+    }
+
+    /**
+     * 요약 튜플들을 PK 목록 순서대로 씁니다. 튜플이 없는 PK(그 사이 삭제된 게시글)는 건너뜁니다.
+     *
+     * @param orderedIds 출력 순서(검색 순위, 키셋 정렬 등)
+     * @param tuples     순서가 보장되지 않는 요약 튜플
+     */
+    public static PostSummaryRows ofTuplesInOrder(List<Long> orderedIds, List<Object[]> tuples) {
+        if (tuples.isEmpty()) return PostSummaryRows.EMPTY;
+        Map<Long, Object[]> byId = new HashMap<>(tuples.size() * 2);
+        for (Object[] tuple : tuples) byId.put((Long) tuple[ID], tuple);
+        return generator -> {
+            for (Long id : orderedIds) {
+                Object[] tuple = byId.get(id);
+                if (tuple != null) writeTuple(generator, tuple);
+            }
+        };
+    }
+
+    /**
+     * Redis 최신 피드에서 읽은 <code>[total, (json, views)*]</code> 응답의 항목들을 씁니다.
+     *
+     * <p>요약 JSON은 객체로 역직렬화하지 않고 토큰 단위로 복사하며, 피드 내부용 <code>id</code>는 빼고 조회수를 덧붙입니다.</p>
+     *
+     * @param factory JSON 파서 생성용 팩토리
+     * @param raw     피드 조회 스크립트의 원시 응답(0번은 전체 개수)
+     * @param fields  쓸 필드(null이면 전체)
+     */
+    public static PostSummaryRows ofFeedEntries(JsonFactory factory, List<?> raw, Set<PostField> fields) {
+        if (raw.size() < 3) return PostSummaryRows.EMPTY;
+        return generator -> {
+            for (int i = 1; i + 1 < raw.size(); i += 2) {
+                copyFeedEntry(factory, generator, String.valueOf(raw.get(i)), Long.parseLong(String.valueOf(raw.get(i + 1))), fields);
+            }
+        };
+    }
+
+    /**
+     * 필드 튜플들을 주어진 순서대로 씁니다.
+     *
+     * @param tuples 필드 튜플(정렬된 조회 결과)
+     * @param fields 쓸 필드
+     */
+    public static PostSummaryRows ofFieldTuples(List<Tuple> tuples, Set<PostField> fields) {
+        if (tuples.isEmpty()) return PostSummaryRows.EMPTY;
+        return generator -> {
+            for (Tuple tuple : tuples) writeFields(generator, tuple, fields);
+        };
+    }
+
+    /**
+     * 필드 튜플들을 PK 목록 순서대로 씁니다. 튜플이 없는 PK는 건너뜁니다.
+     *
+     * @param orderedIds 출력 순서
+     * @param tuples     순서가 보장되지 않는 필드 튜플
+     * @param fields     쓸 필드
+     */
+    public static PostSummaryRows ofFieldTuplesInOrder(List<Long> orderedIds, List<Tuple> tuples, Set<PostField> fields) {
+        if (tuples.isEmpty()) return PostSummaryRows.EMPTY;
+        Map<Long, Tuple> byId = new HashMap<>(tuples.size() * 2);
+        for (Tuple tuple : tuples) byId.put(tuple.get(PostFieldsRepository.ID, Long.class), tuple);
+        return generator -> {
+            for (Long id : orderedIds) {
+                Tuple tuple = byId.get(id);
+                if (tuple != null) writeFields(generator, tuple, fields);
+            }
+        };
+    }
+
+    /**
+     * 목록 항목 하나를 씁니다. 필드 구성은 {@link PostSummaryDTO}와 같습니다.
+     */
+    public static void writeSummary(JsonGenerator generator, String title, String slug, String authorUuid,
+                                    String authorUsername, long viewCount, Instant createdAt,
+                                    String excerpt, int readingMinutes) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("title", title);
+        generator.writeStringField("slug", slug);
+        generator.writeStringField("authorUuid", authorUuid);
+        generator.writeStringField("authorUsername", authorUsername);
+        generator.writeNumberField("viewCount", viewCount);
+        if (createdAt == null) generator.writeNullField("createdAt");
+        else generator.writeStringField("createdAt", createdAt.toString());
+        generator.writeStringField("excerpt", excerpt);
+        generator.writeNumberField("readingMinutes", readingMinutes);
+        generator.writeEndObject();
+    }
+
+    private static void writeTuple(JsonGenerator generator, Object[] tuple) throws IOException {
+        Object authorUuid = tuple[AUTHOR_UUID];
+        writeSummary(generator,
+                (String) tuple[TITLE],
+                (String) tuple[SLUG],
+                authorUuid == null ? null : authorUuid.toString(),
+                (String) tuple[AUTHOR_USERNAME],
+                tuple[VIEW_COUNT] == null ? 0L : (Long) tuple[VIEW_COUNT],
+                (Instant) tuple[CREATED_AT],
+                (String) tuple[EXCERPT],
+                tuple[READING_MINUTES] == null ? 0 : (Integer) tuple[READING_MINUTES]);
+    }
+
+    /**
+     * 목록 필드 튜플 하나를 요청된 필드만 담은 객체로 씁니다.
+     */
+    private static void writeFields(JsonGenerator generator, Tuple tuple, Set<PostField> fields) throws IOException {
+        generator.writeStartObject();
+        for (PostField field : fields) {
+            Object value = tuple.get(field.jsonName());
+            String name = field.jsonName();
+            switch (field) {
+                case VIEW_COUNT -> generator.writeNumberField(name, value == null ? 0L : (Long) value);
+                case READING_MINUTES -> generator.writeNumberField(name, value == null ? 0 : (Integer) value);
+                default -> {
+                    if (value == null) generator.writeNullField(name);
+                    else generator.writeStringField(name, value.toString());
+                }
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private static void copyFeedEntry(JsonFactory factory, JsonGenerator generator, String json, long views,
+                                      Set<PostField> fields) throws IOException {
+        try (JsonParser parser = factory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) throw new IOException("Malformed feed entry: " + json);
+            generator.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if ("id".equals(name) || (fields != null && !selects(fields, name))) {
+                    parser.skipChildren();
+                    continue;
+                }
+                generator.writeFieldName(name);
+                generator.copyCurrentStructure(parser);
+            }
+            if (fields == null || fields.contains(PostField.VIEW_COUNT)) generator.writeNumberField("viewCount", views);
+            generator.writeEndObject();
+        }
+    }
+
+    private static boolean selects(Set<PostField> fields, String name) {
+        for (PostField field : fields) {
+            if (field.jsonName().equals(name)) return true;
+        }
+        return false;
+    }
+}
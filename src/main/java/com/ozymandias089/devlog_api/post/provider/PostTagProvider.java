@@ -0,0 +1,110 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import com.ozymandias089.devlog_api.global.util.TagUtil;
+import com.ozymandias089.devlog_api.post.entity.PostTagEntity;
+import com.ozymandias089.devlog_api.post.repository.PostTagRepository;
+import com.ozymandias089.devlog_api.post.repository.TagCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 게시글 태그 역색인(<code>post_tag</code>)과 태그별 게시글 수(<code>tag_count</code>)를 함께 갱신합니다.
+ *
+ * <p>
+ * 태그를 바꿀 때 기존 태그와의 차이(추가/삭제)만 반영하고, 같은 트랜잭션에서 해당 태그의 개수를 upsert로 ±1 합니다.
+ * 따라서 태그 클라우드는 집계 쿼리 없이 저장된 개수를 읽기만 합니다.
+ * 개수 행은 태그 이름순으로 갱신해, 여러 태그를 동시에 바꾸는 트랜잭션끼리 잠금 순서가 엇갈리지 않게 합니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Component
+@RequiredArgsConstructor
+public class PostTagProvider {
+    private final PostTagRepository postTagRepository;
+    private final TagCountRepository tagCountRepository;
+
+    /**
+     * 게시글의 태그를 주어진 목록으로 바꿉니다.
+     *
+     * @param postId    게시글 PK
+     * @param createdAt 게시글 생성 시각(태그별 목록 정렬 키)
+     * @param tags      새 태그(정규화 전)
+     * @return 정규화된 태그(이름순)
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidTagException 태그 형식/개수가 잘못된 경우
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<String> replaceTags(Long postId, Instant createdAt, Collection<String> tags) {
+        Set<String> target = new TreeSet<>(TagUtil.normalize(tags));
+        Set<String> current = new TreeSet<>(postTagRepository.findTagsByPostId(postId));
+
+        Set<String> removed = new TreeSet<>(current);
+        removed.removeAll(target);
+        Set<String> added = new TreeSet<>(target);
+        added.removeAll(current);
+
+        if (!removed.isEmpty()) postTagRepository.deleteByPostIdAndTagIn(postId, removed);
+        if (!added.isEmpty()) {
+            List<PostTagEntity> rows = new ArrayList<>(added.size());
+            for (String tag : added) rows.add(PostTagEntity.builder().postId(postId).tag(tag).createdAt(createdAt).build());
+            postTagRepository.saveAll(rows);
+        }
+        adjustCounts(added, removed);
+        return List.copyOf(target);
+    }
+
+    /**
+     * 게시글의 태그를 모두 제거합니다(게시글 삭제 시).
+     *
+     * @param postId 게시글 PK
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeAll(Long postId) {
+        Set<String> current = new TreeSet<>(postTagRepository.findTagsByPostId(postId));
+        if (current.isEmpty()) return;
+        postTagRepository.deleteByPostIdAndTagIn(postId, current);
+        adjustCounts(Set.of(), current);
+    }
+
+    /**
+     * 게시글의 태그를 조회합니다.
+     *
+     * @param postId 게시글 PK
+     * @return 정규화된 태그(이름순)
+     */
+    public List<String> tagsOf(Long postId) {
+        return postTagRepository.findTagsByPostId(postId);
+    }
+
+    /**
+     * 여러 게시글의 태그를 쿼리 한 번으로 조회합니다.
+     *
+     * @param postIds 게시글 PK 목록
+     * @return 게시글 PK별 태그(태그가 없는 게시글은 키 없음)
+     */
+    public Map<Long, List<String>> tagsOf(Collection<Long> postIds) {
+        if (postIds.isEmpty()) return Map.of();
+        Map<Long, List<String>> byPost = new HashMap<>(postIds.size() * 2);
+        for (PostTagRepository.PostTagRow row : postTagRepository.findTagsByPostIdIn(postIds)) {
+            byPost.computeIfAbsent(row.getPostId(), id -> new ArrayList<>()).add(row.getTag());
+        }
+        return byPost;
+    }
+
+    /**
+     * 추가/삭제된 태그의 개수를 이름순으로 증감합니다.
+     */
+    private void adjustCounts(Set<String> added, Set<String> removed) {
+        SortedMap<String, Integer> deltas = new TreeMap<>();
+        for (String tag : added) deltas.merge(tag, 1, Integer::sum);
+        for (String tag : removed) deltas.merge(tag, -1, Integer::sum);
+        deltas.forEach((tag, delta) -> {
+            if (delta != 0) tagCountRepository.addPostCount(tag, delta);
+        });
+    }
+}
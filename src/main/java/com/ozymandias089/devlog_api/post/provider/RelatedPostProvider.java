@@ -0,0 +1,436 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import com.ozymandias089.devlog_api.post.entity.PostRelatedEntity;
+import com.ozymandias089.devlog_api.post.entity.PostSignatureEntity;
+import com.ozymandias089.devlog_api.post.event.PostChangedEvent;
+import com.ozymandias089.devlog_api.post.repository.PostRelatedRepository;
+import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import com.ozymandias089.devlog_api.post.repository.PostSignatureRepository;
+import com.ozymandias089.devlog_api.post.search.MinHash;
+import com.ozymandias089.devlog_api.post.search.RelatedPostIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 MinHash 서명을 기록하고, 게시글마다 유사도 상위 {@code topN}개의 관련 게시글을 미리 계산해 둡니다.
+ *
+ * <h3>증분 갱신</h3>
+ * <p>
+ * 서명은 본문을 쓰는 트랜잭션 안에서 함께 저장합니다({@link #recordSignature}). 커밋된 게시글은 작업 대기 집합에 넣고,
+ * {@code refreshInterval}마다 한 건씩 짧은 트랜잭션으로 다시 계산합니다.
+ * </p>
+ * <ol>
+ *   <li>{@link RelatedPostIndex}에서 후보를 최대 {@code maxCandidates}개 구하고, 후보의 서명만 읽어 유사도를 계산합니다.</li>
+ *   <li>{@code minScore} 이상인 상위 {@code topN}개로 해당 게시글의 목록을 교체합니다.</li>
+ *   <li>유사도는 대칭이므로, 점수를 매긴 후보들의 목록에도 이 게시글을 병합합니다(상위 N개 유지).
+ *       기존 목록에서 이 게시글의 점수가 내려갔거나 후보에서 빠진 게시글은 대체 항목을 알 수 없으므로 대기 집합에 다시 넣습니다.</li>
+ * </ol>
+ * <p>삭제된 게시글은 관련 행을 양방향 모두 지우고, 그 글을 목록에 갖고 있던 게시글을 다시 계산합니다.</p>
+ *
+ * <h3>전체 재계산</h3>
+ * <p>
+ * 기능 도입 시(서명 백필 직후)와 {@code recomputeCron}마다 모든 게시글을 다시 계산합니다. 서명 전체를 메모리에 올려
+ * (100만 건에 약 270MB) LSH 색인을 교체한 뒤, {@code batchSize}건 단위 청크를 {@code parallelism}개 스레드(0이면 CPU 코어 수)에서
+ * 병렬로 계산하며 DB는 청크마다 한 번씩만 씁니다. 실행 중에는 증분 갱신을 멈춥니다.
+ * </p>
+ *
+ * @implNote 대기 집합은 노드 메모리에만 있으며, 게시글을 쓴 노드만 다시 계산합니다(다른 노드는 LSH 색인만 갱신).
+ *           노드가 재시작되어 잃은 작업은 다음 전체 재계산에서 보정됩니다.
+ * @since 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RelatedPostProvider {
+    /** IN 조회 한 번에 넣는 PK 수 */
+    private static final int IN_CHUNK = 1000;
+
+    private final PostSignatureRepository postSignatureRepository;
+    private final PostRelatedRepository postRelatedRepository;
+    private final PostRepository postRepository;
+    private final RelatedPostIndex relatedPostIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    /** 게시글당 보관하는 관련 게시글 수 */
+    @Value("${app.posts.related.top-n:5}")
+    private int topN;
+
+    /** 관련 게시글로 인정하는 최소 추정 유사도 */
+    @Value("${app.posts.related.min-score:0.1}")
+    private double minScore;
+
+    /** 게시글 하나에서 점수를 매기는 최대 후보 수 */
+    @Value("${app.posts.related.max-candidates:2000}")
+    private int maxCandidates;
+
+    /** 백필/전체 재계산 작업 스레드 수(0이면 CPU 코어 수) */
+    @Value("${app.posts.related.parallelism:0}")
+    private int parallelism;
+
+    /** 백필/전체 재계산의 청크 크기 */
+    @Value("${app.posts.related.batch-size:1000}")
+    private int batchSize;
+
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock computeLock = new ReentrantLock();
+    private volatile Thread driver;
+
+    /** 점수를 매긴 관련 게시글 */
+    private record Scored(long postId, double score) {}
+
+    private static final Comparator<Scored> BY_SCORE = Comparator.comparingDouble(Scored::score).reversed()
+            .thenComparing(Comparator.comparingLong(Scored::postId).reversed());
+
+    /* ==================== 쓰기 트랜잭션 ==================== */
+
+    /**
+     * 본문의 서명을 저장합니다. 본문을 쓰는 트랜잭션 안에서 호출합니다.
+     *
+     * @param postId    게시글 PK
+     * @param content   본문
+     * @param updatedAt 쓰기 시각
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSignature(Long postId, String content, Instant updatedAt) {
+        int[] signature = MinHash.signature(content);
+        if (signature == null) {
+            postSignatureRepository.deleteByPostId(postId);
+            return;
+        }
+        byte[] encoded = MinHash.encode(signature);
+        postSignatureRepository.findById(postId).ifPresentOrElse(
+                entity -> entity.update(encoded, updatedAt),
+                () -> postSignatureRepository.save(PostSignatureEntity.builder()
+                        .postId(postId).signature(encoded).updatedAt(updatedAt).build()));
+    }
+
+    /**
+     * 삭제되는 게시글의 서명을 지웁니다. 관련 행은 커밋 이후 증분 갱신이 정리합니다.
+     *
+     * @param postId 게시글 PK
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remove(Long postId) {
+        postSignatureRepository.deleteByPostId(postId);
+    }
+
+    /**
+     * 커밋된 게시글 변경을 증분 갱신 대기 집합에 넣습니다.
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        dirty.add(event.postId());
+    }
+
+    /* ==================== 증분 갱신 ==================== */
+
+    /**
+     * 대기 중인 게시글의 관련 목록을 다시 계산합니다. 전체 재계산 중이면 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${app.posts.related.refresh-interval:PT5S}",
+            initialDelayString = "${app.posts.related.refresh-interval:PT5S}")
+    public void processDirty() {
+        if (dirty.isEmpty() || !computeLock.tryLock()) return;
+        try {
+            List<Long> postIds = new ArrayList<>(dirty);
+            dirty.removeAll(postIds);
+            for (Long postId : postIds) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> refresh(postId));
+                } catch (Exception e) {
+                    log.warn("Failed to refresh related posts of post {}: {}", postId, e.getMessage());
+                    dirty.add(postId);
+                }
+            }
+        } finally {
+            computeLock.unlock();
+        }
+    }
+
+    private void refresh(Long postId) {
+        List<Long> referrers = postRelatedRepository.findPostIdsByRelatedPostId(postId);
+        List<PostSignatureRepository.SignatureRow> own = postSignatureRepository.findRowsByPostIdIn(List.of(postId));
+        if (own.isEmpty()) {
+            // 삭제(또는 서명 없는 본문): 양방향으로 지우고, 이 글을 목록에 갖고 있던 게시글은 다시 계산한다.
+            postRelatedRepository.deleteAllOf(postId);
+            dirty.addAll(referrers);
+            return;
+        }
+
+        int[] signature = MinHash.decode(own.get(0).getSignature());
+        List<Long> candidateIds = relatedPostIndex.candidates(postId, MinHash.bandHashes(signature), maxCandidates).stream()
+                .map(RelatedPostIndex.Candidate::postId).toList();
+        List<Scored> scored = new ArrayList<>();
+        for (List<Long> chunk : chunks(candidateIds)) {
+            for (PostSignatureRepository.SignatureRow row : postSignatureRepository.findRowsByPostIdIn(chunk)) {
+                double score = MinHash.similarity(signature, MinHash.decode(row.getSignature()));
+                if (score >= minScore) scored.add(new Scored(row.getPostId(), score));
+            }
+        }
+        scored.sort(BY_SCORE);
+        replace(postId, scored.subList(0, Math.min(topN, scored.size())));
+
+        // 대칭 병합: 점수를 매긴 후보의 목록에 이 게시글을 넣거나 점수를 고친다.
+        Map<Long, List<PostRelatedEntity>> lists = new HashMap<>();
+        for (List<Long> chunk : chunks(scored.stream().map(Scored::postId).toList())) {
+            for (PostRelatedEntity row : postRelatedRepository.findByPostIdIn(chunk)) {
+                lists.computeIfAbsent(row.getPostId(), k -> new ArrayList<>()).add(row);
+            }
+        }
+        Set<Long> merged = new HashSet<>();
+        for (Scored other : scored) {
+            merged.add(other.postId());
+            List<Scored> current = new ArrayList<>();
+            Scored previous = null;
+            for (PostRelatedEntity row : lists.getOrDefault(other.postId(), List.of())) {
+                Scored entry = new Scored(row.getRelatedPostId(), row.getScore());
+                if (entry.postId() == postId) previous = entry;
+                else current.add(entry);
+            }
+            if (previous != null && previous.score() == other.score()) continue;
+            if (previous != null && previous.score() > other.score()) {
+                dirty.add(other.postId()); // 밀려난 대체 항목을 알 수 없으므로 전체를 다시 계산
+                continue;
+            }
+            Scored entry = new Scored(postId, other.score());
+            current.add(entry);
+            current.sort(BY_SCORE);
+            if (current.size() > topN) {
+                if (current.indexOf(entry) >= topN) continue;
+                current = current.subList(0, topN);
+            }
+            replace(other.postId(), current);
+        }
+        for (Long referrer : referrers) {
+            if (!merged.contains(referrer)) dirty.add(referrer); // 점수가 떨어져 후보에서 빠짐
+        }
+    }
+
+    private void replace(long postId, List<Scored> related) {
+        postRelatedRepository.deleteByPostIdIn(List.of(postId));
+        postRelatedRepository.saveAll(related.stream().map(s -> toEntity(postId, s)).toList());
+    }
+
+    /* ==================== 전체 재계산 ==================== */
+
+    /**
+     * 애플리케이션 기동 시 서명이 없는 게시글을 백필하고 LSH 색인을 만듭니다. 백필한 게시글이 있으면 전체를 다시 계산합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeOnStartup() {
+        Thread thread = new Thread(() -> {
+            try {
+                int backfilled = backfillSignatures();
+                if (backfilled > 0) {
+                    log.info("Backfilled MinHash signatures for {} posts", backfilled);
+                    recomputeAll();
+                } else {
+                    relatedPostIndex.rebuild();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("Related-post initialization stopped: {}", e.getMessage());
+            }
+        }, "post-related-init");
+        thread.setDaemon(true);
+        driver = thread;
+        thread.start();
+    }
+
+    /**
+     * 설정된 주기마다 전체를 다시 계산합니다(기본값 <code>-</code>는 비활성).
+     */
+    @Scheduled(cron = "${app.posts.related.recompute-cron:-}")
+    public void recomputeOnSchedule() {
+        try {
+            recomputeAll();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Related-post recompute failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 서명이 없는 게시글의 서명을 병렬로 계산해 저장합니다.
+     *
+     * @return 저장한 서명 수
+     * @throws InterruptedException 종료 요청으로 중단된 경우
+     */
+    public int backfillSignatures() throws InterruptedException, ExecutionException {
+        ExecutorService workers = newWorkers("post-signature-");
+        try {
+            int saved = 0;
+            long afterId = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                List<Long> ids = postSignatureRepository.findPostIdsWithoutSignature(afterId, Limit.of(batchSize));
+                if (ids.isEmpty()) break;
+
+                List<Long> sourceIds = new ArrayList<>(ids.size());
+                List<Future<int[]>> results = new ArrayList<>(ids.size());
+                for (PostRepository.SearchSource source : postRepository.findSearchSourcesByIdIn(ids)) {
+                    sourceIds.add(source.getId());
+                    results.add(workers.submit(() -> MinHash.signature(source.getBody())));
+                }
+                List<int[]> signatures = new ArrayList<>(results.size());
+                for (Future<int[]> result : results) signatures.add(result.get());
+                Instant now = Instant.now(clock);
+                Integer rows = transactionTemplate.execute(status -> {
+                    int inserted = 0;
+                    for (int i = 0; i < signatures.size(); i++) {
+                        if (signatures.get(i) == null) continue;
+                        // 그 사이 수정되어 쓰기 경로가 이미 저장했으면 건너뜀
+                        inserted += postSignatureRepository.insertIfAbsent(sourceIds.get(i), MinHash.encode(signatures.get(i)), now);
+                    }
+                    return inserted;
+                });
+                if (rows != null) saved += rows;
+                afterId = ids.get(ids.size() - 1);
+            }
+            return saved;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * 모든 게시글의 관련 목록을 다시 계산합니다. LSH 색인도 같은 서명으로 교체합니다.
+     *
+     * @return 계산한 게시글 수
+     * @throws InterruptedException 종료 요청으로 중단된 경우
+     */
+    public int recomputeAll() throws InterruptedException, ExecutionException {
+        computeLock.lockInterruptibly();
+        try {
+            long startedSeq = relatedPostIndex.currentSeq();
+            long[] ids = new long[0];
+            int[][] signatures = new int[0][];
+            int count = 0;
+            for (long afterId = 0; ; ) {
+                List<PostSignatureRepository.SignatureRow> rows = postSignatureRepository.findRows(afterId, Limit.of(batchSize));
+                if (rows.isEmpty()) break;
+                if (count + rows.size() > ids.length) {
+                    int capacity = Math.max(ids.length * 2, count + rows.size());
+                    ids = Arrays.copyOf(ids, capacity);
+                    signatures = Arrays.copyOf(signatures, capacity);
+                }
+                for (PostSignatureRepository.SignatureRow row : rows) {
+                    ids[count] = row.getPostId();
+                    signatures[count++] = MinHash.decode(row.getSignature());
+                }
+                afterId = ids[count - 1];
+            }
+            long[] postIds = Arrays.copyOf(ids, count);
+            int[][] sigs = Arrays.copyOf(signatures, count);
+            int[][] bandHashes = new int[count][];
+            for (int i = 0; i < count; i++) bandHashes[i] = MinHash.bandHashes(sigs[i]);
+            relatedPostIndex.replaceBase(postIds, bandHashes, startedSeq);
+
+            ExecutorService workers = newWorkers("post-related-");
+            try {
+                List<Future<?>> results = new ArrayList<>();
+                for (int from = 0; from < count; from += batchSize) {
+                    int start = from;
+                    int end = Math.min(from + batchSize, count);
+                    results.add(workers.submit(() -> recomputeChunk(postIds, sigs, bandHashes, start, end)));
+                }
+                for (Future<?> result : results) result.get();
+            } finally {
+                workers.shutdownNow();
+            }
+            log.info("Recomputed related posts for {} posts", count);
+            return count;
+        } finally {
+            computeLock.unlock();
+        }
+    }
+
+    /**
+     * <code>[from, to)</code> 구간 게시글의 관련 목록을 메모리의 서명으로 계산하고 한 트랜잭션으로 저장합니다.
+     */
+    private void recomputeChunk(long[] postIds, int[][] signatures, int[][] bandHashes, int from, int to) {
+        List<Long> chunkIds = new ArrayList<>(to - from);
+        List<PostRelatedEntity> rows = new ArrayList<>((to - from) * topN);
+        for (int i = from; i < to && !Thread.currentThread().isInterrupted(); i++) {
+            List<Scored> scored = new ArrayList<>();
+            for (RelatedPostIndex.Candidate candidate : relatedPostIndex.candidates(postIds[i], bandHashes[i], maxCandidates)) {
+                int j = Arrays.binarySearch(postIds, candidate.postId());
+                if (j < 0) continue; // 재계산 시작 이후 추가된 게시글(증분 갱신이 반영)
+                double score = MinHash.similarity(signatures[i], signatures[j]);
+                if (score >= minScore) scored.add(new Scored(postIds[j], score));
+            }
+            scored.sort(BY_SCORE);
+            chunkIds.add(postIds[i]);
+            for (Scored s : scored.subList(0, Math.min(topN, scored.size()))) rows.add(toEntity(postIds[i], s));
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            postRelatedRepository.deleteByPostIdIn(chunkIds);
+            postRelatedRepository.saveAll(rows);
+        });
+    }
+
+    /**
+     * 종료 시 진행 중인 초기화를 중단합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        Thread thread = driver;
+        if (thread != null) thread.interrupt();
+    }
+
+    /* ==================== 내부 구현 ==================== */
+
+    private ExecutorService newWorkers(String namePrefix) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger workerSeq = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, namePrefix + workerSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private static PostRelatedEntity toEntity(long postId, Scored related) {
+        return PostRelatedEntity.builder().postId(postId).relatedPostId(related.postId()).score(related.score()).build();
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += IN_CHUNK) chunks.add(ids.subList(i, Math.min(i + IN_CHUNK, ids.size())));
+        return chunks;
+    }
+}
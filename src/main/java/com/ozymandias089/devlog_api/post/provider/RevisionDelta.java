@@ -0,0 +1,247 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 게시글 리비전 사이의 줄 단위 델타를 만들고 적용합니다.
+ *
+ * <p>
+ * 공통 앞/뒤 줄을 잘라낸 뒤 나머지 구간에 Myers 차분(O(ND))을 적용해 최소 편집 스크립트를 만듭니다.
+ * 편집 거리가 {@code maxEdits}를 넘으면 차분을 포기하고 구간 전체를 삭제/삽입으로 기록합니다(호출자는 보통 스냅샷으로 대체).
+ * </p>
+ *
+ * <h3>스크립트 형식</h3>
+ * <p>줄바꿈으로 구분한 연산의 나열이며, 저장 시 {@link com.ozymandias089.devlog_api.post.entity.ContentCodec}으로 압축됩니다.</p>
+ * <ul>
+ *   <li><code>=n</code> — 이전 리비전의 다음 n줄을 그대로 복사</li>
+ *   <li><code>-n</code> — 이전 리비전의 다음 n줄을 건너뜀</li>
+ *   <li><code>+n</code> — 뒤따르는 n줄을 삽입</li>
+ *   <li><code>*</code> — 본문 변경 없음(제목/태그만 수정)</li>
+ * </ul>
+ * <p>본문은 <code>\n</code> 기준으로 나누며 마지막 줄바꿈 유무까지 그대로 복원됩니다.</p>
+ *
+ * @since 1.1
+ */
+public final class RevisionDelta {
+    /** 본문이 바뀌지 않은 리비전의 스크립트 */
+    public static final String UNCHANGED = "*";
+
+    private RevisionDelta() {}
+
+    /**
+     * 이전 본문에서 새 본문으로 가는 스크립트를 만듭니다.
+     *
+     * @param oldText  이전 본문
+     * @param newText  새 본문
+     * @param maxEdits 차분을 계산할 최대 편집(삽입+삭제 줄) 수
+     * @return 스크립트
+     */
+    public static String diff(String oldText, String newText, int maxEdits) {
+        if (oldText.equals(newText)) return UNCHANGED;
+        String[] a = split(oldText);
+        String[] b = split(newText);
+
+        int prefix = 0;
+        while (prefix < a.length && prefix < b.length && a[prefix].equals(b[prefix])) prefix++;
+        int suffix = 0;
+        while (suffix < a.length - prefix && suffix < b.length - prefix
+                && a[a.length - 1 - suffix].equals(b[b.length - 1 - suffix])) suffix++;
+
+        Script script = new Script();
+        script.copy(prefix);
+        List<Edit> edits = myers(a, prefix, a.length - suffix, b, prefix, b.length - suffix, maxEdits);
+        if (edits == null) {
+            script.delete(a.length - suffix - prefix);
+            for (int i = prefix; i < b.length - suffix; i++) script.insert(b[i]);
+        } else {
+            for (Edit edit : edits) {
+                switch (edit.type) {
+                    case EQUAL -> script.copy(1);
+                    case DELETE -> script.delete(1);
+                    case INSERT -> script.insert(edit.line);
+                }
+            }
+        }
+        script.copy(suffix);
+        return script.build();
+    }
+
+    /**
+     * 이전 본문에 스크립트를 적용합니다.
+     *
+     * @param base   이전 리비전의 본문
+     * @param script {@link #diff}로 만든 스크립트
+     * @return 새 본문
+     * @throws IllegalStateException 스크립트가 이전 본문과 맞지 않는 경우(손상된 이력)
+     */
+    public static String apply(String base, String script) {
+        if (UNCHANGED.equals(script)) return base;
+        String[] a = split(base);
+        List<String> out = new ArrayList<>(a.length + 16);
+        int cursor = 0;
+        int pos = 0;
+        int length = script.length();
+        while (pos < length) {
+            int end = lineEnd(script, pos);
+            char op = script.charAt(pos);
+            int n = Integer.parseInt(script, pos + 1, end, 10);
+            pos = end + 1;
+            switch (op) {
+                case '=' -> {
+                    if (cursor + n > a.length) throw new IllegalStateException("Revision delta does not match base");
+                    for (int i = 0; i < n; i++) out.add(a[cursor++]);
+                }
+                case '-' -> {
+                    if (cursor + n > a.length) throw new IllegalStateException("Revision delta does not match base");
+                    cursor += n;
+                }
+                case '+' -> {
+                    for (int i = 0; i < n; i++) {
+                        int lineEnd = lineEnd(script, pos);
+                        out.add(script.substring(pos, lineEnd));
+                        pos = lineEnd + 1;
+                    }
+                }
+                default -> throw new IllegalStateException("Unknown revision delta op: " + op);
+            }
+        }
+        if (cursor != a.length) throw new IllegalStateException("Revision delta does not match base");
+        return String.join("\n", out);
+    }
+
+    /* ==================== 내부 구현 ==================== */
+
+    private static String[] split(String text) {
+        return text.split("\n", -1);
+    }
+
+    private static int lineEnd(String script, int from) {
+        int end = script.indexOf('\n', from);
+        return end < 0 ? script.length() : end;
+    }
+
+    private enum EditType { EQUAL, DELETE, INSERT }
+
+    private record Edit(EditType type, String line) {}
+
+    /**
+     * <code>a[a0, a1)</code>를 <code>b[b0, b1)</code>로 바꾸는 최소 편집 목록을 구합니다.
+     * 편집 거리가 <code>maxEdits</code>를 넘으면 null을 반환합니다.
+     */
+    private static List<Edit> myers(String[] a, int a0, int a1, String[] b, int b0, int b1, int maxEdits) {
+        int n = a1 - a0;
+        int m = b1 - b0;
+        int max = n + m;
+        if (max == 0) return List.of();
+        int offset = max + 1;
+        int[] v = new int[2 * max + 3];
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= Math.min(max, maxEdits); d++) {
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]))
+                        ? v[offset + k + 1]
+                        : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[a0 + x].equals(b[b0 + y])) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    trace.add(copyRange(v, offset, d));
+                    return backtrack(trace, a, a0, b, b0, n, m);
+                }
+            }
+            trace.add(copyRange(v, offset, d));
+        }
+        return null;
+    }
+
+    /** 단계 d가 끝난 뒤의 <code>v[-d..d]</code>를 복사합니다. */
+    private static int[] copyRange(int[] v, int offset, int d) {
+        int[] copy = new int[2 * d + 1];
+        System.arraycopy(v, offset - d, copy, 0, 2 * d + 1);
+        return copy;
+    }
+
+    private static List<Edit> backtrack(List<int[]> trace, String[] a, int a0, String[] b, int b0, int n, int m) {
+        List<Edit> edits = new ArrayList<>(n + m);
+        int x = n;
+        int y = m;
+        for (int d = trace.size() - 1; d > 0; d--) {
+            int[] prev = trace.get(d - 1);
+            int k = x - y;
+            int prevK = (k == -d || (k != d && prev[k - 1 + d - 1] < prev[k + 1 + d - 1])) ? k + 1 : k - 1;
+            int prevX = prev[prevK + d - 1];
+            int prevY = prevX - prevK;
+            while (x > prevX && y > prevY) {
+                edits.add(new Edit(EditType.EQUAL, null));
+                x--;
+                y--;
+            }
+            if (x == prevX) edits.add(new Edit(EditType.INSERT, b[b0 + prevY]));
+            else edits.add(new Edit(EditType.DELETE, null));
+            x = prevX;
+            y = prevY;
+        }
+        while (x > 0 && y > 0) {
+            edits.add(new Edit(EditType.EQUAL, null));
+            x--;
+            y--;
+        }
+        Collections.reverse(edits);
+        return edits;
+    }
+
+    /**
+     * 같은 종류의 연속 연산을 하나로 합쳐 스크립트를 씁니다.
+     */
+    private static final class Script {
+        private final StringBuilder out = new StringBuilder();
+        private final List<String> inserts = new ArrayList<>();
+        private char pending;
+        private int count;
+
+        void copy(int n) {
+            run('=', n);
+        }
+
+        void delete(int n) {
+            run('-', n);
+        }
+
+        void insert(String line) {
+            if (pending != '+') flush();
+            pending = '+';
+            inserts.add(line);
+        }
+
+        private void run(char op, int n) {
+            if (n == 0) return;
+            if (pending != op) flush();
+            pending = op;
+            count += n;
+        }
+
+        private void flush() {
+            if (pending == '+') {
+                out.append('+').append(inserts.size()).append('\n');
+                for (String line : inserts) out.append(line).append('\n');
+                inserts.clear();
+            } else if (pending != 0) {
+                out.append(pending).append(count).append('\n');
+            }
+            pending = 0;
+            count = 0;
+        }
+
+        String build() {
+            flush();
+            if (out.length() > 0 && out.charAt(out.length() - 1) == '\n') out.setLength(out.length() - 1);
+            return out.length() == 0 ? UNCHANGED : out.toString();
+        }
+    }
+}
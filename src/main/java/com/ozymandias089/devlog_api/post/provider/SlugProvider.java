@@ -4,28 +4,77 @@ import com.ozymandias089.devlog_api.global.util.SlugUtil;
 import com.ozymandias089.devlog_api.member.entity.MemberEntity;
 import com.ozymandias089.devlog_api.post.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class SlugProvider {
     private final PostRepository postRepository;
 
+    /**
+     * <code>/api/posts/{slug}</code>와 겹치는 고정 경로. 이 슬러그는 번호 변형부터 부여합니다.
+     * 기동 시 등록된 매핑에서 다시 수집하므로({@link #collectReservedSlugs}) 새 경로를 여기에 추가하지 않아도 됩니다.
+     */
+    private static final Set<String> RESERVED_SLUGS = Set.of("create", "post-list", "search", "trending", "batch", "stream");
+
+    /** <code>/api/posts/</code> 바로 아래의 고정 경로 한 단계 */
+    private static final Pattern FIXED_POST_PATH = Pattern.compile("^/api/posts/([^/{}*]+)$");
+
+    private volatile Set<String> reservedSlugs = RESERVED_SLUGS;
+
     /**
      * 제목을 기반으로 전역 유일 슬러그를 생성합니다.
      * 현재 정책: 전역 유일 (author 무관)
+     *
+     * <p>
+     * 기본 슬러그와 번호 변형 중 가장 큰 접미 번호를 인덱스 범위 스캔 한 번으로 조회하여
+     * 다음 번호를 부여합니다(<code>base</code> → <code>base-1</code> → <code>base-2</code> ...).
+     * 삭제로 비어 있는 번호는 재사용하지 않습니다. 고정 경로와 겹치는 슬러그(예: <code>search</code>)는
+     * 상세 조회가 불가능하므로 <code>base-1</code>부터 부여합니다.
+     * </p>
+     *
+     * @implNote 동시 생성 시 같은 후보가 나올 수 있으며, 이 경우 슬러그 유니크 인덱스 위반으로 한쪽이 실패합니다.
+     *           호출자는 새 트랜잭션에서 이 메서드를 다시 호출해 재시도해야 합니다.
      */
     public String generateUniqueSlug(MemberEntity author, String title) {
-        // SlugUtil이 있다면 그걸 사용, 없다면 간단한 slugify 로직 직접 구현
         String base = SlugUtil.toSlug(title); // 예: 소문자, 비영문 -> -, 연속 - 압축, 앞뒤 - 트림
         if (base == null || base.isBlank()) base = "post";
 
-        String candidate = base;
-        int i = 0;
-        while (postRepository.existsBySlug(candidate)) {
-            i++;
-            candidate = base + "-" + i;
+        Long maxSuffix = postRepository.findMaxSlugSuffix(base);
+        if (maxSuffix == null && !reservedSlugs.contains(base)) return base;
+        return base + "-" + ((maxSuffix == null ? 0 : maxSuffix) + 1);
+    }
+
+    /**
+     * 등록된 MVC 매핑 중 <code>/api/posts/{고정 경로}</code> 형태(HTTP 메서드 무관)를 모아 예약 슬러그에 더합니다.
+     * 새 고정 경로가 생겨도 같은 이름의 게시글이 상세 조회 불가능해지지 않습니다.
+     *
+     * @param event 컨텍스트 초기화 완료 이벤트
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void collectReservedSlugs(ContextRefreshedEvent event) {
+        if (!event.getApplicationContext().containsBean("requestMappingHandlerMapping")) return;
+        RequestMappingHandlerMapping mapping = event.getApplicationContext()
+                .getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        Set<String> reserved = new HashSet<>(RESERVED_SLUGS);
+        for (RequestMappingInfo info : mapping.getHandlerMethods().keySet()) {
+            for (String path : info.getPatternValues()) {
+                Matcher matcher = FIXED_POST_PATH.matcher(path);
+                if (matcher.matches()) reserved.add(SlugUtil.toSlug(matcher.group(1)));
+            }
         }
-        return candidate;
+        reservedSlugs = Set.copyOf(reserved);
+        log.debug("Reserved post slugs: {}", reservedSlugs);
     }
 }
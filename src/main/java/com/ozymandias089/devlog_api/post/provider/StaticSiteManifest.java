@@ -0,0 +1,46 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정적 사이트 한 버전의 매니페스트입니다. 버전 디렉터리와 루트에 <code>manifest.json</code>으로 저장됩니다.
+ *
+ * <p>
+ * 프록시는 <code>files</code>로 버전의 파일 목록과 내용 해시를 확인할 수 있고, 생성기는 다음 버전을 만들 때
+ * 이 정보로 바뀐 페이지만 다시 씁니다({@link StaticSiteProvider}).
+ * </p>
+ *
+ * @param version     버전 번호(1부터 증가, 디렉터리 <code>versions/{8자리 번호}</code>)
+ * @param generatedAt 생성 시각
+ * @param pageSize    보관 페이지당 게시글 수
+ * @param posts       게시글 PK → 게시글 페이지 정보
+ * @param pages       보관 페이지(1부터, 작성 순)
+ * @param files       버전 루트 기준 경로 → 내용의 SHA-256(hex). 각 파일에는 <code>.gz</code> 사본이 함께 있습니다.
+ * @since 1.1
+ */
+public record StaticSiteManifest(long version, Instant generatedAt, int pageSize,
+                                 Map<Long, PostRef> posts, List<Page> pages, Map<String, String> files) {
+
+    /** 게시글이 하나도 생성되지 않은 상태 */
+    static final StaticSiteManifest EMPTY = new StaticSiteManifest(0, null, 0, Map.of(), List.of(), Map.of());
+
+    /**
+     * 게시글 페이지 정보.
+     *
+     * @param slug      슬러그(페이지 경로 <code>posts/{slug}/index.html</code>)
+     * @param updatedAt 페이지를 만든 시점의 게시글 수정 시각(기동 시 변경분 판별용)
+     * @param page      게시글이 실린 보관 페이지 번호
+     */
+    public record PostRef(String slug, Instant updatedAt, int page) {}
+
+    /**
+     * 보관 페이지 정보.
+     *
+     * @param page   페이지 번호
+     * @param lastId 페이지의 마지막 게시글 PK(다음 페이지의 키셋 시작점)
+     * @param count  게시글 수
+     */
+    public record Page(int page, long lastId, int count) {}
+}
@@ -0,0 +1,580 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ozymandias089.devlog_api.global.outbox.CacheInvalidationEvent;
+import com.ozymandias089.devlog_api.global.outbox.CacheResyncEvent;
+import com.ozymandias089.devlog_api.post.entity.PostEntity;
+import com.ozymandias089.devlog_api.post.event.PostChangedEvent;
+import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글과 목록 페이지를 정적 HTML 파일로 미리 생성합니다. 트래픽이 몰릴 때 리버스 프록시가 애플리케이션을 거치지 않고 서빙합니다.
+ *
+ * <h3>디렉터리 구조</h3>
+ * <pre>
+ * {root}/current -&gt; versions/00000042     (심볼릭 링크. 프록시의 document root)
+ * {root}/manifest.json                     (현재 버전의 매니페스트)
+ * {root}/versions/00000042/
+ *     index.html, index.html.gz            최신 글 {@code pageSize}개
+ *     page/{n}/index.html(.gz)             보관 페이지(작성 순, 1이 가장 오래된 글)
+ *     posts/{slug}/index.html(.gz)         게시글
+ *     manifest.json                        {@link StaticSiteManifest}
+ * </pre>
+ * <p>
+ * 모든 HTML에는 최고 압축률로 미리 압축한 <code>.gz</code> 사본이 있어 프록시가 그대로 보낼 수 있습니다(nginx <code>gzip_static</code>).
+ * </p>
+ *
+ * <h3>버전 교체</h3>
+ * <p>
+ * 새 버전은 이전 버전의 모든 파일을 하드 링크로 복제(copy-on-write)한 디렉터리에서 시작하고, 바뀐 페이지만 임시 파일에 쓴 뒤
+ * 이름 바꾸기로 교체합니다. 내용 해시가 매니페스트와 같으면 쓰지 않습니다. 완성되면 <code>current</code> 심볼릭 링크를
+ * 원자적 이름 바꾸기로 새 버전에 돌리므로, 프록시는 항상 완전한 한 버전만 봅니다. 최근 {@code keepVersions}개 버전만 남깁니다.
+ * </p>
+ *
+ * <h3>증분 생성</h3>
+ * <p>
+ * 커밋된 게시글 변경(다른 노드의 변경은 무효화 알림)을 모아 {@code flushInterval}마다 한 버전으로 반영합니다.
+ * 바뀐 게시글의 페이지와 첫 화면, 그 게시글이 실린 보관 페이지만 다시 만듭니다. 보관 페이지는 PK 순으로 고정 크기이므로
+ * 새 글은 마지막 페이지만, 삭제는 그 글이 있던 페이지부터 끝까지를 바꿉니다. 기동 시에는 매니페스트의 게시글 수정 시각과
+ * DB를 비교해 꺼져 있던 동안의 변경을 반영하고, 매니페스트가 없거나 재동기화 요청을 받으면 전체를 다시 만듭니다.
+ * 게시글 페이지 렌더링과 파일 쓰기는 {@code parallelism}개 작업 스레드(0이면 CPU 코어 수)에서 병렬로 수행합니다.
+ * </p>
+ *
+ * @implNote 출력 디렉터리는 노드마다 따로이므로, 프록시가 있는 노드에서만 {@code enabled}를 켭니다.
+ *           작성자 이름은 페이지를 만든 시점의 값입니다.
+ * @since 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StaticSiteProvider {
+    private static final String MANIFEST = "manifest.json";
+    private static final String GZ = ".gz";
+    /** 엔티티를 한 번에 읽는 게시글 수 */
+    private static final int LOAD_BATCH = 200;
+
+    private final PostRepository postRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    @Value("${app.static-site.enabled:false}")
+    private boolean enabled;
+
+    /** 출력 루트 디렉터리 */
+    @Value("${app.static-site.root:./static-site}")
+    private String rootDirectory;
+
+    /** 목록 페이지당 게시글 수 */
+    @Value("${app.static-site.page-size:20}")
+    private int pageSize;
+
+    /** 작업 스레드 수(0이면 CPU 코어 수) */
+    @Value("${app.static-site.parallelism:0}")
+    private int parallelism;
+
+    /** 보관할 버전 수(현재 버전 포함) */
+    @Value("${app.static-site.keep-versions:3}")
+    private int keepVersions;
+
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock generateLock = new ReentrantLock();
+    private volatile boolean fullRebuildRequested;
+    private volatile boolean ready;
+    private volatile Thread driver;
+    /** 현재 버전의 매니페스트({@link #generateLock} 보유 중에만 접근) */
+    private StaticSiteManifest manifest = StaticSiteManifest.EMPTY;
+
+    /* ==================== 변경 수집 ==================== */
+
+    /**
+     * 커밋된 게시글 변경을 다음 버전에 반영하도록 기록합니다.
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (enabled) dirty.add(event.postId());
+    }
+
+    /**
+     * 다른 노드에서 커밋된 게시글 변경을 기록합니다.
+     *
+     * @param event 노드 간 무효화 알림
+     */
+    @EventListener
+    public void onRemoteChange(CacheInvalidationEvent event) {
+        if (enabled && event.entity() == CacheInvalidationEvent.Entity.POST) dirty.add(event.id());
+    }
+
+    /**
+     * 무효화 알림을 놓쳤을 수 있으면 다음 주기에 전체를 다시 만듭니다.
+     *
+     * @param event 재동기화 요청
+     */
+    @EventListener
+    public void onResync(CacheResyncEvent event) {
+        if (enabled) fullRebuildRequested = true;
+    }
+
+    /* ==================== 생성 ==================== */
+
+    /**
+     * 애플리케이션 기동 시 매니페스트를 읽고, 꺼져 있던 동안의 변경(없으면 전체)을 백그라운드 스레드로 반영합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeOnStartup() {
+        if (!enabled) return;
+        Thread thread = new Thread(() -> {
+            generateLock.lock();
+            try {
+                StaticSiteManifest loaded = loadManifest();
+                if (loaded == null) {
+                    generate(null);
+                } else if (loaded.pageSize() != pageSize || !Files.isDirectory(versionDir(loaded.version()))) {
+                    // 이전 버전을 재사용할 수 없으면 번호만 이어 받아 전체를 다시 만듦
+                    manifest = new StaticSiteManifest(loaded.version(), loaded.generatedAt(), pageSize, Map.of(), List.of(), Map.of());
+                    generate(null);
+                } else {
+                    manifest = loaded;
+                    Set<Long> changed = changedSince(loaded);
+                    if (!changed.isEmpty()) generate(changed);
+                }
+                ready = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("Static site initialization failed: {}", e.getMessage());
+                fullRebuildRequested = true;
+                ready = true;
+            } finally {
+                generateLock.unlock();
+            }
+        }, "static-site-init");
+        thread.setDaemon(true);
+        driver = thread;
+        thread.start();
+    }
+
+    /**
+     * 모인 변경을 새 버전으로 반영합니다. 실패하면 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.static-site.flush-interval:PT5S}",
+            initialDelayString = "${app.static-site.flush-interval:PT5S}")
+    public void flush() {
+        if (!enabled || !ready || (!fullRebuildRequested && dirty.isEmpty()) || !generateLock.tryLock()) return;
+        boolean full = fullRebuildRequested;
+        Set<Long> postIds = new HashSet<>(dirty);
+        try {
+            fullRebuildRequested = false;
+            dirty.removeAll(postIds);
+            generate(full ? null : postIds);
+        } catch (Exception e) {
+            log.warn("Static site generation failed: {}", e.getMessage());
+            if (full) fullRebuildRequested = true;
+            dirty.addAll(postIds);
+        } finally {
+            generateLock.unlock();
+        }
+    }
+
+    /**
+     * 새 버전을 만들어 <code>current</code>로 교체합니다.
+     *
+     * @param changed 바뀐 게시글 PK(null이면 전체)
+     */
+    private void generate(Set<Long> changed) throws IOException, InterruptedException, ExecutionException {
+        long started = System.nanoTime();
+        StaticSiteManifest previous = manifest;
+        Path root = root();
+        Path versions = root.resolve("versions");
+        long version = nextVersion(versions, previous.version());
+        Path dir = versions.resolve(versionName(version));
+        Files.createDirectories(dir);
+
+        ExecutorService workers = newWorkers();
+        try {
+            Output output = new Output(dir, new ConcurrentHashMap<>(previous.files()));
+            if (previous.version() > 0) linkAll(versions.resolve(versionName(previous.version())), output, workers);
+
+            Map<Long, StaticSiteManifest.PostRef> posts = new HashMap<>(previous.posts());
+            List<StaticSiteManifest.Page> pages = new ArrayList<>(previous.pages());
+            Set<Long> targets = new TreeSet<>(posts.keySet());
+            if (changed == null) {
+                postRepository.findIndexVersions().forEach(v -> targets.add(v.getId()));
+            } else {
+                targets.retainAll(changed);
+                targets.addAll(changed);
+            }
+
+            // 1. 게시글 페이지. 새 글/삭제는 그 글의 보관 페이지부터 끝까지, 수정은 그 페이지만 다시 만든다.
+            int rewriteFrom = changed == null ? 1 : Integer.MAX_VALUE;
+            Set<Integer> touchedPages = new TreeSet<>();
+            List<Long> ids = new ArrayList<>(targets);
+            for (int i = 0; i < ids.size(); i += LOAD_BATCH) {
+                List<Long> chunk = ids.subList(i, Math.min(i + LOAD_BATCH, ids.size()));
+                List<Future<?>> writes = new ArrayList<>(chunk.size());
+                Set<Long> found = new HashSet<>();
+                for (PostEntity post : postRepository.findAllByIdInWithAuthor(chunk)) {
+                    found.add(post.getId());
+                    StaticSiteManifest.PostRef ref = posts.get(post.getId());
+                    int page = ref != null ? ref.page() : pageOf(pages, post.getId());
+                    if (ref == null) rewriteFrom = Math.min(rewriteFrom, page);
+                    else touchedPages.add(page);
+                    posts.put(post.getId(), new StaticSiteManifest.PostRef(post.getSlug(), post.getUpdatedAt(), page));
+                    writes.add(workers.submit(() -> writePostPage(output, post)));
+                }
+                for (Future<?> write : writes) write.get();
+                for (Long id : chunk) {
+                    if (found.contains(id)) continue;
+                    StaticSiteManifest.PostRef removed = posts.remove(id);
+                    if (removed == null) continue;
+                    output.delete(postPath(removed.slug()));
+                    rewriteFrom = Math.min(rewriteFrom, removed.page());
+                }
+            }
+
+            // 2. 보관 페이지
+            ZoneId zone = clock.getZone();
+            if (rewriteFrom != Integer.MAX_VALUE) {
+                int lastBefore = pages.size();
+                List<StaticSiteManifest.Page> kept = new ArrayList<>(pages.subList(0, Math.min(rewriteFrom - 1, pages.size())));
+                long afterId = kept.isEmpty() ? 0 : kept.get(kept.size() - 1).lastId();
+                int page = kept.size() + 1;
+                while (true) {
+                    List<PostRepository.ListRow> rows = postRepository.findProjectedByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize));
+                    if (rows.isEmpty()) break;
+                    afterId = rows.get(rows.size() - 1).getId();
+                    output.write(pagePath(page), StaticSiteTemplates.listPage(page, rows, page - 1, zone));
+                    kept.add(new StaticSiteManifest.Page(page, afterId, rows.size()));
+                    for (PostRepository.ListRow row : rows) {
+                        int p = page;
+                        posts.computeIfPresent(row.getId(), (id, ref) -> new StaticSiteManifest.PostRef(ref.slug(), ref.updatedAt(), p));
+                    }
+                    page++;
+                }
+                for (int p = page; p <= lastBefore; p++) output.delete(pagePath(p));
+                pages = kept;
+            }
+            for (int page : touchedPages) {
+                if (page >= rewriteFrom || page > pages.size()) continue;
+                long afterId = page == 1 ? 0 : pages.get(page - 2).lastId();
+                List<PostRepository.ListRow> rows = postRepository.findProjectedByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize));
+                output.write(pagePath(page), StaticSiteTemplates.listPage(page, rows, page - 1, zone));
+            }
+
+            // 3. 첫 화면
+            List<PostRepository.ListRow> latest = postRepository.findProjectedByOrderByCreatedAtDescIdDesc(Limit.of(pageSize));
+            output.write("index.html", StaticSiteTemplates.listPage(0, latest, pages.size(), zone));
+
+            // 4. 매니페스트를 쓰고 current를 새 버전으로 교체
+            StaticSiteManifest next = new StaticSiteManifest(version, Instant.now(clock), pageSize,
+                    posts, pages, new HashMap<>(output.files));
+            byte[] json = objectMapper.writeValueAsBytes(next);
+            writeAtomically(dir.resolve(MANIFEST), json);
+            swapCurrent(root, root.relativize(dir));
+            writeAtomically(root.resolve(MANIFEST), json);
+            manifest = next;
+            prune(versions, next.version());
+
+            log.info("Static site v{} published: {} files written, {} deleted in {} ms", next.version(),
+                    output.written.get(), output.deleted.get(), (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void writePostPage(Output output, PostEntity post) {
+        String html = post.getRendererVersion() == 0 || post.getRenderedHtml() == null
+                ? markdownRenderer.render(post.getContent()).html()
+                : post.getRenderedHtml();
+        output.write(postPath(post.getSlug()), StaticSiteTemplates.postPage(post.getSlug(), post.getTitle(),
+                post.getAuthor().getUsername(), post.getCreatedAt(), html, clock.getZone()));
+    }
+
+    /**
+     * 매니페스트에 기록된 수정 시각과 DB가 다른 게시글(추가/수정/삭제)을 찾습니다.
+     */
+    private Set<Long> changedSince(StaticSiteManifest loaded) {
+        Set<Long> changed = new HashSet<>();
+        Set<Long> existing = new HashSet<>();
+        for (PostRepository.IndexVersion version : postRepository.findIndexVersions()) {
+            existing.add(version.getId());
+            StaticSiteManifest.PostRef ref = loaded.posts().get(version.getId());
+            if (ref == null || !version.getUpdatedAt().equals(ref.updatedAt())) changed.add(version.getId());
+        }
+        for (Long id : loaded.posts().keySet()) {
+            if (!existing.contains(id)) changed.add(id);
+        }
+        return changed;
+    }
+
+    /**
+     * 새 게시글이 들어갈 보관 페이지. 보관 페이지는 PK 순이므로 마지막 PK가 이 글 이상인 첫 페이지이고, 없으면 마지막(또는 새) 페이지입니다.
+     */
+    private int pageOf(List<StaticSiteManifest.Page> pages, long postId) {
+        for (int lo = 0, hi = pages.size(); ; ) {
+            if (lo >= hi) return lo < pages.size() ? lo + 1 : Math.max(pages.size(), 1);
+            int mid = (lo + hi) >>> 1;
+            if (pages.get(mid).lastId() < postId) lo = mid + 1;
+            else hi = mid;
+        }
+    }
+
+    /* ==================== 파일 ==================== */
+
+    /**
+     * 새 버전 디렉터리에 쓰는 파일과 그 해시를 추적합니다. 여러 작업 스레드에서 동시에 씁니다.
+     */
+    private static final class Output {
+        private final Path dir;
+        private final Map<String, String> files;
+        private final AtomicInteger written = new AtomicInteger();
+        private final AtomicInteger deleted = new AtomicInteger();
+
+        Output(Path dir, Map<String, String> files) {
+            this.dir = dir;
+            this.files = files;
+        }
+
+        /** 내용이 이전 버전과 다를 때만 HTML과 <code>.gz</code> 사본을 씁니다(하드 링크는 이름 바꾸기로 끊음). */
+        void write(String path, String html) {
+            byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+            String hash = sha256(bytes);
+            Path target = resolve(path);
+            if (hash.equals(files.get(path)) && Files.exists(target)) return;
+            try {
+                Files.createDirectories(target.getParent());
+                writeAtomically(target, bytes);
+                writeAtomically(target.resolveSibling(target.getFileName() + GZ), gzip(bytes));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            files.put(path, hash);
+            written.incrementAndGet();
+        }
+
+        void delete(String path) throws IOException {
+            if (files.remove(path) == null) return;
+            Path target = resolve(path);
+            Files.deleteIfExists(target);
+            Files.deleteIfExists(target.resolveSibling(target.getFileName() + GZ));
+            try (DirectoryStream<Path> rest = Files.newDirectoryStream(target.getParent())) {
+                if (!rest.iterator().hasNext()) Files.delete(target.getParent());
+            }
+            deleted.incrementAndGet();
+        }
+
+        Path resolve(String path) {
+            Path target = dir.resolve(path).normalize();
+            if (!target.startsWith(dir)) throw new IllegalArgumentException("Path escapes the site directory: " + path);
+            return target;
+        }
+    }
+
+    /**
+     * 이전 버전의 파일을 새 버전 디렉터리에 하드 링크로 복제합니다. 하드 링크를 지원하지 않는 파일 시스템이면 복사합니다.
+     */
+    private void linkAll(Path previousDir, Output output, ExecutorService workers) throws InterruptedException, ExecutionException {
+        List<String> paths = new ArrayList<>(output.files.keySet());
+        List<Future<?>> links = new ArrayList<>();
+        int chunk = Math.max(paths.size() / (4 * threadCount()) + 1, 64);
+        for (int i = 0; i < paths.size(); i += chunk) {
+            List<String> part = paths.subList(i, Math.min(i + chunk, paths.size()));
+            links.add(workers.submit(() -> {
+                for (String path : part) {
+                    try {
+                        Path target = output.resolve(path);
+                        Files.createDirectories(target.getParent());
+                        link(previousDir.resolve(path), target);
+                        link(previousDir.resolve(path + GZ), target.resolveSibling(target.getFileName() + GZ));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }));
+        }
+        for (Future<?> link : links) link.get();
+    }
+
+    private static void link(Path source, Path target) throws IOException {
+        if (!Files.exists(source)) return; // 다음 write에서 다시 만들어짐
+        try {
+            Files.createLink(target, source);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * <code>current</code> 심볼릭 링크를 임시 링크의 원자적 이름 바꾸기로 교체합니다.
+     */
+    private static void swapCurrent(Path root, Path relativeTarget) throws IOException {
+        Path temp = root.resolve("current.tmp");
+        Files.deleteIfExists(temp);
+        Files.createSymbolicLink(temp, relativeTarget);
+        Files.move(temp, root.resolve("current"), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), ".tmp-", null);
+        try {
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 현재 버전과 그 직전 {@code keepVersions - 1}개만 남기고 오래된 버전 디렉터리를 지웁니다.
+     */
+    private void prune(Path versions, long current) {
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(versions)) {
+            for (Path dir : dirs) {
+                String name = dir.getFileName().toString();
+                if (!name.matches("\\d{8}")) continue;
+                if (Long.parseLong(name) <= current - Math.max(keepVersions, 1)) deleteRecursively(dir);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to prune old static site versions: {}", e.getMessage());
+        }
+    }
+
+    private StaticSiteManifest loadManifest() {
+        Path file = root().resolve(MANIFEST);
+        if (!Files.exists(file)) return null;
+        try {
+            return objectMapper.readValue(file.toFile(), StaticSiteManifest.class);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable static site manifest: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 종료 시 진행 중인 초기 생성을 중단합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        Thread thread = driver;
+        if (thread != null) thread.interrupt();
+    }
+
+    /* ==================== 내부 구현 ==================== */
+
+    private Path root() {
+        return Path.of(rootDirectory).toAbsolutePath().normalize();
+    }
+
+    private Path versionDir(long version) {
+        return root().resolve("versions").resolve(versionName(version));
+    }
+
+    private ExecutorService newWorkers() {
+        AtomicInteger workerSeq = new AtomicInteger();
+        return Executors.newFixedThreadPool(threadCount(), r -> {
+            Thread t = new Thread(r, "static-site-" + workerSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private int threadCount() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 이전 버전과 디스크에 남은 버전 디렉터리보다 큰 번호. 중단된 시도나 매니페스트보다 앞선 버전(프록시가 보고 있을 수 있음)을 덮어쓰지 않습니다.
+     */
+    private static long nextVersion(Path versions, long previous) throws IOException {
+        long max = previous;
+        if (Files.isDirectory(versions)) {
+            try (DirectoryStream<Path> dirs = Files.newDirectoryStream(versions)) {
+                for (Path dir : dirs) {
+                    String name = dir.getFileName().toString();
+                    if (name.matches("\\d{8}")) max = Math.max(max, Long.parseLong(name));
+                }
+            }
+        }
+        return max + 1;
+    }
+
+    private static String versionName(long version) {
+        return String.format("%08d", version);
+    }
+
+    private static String postPath(String slug) {
+        return "posts/" + slug + "/index.html";
+    }
+
+    private static String pagePath(int page) {
+        return "page/" + page + "/index.html";
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 3 + 64);
+        try (OutputStream out = new GZIPOutputStream(buffer) {{ def.setLevel(Deflater.BEST_COMPRESSION); }}) {
+            out.write(bytes);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (var paths = Files.walk(dir)) {
+            for (Path path : paths.sorted((a, b) -> b.getNameCount() - a.getNameCount()).toList()) Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import org.springframework.web.util.HtmlUtils;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 정적 사이트 페이지의 HTML 템플릿입니다.
+ *
+ * <p>
+ * 페이지 내용은 그 페이지의 데이터로만 정해지도록 만듭니다. 조회수처럼 자주 바뀌는 값은 넣지 않고,
+ * 보관 페이지는 "이전 페이지"(번호가 작은 쪽)로만 연결하므로 새 페이지가 생겨도 기존 페이지는 바뀌지 않습니다.
+ * 본문 HTML은 {@link MarkdownRenderer}가 정제한 결과를 그대로 넣습니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+final class StaticSiteTemplates {
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private StaticSiteTemplates() {}
+
+    /**
+     * 게시글 페이지(<code>posts/{slug}/index.html</code>)
+     */
+    static String postPage(String slug, String title, String authorUsername, Instant createdAt, String html, ZoneId zone) {
+        StringBuilder out = head(title, "/posts/" + slug + "/");
+        out.append("<article>\n<h1>").append(escape(title)).append("</h1>\n")
+                .append("<p class=\"meta\">").append(escape(authorUsername)).append(" · ")
+                .append(date(createdAt, zone)).append("</p>\n")
+                .append(html).append("\n</article>\n")
+                .append("<nav><a href=\"/\">글 목록</a></nav>\n");
+        return tail(out);
+    }
+
+    /**
+     * 목록 페이지. 첫 화면(<code>index.html</code>)이면 <code>page</code>는 0입니다.
+     *
+     * @param page  보관 페이지 번호(첫 화면이면 0)
+     * @param older "이전 페이지" 번호(없으면 0)
+     */
+    static String listPage(int page, List<PostRepository.ListRow> rows, int older, ZoneId zone) {
+        StringBuilder out = head(page == 0 ? "최신 글" : "글 목록 " + page, page == 0 ? "/" : "/page/" + page + "/");
+        out.append("<main>\n<ul class=\"posts\">\n");
+        for (PostRepository.ListRow row : rows) {
+            out.append("<li><a href=\"/posts/").append(row.getSlug()).append("/\">").append(escape(row.getTitle())).append("</a>")
+                    .append(" <span class=\"meta\">").append(escape(row.getAuthor().getUsername())).append(" · ")
+                    .append(date(row.getCreatedAt(), zone)).append("</span>");
+            if (row.getExcerpt() != null) out.append("\n<p>").append(escape(row.getExcerpt())).append("</p>");
+            out.append("</li>\n");
+        }
+        out.append("</ul>\n</main>\n<nav>");
+        if (page != 0) out.append("<a href=\"/\">최신 글</a> ");
+        if (older > 0) out.append("<a href=\"/page/").append(older).append("/\">이전 글</a>");
+        out.append("</nav>\n");
+        return tail(out);
+    }
+
+    private static StringBuilder head(String title, String canonical) {
+        return new StringBuilder(4096)
+                .append("<!doctype html>\n<html lang=\"ko\">\n<head>\n<meta charset=\"utf-8\">\n")
+                .append("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1\">\n")
+                .append("<title>").append(escape(title)).append("</title>\n")
+                .append("<link rel=\"canonical\" href=\"").append(canonical).append("\">\n")
+                .append("</head>\n<body>\n");
+    }
+
+    private static String tail(StringBuilder out) {
+        return out.append("</body>\n</html>\n").toString();
+    }
+
+    private static String escape(String text) {
+        return text == null ? "" : HtmlUtils.htmlEscape(text, "UTF-8");
+    }
+
+    private static String date(Instant instant, ZoneId zone) {
+        return instant == null ? "" : DATE.format(instant.atZone(zone));
+    }
+}
@@ -0,0 +1,269 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import com.ozymandias089.devlog_api.global.outbox.CacheInvalidationEvent;
+import com.ozymandias089.devlog_api.post.dto.PostSummaryDTO;
+import com.ozymandias089.devlog_api.post.event.PostChangedEvent;
+import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 최근 조회수를 지수 감쇠(exponential decay)로 가중한 "트렌딩" 게시글 순위를 관리합니다.
+ *
+ * <p>
+ * 점수는 전방 감쇠(forward decay) 방식으로 누적합니다. 기준 시각(landmark) <code>L</code> 이후 시각 <code>t</code>의 조회 1회는
+ * <code>2^((t - L) / halfLife)</code>만큼 더해지며, 모든 게시글에 같은 배율이 곱해지므로 저장된 값을 다시 감쇠시키지 않아도
+ * 순위는 "반감기 {@code halfLife}로 감쇠한 최근 조회수" 순위와 같습니다. 값이 커지면 기준 시각을 옮기며 전체를 한 번 축소합니다.
+ * </p>
+ *
+ * <h3>구성</h3>
+ * <ul>
+ *   <li><strong>로컬 버킷</strong> — 조회 시에는 노드 메모리의 게시글별 카운터만 증가시킵니다(I/O 없음).</li>
+ *   <li><strong>Redis 집계</strong> — 주기적으로 버킷을 비워 Lua 스크립트 한 번으로 <code>TREND:SCORES</code>(ZSET)에 반영합니다.
+ *       여러 노드의 조회가 여기서 합쳐지며, ZSET은 상위 {@code maxTracked}개로 유지됩니다.</li>
+ *   <li><strong>로컬 top-K</strong> — 같은 스크립트가 상위 K개를 돌려주면 요약 정보를 채워 불변 스냅샷으로 교체합니다.
+ *       조회 API는 이 스냅샷만 읽으므로 DB/Redis 왕복이 없습니다.</li>
+ * </ul>
+ *
+ * <p>순위는 근사치입니다. 스냅샷은 반영 주기만큼 늦고, 버킷 교체 순간의 조회 몇 건은 유실될 수 있습니다.</p>
+ *
+ * @since 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingPostProvider {
+    private static final String KEY_SCORES = "TREND:SCORES";
+    private static final String KEY_META = "TREND:META";
+    private static final List<String> KEYS = List.of(KEY_SCORES, KEY_META);
+
+    /** 축소 시 이 값보다 작은 점수(사실상 조회 없음)는 제거합니다. */
+    private static final double MIN_SCORE = 0.01;
+    /** 기준 시각을 옮기는 주기(반감기 배수). 배율이 2^8을 넘지 않도록 합니다. */
+    private static final int REBASE_HALF_LIVES = 8;
+
+    /**
+     * 버킷 반영 + 상위 K 조회.
+     * ARGV: now, halfLife, rebaseAfter, maxTracked, topK, minScore, (member, count)*
+     * 반환: [landmark, (member, score)*]
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FLUSH_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local halfLife = tonumber(ARGV[2])
+            local landmark = redis.call('HGET', KEYS[2], 'landmark')
+            if not landmark then
+              landmark = ARGV[1]
+              redis.call('HSET', KEYS[2], 'landmark', landmark)
+            end
+            local elapsed = now - tonumber(landmark)
+            if elapsed > tonumber(ARGV[3]) then
+              local factor = math.pow(2, -elapsed / halfLife)
+              local all = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES')
+              for i = 1, #all, 2 do
+                local scaled = tonumber(all[i + 1]) * factor
+                if scaled < tonumber(ARGV[6]) then
+                  redis.call('ZREM', KEYS[1], all[i])
+                else
+                  redis.call('ZADD', KEYS[1], scaled, all[i])
+                end
+              end
+              landmark = ARGV[1]
+              elapsed = 0
+              redis.call('HSET', KEYS[2], 'landmark', landmark)
+            end
+            local weight = math.pow(2, elapsed / halfLife)
+            for i = 7, #ARGV, 2 do
+              redis.call('ZINCRBY', KEYS[1], tonumber(ARGV[i + 1]) * weight, ARGV[i])
+            end
+            local card = redis.call('ZCARD', KEYS[1])
+            local cap = tonumber(ARGV[4])
+            if card > cap then redis.call('ZREMRANGEBYRANK', KEYS[1], 0, card - cap - 1) end
+            local top = redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[5]) - 1, 'WITHSCORES')
+            table.insert(top, 1, landmark)
+            return top
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostRepository postRepository;
+    private final Clock clock;
+
+    /** 감쇠 반감기 */
+    @Value("${app.posts.trending.half-life:PT6H}")
+    private Duration halfLife;
+
+    /** 노드가 캐시하는 상위 게시글 수(K) */
+    @Value("${app.posts.trending.size:50}")
+    private int topK;
+
+    /** Redis ZSET이 보관하는 최대 게시글 수 */
+    @Value("${app.posts.trending.max-tracked:5000}")
+    private int maxTracked;
+
+    /** 아직 Redis에 반영하지 않은 게시글별 조회 수 */
+    private final AtomicReference<ConcurrentHashMap<Long, LongAdder>> pending = new AtomicReference<>(new ConcurrentHashMap<>());
+
+    /** 조회 API가 읽는 불변 스냅샷 */
+    private volatile Snapshot snapshot = new Snapshot(List.of(), List.of(), null);
+
+    /**
+     * 상위 K 스냅샷.
+     *
+     * @param postIds     순위순 게시글 PK(posts와 같은 순서)
+     * @param posts       순위순 요약(최대 K개)
+     * @param refreshedAt 마지막 갱신 시각(갱신 전이면 null)
+     */
+    public record Snapshot(List<Long> postIds, List<PostSummaryDTO> posts, Instant refreshedAt) {}
+
+    /* ==================== 조회 ==================== */
+
+    /**
+     * 캐시된 상위 게시글을 반환합니다. I/O 없이 메모리 스냅샷만 읽습니다.
+     *
+     * @param limit 최대 개수(K를 넘으면 K개)
+     * @return 순위순 스냅샷
+     */
+    public Snapshot top(int limit) {
+        Snapshot current = snapshot;
+        if (current.posts().size() <= limit) return current;
+        return new Snapshot(current.postIds().subList(0, limit), current.posts().subList(0, limit), current.refreshedAt());
+    }
+
+    /* ==================== 수집 ==================== */
+
+    /**
+     * 게시글 조회 1회를 로컬 버킷에 기록합니다.
+     *
+     * @param postId 게시글 PK
+     */
+    public void recordView(Long postId) {
+        pending.get().computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 삭제된 게시글을 순위에서 제거합니다.
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() != PostChangedEvent.Type.DELETED) return;
+        pending.get().remove(event.postId());
+        try {
+            stringRedisTemplate.opsForZSet().remove(KEY_SCORES, String.valueOf(event.postId()));
+        } catch (Exception e) {
+            log.warn("Trending score removal failed for post {}: {}", event.postId(), e.getMessage());
+        }
+        removeFromSnapshot(event.postId());
+    }
+
+    /**
+     * 다른 노드에서 삭제된 게시글을 이 노드의 스냅샷에서 바로 뺍니다(Redis 순위는 삭제한 노드가 이미 정리함).
+     * 제목/작성자 이름 변경은 다음 반영 주기의 스냅샷 갱신에서 반영됩니다.
+     *
+     * @param event 노드 간 무효화 알림
+     */
+    @EventListener
+    public void onRemoteChange(CacheInvalidationEvent event) {
+        if (event.entity() != CacheInvalidationEvent.Entity.POST || event.change() != CacheInvalidationEvent.Change.DELETED) return;
+        pending.get().remove(event.id());
+        removeFromSnapshot(event.id());
+    }
+
+    private void removeFromSnapshot(Long postId) {
+        Snapshot current = snapshot;
+        int index = current.postIds().indexOf(postId);
+        if (index < 0) return;
+        List<Long> ids = new ArrayList<>(current.postIds());
+        List<PostSummaryDTO> posts = new ArrayList<>(current.posts());
+        ids.remove(index);
+        posts.remove(index);
+        snapshot = new Snapshot(List.copyOf(ids), List.copyOf(posts), current.refreshedAt());
+    }
+
+    /* ==================== 반영/갱신 ==================== */
+
+    /**
+     * 로컬 버킷을 Redis에 반영하고 상위 K 스냅샷을 갱신합니다.
+     *
+     * <p>다른 노드의 조회도 반영되도록 로컬 조회가 없어도 매 주기 실행합니다.
+     * Redis 반영에 실패하면 버킷을 되돌려 다음 주기에 다시 시도하고, 기존 스냅샷을 유지합니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${app.posts.trending.flush-interval:PT5S}")
+    public void flush() {
+        ConcurrentHashMap<Long, LongAdder> batch = pending.getAndSet(new ConcurrentHashMap<>());
+        long now = clock.millis();
+        long halfLifeMillis = halfLife.toMillis();
+
+        List<String> args = new ArrayList<>(6 + batch.size() * 2);
+        args.add(String.valueOf(now));
+        args.add(String.valueOf(halfLifeMillis));
+        args.add(String.valueOf(halfLifeMillis * REBASE_HALF_LIVES));
+        args.add(String.valueOf(maxTracked));
+        args.add(String.valueOf(topK));
+        args.add(String.valueOf(MIN_SCORE));
+        batch.forEach((postId, count) -> {
+            args.add(String.valueOf(postId));
+            args.add(String.valueOf(count.sum()));
+        });
+
+        List<?> top;
+        try {
+            top = stringRedisTemplate.execute(FLUSH_SCRIPT, KEYS, args.toArray());
+        } catch (Exception e) {
+            batch.forEach((postId, count) -> pending.get().computeIfAbsent(postId, id -> new LongAdder()).add(count.sum()));
+            log.warn("Trending flush to Redis failed, keeping {} buffered posts: {}", batch.size(), e.getMessage());
+            return;
+        }
+        if (top == null || top.isEmpty()) return;
+
+        List<Long> ids = new ArrayList<>(top.size() / 2);
+        for (int i = 1; i + 1 < top.size(); i += 2) ids.add(Long.valueOf(String.valueOf(top.get(i))));
+
+        try {
+            snapshot = loadSnapshot(ids, Instant.ofEpochMilli(now));
+        } catch (Exception e) {
+            log.warn("Trending snapshot refresh failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 순위순 PK의 요약 정보를 <code>IN</code> 조회 1회로 채워 스냅샷을 만듭니다. 삭제된 게시글은 건너뜁니다.
+     */
+    private Snapshot loadSnapshot(List<Long> rankedIds, Instant refreshedAt) {
+        if (rankedIds.isEmpty()) return new Snapshot(List.of(), List.of(), refreshedAt);
+        Map<Long, PostRepository.ListRow> rows = postRepository.findProjectedByIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(PostRepository.ListRow::getId, Function.identity()));
+
+        List<Long> ids = new ArrayList<>(rankedIds.size());
+        List<PostSummaryDTO> posts = new ArrayList<>(rankedIds.size());
+        for (Long id : rankedIds) {
+            PostRepository.ListRow row = rows.get(id);
+            if (row == null) continue;
+            ids.add(id);
+            posts.add(PostMapper.toPostSummaryDTO(row));
+        }
+        return new Snapshot(List.copyOf(ids), List.copyOf(posts), refreshedAt);
+    }
+}
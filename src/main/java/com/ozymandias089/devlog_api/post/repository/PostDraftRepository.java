@@ -0,0 +1,123 @@
+package com.ozymandias089.devlog_api.post.repository;
+
+import com.ozymandias089.devlog_api.post.entity.PostDraftEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * {@link PostDraftEntity}(게시글 초안)에 대한 JPA 리포지토리입니다.
+ *
+ * @since 1.1
+ */
+@Repository
+public interface PostDraftRepository extends JpaRepository<PostDraftEntity, Long> {
+    /**
+     * 초안 행이 없을 때만 만듭니다(버전 0의 시작 행). 여러 노드가 동시에 만들어도 한 행만 남습니다.
+     *
+     * @param postId    게시글 PK
+     * @param title     제목
+     * @param content   {@link com.ozymandias089.devlog_api.post.entity.ContentCodec} 형식의 본문
+     * @param updatedAt 생성 시각
+     * @return 삽입된 행 수(이미 있으면 0)
+     */
+    @Modifying
+    @Query(value = """
+      insert ignore into post_draft (post_id, title, content_body, version, saved_version, updated_at)
+      values (:postId, :title, :content, 0, 0, :updatedAt)
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId,
+                       @Param("title") String title,
+                       @Param("content") byte[] content,
+                       @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * 초안 버전이 기준 버전과 같을 때만 1 올립니다. 패치마다 호출하는 노드 간 버전 검사입니다(본문은 쓰지 않음).
+     *
+     * @param postId      게시글 PK
+     * @param baseVersion 기준 버전
+     * @return 수정된 행 수(다른 노드가 먼저 올렸거나 행이 없으면 0)
+     */
+    @Modifying
+    @Query("update PostDraftEntity d set d.version = d.version + 1 where d.postId = :postId and d.version = :baseVersion")
+    int incrementVersion(@Param("postId") Long postId, @Param("baseVersion") long baseVersion);
+
+    /**
+     * 버퍼의 제목/본문을 저장합니다. 초안 버전이 아직 그 버전일 때만 반영합니다.
+     *
+     * <p>버전이 달라졌으면 다른 노드가 전체 교체했거나 초안을 버린 것이므로 이 본문은 더 이상 쓰이지 않습니다.</p>
+     *
+     * @param postId    게시글 PK
+     * @param title     제목
+     * @param content   본문
+     * @param version   본문의 초안 버전
+     * @param updatedAt 마지막 변경 시각
+     * @return 수정된 행 수
+     */
+    @Modifying
+    @Query("""
+      update PostDraftEntity d
+      set d.title = :title, d.content = :content, d.savedVersion = :version, d.updatedAt = :updatedAt
+      where d.postId = :postId and d.version = :version
+    """)
+    int saveContent(@Param("postId") Long postId,
+                    @Param("title") String title,
+                    @Param("content") String content,
+                    @Param("version") long version,
+                    @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * 초안 전체를 새 버전으로 덮어씁니다. {@link #lockVersion}으로 행을 잠근 트랜잭션에서 호출합니다.
+     *
+     * @param postId    게시글 PK
+     * @param title     제목
+     * @param content   본문
+     * @param version   새 초안 버전
+     * @param updatedAt 변경 시각
+     * @return 수정된 행 수
+     */
+    @Modifying
+    @Query("""
+      update PostDraftEntity d
+      set d.title = :title, d.content = :content, d.version = :version, d.savedVersion = :version, d.updatedAt = :updatedAt
+      where d.postId = :postId
+    """)
+    int overwrite(@Param("postId") Long postId,
+                  @Param("title") String title,
+                  @Param("content") String content,
+                  @Param("version") long version,
+                  @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * 초안 행을 잠그고 버전을 조회합니다(트랜잭션 끝까지 다른 노드의 버전 증가를 막음).
+     *
+     * @param postId 게시글 PK
+     * @return 초안 버전. 없으면 {@link Optional#empty()}
+     */
+    @Query(value = "select version from post_draft where post_id = :postId for update", nativeQuery = true)
+    Optional<Long> lockVersion(@Param("postId") Long postId);
+
+    /**
+     * 저장된 초안 버전만 조회합니다(본문 미포함).
+     *
+     * @param postId 게시글 PK
+     * @return 초안 버전. 없으면 {@link Optional#empty()}
+     */
+    @Query("select d.version from PostDraftEntity d where d.postId = :postId")
+    Optional<Long> findVersionByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시글의 초안을 삭제합니다.
+     *
+     * @param postId 게시글 PK
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from PostDraftEntity d where d.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
@@ -0,0 +1,57 @@
+package com.ozymandias089.devlog_api.post.repository;
+
+import com.ozymandias089.devlog_api.post.dto.request.PostField;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 요청된 필드({@link PostField})만 조회하는 동적 프로젝션 리포지토리 조각(fragment)입니다.
+ *
+ * <p>
+ * 결과 {@link Tuple}의 별칭은 {@link PostField#jsonName()}과 같으며, <code>id</code>와 <code>version</code>(상세 ETag)은 항상 포함됩니다.
+ * 작성자 필드가 없으면 작성자 조인을 하지 않고, 본문/HTML/목차 같은 LOB 컬럼은 요청된 경우에만 읽습니다.
+ * 본문은 압축 전 컬럼(<code>{@value #LEGACY_CONTENT}</code>)을, HTML/목차는 렌더러 버전(<code>{@value #RENDERER_VERSION}</code>)을 함께 읽습니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+public interface PostFieldsRepository {
+    /** 게시글 PK 별칭 */
+    String ID = "id";
+    /** 압축 전 본문 컬럼 별칭(CONTENT 요청 시) */
+    String LEGACY_CONTENT = "_legacyContent";
+    /** 렌더러 버전 별칭(HTML/TOC 요청 시) */
+    String RENDERER_VERSION = "_rendererVersion";
+
+    /**
+     * 페이지/정렬에 맞춰 요청된 필드만 조회합니다. 전체 개수 쿼리는 실행하지 않습니다.
+     *
+     * @param fields   조회할 필드
+     * @param pageable 페이지/정렬 정보
+     * @return 필드 튜플 목록
+     */
+    List<Tuple> findFieldTuples(Set<PostField> fields, Pageable pageable);
+
+    /**
+     * 여러 PK의 요청된 필드만 조회합니다. 결과 순서는 보장되지 않습니다.
+     *
+     * @param ids    게시글 PK 목록
+     * @param fields 조회할 필드
+     * @return 존재하는 게시글의 필드 튜플
+     */
+    List<Tuple> findFieldTuplesByIdIn(Collection<Long> ids, Set<PostField> fields);
+
+    /**
+     * 슬러그로 단일 게시글의 요청된 필드만 조회합니다.
+     *
+     * @param slug   전역 유일 슬러그
+     * @param fields 조회할 필드
+     * @return 필드 튜플. 없으면 {@link Optional#empty()}
+     */
+    Optional<Tuple> findFieldTupleBySlug(String slug, Set<PostField> fields);
+}
@@ -0,0 +1,106 @@
+package com.ozymandias089.devlog_api.post.repository;
+
+import com.ozymandias089.devlog_api.member.entity.MemberEntity;
+import com.ozymandias089.devlog_api.post.dto.request.PostField;
+import com.ozymandias089.devlog_api.post.entity.PostEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * {@link PostFieldsRepository}의 Criteria API 구현입니다.
+ */
+class PostFieldsRepositoryImpl implements PostFieldsRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Tuple> findFieldTuples(Set<PostField> fields, Pageable pageable) {
+        TypedQuery<Tuple> query = entityManager.createQuery(select(fields, (cb, root) -> null, pageable));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Tuple> findFieldTuplesByIdIn(Collection<Long> ids, Set<PostField> fields) {
+        if (ids.isEmpty()) return List.of();
+        return entityManager.createQuery(select(fields, (cb, root) -> root.get("id").in(ids), Pageable.unpaged()))
+                .getResultList();
+    }
+
+    @Override
+    public Optional<Tuple> findFieldTupleBySlug(String slug, Set<PostField> fields) {
+        return entityManager.createQuery(select(fields, (cb, root) -> cb.equal(root.get("slug"), slug), Pageable.unpaged()))
+                .getResultStream()
+                .findFirst();
+    }
+
+    /**
+     * 요청된 필드만 선택하는 쿼리를 만듭니다. 작성자 필드가 있을 때만 작성자를 조인합니다.
+     */
+    private CriteriaQuery<Tuple> select(Set<PostField> fields,
+                                        BiFunction<CriteriaBuilder, Root<PostEntity>, Predicate> where,
+                                        Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<PostEntity> post = query.from(PostEntity.class);
+        Join<PostEntity, MemberEntity> author = fields.stream().anyMatch(PostField::requiresAuthor) ? post.join("author") : null;
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(post.get("id").alias(ID));
+        selections.add(post.get("version").alias(PostField.VERSION.jsonName()));
+        boolean rendererVersion = false;
+        for (PostField field : fields) {
+            switch (field) {
+                case TITLE -> selections.add(post.get("title").alias(field.jsonName()));
+                case SLUG -> selections.add(post.get("slug").alias(field.jsonName()));
+                case AUTHOR_UUID -> selections.add(author.get("uuid").alias(field.jsonName()));
+                case AUTHOR_USERNAME -> selections.add(author.get("username").alias(field.jsonName()));
+                case VIEW_COUNT -> selections.add(post.get("viewCount").alias(field.jsonName()));
+                case CREATED_AT -> selections.add(post.get("createdAt").alias(field.jsonName()));
+                case EXCERPT -> selections.add(post.get("excerpt").alias(field.jsonName()));
+                case READING_MINUTES -> selections.add(post.get("readingMinutes").alias(field.jsonName()));
+                case CONTENT -> {
+                    selections.add(post.get("content").alias(field.jsonName()));
+                    selections.add(post.get("legacyContent").alias(LEGACY_CONTENT));
+                }
+                case HTML -> {
+                    selections.add(post.get("renderedHtml").alias(field.jsonName()));
+                    rendererVersion = true;
+                }
+                case TOC -> {
+                    selections.add(post.get("toc").alias(field.jsonName()));
+                    rendererVersion = true;
+                }
+                case VERSION -> { } // 항상 선택
+                case TAGS -> { } // post_tag에서 별도 조회
+            }
+        }
+        if (rendererVersion) selections.add(post.get("rendererVersion").alias(RENDERER_VERSION));
+        query.multiselect(selections);
+
+        Predicate predicate = where.apply(cb, post);
+        if (predicate != null) query.where(predicate);
+        if (pageable.getSort().isSorted()) query.orderBy(QueryUtils.toOrders(pageable.getSort(), post, cb));
+        return query;
+    }
+}
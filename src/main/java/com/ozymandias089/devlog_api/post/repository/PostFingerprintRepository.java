@@ -0,0 +1,92 @@
+package com.ozymandias089.devlog_api.post.repository;
+
+import com.ozymandias089.devlog_api.post.entity.PostFingerprintEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link PostFingerprintEntity}(게시글 SimHash 지문)에 대한 JPA 리포지토리입니다.
+ *
+ * @since 1.1
+ */
+@Repository
+public interface PostFingerprintRepository extends JpaRepository<PostFingerprintEntity, Long> {
+
+    /**
+     * 지문 프로젝션입니다(엔티티 미적재).
+     */
+    interface FingerprintRow {
+        Long getPostId();
+        Long getFingerprint();
+    }
+
+    /**
+     * 지문이 있는 행을 PK 오름차순으로 조회합니다(색인 구축용).
+     *
+     * @param afterId 이 게시글 PK보다 큰 행만 조회
+     * @param limit   최대 행 수
+     * @return 지문 목록
+     */
+    @Query("""
+      select f.postId as postId, f.fingerprint as fingerprint from PostFingerprintEntity f
+      where f.postId > :afterId and f.fingerprint is not null
+      order by f.postId
+    """)
+    List<FingerprintRow> findRows(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 게시글의 지문만 조회합니다.
+     *
+     * @param postId 게시글 PK
+     * @return 지문(행이 없거나 지문이 없으면 빈 값)
+     */
+    @Query("select f.fingerprint from PostFingerprintEntity f where f.postId = :postId and f.fingerprint is not null")
+    Optional<Long> findFingerprint(@Param("postId") Long postId);
+
+    /**
+     * 지문 행이 없는 게시글 PK를 오름차순으로 조회합니다(기능 도입 이전 게시글 백필용).
+     *
+     * @param afterId 이 PK보다 큰 행만 조회
+     * @param limit   최대 행 수
+     * @return 게시글 PK 목록
+     */
+    @Query("""
+      select p.id from PostEntity p
+      where p.id > :afterId
+        and not exists (select 1 from PostFingerprintEntity f where f.postId = p.id)
+      order by p.id
+    """)
+    List<Long> findPostIdsWithoutFingerprint(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 지문 행이 없을 때만 삽입합니다(백필용). 그 사이 쓰기 경로가 저장한 최신 지문을 덮어쓰지 않습니다.
+     *
+     * @param postId      게시글 PK
+     * @param fingerprint 지문(본문이 너무 짧으면 null)
+     * @param updatedAt   계산 시각
+     * @return 삽입된 행 수(이미 있으면 0)
+     */
+    @Modifying
+    @Query(value = """
+      insert ignore into post_fingerprint (post_id, fingerprint, updated_at) values (:postId, :fingerprint, :updatedAt)
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("fingerprint") Long fingerprint, @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * 게시글의 지문을 삭제합니다.
+     *
+     * @param postId 게시글 PK
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from PostFingerprintEntity f where f.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
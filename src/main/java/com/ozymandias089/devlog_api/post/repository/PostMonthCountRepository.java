@@ -0,0 +1,102 @@
+package com.ozymandias089.devlog_api.post.repository;
+
+import com.ozymandias089.devlog_api.post.entity.PostMonthCountEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * {@link PostMonthCountEntity}(월별 게시글 수)에 대한 JPA 리포지토리입니다.
+ *
+ * <p>
+ * 개수는 게시글 작성/삭제 트랜잭션 안에서 upsert로 증감하므로, 보관함은 <code>post</code>를 <code>GROUP BY</code>하지 않고
+ * 월 수만큼의 작은 행만 PK 역순으로 읽습니다. 증감이 어긋난 값은 주기적인 재집계({@link #recount})로 바로잡습니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Repository
+public interface PostMonthCountRepository extends JpaRepository<PostMonthCountEntity, Integer> {
+    /**
+     * 월-게시글 수 프로젝션입니다.
+     */
+    interface MonthCountRow {
+        /** <code>yyyyMM</code> */
+        Integer getMonth();
+        Long getPostCount();
+    }
+
+    /**
+     * 월의 게시글 수를 원자적으로 증감합니다(행이 없으면 생성).
+     *
+     * @param month <code>yyyyMM</code>
+     * @param delta 증감량
+     * @return 영향받은 행 수(MySQL 기준 삽입 1, 갱신 2)
+     */
+    @Modifying
+    @Query(value = """
+      insert into post_month_count (month, post_count) values (:month, greatest(:delta, 0))
+      on duplicate key update post_count = greatest(post_count + :delta, 0)
+    """, nativeQuery = true)
+    int addPostCount(@Param("month") int month, @Param("delta") long delta);
+
+    /**
+     * 한 달의 게시글 수를 <code>post</code>에서 다시 세어 덮어씁니다(없으면 생성).
+     *
+     * <p>한 문장의 <code>INSERT … SELECT</code>이므로 세는 동안 그 달에 커밋되는 작성/삭제와 섞이지 않습니다.</p>
+     *
+     * @param month <code>yyyyMM</code>
+     * @param from  월의 시작 시각(포함)
+     * @param to    다음 달의 시작 시각(제외)
+     * @return 영향받은 행 수
+     */
+    @Modifying
+    @Query(value = """
+      insert into post_month_count (month, post_count)
+      select * from (
+        select :month as month, count(*) as post_count
+        from post
+        where created_at >= :from and created_at < :to
+      ) agg
+      on duplicate key update post_count = agg.post_count
+    """, nativeQuery = true)
+    int recount(@Param("month") int month, @Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * 범위 밖 월의 행을 삭제합니다(게시글이 더 이상 없는 월, 이전 버전의 백필 표시 행).
+     *
+     * @param first 남길 첫 월(<code>yyyyMM</code>)
+     * @param last  남길 마지막 월(<code>yyyyMM</code>)
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from PostMonthCountEntity m where m.month < :first or m.month > :last")
+    int deleteOutside(@Param("first") int first, @Param("last") int last);
+
+    /**
+     * 게시글이 있는 월을 최신순으로 조회합니다.
+     *
+     * @return <code>month DESC</code> 순 목록
+     */
+    @Query("""
+      select m.month as month, m.postCount as postCount
+      from PostMonthCountEntity m
+      where m.postCount > 0
+      order by m.month desc
+    """)
+    List<MonthCountRow> findAllMonths();
+
+    /**
+     * 한 달의 게시글 수를 조회합니다.
+     *
+     * @param month <code>yyyyMM</code>
+     * @return 게시글 수(행이 없으면 null)
+     */
+    @Query("select m.postCount from PostMonthCountEntity m where m.month = :month")
+    Long findPostCount(@Param("month") int month);
+}
@@ -0,0 +1,66 @@
+package com.ozymandias089.devlog_api.post.repository;
+
+import com.ozymandias089.devlog_api.post.entity.PostRelatedEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link PostRelatedEntity}(미리 계산한 관련 게시글)에 대한 JPA 리포지토리입니다.
+ *
+ * @since 1.1
+ */
+@Repository
+public interface PostRelatedRepository extends JpaRepository<PostRelatedEntity, Long> {
+
+    /**
+     * 게시글의 관련 게시글 PK를 유사도 내림차순으로 조회합니다.
+     *
+     * @param postId 게시글 PK
+     * @return 관련 게시글 PK
+     */
+    @Query("select r.relatedPostId from PostRelatedEntity r where r.postId = :postId order by r.score desc, r.relatedPostId desc")
+    List<Long> findRelatedIds(@Param("postId") Long postId);
+
+    /**
+     * 게시글의 관련 게시글 목록을 조회합니다(증분 갱신 시 병합용).
+     *
+     * @param postIds 게시글 PK 목록
+     * @return 관련 게시글 행
+     */
+    List<PostRelatedEntity> findByPostIdIn(Collection<Long> postIds);
+
+    /**
+     * 주어진 게시글을 관련 게시글로 가진 게시글 PK를 조회합니다.
+     *
+     * @param relatedPostId 관련 게시글 PK
+     * @return 게시글 PK
+     */
+    @Query("select r.postId from PostRelatedEntity r where r.relatedPostId = :relatedPostId")
+    List<Long> findPostIdsByRelatedPostId(@Param("relatedPostId") Long relatedPostId);
+
+    /**
+     * 게시글들의 관련 게시글 목록을 삭제합니다(교체 전).
+     *
+     * @param postIds 게시글 PK 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from PostRelatedEntity r where r.postId in :postIds")
+    int deleteByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 삭제된 게시글과 관련된 행을 양방향 모두 삭제합니다.
+     *
+     * @param postId 삭제된 게시글 PK
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from PostRelatedEntity r where r.postId = :postId or r.relatedPostId = :postId")
+    int deleteAllOf(@Param("postId") Long postId);
+}
@@ -1,8 +1,10 @@
 package com.ozymandias089.devlog_api.post.repository;
 
 import com.ozymandias089.devlog_api.post.entity.PostEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -11,26 +13,34 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * {@link PostEntity}에 대한 JPA 리포지토리입니다.
  *
- * <p><strong>정책:</strong> 슬러그(slug)는 전역 유일을 가정합니다.
- * 스키마에서 <code>unique index (slug)</code> 구성을 권장합니다.</p>
+ * <p><strong>정책:</strong> 슬러그(slug)는 전역 유일이며,
+ * 스키마의 <code>unique index uk_post_slug (slug)</code>로 보장됩니다.</p>
  *
  * <h3>쿼리 설계</h3>
  * <ul>
  *   <li>목록 조회는 인터페이스 프로젝션({@link ListRow})을 사용해 필요한 필드만 읽어 성능을 최적화합니다.</li>
  *   <li>상세 조회는 작성자(author)를 즉시 로딩(fetch join)하여 N+1을 방지합니다.</li>
  *   <li>조회수 증가는 벌크 업데이트로 원자적으로 처리합니다(감사/감지 미발생).</li>
+ *   <li><code>fields=</code>로 필드를 고른 조회는 {@link PostFieldsRepository}의 동적 프로젝션을 사용합니다.</li>
  * </ul>
  *
  * @since 1.0
  */
 @Repository
-public interface PostRepository extends JpaRepository<PostEntity, Long> {
+public interface PostRepository extends JpaRepository<PostEntity, Long>, PostFieldsRepository {
+    /**
+     * 목록 화면의 기본 정렬(최신순)입니다. 동일 시각 충돌 시 PK 내림차순으로 안정화합니다.
+     */
+    Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+
     /* ==================== 기본 조회 ==================== */
 
     /**
@@ -39,6 +49,8 @@ public interface PostRepository extends JpaRepository<PostEntity, Long> {
      * <p>중첩 인터페이스 {@link AuthorView}를 통해 작성자 식별 정보만 노출합니다.</p>
      */
     interface ListRow {
+        /** 게시글 PK */
+        Long getId();
         /** 게시글 제목 */
         String getTitle();
         /** 전역 유일 슬러그 */
@@ -47,6 +59,12 @@ public interface PostRepository extends JpaRepository<PostEntity, Long> {
         Long getViewCount();
         /** 생성 시각 */
         Instant getCreatedAt();
+        /** 최종 수정 시각 */
+        Instant getUpdatedAt();
+        /** 평문 발췌(렌더링 전이면 null) */
+        String getExcerpt();
+        /** 예상 읽기 시간(분) */
+        Integer getReadingMinutes();
         /** 작성자 요약 뷰 */
         AuthorView getAuthor();
 
@@ -61,6 +79,37 @@ public interface PostRepository extends JpaRepository<PostEntity, Long> {
         }
     }
 
+    /**
+     * 검색 색인용 프로젝션입니다(제목/본문과 색인 버전).
+     */
+    interface SearchSource {
+        /** 게시글 PK */
+        Long getId();
+        /** 게시글 제목 */
+        String getTitle();
+        /** 게시글 본문(압축 컬럼) */
+        String getContent();
+        /** 압축 저장 이전 컬럼의 본문(백필 전 행만 값이 있음) */
+        String getLegacyContent();
+        /** 최종 수정 시각(색인 버전) */
+        Instant getUpdatedAt();
+
+        /** 실제 본문(압축 컬럼 우선) */
+        default String getBody() {
+            return getContent() != null ? getContent() : getLegacyContent();
+        }
+    }
+
+    /**
+     * 검색 색인 정합성 보정용 프로젝션입니다(본문 없이 버전만).
+     */
+    interface IndexVersion {
+        /** 게시글 PK */
+        Long getId();
+        /** 최종 수정 시각 */
+        Instant getUpdatedAt();
+    }
+
     /* ==================== 상세 조회 ==================== */
 
     /**
@@ -78,6 +127,35 @@ public interface PostRepository extends JpaRepository<PostEntity, Long> {
     """)
     Optional<PostEntity> findBySlugWithAuthor(@Param("slug") String slug);
 
+    /**
+     * 여러 슬러그의 게시글을 작성자와 함께 한 번에 조회합니다. 결과 순서는 보장되지 않습니다.
+     *
+     * @param slugs 전역 유일 슬러그 목록
+     * @return 존재하는 게시글 엔티티(작성자 포함)
+     * @implNote <code>slug IN (...)</code>은 <code>uk_post_slug</code> 인덱스로 처리되며, 작성자는 같은 쿼리에서 fetch join합니다.
+     */
+    @Query("""
+      select p
+      from PostEntity p
+      join fetch p.author
+      where p.slug in :slugs
+    """)
+    List<PostEntity> findAllBySlugInWithAuthor(@Param("slugs") Collection<String> slugs);
+
+    /**
+     * 여러 PK의 게시글을 작성자와 함께 한 번에 조회합니다(정적 사이트 생성용). 결과 순서는 보장되지 않습니다.
+     *
+     * @param ids 게시글 PK 목록
+     * @return 존재하는 게시글 엔티티(작성자 포함)
+     */
+    @Query("""
+      select p
+      from PostEntity p
+      join fetch p.author
+      where p.id in :ids
+    """)
+    List<PostEntity> findAllByIdInWithAuthor(@Param("ids") Collection<Long> ids);
+
     /* ==================== 조회수 증가 ==================== */
 
     /**
@@ -92,6 +170,16 @@ public interface PostRepository extends JpaRepository<PostEntity, Long> {
     @Query("update PostEntity p set p.viewCount = p.viewCount + 1 where p.slug = :slug")
     int incrementViewCountBySlug(@Param("slug") String slug);
 
+    /**
+     * 여러 슬러그의 조회수를 한 문장으로 1씩 증가시킵니다(원자적 증가).
+     *
+     * @param slugs 전역 유일 슬러그 목록(중복 없이)
+     * @return 수정된 행 수(존재하는 게시글 수)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update PostEntity p set p.viewCount = p.viewCount + 1 where p.slug in :slugs")
+    int incrementViewCountBySlugIn(@Param("slugs") Collection<String> slugs);
+
     /* ==================== 목록 조회 ==================== */
 
     /**
@@ -109,13 +197,593 @@ public interface PostRepository extends JpaRepository<PostEntity, Long> {
     @EntityGraph(attributePaths = "author")
     Page<ListRow> findAllProjectedBy(Pageable pageable);
 
-    /* ==================== 유틸 ==================== */
+    /**
+     * 최신 게시글 목록을 카운트 쿼리 없이 조회합니다(정적 사이트 첫 화면용).
+     *
+     * @param limit 최대 행 수
+     * @return <code>createdAt DESC, id DESC</code> 순 목록
+     */
+    @EntityGraph(attributePaths = "author")
+    List<ListRow> findProjectedByOrderByCreatedAtDescIdDesc(Limit limit);
+
+    /**
+     * PK 오름차순(작성 순) 키셋으로 목록을 조회합니다(정적 사이트 보관 페이지용). PK 범위 스캔이므로 깊은 페이지도 비용이 같습니다.
+     *
+     * @param afterId 이 PK보다 큰 게시글만 조회
+     * @param limit   최대 행 수
+     * @return PK 오름차순 목록
+     */
+    @EntityGraph(attributePaths = "author")
+    List<ListRow> findProjectedByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    /**
+     * PK로 단일 게시글의 목록용 프로젝션을 조회합니다.
+     *
+     * <p>본문(LOB)을 읽지 않으므로 캐시/피드 갱신처럼 요약 정보만 필요한 경로에서 사용합니다.</p>
+     *
+     * @param id 게시글 PK
+     * @return 프로젝션. 없으면 {@link Optional#empty()}
+     */
+    @EntityGraph(attributePaths = "author")
+    Optional<ListRow> findProjectedById(Long id);
+
+    /**
+     * 여러 PK의 목록용 프로젝션을 한 번에 조회합니다. 결과 순서는 보장되지 않습니다.
+     *
+     * <p>검색처럼 순위를 외부에서 정한 뒤 요약 정보만 채워 넣는 경로에서 사용합니다.</p>
+     *
+     * @param ids 게시글 PK 목록
+     * @return 존재하는 게시글의 프로젝션
+     */
+    @EntityGraph(attributePaths = "author")
+    List<ListRow> findProjectedByIdIn(Collection<Long> ids);
+
+    /**
+     * 주어진 PK 중 한 작성자의 게시글만 목록용 프로젝션으로 조회합니다(작성자 정보가 바뀐 캐시 항목 갱신용).
+     *
+     * @param authorId 작성자 PK
+     * @param ids      게시글 PK 목록
+     * @return 해당 작성자의 게시글 프로젝션. 결과 순서는 보장되지 않습니다.
+     */
+    @EntityGraph(attributePaths = "author")
+    List<ListRow> findProjectedByAuthorIdAndIdIn(Long authorId, Collection<Long> ids);
+
+    /**
+     * 목록 항목을 프록시/DTO 없이 요약 튜플로 조회합니다(목록 응답 스트리밍용).
+     *
+     * <p>
+     * 열 순서는 {@link com.ozymandias089.devlog_api.post.provider.PostSummaryJsonWriter}의 상수와 같습니다.
+     * 정렬/페이지는 {@link Pageable}을 그대로 사용하며, 전체 개수 쿼리는 실행하지 않습니다.
+     * </p>
+     *
+     * @param pageable 페이지/정렬 정보
+     * @return 요약 튜플 목록
+     */
+    @Query("""
+      select p.id, p.title, p.slug, a.uuid, a.username, p.viewCount, p.createdAt, p.excerpt, p.readingMinutes
+      from PostEntity p
+      join p.author a
+    """)
+    List<Object[]> findSummaryTuples(Pageable pageable);
+
+    /**
+     * 여러 PK의 요약 튜플을 한 번에 조회합니다. 결과 순서는 보장되지 않습니다.
+     *
+     * @param ids 게시글 PK 목록
+     * @return 존재하는 게시글의 요약 튜플
+     */
+    @Query("""
+      select p.id, p.title, p.slug, a.uuid, a.username, p.viewCount, p.createdAt, p.excerpt, p.readingMinutes
+      from PostEntity p
+      join p.author a
+      where p.id in :ids
+    """)
+    List<Object[]> findSummaryTuplesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /* ==================== 작성자별 목록(키셋) ==================== */
+
+    /**
+     * 작성자별 최신순 목록의 정렬 키 프로젝션입니다.
+     *
+     * <p>InnoDB 보조 인덱스에는 PK가 포함되므로 <code>idx_post_author_created_at</code>만으로 응답(커버링)됩니다.</p>
+     */
+    interface CreatedAtKey {
+        Long getId();
+        Instant getCreatedAt();
+    }
+
+    /**
+     * 작성자별 조회수순 목록의 정렬 키 프로젝션입니다(<code>idx_post_author_view_count</code> 커버링).
+     */
+    interface ViewCountKey {
+        Long getId();
+        Long getViewCount();
+    }
+
+    /**
+     * 작성자의 최신 게시글 키를 첫 페이지부터 조회합니다.
+     *
+     * @param authorId 작성자 PK
+     * @param limit    최대 행 수(다음 페이지 판단을 위해 보통 size + 1)
+     * @return <code>createdAt DESC, id DESC</code> 순 키 목록
+     */
+    @Query("""
+      select p.id as id, p.createdAt as createdAt
+      from PostEntity p
+      where p.author.id = :authorId
+      order by p.createdAt desc, p.id desc
+    """)
+    List<CreatedAtKey> findAuthorLatestKeys(@Param("authorId") Long authorId, Limit limit);
+
+    /**
+     * 커서 <code>(createdAt, id)</code> 이후의 작성자 게시글 키를 조회합니다.
+     *
+     * @param authorId  작성자 PK
+     * @param createdAt 이전 페이지 마지막 행의 생성 시각
+     * @param id        이전 페이지 마지막 행의 PK
+     * @param limit     최대 행 수
+     * @return <code>createdAt DESC, id DESC</code> 순 키 목록
+     */
+    @Query("""
+      select p.id as id, p.createdAt as createdAt
+      from PostEntity p
+      where p.author.id = :authorId
+        and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+      order by p.createdAt desc, p.id desc
+    """)
+    List<CreatedAtKey> findAuthorLatestKeysAfter(@Param("authorId") Long authorId,
+                                                 @Param("createdAt") Instant createdAt,
+                                                 @Param("id") Long id,
+                                                 Limit limit);
+
+    /**
+     * 작성자의 조회수 상위 게시글 키를 첫 페이지부터 조회합니다.
+     *
+     * @param authorId 작성자 PK
+     * @param limit    최대 행 수
+     * @return <code>viewCount DESC, id DESC</code> 순 키 목록
+     */
+    @Query("""
+      select p.id as id, p.viewCount as viewCount
+      from PostEntity p
+      where p.author.id = :authorId
+      order by p.viewCount desc, p.id desc
+    """)
+    List<ViewCountKey> findAuthorViewKeys(@Param("authorId") Long authorId, Limit limit);
 
     /**
-     * 주어진 슬러그가 존재하는지 여부를 반환합니다.
+     * 커서 <code>(viewCount, id)</code> 이후의 작성자 게시글 키를 조회합니다.
+     *
+     * @param authorId  작성자 PK
+     * @param viewCount 이전 페이지 마지막 행의 조회수
+     * @param id        이전 페이지 마지막 행의 PK
+     * @param limit     최대 행 수
+     * @return <code>viewCount DESC, id DESC</code> 순 키 목록
+     */
+    @Query("""
+      select p.id as id, p.viewCount as viewCount
+      from PostEntity p
+      where p.author.id = :authorId
+        and (p.viewCount < :viewCount or (p.viewCount = :viewCount and p.id < :id))
+      order by p.viewCount desc, p.id desc
+    """)
+    List<ViewCountKey> findAuthorViewKeysAfter(@Param("authorId") Long authorId,
+                                               @Param("viewCount") Long viewCount,
+                                               @Param("id") Long id,
+                                               Limit limit);
+
+    /* ==================== 작성자 조회 ==================== */
+
+    /**
+     * 슬러그-작성자 PK 프로젝션입니다.
+     */
+    interface SlugAuthor {
+        String getSlug();
+        Long getAuthorId();
+    }
+
+    /**
+     * 여러 슬러그의 작성자 PK를 조회합니다(조회수를 작성자 통계로 모을 때 사용). 없는 슬러그는 빠집니다.
+     *
+     * @param slugs 슬러그 목록
+     * @return 존재하는 게시글의 슬러그-작성자 PK
+     */
+    @Query("select p.slug as slug, p.author.id as authorId from PostEntity p where p.slug in :slugs")
+    List<SlugAuthor> findAuthorIdsBySlugIn(@Param("slugs") Collection<String> slugs);
+
+    /* ==================== 월별 보관 목록(키셋) ==================== */
+
+    /**
+     * 한 달(<code>[from, to)</code>)의 최신 게시글 키를 첫 페이지부터 조회합니다.
+     *
+     * <p><code>idx_post_created_at</code> 범위 스캔이며 PK가 인덱스에 포함되므로 커버링입니다.</p>
+     *
+     * @param from  월 시작 시각(포함)
+     * @param to    다음 달 시작 시각(제외)
+     * @param limit 최대 행 수(다음 페이지 판단을 위해 보통 size + 1)
+     * @return <code>createdAt DESC, id DESC</code> 순 키 목록
+     */
+    @Query("""
+      select p.id as id, p.createdAt as createdAt
+      from PostEntity p
+      where p.createdAt >= :from and p.createdAt < :to
+      order by p.createdAt desc, p.id desc
+    """)
+    List<CreatedAtKey> findMonthKeys(@Param("from") Instant from, @Param("to") Instant to, Limit limit);
+
+    /**
+     * 커서 <code>(createdAt, id)</code> 이후의 한 달 게시글 키를 조회합니다.
+     *
+     * @param from      월 시작 시각(포함)
+     * @param to        다음 달 시작 시각(제외)
+     * @param createdAt 이전 페이지 마지막 행의 생성 시각
+     * @param id        이전 페이지 마지막 행의 PK
+     * @param limit     최대 행 수
+     * @return <code>createdAt DESC, id DESC</code> 순 키 목록
+     */
+    @Query("""
+      select p.id as id, p.createdAt as createdAt
+      from PostEntity p
+      where p.createdAt >= :from and p.createdAt < :to
+        and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+      order by p.createdAt desc, p.id desc
+    """)
+    List<CreatedAtKey> findMonthKeysAfter(@Param("from") Instant from,
+                                          @Param("to") Instant to,
+                                          @Param("createdAt") Instant createdAt,
+                                          @Param("id") Long id,
+                                          Limit limit);
+
+    /**
+     * 가장 이른 게시글 작성 시각을 조회합니다(월별 게시글 수 재집계 범위, <code>idx_post_created_at</code> 사용).
+     *
+     * @return 최소 작성 시각(게시글이 없으면 null)
+     */
+    @Query("select min(p.createdAt) from PostEntity p")
+    Instant findMinCreatedAt();
+
+    /**
+     * 가장 늦은 게시글 작성 시각을 조회합니다(월별 게시글 수 재집계 범위, <code>idx_post_created_at</code> 사용).
+     *
+     * @return 최대 작성 시각(게시글이 없으면 null)
+     */
+    @Query("select max(p.createdAt) from PostEntity p")
+    Instant findMaxCreatedAt();
+
+    /* ==================== 수정/삭제(낙관적 잠금) ==================== */
+
+    /**
+     * 수정/삭제 전 권한·버전 확인용 프로젝션입니다(본문 미포함).
+     */
+    interface WriteTarget {
+        /** 게시글 PK */
+        Long getId();
+        /** 정본 슬러그 */
+        String getSlug();
+        /** 작성자 PK */
+        Long getAuthorId();
+        /** 작성자 UUID */
+        UUID getAuthorUuid();
+        /** 현재 버전 */
+        Long getVersion();
+        /** 현재 제목 */
+        String getTitle();
+        /** 생성 시각 */
+        Instant getCreatedAt();
+        /** 현재 조회수 */
+        Long getViewCount();
+    }
+
+    /**
+     * 슬러그로 수정/삭제 대상의 식별자/작성자/버전만 조회합니다. 본문 LOB은 읽지 않습니다.
      *
      * @param slug 전역 유일 슬러그
-     * @return 존재하면 true
+     * @return 대상 정보. 없으면 {@link Optional#empty()}
+     */
+    @Query("""
+      select p.id as id, p.slug as slug, a.id as authorId, a.uuid as authorUuid, p.version as version,
+             p.title as title, p.createdAt as createdAt, p.viewCount as viewCount
+      from PostEntity p
+      join p.author a
+      where p.slug = :slug
+    """)
+    Optional<WriteTarget> findWriteTargetBySlug(@Param("slug") String slug);
+
+    /**
+     * 작성자와 버전이 일치할 때만 제목을 수정하고 버전을 올립니다.
+     *
+     * <p>벌크 업데이트이므로 감사 필드가 자동 갱신되지 않아 <code>updatedAt</code>을 직접 설정합니다.</p>
+     *
+     * @param slug      전역 유일 슬러그
+     * @param authorId  작성자 PK
+     * @param version   기대 버전
+     * @param title     새 제목
+     * @param updatedAt 수정 시각
+     * @return 수정된 행 수(성공 시 1, 버전/작성자 불일치 시 0)
+     */
+    @Modifying
+    @Query("""
+      update PostEntity p
+      set p.title = :title, p.updatedAt = :updatedAt, p.version = p.version + 1
+      where p.slug = :slug and p.author.id = :authorId and p.version = :version
+    """)
+    int updateTitleIfVersion(@Param("slug") String slug,
+                             @Param("authorId") Long authorId,
+                             @Param("version") Long version,
+                             @Param("title") String title,
+                             @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * 작성자와 버전이 일치할 때만 버전과 수정 시각만 올립니다(태그만 바뀐 경우).
+     *
+     * @param slug      전역 유일 슬러그
+     * @param authorId  작성자 PK
+     * @param version   기대 버전
+     * @param updatedAt 수정 시각
+     * @return 수정된 행 수(성공 시 1, 버전/작성자 불일치 시 0)
+     */
+    @Modifying
+    @Query("""
+      update PostEntity p
+      set p.updatedAt = :updatedAt, p.version = p.version + 1
+      where p.slug = :slug and p.author.id = :authorId and p.version = :version
+    """)
+    int touchIfVersion(@Param("slug") String slug,
+                       @Param("authorId") Long authorId,
+                       @Param("version") Long version,
+                       @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * 작성자와 버전이 일치할 때만 본문(및 렌더링 결과, 선택적으로 제목)을 수정하고 버전을 올립니다.
+     *
+     * <p>제목이 null이면 기존 제목을 유지합니다. 압축 전 컬럼(<code>legacyContent</code>)은 비웁니다.</p>
+     *
+     * @param slug            전역 유일 슬러그
+     * @param authorId        작성자 PK
+     * @param version         기대 버전
+     * @param title           새 제목(null이면 유지)
+     * @param content         새 본문
+     * @param html            렌더링된 HTML
+     * @param toc             목차 JSON
+     * @param excerpt         평문 발췌
+     * @param wordCount       단어 수
+     * @param readingMinutes  예상 읽기 시간(분)
+     * @param rendererVersion 렌더러 버전
+     * @param updatedAt       수정 시각
+     * @return 수정된 행 수(성공 시 1, 버전/작성자 불일치 시 0)
+     */
+    @Modifying
+    @Query("""
+      update PostEntity p
+      set p.title = coalesce(:title, p.title), p.content = :content, p.legacyContent = null,
+          p.renderedHtml = :html, p.toc = :toc, p.excerpt = :excerpt, p.wordCount = :wordCount,
+          p.readingMinutes = :readingMinutes, p.rendererVersion = :rendererVersion,
+          p.updatedAt = :updatedAt, p.version = p.version + 1
+      where p.slug = :slug and p.author.id = :authorId and p.version = :version
+    """)
+    int updateContentIfVersion(@Param("slug") String slug,
+                               @Param("authorId") Long authorId,
+                               @Param("version") Long version,
+                               @Param("title") String title,
+                               @Param("content") String content,
+                               @Param("html") String html,
+                               @Param("toc") String toc,
+                               @Param("excerpt") String excerpt,
+                               @Param("wordCount") int wordCount,
+                               @Param("readingMinutes") int readingMinutes,
+                               @Param("rendererVersion") int rendererVersion,
+                               @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * 작성자와 버전이 일치할 때만 게시글을 삭제합니다.
+     *
+     * @param slug     전역 유일 슬러그
+     * @param authorId 작성자 PK
+     * @param version  기대 버전
+     * @return 삭제된 행 수(성공 시 1, 버전/작성자 불일치 시 0)
+     */
+    @Modifying
+    @Query("delete from PostEntity p where p.slug = :slug and p.author.id = :authorId and p.version = :version")
+    int deleteIfVersion(@Param("slug") String slug, @Param("authorId") Long authorId, @Param("version") Long version);
+
+    /* ==================== 검색 색인 ==================== */
+
+    /**
+     * 여러 PK의 제목/본문을 색인용 프로젝션으로 조회합니다.
+     * 백그라운드 재렌더링({@link com.ozymandias089.devlog_api.post.provider.PostRenderBackfillProvider})도 이 조회를 사용합니다.
+     *
+     * @param ids 게시글 PK 목록
+     * @return 존재하는 게시글의 색인 원본
+     */
+    @Query("""
+      select p.id as id, p.title as title, p.content as content, p.legacyContent as legacyContent, p.updatedAt as updatedAt
+      from PostEntity p
+      where p.id in :ids
+    """)
+    List<SearchSource> findSearchSourcesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 전체 게시글의 PK와 최종 수정 시각을 조회합니다(본문 미포함).
+     *
+     * @return 색인 버전 목록
+     */
+    @Query("select p.id as id, p.updatedAt as updatedAt from PostEntity p")
+    List<IndexVersion> findIndexVersions();
+
+    /**
+     * 주어진 PK 중 실제로 존재하는 PK만 반환합니다.
+     *
+     * @param ids 게시글 PK 목록
+     * @return 존재하는 PK
+     */
+    @Query("select p.id from PostEntity p where p.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /* ==================== 자동완성 ==================== */
+
+    /**
+     * 제목 자동완성 색인용 프로젝션입니다.
+     */
+    interface SuggestSource {
+        /** 게시글 PK */
+        Long getId();
+        /** 슬러그 */
+        String getSlug();
+        /** 제목 */
+        String getTitle();
+        /** 조회수(인기도) */
+        Long getViewCount();
+    }
+
+    /**
+     * 자동완성 색인 구축용으로 게시글을 PK 오름차순으로 조회합니다(본문 미포함).
+     *
+     * @param afterId 이 PK보다 큰 행만 조회
+     * @param limit   최대 행 수
+     * @return 색인 원본
+     */
+    @Query("""
+      select p.id as id, p.slug as slug, p.title as title, p.viewCount as viewCount
+      from PostEntity p
+      where p.id > :afterId
+      order by p.id
+    """)
+    List<SuggestSource> findSuggestSources(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 게시글 한 건의 자동완성 색인 원본을 조회합니다.
+     *
+     * @param id 게시글 PK
+     * @return 색인 원본. 없으면 {@link Optional#empty()}
+     */
+    @Query("select p.id as id, p.slug as slug, p.title as title, p.viewCount as viewCount from PostEntity p where p.id = :id")
+    Optional<SuggestSource> findSuggestSourceById(@Param("id") Long id);
+
+    /* ==================== 본문 저장 형식 ==================== */
+
+    /**
+     * 변환(압축 해제) 없이 저장된 본문 바이트를 읽기 위한 프로젝션입니다.
+     */
+    interface StoredContent {
+        /** {@link com.ozymandias089.devlog_api.post.entity.ContentCodec} 형식의 저장 바이트 */
+        byte[] getContentBody();
+        /** 백필 전 비압축 본문 */
+        String getLegacyContent();
+    }
+
+    /**
+     * 슬러그로 저장된 본문 바이트를 그대로 조회합니다(컨버터 미적용).
+     *
+     * <p>gzip으로 저장된 본문을 압축 해제/재압축 없이 클라이언트에 전달할 때 사용합니다.</p>
+     *
+     * @param slug 전역 유일 슬러그
+     * @return 저장 바이트. 게시글이 없으면 {@link Optional#empty()}
+     */
+    @Query(value = "select content_body as contentBody, content as legacyContent from post where slug = :slug", nativeQuery = true)
+    Optional<StoredContent> findStoredContentBySlug(@Param("slug") String slug);
+
+    /**
+     * 백필 대상(비압축 컬럼에 남은 본문) 프로젝션입니다.
+     */
+    interface LegacyContent {
+        Long getId();
+        String getLegacyContent();
+    }
+
+    /**
+     * 아직 비압축 컬럼에 본문이 남아 있는 게시글을 PK 오름차순으로 조회합니다(백필용).
+     *
+     * @param afterId 이 PK보다 큰 행만 조회
+     * @param limit   최대 행 수
+     * @return PK와 비압축 본문 목록
+     */
+    @Query("select p.id as id, p.legacyContent as legacyContent from PostEntity p where p.legacyContent is not null and p.id > :afterId order by p.id")
+    List<LegacyContent> findLegacyContents(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 비압축 본문을 압축 컬럼으로 옮기는 벌크 업데이트입니다.
+     *
+     * <p>
+     * 본문 내용은 바뀌지 않으므로 <code>version</code>/<code>updated_at</code>은 그대로 둡니다(클라이언트 ETag와
+     * <code>updatedAt</code> 기준 색인/캐시가 무효화되지 않음). 그 사이 수정되어 비압축 컬럼이 비었으면 건너뜁니다.
+     * </p>
+     *
+     * @param id   게시글 PK
+     * @param body {@link com.ozymandias089.devlog_api.post.entity.ContentCodec} 형식으로 인코딩한 본문
+     * @return 수정된 행 수(옮겼으면 1, 건너뛰면 0)
+     */
+    @Modifying
+    @Query(value = "update post set content_body = :body, content = null where id = :id and content is not null", nativeQuery = true)
+    int migrateLegacyContent(@Param("id") Long id, @Param("body") byte[] body);
+
+    /* ==================== 본문 렌더링 ==================== */
+
+    /**
+     * 렌더링 결과가 없거나 주어진 렌더러 버전보다 오래된 게시글 PK를 오름차순으로 조회합니다(재렌더링용).
+     *
+     * @param afterId 이 PK보다 큰 행만 조회
+     * @param version 현재 렌더러 버전
+     * @param limit   최대 행 수
+     * @return PK 목록
+     */
+    @Query("select p.id from PostEntity p where p.rendererVersion < :version and p.id > :afterId order by p.id")
+    List<Long> findStaleRenderIds(@Param("afterId") Long afterId, @Param("version") int version, Limit limit);
+
+    /**
+     * 렌더링 결과를 벌크 업데이트로 저장합니다.
+     *
+     * <p>
+     * 렌더링에 쓴 본문이 그 사이 수정되지 않았고(<code>updatedAt</code> 일치) 더 새로운 버전으로 렌더링되지 않았을 때만 반영합니다.
+     * 벌크 업데이트이므로 감사 필드(updatedAt)는 바뀌지 않습니다.
+     * </p>
+     *
+     * @param id        게시글 PK
+     * @param html      정제된 HTML
+     * @param toc       목차 JSON
+     * @param excerpt   평문 발췌
+     * @param wordCount 단어 수
+     * @param readingMinutes 예상 읽기 시간(분)
+     * @param version   렌더러 버전
+     * @param updatedAt 렌더링에 쓴 본문의 최종 수정 시각
+     * @return 수정된 행 수(반영 시 1, 건너뛰면 0)
+     */
+    @Modifying
+    @Query("""
+      update PostEntity p
+      set p.renderedHtml = :html, p.toc = :toc, p.excerpt = :excerpt, p.wordCount = :wordCount,
+          p.readingMinutes = :readingMinutes, p.rendererVersion = :version
+      where p.id = :id and p.updatedAt = :updatedAt and p.rendererVersion < :version
+    """)
+    int updateRendering(@Param("id") Long id,
+                        @Param("html") String html,
+                        @Param("toc") String toc,
+                        @Param("excerpt") String excerpt,
+                        @Param("wordCount") int wordCount,
+                        @Param("readingMinutes") int readingMinutes,
+                        @Param("version") int version,
+                        @Param("updatedAt") Instant updatedAt);
+
+    /* ==================== 유틸 ==================== */
+
+    /**
+     * 기본 슬러그 <code>base</code>와 그 번호 변형(<code>base-1</code>, <code>base-2</code>, ...) 중
+     * 가장 큰 접미 번호를 한 번의 쿼리로 조회합니다.
+     *
+     * <p>
+     * <code>slug = :base OR slug LIKE 'base-%'</code> 조건은 슬러그 유니크 인덱스의 범위 스캔으로 처리되며,
+     * 접미부가 숫자가 아닌 슬러그(예: <code>base-guide</code>)는 제외합니다. 기본 슬러그 자체는 0으로 취급합니다.
+     * </p>
+     *
+     * @param base 기본 슬러그(영문/숫자/한글/하이픈만 포함하므로 LIKE 와일드카드 이스케이프가 필요 없습니다)
+     * @return 가장 큰 접미 번호. 기본 슬러그와 변형이 모두 없으면 {@code null}
      */
-    boolean existsBySlug(String slug); // 전역 유일 정책이면 유지
+    @Query(value = """
+      select max(case when slug = :base then 0
+                      else cast(substring(slug, char_length(:base) + 2) as unsigned) end)
+      from post
+      where slug = :base
+         or (slug like concat(:base, '-%')
+             and substring(slug, char_length(:base) + 2) regexp '^[0-9]+$')
+    """, nativeQuery = true)
+    Long findMaxSlugSuffix(@Param("base") String base);
 }
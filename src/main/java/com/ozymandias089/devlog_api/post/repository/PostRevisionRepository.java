@@ -0,0 +1,177 @@
+package com.ozymandias089.devlog_api.post.repository;
+
+import com.ozymandias089.devlog_api.post.entity.PostRevisionEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * {@link PostRevisionEntity}(게시글 리비전)에 대한 JPA 리포지토리입니다.
+ *
+ * <p>모든 게시글 단위 조회는 <code>uk_post_revision_post_revision (postId, revision)</code> 범위 스캔으로 처리됩니다.</p>
+ *
+ * @since 1.1
+ */
+@Repository
+public interface PostRevisionRepository extends JpaRepository<PostRevisionEntity, Long> {
+    /**
+     * 리비전 목록 프로젝션입니다(본문/델타 미포함).
+     */
+    interface RevisionRow {
+        Long getRevision();
+        String getTitle();
+        PostRevisionEntity.Kind getKind();
+        Instant getCreatedAt();
+    }
+
+    /**
+     * 게시글 이력의 최신 리비전과 최신 스냅샷 리비전입니다.
+     */
+    interface HistoryHead {
+        /** 최신 리비전(이력이 없으면 null) */
+        Long getLatest();
+        /** 최신 스냅샷 리비전(없으면 null) */
+        Long getLatestSnapshot();
+    }
+
+    /**
+     * 최신 리비전과 최신 스냅샷 리비전을 한 번에 조회합니다.
+     *
+     * @param postId 게시글 PK
+     * @return 이력 헤드(이력이 없으면 두 값 모두 null)
+     */
+    @Query("""
+      select max(r.revision) as latest,
+             max(case when r.kind = com.ozymandias089.devlog_api.post.entity.PostRevisionEntity.Kind.SNAPSHOT
+                      then r.revision end) as latestSnapshot
+      from PostRevisionEntity r
+      where r.postId = :postId
+    """)
+    HistoryHead findHistoryHead(@Param("postId") Long postId);
+
+    /**
+     * 주어진 리비전 이하의 가장 최근 스냅샷 리비전을 조회합니다.
+     *
+     * @param postId   게시글 PK
+     * @param revision 복원할 리비전
+     * @return 스냅샷 리비전. 없으면 null
+     */
+    @Query("""
+      select max(r.revision)
+      from PostRevisionEntity r
+      where r.postId = :postId and r.revision <= :revision
+        and r.kind = com.ozymandias089.devlog_api.post.entity.PostRevisionEntity.Kind.SNAPSHOT
+    """)
+    Long findSnapshotRevisionAtOrBefore(@Param("postId") Long postId, @Param("revision") long revision);
+
+    /**
+     * 리비전 구간을 오름차순으로 조회합니다(스냅샷부터 대상 리비전까지의 복원 체인).
+     *
+     * @param postId 게시글 PK
+     * @param from   시작 리비전(포함)
+     * @param to     끝 리비전(포함)
+     * @return 리비전 목록
+     */
+    @Query("""
+      select r
+      from PostRevisionEntity r
+      where r.postId = :postId and r.revision between :from and :to
+      order by r.revision
+    """)
+    List<PostRevisionEntity> findChain(@Param("postId") Long postId, @Param("from") long from, @Param("to") long to);
+
+    /**
+     * 최신 리비전부터 목록을 조회합니다.
+     *
+     * @param postId 게시글 PK
+     * @param limit  최대 행 수(다음 페이지 판단을 위해 보통 size + 1)
+     * @return <code>revision DESC</code> 순 목록
+     */
+    @Query("""
+      select r.revision as revision, r.title as title, r.kind as kind, r.createdAt as createdAt
+      from PostRevisionEntity r
+      where r.postId = :postId
+      order by r.revision desc
+    """)
+    List<RevisionRow> findRows(@Param("postId") Long postId, Limit limit);
+
+    /**
+     * 주어진 리비전보다 오래된 리비전 목록을 조회합니다.
+     *
+     * @param postId 게시글 PK
+     * @param before 이전 페이지 마지막 리비전
+     * @param limit  최대 행 수
+     * @return <code>revision DESC</code> 순 목록
+     */
+    @Query("""
+      select r.revision as revision, r.title as title, r.kind as kind, r.createdAt as createdAt
+      from PostRevisionEntity r
+      where r.postId = :postId and r.revision < :before
+      order by r.revision desc
+    """)
+    List<RevisionRow> findRowsBefore(@Param("postId") Long postId, @Param("before") long before, Limit limit);
+
+    /* ==================== 정리(compaction) ==================== */
+
+    /**
+     * 보관 기간이 지난 리비전이 있는 게시글 PK를 오름차순으로 조회합니다.
+     *
+     * @param cutoff  이 시각 이전의 리비전이 정리 대상
+     * @param afterId 이 PK보다 큰 게시글만 조회
+     * @param limit   최대 행 수
+     * @return 게시글 PK 목록
+     */
+    @Query("""
+      select distinct r.postId
+      from PostRevisionEntity r
+      where r.createdAt < :cutoff and r.postId > :afterId
+      order by r.postId
+    """)
+    List<Long> findPostIdsWithRevisionsBefore(@Param("cutoff") Instant cutoff, @Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 주어진 시각 이후 첫 리비전을 조회합니다.
+     *
+     * @param postId 게시글 PK
+     * @param cutoff 기준 시각
+     * @return 리비전 번호. 없으면 null
+     */
+    @Query("select min(r.revision) from PostRevisionEntity r where r.postId = :postId and r.createdAt >= :cutoff")
+    Long findFirstRevisionSince(@Param("postId") Long postId, @Param("cutoff") Instant cutoff);
+
+    /**
+     * 게시글의 리비전 하나를 조회합니다.
+     *
+     * @param postId   게시글 PK
+     * @param revision 리비전 번호
+     * @return 리비전 엔티티. 없으면 null
+     */
+    PostRevisionEntity findByPostIdAndRevision(Long postId, Long revision);
+
+    /**
+     * 주어진 리비전보다 오래된 리비전을 삭제합니다.
+     *
+     * @param postId   게시글 PK
+     * @param revision 남길 가장 오래된 리비전
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from PostRevisionEntity r where r.postId = :postId and r.revision < :revision")
+    int deleteOlderThan(@Param("postId") Long postId, @Param("revision") long revision);
+
+    /**
+     * 게시글의 이력을 모두 삭제합니다.
+     *
+     * @param postId 게시글 PK
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from PostRevisionEntity r where r.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
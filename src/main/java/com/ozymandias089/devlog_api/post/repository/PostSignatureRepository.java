@@ -0,0 +1,88 @@
+package com.ozymandias089.devlog_api.post.repository;
+
+import com.ozymandias089.devlog_api.post.entity.PostSignatureEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link PostSignatureEntity}(게시글 MinHash 서명)에 대한 JPA 리포지토리입니다.
+ *
+ * @since 1.1
+ */
+@Repository
+public interface PostSignatureRepository extends JpaRepository<PostSignatureEntity, Long> {
+
+    /**
+     * 서명 프로젝션입니다(엔티티 미적재).
+     */
+    interface SignatureRow {
+        Long getPostId();
+        byte[] getSignature();
+    }
+
+    /**
+     * 서명을 PK 오름차순으로 조회합니다(색인 구축/전체 재계산용).
+     *
+     * @param afterId 이 게시글 PK보다 큰 행만 조회
+     * @param limit   최대 행 수
+     * @return 서명 목록
+     */
+    @Query("select s.postId as postId, s.signature as signature from PostSignatureEntity s where s.postId > :afterId order by s.postId")
+    List<SignatureRow> findRows(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 주어진 게시글들의 서명을 조회합니다.
+     *
+     * @param postIds 게시글 PK 목록
+     * @return 서명이 있는 게시글의 서명
+     */
+    @Query("select s.postId as postId, s.signature as signature from PostSignatureEntity s where s.postId in :postIds")
+    List<SignatureRow> findRowsByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 서명이 없는 게시글 PK를 오름차순으로 조회합니다(기능 도입 이전 게시글 백필용).
+     *
+     * @param afterId 이 PK보다 큰 행만 조회
+     * @param limit   최대 행 수
+     * @return 게시글 PK 목록
+     */
+    @Query("""
+      select p.id from PostEntity p
+      where p.id > :afterId
+        and not exists (select 1 from PostSignatureEntity s where s.postId = p.id)
+      order by p.id
+    """)
+    List<Long> findPostIdsWithoutSignature(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 서명 행이 없을 때만 삽입합니다(백필용). 그 사이 쓰기 경로가 저장한 최신 서명을 덮어쓰지 않습니다.
+     *
+     * @param postId    게시글 PK
+     * @param signature 서명
+     * @param updatedAt 계산 시각
+     * @return 삽입된 행 수(이미 있으면 0)
+     */
+    @Modifying
+    @Query(value = """
+      insert ignore into post_signature (post_id, signature, updated_at) values (:postId, :signature, :updatedAt)
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("signature") byte[] signature, @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * 게시글의 서명을 삭제합니다.
+     *
+     * @param postId 게시글 PK
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from PostSignatureEntity s where s.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
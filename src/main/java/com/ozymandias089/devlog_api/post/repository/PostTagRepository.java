@@ -0,0 +1,99 @@
+package com.ozymandias089.devlog_api.post.repository;
+
+import com.ozymandias089.devlog_api.post.entity.PostTagEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link PostTagEntity}(게시글-태그 역색인)에 대한 JPA 리포지토리입니다.
+ *
+ * <p>
+ * 태그별 목록은 <code>idx_post_tag_tag_created_at (tag, createdAt, postId)</code> 인덱스만 읽는 키셋 쿼리로 PK를 구하고,
+ * 요약 정보는 {@link PostRepository}의 <code>IN</code> 조회로 채웁니다(작성자별 목록과 같은 지연 조인).
+ * </p>
+ *
+ * @since 1.1
+ */
+@Repository
+public interface PostTagRepository extends JpaRepository<PostTagEntity, Long> {
+    /**
+     * 게시글-태그 쌍 프로젝션입니다.
+     */
+    interface PostTagRow {
+        Long getPostId();
+        String getTag();
+    }
+
+    /**
+     * 게시글의 태그를 이름순으로 조회합니다(<code>uk_post_tag_post_tag</code> 범위 스캔).
+     *
+     * @param postId 게시글 PK
+     * @return 정규화된 태그 목록
+     */
+    @Query("select t.tag from PostTagEntity t where t.postId = :postId order by t.tag")
+    List<String> findTagsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 여러 게시글의 태그를 한 번에 조회합니다.
+     *
+     * @param postIds 게시글 PK 목록
+     * @return 게시글-태그 쌍(게시글, 태그 이름순)
+     */
+    @Query("select t.postId as postId, t.tag as tag from PostTagEntity t where t.postId in :postIds order by t.postId, t.tag")
+    List<PostTagRow> findTagsByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 태그의 최신 게시글 키를 첫 페이지부터 조회합니다.
+     *
+     * @param tag   정규화된 태그
+     * @param limit 최대 행 수(다음 페이지 판단을 위해 보통 size + 1)
+     * @return <code>createdAt DESC, postId DESC</code> 순 키 목록
+     */
+    @Query("""
+      select t.postId as id, t.createdAt as createdAt
+      from PostTagEntity t
+      where t.tag = :tag
+      order by t.createdAt desc, t.postId desc
+    """)
+    List<PostRepository.CreatedAtKey> findLatestKeys(@Param("tag") String tag, Limit limit);
+
+    /**
+     * 커서 <code>(createdAt, postId)</code> 이후의 태그 게시글 키를 조회합니다.
+     *
+     * @param tag       정규화된 태그
+     * @param createdAt 이전 페이지 마지막 행의 생성 시각
+     * @param id        이전 페이지 마지막 행의 게시글 PK
+     * @param limit     최대 행 수
+     * @return <code>createdAt DESC, postId DESC</code> 순 키 목록
+     */
+    @Query("""
+      select t.postId as id, t.createdAt as createdAt
+      from PostTagEntity t
+      where t.tag = :tag
+        and (t.createdAt < :createdAt or (t.createdAt = :createdAt and t.postId < :id))
+      order by t.createdAt desc, t.postId desc
+    """)
+    List<PostRepository.CreatedAtKey> findLatestKeysAfter(@Param("tag") String tag,
+                                                          @Param("createdAt") Instant createdAt,
+                                                          @Param("id") Long id,
+                                                          Limit limit);
+
+    /**
+     * 게시글에서 주어진 태그 연결을 삭제합니다.
+     *
+     * @param postId 게시글 PK
+     * @param tags   삭제할 태그
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from PostTagEntity t where t.postId = :postId and t.tag in :tags")
+    int deleteByPostIdAndTagIn(@Param("postId") Long postId, @Param("tags") Collection<String> tags);
+}
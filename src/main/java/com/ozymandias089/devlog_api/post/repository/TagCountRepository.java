@@ -0,0 +1,79 @@
+package com.ozymandias089.devlog_api.post.repository;
+
+import com.ozymandias089.devlog_api.post.entity.TagCountEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * {@link TagCountEntity}(태그별 게시글 수)에 대한 JPA 리포지토리입니다.
+ *
+ * <p>
+ * 개수는 태그 연결이 바뀌는 트랜잭션 안에서 upsert로 증감하므로, 태그 클라우드는 <code>post_tag</code>를
+ * <code>GROUP BY</code>하지 않고 <code>idx_tag_count_post_count</code> 인덱스 역순 스캔으로 상위 N개만 읽습니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Repository
+public interface TagCountRepository extends JpaRepository<TagCountEntity, String> {
+    /**
+     * 태그-게시글 수 프로젝션입니다.
+     */
+    interface TagCountRow {
+        String getTag();
+        Long getPostCount();
+    }
+
+    /**
+     * 태그의 게시글 수를 원자적으로 증감합니다(행이 없으면 생성).
+     *
+     * <p>동시에 같은 태그를 증감해도 행 잠금으로 직렬화되어 누락이 없습니다.</p>
+     *
+     * @param tag   정규화된 태그
+     * @param delta 증감량
+     * @return 영향받은 행 수(MySQL 기준 삽입 1, 갱신 2)
+     */
+    @Modifying
+    @Query(value = """
+      insert into tag_count (tag, post_count) values (:tag, greatest(:delta, 0))
+      on duplicate key update post_count = greatest(post_count + :delta, 0)
+    """, nativeQuery = true)
+    int addPostCount(@Param("tag") String tag, @Param("delta") long delta);
+
+    /**
+     * 게시글 수 상위 태그를 조회합니다.
+     *
+     * @param limit 최대 개수
+     * @return <code>postCount DESC, tag ASC</code> 순 목록(게시글이 없는 태그 제외)
+     */
+    @Query("""
+      select t.tag as tag, t.postCount as postCount
+      from TagCountEntity t
+      where t.postCount > 0
+      order by t.postCount desc, t.tag
+    """)
+    List<TagCountRow> findTop(Limit limit);
+
+    /**
+     * 접두사로 시작하는 태그를 게시글 수 순으로 조회합니다(에디터 자동완성).
+     *
+     * <p>PK(<code>tag</code>) 범위 스캔으로 후보를 찾습니다. 정규화된 태그에는 LIKE 와일드카드가 없어 이스케이프가 필요 없습니다.</p>
+     *
+     * @param prefix 정규화된 접두사
+     * @param limit  최대 개수
+     * @return <code>postCount DESC, tag ASC</code> 순 목록(게시글이 없는 태그 제외)
+     */
+    @Query("""
+      select t.tag as tag, t.postCount as postCount
+      from TagCountEntity t
+      where t.tag like concat(:prefix, '%') and t.postCount > 0
+      order by t.postCount desc, t.tag
+    """)
+    List<TagCountRow> findByPrefix(@Param("prefix") String prefix, Limit limit);
+}
@@ -0,0 +1,354 @@
+package com.ozymandias089.devlog_api.post.search;
+
+import com.ozymandias089.devlog_api.global.outbox.CacheInvalidationEvent;
+import com.ozymandias089.devlog_api.global.outbox.CacheResyncEvent;
+import com.ozymandias089.devlog_api.member.event.MemberChangedEvent;
+import com.ozymandias089.devlog_api.member.repository.MemberRepository;
+import com.ozymandias089.devlog_api.post.event.PostChangedEvent;
+import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
+/**
+ * 게시글 제목/사용자 이름 자동완성 색인입니다.
+ *
+ * <p>
+ * 색인마다 불변 기본 색인({@link PrefixIndex})과, 그 이후 바뀐 문서만 담은 작은 오버레이를 하나의 불변 상태로 묶어
+ * <code>volatile</code> 참조로 교체합니다. 조회는 락 없이 현재 상태를 읽어 기본 색인의 상위 N개(오버레이에 있는 문서 제외)와
+ * 오버레이의 일치 문서를 합칩니다. 입력마다 DB에 <code>LIKE 'q%'</code>를 보내지 않습니다.
+ * </p>
+ *
+ * <h3>갱신</h3>
+ * <ul>
+ *   <li>기동 시 DB에서 전체를 읽어 기본 색인을 만듭니다. 그 전까지는 빈 결과를 반환합니다.</li>
+ *   <li>게시글/회원 변경은 커밋 이후(다른 노드의 변경은 무효화 알림으로) 해당 행을 다시 읽어 오버레이에 반영합니다.</li>
+ *   <li>오버레이가 {@code maxOverlay}를 넘거나 {@code refreshInterval}이 지나면 백그라운드에서 기본 색인을 다시 만듭니다.
+ *       인기도(조회수, 사용자 이름은 작성자 통계의 조회수 합)는 이때 갱신됩니다. 재구축 중에 들어온 변경은 새 오버레이로 옮겨 유실되지 않습니다.</li>
+ *   <li>재동기화 요청은 재구축 대상으로 표시만 하고, 실제 재구축은 같은 백그라운드 점검에서 수행합니다.</li>
+ * </ul>
+ *
+ * <p>색인 크기와 추정 메모리 사용량은 <code>/actuator/metrics/autocomplete.index.*</code>로 보고합니다.</p>
+ *
+ * @since 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutocompleteIndex {
+    private static final int LOAD_BATCH = 1000;
+    static final String METRIC_DOCS = "autocomplete.index.docs";
+    static final String METRIC_MEMORY = "autocomplete.index.memory";
+
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    /** 오버레이가 이 크기를 넘으면 기본 색인을 다시 만듭니다. */
+    @Value("${app.autocomplete.max-overlay:1000}")
+    private int maxOverlay;
+
+    /** 인기도 갱신을 위한 재구축 주기 */
+    @Value("${app.autocomplete.refresh-interval:PT15M}")
+    private Duration refreshInterval;
+
+    private final Dictionary titles = new Dictionary("titles", PrefixIndex.KeyMode.WORDS);
+    private final Dictionary usernames = new Dictionary("usernames", PrefixIndex.KeyMode.WHOLE);
+
+    /**
+     * 제안 한 건.
+     *
+     * @param ref  자연 키(게시글 슬러그, 회원 UUID)
+     * @param text 표시 텍스트(제목, 사용자 이름)
+     */
+    public record Suggestion(String ref, String text) {}
+
+    @PostConstruct
+    void registerMetrics() {
+        for (Dictionary dictionary : List.of(titles, usernames)) {
+            Gauge.builder(METRIC_DOCS, dictionary, Dictionary::size)
+                    .description("Documents in the autocomplete index (base and overlay)")
+                    .tag("index", dictionary.name)
+                    .register(meterRegistry);
+            Gauge.builder(METRIC_MEMORY, dictionary, Dictionary::memoryBytes)
+                    .description("Estimated heap used by the autocomplete index")
+                    .baseUnit("bytes")
+                    .tag("index", dictionary.name)
+                    .register(meterRegistry);
+        }
+    }
+
+    /* ==================== 조회 ==================== */
+
+    /**
+     * 제목이나 제목 속 단어가 접두사로 시작하는 게시글을 조회수 순으로 제안합니다.
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit  최대 개수
+     * @return 제안(<code>ref</code>는 슬러그)
+     */
+    public List<Suggestion> suggestTitles(String prefix, int limit) {
+        return titles.suggest(prefix, limit);
+    }
+
+    /**
+     * 접두사로 시작하는 사용자 이름을 작성 게시글의 조회수 합 순으로 제안합니다.
+     *
+     * @param prefix 입력 중인 사용자 이름
+     * @param limit  최대 개수
+     * @return 제안(<code>ref</code>는 회원 UUID)
+     */
+    public List<Suggestion> suggestUsernames(String prefix, int limit) {
+        return usernames.suggest(prefix, limit);
+    }
+
+    /* ==================== 증분 갱신 ==================== */
+
+    /**
+     * 커밋된 게시글 변경을 제목 색인에 반영합니다.
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onPostChanged(PostChangedEvent event) {
+        applyPost(event.postId(), event.type() == PostChangedEvent.Type.DELETED);
+    }
+
+    /**
+     * 커밋된 회원 변경(가입/이름 변경/탈퇴)을 사용자 이름 색인에 반영합니다.
+     *
+     * @param event 회원 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        applyMember(event.memberId());
+    }
+
+    /**
+     * 다른 노드에서 커밋된 변경을 반영합니다.
+     *
+     * @param event 노드 간 무효화 알림
+     */
+    @EventListener
+    public void onRemoteChange(CacheInvalidationEvent event) {
+        if (event.entity() == CacheInvalidationEvent.Entity.POST) {
+            applyPost(event.id(), event.change() == CacheInvalidationEvent.Change.DELETED);
+        } else if (event.entity() == CacheInvalidationEvent.Entity.MEMBER) {
+            applyMember(event.id());
+        }
+    }
+
+    /**
+     * 무효화 알림을 놓쳤을 수 있으면 두 색인을 재구축 대상으로 표시합니다.
+     * 알림 수신 스레드를 막지 않도록 재구축은 다음 {@link #rebuildIfDue()}에서 수행합니다.
+     *
+     * @param event 재동기화 요청
+     */
+    @EventListener
+    public void onResync(CacheResyncEvent event) {
+        titles.requestRebuild();
+        usernames.requestRebuild();
+    }
+
+    private void applyPost(Long postId, boolean deleted) {
+        try {
+            Optional<PrefixIndex.Doc> doc = deleted ? Optional.empty()
+                    : postRepository.findSuggestSourceById(postId).map(AutocompleteIndex::toDoc);
+            titles.update(postId, doc.orElse(null));
+        } catch (Exception e) {
+            log.warn("Autocomplete update failed for post {}: {}", postId, e.getMessage());
+        }
+    }
+
+    private void applyMember(Long memberId) {
+        try {
+            usernames.update(memberId, memberRepository.findSuggestSourceById(memberId).map(AutocompleteIndex::toDoc).orElse(null));
+        } catch (Exception e) {
+            log.warn("Autocomplete update failed for member {}: {}", memberId, e.getMessage());
+        }
+    }
+
+    /* ==================== 재구축 ==================== */
+
+    /**
+     * 기동 시 두 색인을 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild(titles, this::loadTitles);
+        rebuild(usernames, this::loadUsernames);
+    }
+
+    /**
+     * 오버레이가 커졌거나, 인기도 갱신 주기가 지났거나, 재동기화가 요청된 색인을 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${app.autocomplete.check-interval:PT10S}", initialDelayString = "${app.autocomplete.check-interval:PT10S}")
+    public void rebuildIfDue() {
+        Instant staleBefore = Instant.now(clock).minus(refreshInterval);
+        if (titles.isDue(maxOverlay, staleBefore)) rebuild(titles, this::loadTitles);
+        if (usernames.isDue(maxOverlay, staleBefore)) rebuild(usernames, this::loadUsernames);
+    }
+
+    /**
+     * 기본 색인을 다시 만듭니다. 재구축끼리는 직렬화하여 먼저 시작한 재구축이 나중 결과를 덮어쓰지 않게 합니다.
+     */
+    private synchronized void rebuild(Dictionary dictionary, LongFunction<List<PrefixIndex.Doc>> loader) {
+        try {
+            dictionary.clearRebuildRequest();
+            long startedSeq = dictionary.currentSeq();
+            List<PrefixIndex.Doc> docs = new ArrayList<>();
+            for (long afterId = 0; ; ) {
+                List<PrefixIndex.Doc> batch = loader.apply(afterId);
+                if (batch.isEmpty()) break;
+                docs.addAll(batch);
+                afterId = batch.get(batch.size() - 1).id();
+            }
+            long started = System.nanoTime();
+            PrefixIndex base = PrefixIndex.build(docs, dictionary.mode);
+            dictionary.replaceBase(base, startedSeq, Instant.now(clock));
+            log.info("Autocomplete index '{}' rebuilt: {} docs, ~{} KiB in {} ms", dictionary.name, base.size(),
+                    base.memoryBytes() / 1024, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (Exception e) {
+            log.warn("Autocomplete index '{}' rebuild failed: {}", dictionary.name, e.getMessage());
+        }
+    }
+
+    private List<PrefixIndex.Doc> loadTitles(long afterId) {
+        return postRepository.findSuggestSources(afterId, Limit.of(LOAD_BATCH)).stream().map(AutocompleteIndex::toDoc).toList();
+    }
+
+    private List<PrefixIndex.Doc> loadUsernames(long afterId) {
+        return memberRepository.findSuggestSources(afterId, Limit.of(LOAD_BATCH)).stream().map(AutocompleteIndex::toDoc).toList();
+    }
+
+    private static PrefixIndex.Doc toDoc(PostRepository.SuggestSource source) {
+        return new PrefixIndex.Doc(source.getId(), source.getSlug(), source.getTitle(),
+                source.getViewCount() == null ? 0 : source.getViewCount());
+    }
+
+    private static PrefixIndex.Doc toDoc(MemberRepository.SuggestSource source) {
+        return new PrefixIndex.Doc(source.getId(), source.getUuid().toString(), source.getUsername(),
+                source.getPopularity() == null ? 0 : source.getPopularity());
+    }
+
+    /* ==================== 색인 상태 ==================== */
+
+    /**
+     * 기본 색인 이후의 변경 한 건. <code>doc</code>이 null이면 삭제입니다.
+     */
+    private record Change(long seq, PrefixIndex.Doc doc) {}
+
+    /**
+     * 한 시점의 불변 상태.
+     *
+     * @param base    기본 색인
+     * @param overlay 기본 색인 이후 바뀐 문서(PK → 변경)
+     * @param builtAt 기본 색인을 만든 시각
+     */
+    private record State(PrefixIndex base, Map<Long, Change> overlay, Instant builtAt) {}
+
+    /**
+     * 자동완성 색인 하나. 쓰기는 상태를 복사해 교체(copy-on-write)하고, 읽기는 락 없이 현재 상태를 사용합니다.
+     */
+    private static final class Dictionary {
+        private final String name;
+        private final PrefixIndex.KeyMode mode;
+        private volatile State state;
+        /** 재동기화 요청으로 다음 점검 때 다시 만들어야 하는지 */
+        private volatile boolean rebuildRequested;
+        private long seq;
+
+        Dictionary(String name, PrefixIndex.KeyMode mode) {
+            this.name = name;
+            this.mode = mode;
+            this.state = new State(PrefixIndex.build(List.of(), mode), Map.of(), Instant.EPOCH);
+        }
+
+        List<Suggestion> suggest(String prefix, int limit) {
+            String normalized = PrefixIndex.normalize(prefix);
+            if (normalized.isEmpty() || limit <= 0) return List.of();
+            State current = state;
+
+            List<PrefixIndex.Doc> candidates = new ArrayList<>(current.base().top(normalized, limit, current.overlay()::containsKey));
+            int fromBase = candidates.size();
+            for (Change change : current.overlay().values()) {
+                if (change.doc() != null && PrefixIndex.matches(change.doc(), normalized, mode)) candidates.add(change.doc());
+            }
+            if (candidates.size() > fromBase) candidates.sort(Comparator.comparingLong(PrefixIndex.Doc::weight).reversed());
+            return candidates.stream().limit(limit).map(doc -> new Suggestion(doc.ref(), doc.text())).toList();
+        }
+
+        synchronized void update(Long id, PrefixIndex.Doc doc) {
+            Map<Long, Change> overlay = new HashMap<>(state.overlay());
+            overlay.put(id, new Change(++seq, doc));
+            state = new State(state.base(), overlay, state.builtAt());
+        }
+
+        synchronized long currentSeq() {
+            return seq;
+        }
+
+        /**
+         * 기본 색인을 교체합니다. 재구축을 시작한 뒤(<code>startedSeq</code> 이후) 들어온 변경만 오버레이에 남깁니다.
+         */
+        synchronized void replaceBase(PrefixIndex base, long startedSeq, Instant builtAt) {
+            Map<Long, Change> overlay = new HashMap<>();
+            for (Map.Entry<Long, Change> entry : state.overlay().entrySet()) {
+                if (entry.getValue().seq() > startedSeq) overlay.put(entry.getKey(), entry.getValue());
+            }
+            state = new State(base, overlay, builtAt);
+        }
+
+        void requestRebuild() {
+            rebuildRequested = true;
+        }
+
+        /**
+         * 재구축을 시작하면서 요청을 지웁니다. 재구축 도중 들어온 요청은 다음 점검에서 다시 처리됩니다.
+         */
+        void clearRebuildRequest() {
+            rebuildRequested = false;
+        }
+
+        boolean isDue(int maxOverlay, Instant staleBefore) {
+            State current = state;
+            return rebuildRequested || current.overlay().size() > maxOverlay || current.builtAt().isBefore(staleBefore);
+        }
+
+        double size() {
+            State current = state;
+            return current.base().size() + current.overlay().size();
+        }
+
+        double memoryBytes() {
+            State current = state;
+            return current.base().memoryBytes() + current.overlay().size() * 256.0;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.ozymandias089.devlog_api.post.search;
+
+import com.ozymandias089.devlog_api.global.outbox.CacheInvalidationEvent;
+import com.ozymandias089.devlog_api.global.outbox.CacheResyncEvent;
+import com.ozymandias089.devlog_api.post.event.PostChangedEvent;
+import com.ozymandias089.devlog_api.post.repository.PostFingerprintRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게시글 SimHash 지문의 인메모리 해밍 거리 색인입니다. 새 글과 거의 같은 기존 게시글을 찾는 데 씁니다.
+ *
+ * <p>
+ * 지문을 8비트 블록 {@value #BLOCKS}개로 나누면, 해밍 거리가 {@value #MAX_DISTANCE} 이하인 두 지문은 비둘기집 원리에 따라
+ * 적어도 {@value #KEY_BLOCKS}개 블록이 정확히 같습니다. 그래서 블록 {@value #KEY_BLOCKS}개의 조합마다 표를 하나씩 두고
+ * ({@value #TABLES}개) 두 블록을 이은 16비트 키(65,536개 버킷)로 계수 정렬해 두면, 조회는 표마다 버킷 시작 위치를 배열에서
+ * 바로 찾아(이분 탐색 없음) 그 버킷의 지문만 비교합니다.
+ * </p>
+ *
+ * <p>
+ * 비교 횟수는 n건에서 평균 {@value #TABLES}·n/65,536(100만 건에 약 430회)입니다. 상수 시간은 아니지만 n에 대한 계수가 작아
+ * 100만 건에서도 비교 한 번(XOR + popcount)을 수백 번 하는 수준입니다. 표에는 지문 대신 공유 배열의 위치(int)만 두므로
+ * 게시글당 지문/PK 16바이트 + {@value #TABLES} × 4바이트를 씁니다(100만 건에 약 128MB).
+ * </p>
+ *
+ * <p>
+ * 구조는 {@link RelatedPostIndex}와 같이 불변 기본 색인 + 작은 오버레이를 <code>volatile</code> 참조로 교체하는 방식이며,
+ * 오버레이가 {@code maxOverlay}를 넘으면 기본 색인을 다시 만듭니다. 게시글 변경은 커밋 이후(다른 노드의 변경은 무효화 알림으로)
+ * 지문을 다시 읽어 반영합니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DuplicatePostIndex {
+    /** 지문을 나누는 블록 수 */
+    public static final int BLOCKS = 8;
+    /** 표 키로 쓰는 블록 수 */
+    public static final int KEY_BLOCKS = 2;
+    /** 표 수(블록 {@value #KEY_BLOCKS}개 조합 수, C(8, 2)) */
+    public static final int TABLES = 28;
+    /** 누락 없이 찾을 수 있는 최대 해밍 거리 */
+    public static final int MAX_DISTANCE = BLOCKS - KEY_BLOCKS;
+
+    private static final int BLOCK_BITS = Long.SIZE / BLOCKS;
+    private static final int BUCKETS = 1 << (BLOCK_BITS * KEY_BLOCKS);
+    private static final int LOAD_BATCH = 1000;
+
+    /** 표별 키 블록 쌍 */
+    private static final int[][] KEY_PAIRS = new int[TABLES][];
+
+    static {
+        int t = 0;
+        for (int i = 0; i < BLOCKS; i++) {
+            for (int j = i + 1; j < BLOCKS; j++) KEY_PAIRS[t++] = new int[]{i, j};
+        }
+    }
+
+    private final PostFingerprintRepository postFingerprintRepository;
+
+    /** 오버레이가 이 크기를 넘으면 기본 색인을 다시 만듭니다. */
+    @Value("${app.posts.duplicate.max-overlay:1000}")
+    private int maxOverlay;
+
+    private volatile State state = new State(Base.EMPTY, Map.of());
+    private long seq;
+    /** 현재 기본 색인을 만들기 시작한 시점의 순번 */
+    private long baseSeq = -1;
+
+    /**
+     * 블록 쌍 하나의 표. 버킷 <code>b</code>의 항목은 <code>slots[start[b] .. start[b + 1])</code>이며,
+     * 각 항목은 {@link Base}의 지문/PK 배열 위치입니다.
+     */
+    private record Table(int[] start, int[] slots) {}
+
+    /**
+     * 불변 기본 색인.
+     *
+     * @param fingerprints 지문
+     * @param postIds      게시글 PK(같은 위치)
+     * @param tables       블록 쌍별 표
+     */
+    private record Base(long[] fingerprints, long[] postIds, Table[] tables) {
+        static final Base EMPTY;
+
+        static {
+            Table[] tables = new Table[TABLES];
+            Arrays.fill(tables, new Table(new int[BUCKETS + 1], new int[0]));
+            EMPTY = new Base(new long[0], new long[0], tables);
+        }
+    }
+
+    /**
+     * 한 시점의 불변 상태.
+     *
+     * @param base    기본 색인
+     * @param overlay 기본 색인 이후 바뀐 게시글(PK → 변경). 변경의 지문이 null이면 제거
+     */
+    private record State(Base base, Map<Long, Change> overlay) {}
+
+    private record Change(long seq, Long fingerprint) {}
+
+    /**
+     * 거의 같은 게시글 한 건.
+     *
+     * @param postId   게시글 PK
+     * @param distance 지문의 해밍 거리
+     */
+    public record Match(long postId, int distance) {}
+
+    /* ==================== 조회 ==================== */
+
+    /**
+     * 해밍 거리가 <code>maxDistance</code> 이하인 게시글 중 가장 가까운 것(같으면 먼저 작성된 것)을 찾습니다.
+     *
+     * @param fingerprint 지문
+     * @param maxDistance 최대 해밍 거리(0~{@value #MAX_DISTANCE})
+     * @return 가장 가까운 게시글. 없으면 {@link Optional#empty()}
+     * @throws IllegalArgumentException 거리가 범위를 벗어난 경우
+     */
+    public Optional<Match> findNearest(long fingerprint, int maxDistance) {
+        if (maxDistance < 0 || maxDistance > MAX_DISTANCE) {
+            throw new IllegalArgumentException("maxDistance must be between 0 and " + MAX_DISTANCE);
+        }
+        State current = state;
+        Base base = current.base();
+        long bestId = -1;
+        int bestDistance = maxDistance + 1;
+        for (int t = 0; t < TABLES; t++) {
+            Table table = base.tables()[t];
+            int bucket = key(fingerprint, t);
+            for (int i = table.start()[bucket], end = table.start()[bucket + 1]; i < end; i++) {
+                int slot = table.slots()[i];
+                int distance = SimHash.distance(base.fingerprints()[slot], fingerprint);
+                if (distance > bestDistance) continue;
+                long id = base.postIds()[slot];
+                if ((distance < bestDistance || id < bestId) && !current.overlay().containsKey(id)) {
+                    bestId = id;
+                    bestDistance = distance;
+                }
+            }
+        }
+        for (Map.Entry<Long, Change> entry : current.overlay().entrySet()) {
+            Long other = entry.getValue().fingerprint();
+            if (other == null) continue;
+            int distance = SimHash.distance(other, fingerprint);
+            if (distance < bestDistance || (distance == bestDistance && entry.getKey() < bestId)) {
+                bestId = entry.getKey();
+                bestDistance = distance;
+            }
+        }
+        return bestId < 0 ? Optional.empty() : Optional.of(new Match(bestId, bestDistance));
+    }
+
+    /* ==================== 갱신 ==================== */
+
+    /**
+     * 커밋된 게시글 변경을 반영합니다.
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onPostChanged(PostChangedEvent event) {
+        apply(event.postId(), event.type() == PostChangedEvent.Type.DELETED);
+    }
+
+    /**
+     * 다른 노드에서 커밋된 게시글 변경을 반영합니다.
+     *
+     * @param event 노드 간 무효화 알림
+     */
+    @EventListener
+    public void onRemoteChange(CacheInvalidationEvent event) {
+        if (event.entity() != CacheInvalidationEvent.Entity.POST) return;
+        apply(event.id(), event.change() == CacheInvalidationEvent.Change.DELETED);
+    }
+
+    /**
+     * 무효화 알림을 놓쳤을 수 있으면 전체를 다시 만듭니다.
+     *
+     * @param event 재동기화 요청
+     */
+    @EventListener
+    public void onResync(CacheResyncEvent event) {
+        rebuild();
+    }
+
+    private void apply(Long postId, boolean deleted) {
+        try {
+            update(postId, deleted ? null : postFingerprintRepository.findFingerprint(postId).orElse(null));
+        } catch (Exception e) {
+            log.warn("Duplicate index update failed for post {}: {}", postId, e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글 하나의 지문을 교체합니다.
+     *
+     * @param postId      게시글 PK
+     * @param fingerprint 지문(없으면 null → 제거)
+     */
+    public synchronized void update(long postId, Long fingerprint) {
+        Map<Long, Change> overlay = new HashMap<>(state.overlay());
+        overlay.put(postId, new Change(++seq, fingerprint));
+        state = new State(state.base(), overlay);
+    }
+
+    /**
+     * 오버레이가 커졌으면 기본 색인을 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${app.posts.duplicate.check-interval:PT30S}", initialDelayString = "${app.posts.duplicate.check-interval:PT30S}")
+    public void rebuildIfDue() {
+        if (state.overlay().size() > maxOverlay) rebuild();
+    }
+
+    /**
+     * DB의 지문 전체로 기본 색인을 다시 만듭니다.
+     */
+    public void rebuild() {
+        try {
+            long startedSeq = currentSeq();
+            long[] ids = new long[LOAD_BATCH];
+            long[] fingerprints = new long[LOAD_BATCH];
+            int count = 0;
+            for (long afterId = 0; ; ) {
+                List<PostFingerprintRepository.FingerprintRow> rows = postFingerprintRepository.findRows(afterId, Limit.of(LOAD_BATCH));
+                if (rows.isEmpty()) break;
+                if (count + rows.size() > ids.length) {
+                    ids = Arrays.copyOf(ids, Math.max(ids.length * 2, count + rows.size()));
+                    fingerprints = Arrays.copyOf(fingerprints, ids.length);
+                }
+                for (PostFingerprintRepository.FingerprintRow row : rows) {
+                    ids[count] = row.getPostId();
+                    fingerprints[count++] = row.getFingerprint();
+                }
+                afterId = rows.get(rows.size() - 1).getPostId();
+            }
+            replaceBase(Arrays.copyOf(ids, count), Arrays.copyOf(fingerprints, count), startedSeq);
+        } catch (Exception e) {
+            log.warn("Duplicate index rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 읽어 둔 지문으로 기본 색인을 교체합니다.
+     *
+     * @param postIds      게시글 PK
+     * @param fingerprints 게시글별 지문(같은 순서)
+     * @param startedSeq   지문을 읽기 시작하기 전의 {@link #currentSeq()}. 그 이후의 변경은 오버레이에 남기며,
+     *                     이보다 나중에 시작한 재구축이 이미 반영되었으면 아무것도 하지 않습니다.
+     */
+    private void replaceBase(long[] postIds, long[] fingerprints, long startedSeq) {
+        Table[] tables = new Table[TABLES];
+        for (int t = 0; t < TABLES; t++) {
+            int[] start = new int[BUCKETS + 1];
+            for (long fingerprint : fingerprints) start[key(fingerprint, t) + 1]++;
+            for (int b = 0; b < BUCKETS; b++) start[b + 1] += start[b];
+            int[] next = Arrays.copyOf(start, BUCKETS);
+            int[] slots = new int[fingerprints.length];
+            for (int i = 0; i < fingerprints.length; i++) slots[next[key(fingerprints[i], t)]++] = i;
+            tables[t] = new Table(start, slots);
+        }
+        Base base = new Base(fingerprints, postIds, tables);
+
+        synchronized (this) {
+            if (startedSeq < baseSeq) return; // 더 나중에 시작한 재구축이 이미 반영됨
+            baseSeq = startedSeq;
+            Map<Long, Change> overlay = new HashMap<>();
+            for (Map.Entry<Long, Change> entry : state.overlay().entrySet()) {
+                if (entry.getValue().seq() > startedSeq) overlay.put(entry.getKey(), entry.getValue());
+            }
+            state = new State(base, overlay);
+        }
+        log.info("Duplicate index rebuilt: {} posts x {} tables", postIds.length, TABLES);
+    }
+
+    /**
+     * 지금까지 반영한 변경의 순번입니다. 재구축 시작 시점을 기록하는 데 씁니다.
+     */
+    private synchronized long currentSeq() {
+        return seq;
+    }
+
+    /* ==================== 내부 구현 ==================== */
+
+    /**
+     * 표의 키: 두 키 블록을 이은 16비트 값입니다.
+     */
+    private static int key(long fingerprint, int table) {
+        int[] pair = KEY_PAIRS[table];
+        return (block(fingerprint, pair[0]) << BLOCK_BITS) | block(fingerprint, pair[1]);
+    }
+
+    private static int block(long fingerprint, int block) {
+        return (int) (fingerprint >>> (block * BLOCK_BITS)) & ((1 << BLOCK_BITS) - 1);
+    }
+}
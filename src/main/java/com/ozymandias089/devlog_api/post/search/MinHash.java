@@ -0,0 +1,135 @@
+package com.ozymandias089.devlog_api.post.search;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 본문 MinHash 서명과 LSH 밴드 해시를 계산합니다.
+ *
+ * <p>
+ * 본문을 {@link SearchTokenizer}로 토큰화한 뒤 두 글자 이상인 토큰의 <em>집합</em>을 shingle로 씁니다(단어 1-shingle).
+ * 연속 단어 n-shingle은 거의 같은 글(중복)을 찾는 데 맞고, 주제가 비슷한 글은 어휘를 공유하므로 1-shingle의
+ * 자카드 유사도가 관련도에 더 가깝습니다. 서로 다른 시드의 64비트 해시 {@value #SIZE}개에 대해 각 최솟값을 취하며,
+ * 두 서명에서 같은 위치의 값이 일치하는 비율이 자카드 유사도의 추정치입니다.
+ * </p>
+ *
+ * <h3>LSH</h3>
+ * <p>
+ * 서명 앞부분을 {@value #ROWS}개씩 {@value #BANDS}개 밴드로 나누어 밴드마다 해시합니다. 한 밴드라도 해시가 같으면 후보이며,
+ * 자카드 유사도가 s일 때 후보가 될 확률은 <code>1 - (1 - s^{@value #ROWS})^{@value #BANDS}</code>입니다
+ * (s=0.2 → 약 16%, s=0.3 → 약 44%, s=0.5 → 약 94%, s=0.7 → 약 100%).
+ * </p>
+ *
+ * <p>상태가 없는 정적 유틸리티이며 스레드 세이프합니다.</p>
+ *
+ * @since 1.1
+ */
+public final class MinHash {
+    /** 서명 길이(해시 함수 수) */
+    public static final int SIZE = 64;
+    /** LSH 밴드 수 */
+    public static final int BANDS = 21;
+    /** 밴드당 행 수 */
+    public static final int ROWS = 3;
+
+    private static final long[] SEEDS = new long[SIZE];
+
+    static {
+        long x = 0x6D696E68617368L; // 고정 시드: 서명은 DB에 저장되므로 실행마다 같아야 한다.
+        for (int i = 0; i < SIZE; i++) {
+            x += 0x9E3779B97F4A7C15L;
+            SEEDS[i] = mix(x);
+        }
+    }
+
+    private MinHash() {}
+
+    /**
+     * 본문의 서명을 계산합니다.
+     *
+     * @param content 본문(마크다운)
+     * @return 길이 {@value #SIZE}의 서명. shingle이 없으면(빈 본문 등) null
+     */
+    public static int[] signature(String content) {
+        Set<String> shingles = new HashSet<>();
+        for (String token : SearchTokenizer.tokenize(content)) {
+            if (token.length() >= 2) shingles.add(token);
+        }
+        if (shingles.isEmpty()) return null;
+
+        int[] signature = new int[SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String shingle : shingles) {
+            long base = hash64(shingle);
+            for (int i = 0; i < SIZE; i++) {
+                int h = (int) (mix(base ^ SEEDS[i]) >>> 33); // 31비트(음이 아닌 값)
+                if (h < signature[i]) signature[i] = h;
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 두 서명으로 자카드 유사도를 추정합니다.
+     *
+     * @return 0~1
+     */
+    public static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (a[i] == b[i]) same++;
+        }
+        return (double) same / SIZE;
+    }
+
+    /**
+     * 밴드별 해시를 계산합니다.
+     *
+     * @param signature 서명
+     * @return 길이 {@value #BANDS}의 밴드 해시
+     */
+    public static int[] bandHashes(int[] signature) {
+        int[] bands = new int[BANDS];
+        for (int b = 0; b < BANDS; b++) {
+            long h = b;
+            for (int r = 0; r < ROWS; r++) h = h * 0x100000001B3L + signature[b * ROWS + r];
+            bands[b] = (int) (mix(h) >>> 32);
+        }
+        return bands;
+    }
+
+    /** 서명을 저장 형식(빅엔디언 int 배열)으로 변환합니다. */
+    public static byte[] encode(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE * Integer.BYTES);
+        for (int value : signature) buffer.putInt(value);
+        return buffer.array();
+    }
+
+    /** 저장 형식을 서명으로 변환합니다. */
+    public static int[] decode(byte[] bytes) {
+        if (bytes == null || bytes.length != SIZE * Integer.BYTES) throw new IllegalArgumentException("Invalid MinHash signature");
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int[] signature = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) signature[i] = buffer.getInt();
+        return signature;
+    }
+
+    /** 문자열의 64비트 FNV-1a 해시 */
+    private static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    /** SplitMix64 finalizer */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,631 @@
+package com.ozymandias089.devlog_api.post.search;
+
+import com.ozymandias089.devlog_api.global.outbox.CacheInvalidationEvent;
+import com.ozymandias089.devlog_api.global.outbox.CacheResyncEvent;
+import com.ozymandias089.devlog_api.post.event.PostChangedEvent;
+import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/본문에 대한 인프로세스(in-process) 역색인입니다.
+ *
+ * <p>
+ * {@link SearchTokenizer}로 만든 term마다 압축 포스팅 리스트({@link PostingList})를 유지하고,
+ * BM25(k1={@value #K1}, b={@value #B})로 순위를 매깁니다. 제목의 term은 본문보다
+ * {@value #TITLE_BOOST}배의 빈도로 색인하여 제목 일치가 우선하도록 합니다.
+ * </p>
+ *
+ * <h3>갱신</h3>
+ * <ul>
+ *   <li>게시글 생성/수정/삭제는 커밋 이후 {@link PostChangedEvent}로 증분 반영합니다.</li>
+ *   <li>문서마다 <code>updatedAt</code>을 버전으로 보관하여 늦게 도착한 오래된 갱신을 무시합니다.</li>
+ *   <li>기동 시와 주기적으로 DB의 <code>(id, updatedAt)</code> 목록과 대조해 누락/변경/삭제분을 보정합니다.</li>
+ * </ul>
+ *
+ * <h3>영속화</h3>
+ * <p>
+ * 변경이 있으면 주기적으로(그리고 종료 시) 로컬 디스크에 스냅샷을 기록합니다. 임시 파일에 쓴 뒤 원자적으로
+ * 교체하므로 기록 도중 중단되어도 이전 스냅샷이 유지됩니다. 스냅샷이 없거나 손상된 경우 DB에서 전체를 다시 색인합니다.
+ * </p>
+ *
+ * <h3>문서 번호</h3>
+ * <p>
+ * 포스팅 리스트에는 PK 대신 색인 내부 문서 번호(ordinal)를 저장합니다. 번호는 색인 순서대로 증가하므로 새 게시글은 여전히
+ * 리스트 끝에 추가되고, 검색 시 점수를 번호로 인덱싱하는 기본형 배열에 누적할 수 있습니다. 삭제된 번호는 재사용하지 않으며,
+ * 스냅샷을 읽을 때 빈 번호를 당겨 다시 매깁니다.
+ * </p>
+ *
+ * <h3>동시성</h3>
+ * <p>검색은 읽기 락, 색인 변경과 스냅샷 로드는 쓰기 락으로 보호합니다. 토큰화는 락 밖에서 수행합니다.</p>
+ *
+ * @since 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+    static final int TITLE_BOOST = 3;
+    static final int MAX_QUERY_TERMS = 32;
+
+    private static final int SNAPSHOT_MAGIC = 0x50534958; // "PSIX"
+    private static final int SNAPSHOT_VERSION = 2;
+    private static final String SNAPSHOT_FILE = "posts.idx";
+    private static final int RECONCILE_BATCH = 200;
+
+    /** 재사용할 점수 누적 버퍼 최대 개수(검색은 CPU 바운드이므로 코어 수면 충분) */
+    private static final int ACCUMULATOR_POOL = Runtime.getRuntime().availableProcessors();
+
+    private final PostRepository postRepository;
+
+    /** 스냅샷 디렉터리 */
+    @Value("${app.search.index-dir:./data/search}")
+    private String indexDir;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, PostingList> postings = new HashMap<>();
+    private Map<Long, IndexedDoc> docs = new HashMap<>();
+    /** 문서 번호 → PK(삭제된 번호는 0) */
+    private long[] ordinalPostIds = new long[16];
+    /** 문서 번호 → BM25 문서 길이 */
+    private int[] ordinalLengths = new int[16];
+    private int nextOrdinal;
+    private long totalLength;
+    private volatile boolean dirty;
+
+    private final BlockingQueue<Accumulator> accumulators = new ArrayBlockingQueue<>(ACCUMULATOR_POOL);
+
+    /**
+     * 색인된 문서의 메타데이터. 삭제/재색인 시 포스팅에서 제거할 term 목록을 함께 보관합니다.
+     *
+     * @param ordinal 색인 내부 문서 번호(포스팅 리스트에 저장되는 값)
+     * @param length  BM25 문서 길이(제목 가중치 포함 토큰 수)
+     * @param version 색인 시점의 updatedAt(epoch millis)
+     * @param terms   문서에 포함된 고유 term
+     */
+    record IndexedDoc(int ordinal, int length, long version, String[] terms) {}
+
+    /**
+     * 검색 결과 한 건.
+     *
+     * @param postId 게시글 PK
+     * @param score  BM25 점수
+     */
+    public record SearchHit(long postId, double score) {}
+
+    /**
+     * 검색 결과 페이지.
+     *
+     * @param hits    순위순 결과(최대 limit건)
+     * @param hasNext 다음 페이지 존재 여부
+     */
+    public record SearchPage(List<SearchHit> hits, boolean hasNext) {}
+
+    /* ==================== 검색 ==================== */
+
+    /**
+     * 검색어로 게시글을 찾아 BM25 순위로 한 페이지를 반환합니다.
+     *
+     * <p>
+     * 검색어 term 중 하나라도 포함한 문서가 후보(OR)이며, 더 많은/희귀한 term을 포함할수록 점수가 높습니다.
+     * <code>after</code>가 주어지면 그 결과보다 순위가 낮은 결과만 반환합니다(키셋 페이지네이션).
+     * </p>
+     *
+     * @param query 검색어
+     * @param limit 페이지 크기
+     * @param after 이전 페이지의 마지막 결과(첫 페이지면 null)
+     * @return 결과 페이지
+     * @implNote 점수는 문서 번호로 인덱싱하는 재사용 기본형 배열에 누적하고(박싱/후보별 할당 없음),
+     *           후보 전체를 정렬하지 않고 크기 limit+1의 기본형 최소 힙으로 상위 결과만 유지합니다.
+     *           포스팅 리스트에 건너뛰기 포인터가 없어 WAND/MaxScore 조기 종료를 해도 디코딩 비용은 같으므로 적용하지 않습니다.
+     */
+    public SearchPage search(String query, int limit, SearchHit after) {
+        Set<String> terms = SearchTokenizer.queryTerms(query, MAX_QUERY_TERMS);
+        if (terms.isEmpty()) return new SearchPage(List.of(), false);
+
+        Accumulator acc = accumulators.poll();
+        if (acc == null) acc = new Accumulator();
+        TopHits top = new TopHits(limit + 1);
+        lock.readLock().lock();
+        try {
+            int n = docs.size();
+            if (n == 0) return new SearchPage(List.of(), false);
+            double avgLength = (double) totalLength / n;
+            int[] lengths = ordinalLengths;
+            acc.ensureCapacity(nextOrdinal);
+
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) continue;
+                int df = list.docCount();
+                double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+                Accumulator target = acc;
+                list.forEach((ordinal, tf) -> {
+                    double norm = K1 * (1 - B + B * lengths[(int) ordinal] / avgLength);
+                    target.add((int) ordinal, idf * tf * (K1 + 1) / (tf + norm));
+                });
+            }
+
+            for (int i = 0; i < acc.size; i++) {
+                int ordinal = acc.touched[i];
+                double score = acc.scores[ordinal];
+                long postId = ordinalPostIds[ordinal];
+                // 이전 페이지의 마지막 결과와 같거나 앞선 순위는 제외
+                if (after != null && (score > after.score() || (score == after.score() && postId >= after.postId()))) continue;
+                top.offer(score, postId);
+            }
+        } finally {
+            lock.readLock().unlock();
+            acc.clear();
+            accumulators.offer(acc);
+        }
+
+        List<SearchHit> hits = top.drainRanked();
+        boolean hasNext = hits.size() > limit;
+        return new SearchPage(hasNext ? hits.subList(0, limit) : hits, hasNext);
+    }
+
+    /* ==================== 증분 갱신 ==================== */
+
+    /**
+     * 커밋된 게시글 변경을 색인에 반영합니다.
+     *
+     * <p>반영에 실패해도 다음 정합성 보정({@link #reconcile()})에서 복구되므로 경고만 남깁니다.</p>
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onPostChanged(PostChangedEvent event) {
+        apply(event.postId(), event.type() == PostChangedEvent.Type.DELETED);
+    }
+
+    /**
+     * 다른 노드에서 커밋된 게시글 변경을 색인에 반영합니다.
+     *
+     * @param event 노드 간 무효화 알림
+     */
+    @EventListener
+    public void onRemoteChange(CacheInvalidationEvent event) {
+        if (event.entity() != CacheInvalidationEvent.Entity.POST) return;
+        apply(event.id(), event.change() == CacheInvalidationEvent.Change.DELETED);
+    }
+
+    /**
+     * 무효화 알림을 놓쳤을 수 있으면 DB와 전체 대조합니다.
+     *
+     * @param event 재동기화 요청
+     */
+    @EventListener
+    public void onResync(CacheResyncEvent event) {
+        reconcile();
+    }
+
+    private void apply(Long postId, boolean deleted) {
+        try {
+            if (deleted) {
+                remove(postId);
+                return;
+            }
+            List<PostRepository.SearchSource> sources = postRepository.findSearchSourcesByIdIn(List.of(postId));
+            if (sources.isEmpty()) remove(postId);
+            else index(sources.get(0));
+        } catch (Exception e) {
+            log.warn("Search index update failed for post {}: {}", postId, e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글 하나를 (재)색인합니다. 이미 더 최신 버전이 색인되어 있으면 무시합니다.
+     */
+    void index(PostRepository.SearchSource source) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (String token : SearchTokenizer.tokenize(source.getTitle())) {
+            frequencies.merge(token, TITLE_BOOST, Integer::sum);
+            length += TITLE_BOOST;
+        }
+        for (String token : SearchTokenizer.tokenize(source.getBody())) {
+            frequencies.merge(token, 1, Integer::sum);
+            length++;
+        }
+        long id = source.getId();
+        long version = source.getUpdatedAt().toEpochMilli();
+
+        lock.writeLock().lock();
+        try {
+            IndexedDoc current = docs.get(id);
+            int ordinal;
+            if (current != null) {
+                if (current.version() > version) return;
+                removeLocked(id, current);
+                ordinal = current.ordinal();
+            } else {
+                ordinal = nextOrdinal++;
+                if (ordinal == ordinalPostIds.length) {
+                    ordinalPostIds = Arrays.copyOf(ordinalPostIds, ordinal * 2);
+                    ordinalLengths = Arrays.copyOf(ordinalLengths, ordinal * 2);
+                }
+            }
+            String[] terms = new String[frequencies.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), k -> new PostingList()).add(ordinal, entry.getValue());
+                terms[i++] = entry.getKey();
+            }
+            docs.put(id, new IndexedDoc(ordinal, length, version, terms));
+            ordinalPostIds[ordinal] = id;
+            ordinalLengths[ordinal] = length;
+            totalLength += length;
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글을 색인에서 제거합니다.
+     */
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            IndexedDoc current = docs.get(id);
+            if (current != null) {
+                removeLocked(id, current);
+                dirty = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(long id, IndexedDoc doc) {
+        for (String term : doc.terms()) {
+            PostingList list = postings.get(term);
+            if (list != null && list.remove(doc.ordinal()) && list.isEmpty()) postings.remove(term);
+        }
+        docs.remove(id);
+        ordinalPostIds[doc.ordinal()] = 0;
+        ordinalLengths[doc.ordinal()] = 0;
+        totalLength -= doc.length();
+    }
+
+    /* ==================== 기동/정합성 보정 ==================== */
+
+    /**
+     * 기동 시 디스크 스냅샷을 읽고, 스냅샷 이후의 변경분을 DB와 대조해 반영합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        loadSnapshot();
+        reconcile();
+    }
+
+    /**
+     * 주기적으로 DB와 대조하여 놓친 이벤트(프로세스 중단, 리스너 실패 등)를 보정합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.search.reconcile-interval:PT10M}", initialDelayString = "${app.search.reconcile-interval:PT10M}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * DB의 <code>(id, updatedAt)</code> 목록과 색인을 비교하여 새로 생겼거나 변경된 게시글은 재색인하고,
+     * DB에 없는 게시글은 제거합니다.
+     *
+     * <p>
+     * 본문은 변경분만 {@value #RECONCILE_BATCH}건 단위로 읽습니다. 제거 후보는 한 번 더 존재 여부를 확인하여
+     * 대조 도중 커밋된 생성이 지워지지 않도록 합니다.
+     * </p>
+     */
+    public void reconcile() {
+        try {
+            Map<Long, Long> versions = new HashMap<>();
+            for (PostRepository.IndexVersion row : postRepository.findIndexVersions()) {
+                versions.put(row.getId(), row.getUpdatedAt().toEpochMilli());
+            }
+
+            List<Long> stale = new ArrayList<>();
+            List<Long> missing = new ArrayList<>();
+            lock.readLock().lock();
+            try {
+                versions.forEach((id, version) -> {
+                    IndexedDoc doc = docs.get(id);
+                    if (doc == null || doc.version() < version) stale.add(id);
+                });
+                for (Long id : docs.keySet()) {
+                    if (!versions.containsKey(id)) missing.add(id);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            for (int from = 0; from < stale.size(); from += RECONCILE_BATCH) {
+                List<Long> batch = stale.subList(from, Math.min(from + RECONCILE_BATCH, stale.size()));
+                postRepository.findSearchSourcesByIdIn(batch).forEach(this::index);
+            }
+            for (int from = 0; from < missing.size(); from += RECONCILE_BATCH) {
+                List<Long> batch = missing.subList(from, Math.min(from + RECONCILE_BATCH, missing.size()));
+                Set<Long> existing = new HashSet<>(postRepository.findExistingIds(batch));
+                batch.stream().filter(id -> !existing.contains(id)).forEach(this::remove);
+            }
+
+            if (!stale.isEmpty() || !missing.isEmpty()) {
+                log.info("Search index reconciled: {} (re)indexed, {} removed", stale.size(), missing.size());
+            }
+        } catch (Exception e) {
+            log.warn("Search index reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    /* ==================== 스냅샷 ==================== */
+
+    /**
+     * 변경이 있으면 스냅샷을 디스크에 기록합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.search.flush-interval:PT30S}", initialDelayString = "${app.search.flush-interval:PT30S}")
+    public void flush() {
+        if (!dirty) return;
+        Path dir = Path.of(indexDir);
+        Path target = dir.resolve(SNAPSHOT_FILE);
+        try {
+            Files.createDirectories(dir);
+            Path temp = Files.createTempFile(dir, SNAPSHOT_FILE, ".tmp");
+            try {
+                lock.readLock().lock();
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                    dirty = false;
+                    writeSnapshot(out);
+                } finally {
+                    lock.readLock().unlock();
+                }
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException | RuntimeException e) {
+            dirty = true;
+            log.warn("Search index snapshot write failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 마지막 변경분을 기록합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void writeSnapshot(DataOutputStream out) throws IOException {
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(SNAPSHOT_VERSION);
+
+        Map<String, Integer> ordinals = new HashMap<>(postings.size() * 2);
+        out.writeInt(postings.size());
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            ordinals.put(entry.getKey(), ordinals.size());
+            out.writeUTF(entry.getKey());
+            entry.getValue().writeTo(out);
+        }
+
+        out.writeInt(docs.size());
+        for (Map.Entry<Long, IndexedDoc> entry : docs.entrySet()) {
+            IndexedDoc doc = entry.getValue();
+            out.writeLong(entry.getKey());
+            out.writeInt(doc.ordinal());
+            out.writeInt(doc.length());
+            out.writeLong(doc.version());
+            out.writeInt(doc.terms().length);
+            for (String term : doc.terms()) out.writeInt(ordinals.get(term));
+        }
+    }
+
+    private void loadSnapshot() {
+        Path file = Path.of(indexDir).resolve(SNAPSHOT_FILE);
+        if (!Files.exists(file)) {
+            log.info("No search index snapshot at {}, building from DB", file);
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("Search index snapshot {} has an unknown format, rebuilding from DB", file);
+                return;
+            }
+            int termCount = in.readInt();
+            String[] terms = new String[termCount];
+            Map<String, PostingList> loadedPostings = new HashMap<>(termCount * 2);
+            for (int i = 0; i < termCount; i++) {
+                terms[i] = in.readUTF();
+                loadedPostings.put(terms[i], PostingList.readFrom(in));
+            }
+
+            int docCount = in.readInt();
+            long[] ids = new long[docCount];
+            int[] oldOrdinals = new int[docCount];
+            int[] lengths = new int[docCount];
+            long[] versions = new long[docCount];
+            String[][] docTerms = new String[docCount][];
+            int maxOrdinal = -1;
+            for (int i = 0; i < docCount; i++) {
+                ids[i] = in.readLong();
+                oldOrdinals[i] = in.readInt();
+                lengths[i] = in.readInt();
+                versions[i] = in.readLong();
+                docTerms[i] = new String[in.readInt()];
+                for (int t = 0; t < docTerms[i].length; t++) docTerms[i][t] = terms[in.readInt()];
+                maxOrdinal = Math.max(maxOrdinal, oldOrdinals[i]);
+            }
+
+            // 삭제로 비어 있는 번호를 당겨 다시 매김(순서를 유지하므로 포스팅은 끝에 덧붙이기로 다시 인코딩됨)
+            int[] remap = new int[maxOrdinal + 1];
+            Arrays.fill(remap, -1);
+            for (int ordinal : oldOrdinals) remap[ordinal] = 0;
+            int dense = 0;
+            for (int ordinal = 0; ordinal <= maxOrdinal; ordinal++) {
+                if (remap[ordinal] == 0) remap[ordinal] = dense++;
+            }
+            if (dense != maxOrdinal + 1) {
+                for (Map.Entry<String, PostingList> entry : loadedPostings.entrySet()) {
+                    PostingList compacted = new PostingList();
+                    entry.getValue().forEach((ordinal, tf) -> compacted.add(remap[(int) ordinal], tf));
+                    entry.setValue(compacted);
+                }
+            }
+
+            Map<Long, IndexedDoc> loadedDocs = new HashMap<>(docCount * 2);
+            long[] loadedPostIds = new long[Math.max(16, dense)];
+            int[] loadedLengths = new int[loadedPostIds.length];
+            long loadedLength = 0;
+            for (int i = 0; i < docCount; i++) {
+                int ordinal = remap[oldOrdinals[i]];
+                loadedDocs.put(ids[i], new IndexedDoc(ordinal, lengths[i], versions[i], docTerms[i]));
+                loadedPostIds[ordinal] = ids[i];
+                loadedLengths[ordinal] = lengths[i];
+                loadedLength += lengths[i];
+            }
+
+            lock.writeLock().lock();
+            try {
+                postings = loadedPostings;
+                docs = loadedDocs;
+                ordinalPostIds = loadedPostIds;
+                ordinalLengths = loadedLengths;
+                nextOrdinal = dense;
+                totalLength = loadedLength;
+                dirty = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Search index snapshot loaded: {} posts, {} terms", docCount, termCount);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Search index snapshot {} is unreadable, rebuilding from DB: {}", file, e.getMessage());
+        }
+    }
+
+    /* ==================== 검색 버퍼 ==================== */
+
+    /**
+     * 문서 번호로 인덱싱하는 점수 누적 버퍼. 점수가 생긴 번호를 따로 기록해 두어 다음 검색 전에 그 칸만 지웁니다.
+     * BM25 항은 항상 양수이므로 0이면 아직 점수가 없는 문서입니다.
+     */
+    private static final class Accumulator {
+        private double[] scores = new double[0];
+        private int[] touched = new int[64];
+        private int size;
+
+        private void ensureCapacity(int capacity) {
+            if (scores.length < capacity) scores = new double[Math.max(capacity, scores.length + (scores.length >> 1))];
+        }
+
+        private void add(int ordinal, double score) {
+            if (scores[ordinal] == 0) {
+                if (size == touched.length) touched = Arrays.copyOf(touched, size * 2);
+                touched[size++] = ordinal;
+            }
+            scores[ordinal] += score;
+        }
+
+        private void clear() {
+            for (int i = 0; i < size; i++) scores[touched[i]] = 0;
+            size = 0;
+        }
+    }
+
+    /**
+     * 점수 내림차순, 동점이면 PK 내림차순(최신 글 우선)으로 상위 결과만 유지하는 기본형 최소 힙입니다.
+     * 루트는 유지 중인 결과 중 가장 낮은 순위입니다.
+     */
+    private static final class TopHits {
+        private final double[] scores;
+        private final long[] postIds;
+        private int size;
+
+        private TopHits(int capacity) {
+            this.scores = new double[capacity];
+            this.postIds = new long[capacity];
+        }
+
+        private void offer(double score, long postId) {
+            if (size < scores.length) {
+                scores[size] = score;
+                postIds[size] = postId;
+                siftUp(size++);
+            } else if (lowerRank(scores[0], postIds[0], score, postId)) {
+                scores[0] = score;
+                postIds[0] = postId;
+                siftDown(0);
+            }
+        }
+
+        /** 순위순 결과를 꺼냅니다. */
+        private List<SearchHit> drainRanked() {
+            SearchHit[] ranked = new SearchHit[size];
+            while (size > 0) {
+                ranked[size - 1] = new SearchHit(postIds[0], scores[0]);
+                size--;
+                scores[0] = scores[size];
+                postIds[0] = postIds[size];
+                siftDown(0);
+            }
+            return Arrays.asList(ranked);
+        }
+
+        /** (s1, id1)이 (s2, id2)보다 순위가 낮으면 true */
+        private static boolean lowerRank(double s1, long id1, double s2, long id2) {
+            return s1 < s2 || (s1 == s2 && id1 < id2);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!lowerRank(scores[i], postIds[i], scores[parent], postIds[parent])) break;
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int lowest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && lowerRank(scores[left], postIds[left], scores[lowest], postIds[lowest])) lowest = left;
+                if (right < size && lowerRank(scores[right], postIds[right], scores[lowest], postIds[lowest])) lowest = right;
+                if (lowest == i) return;
+                swap(i, lowest);
+                i = lowest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            double score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+            long postId = postIds[a];
+            postIds[a] = postIds[b];
+            postIds[b] = postId;
+        }
+    }
+}
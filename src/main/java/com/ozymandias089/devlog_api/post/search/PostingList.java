@@ -0,0 +1,174 @@
+package com.ozymandias089.devlog_api.post.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 하나의 검색어(term)에 대한 압축 포스팅 리스트입니다.
+ *
+ * <p>
+ * 게시글 PK 오름차순으로 <code>(docId 차분, term frequency)</code> 쌍을 가변 길이 정수(LEB128 varint)로
+ * 이어 붙여 저장합니다. PK는 IDENTITY로 증가하므로 새 게시글은 항상 끝에 추가(append)되며,
+ * 수정/삭제처럼 중간 위치가 바뀌는 경우에만 리스트를 다시 인코딩합니다.
+ * </p>
+ *
+ * <p><strong>스레드 세이프하지 않습니다.</strong> 동기화는 {@link PostSearchIndex}의 읽기/쓰기 락이 담당합니다.</p>
+ */
+final class PostingList {
+
+    /** 디코딩한 포스팅을 받는 콜백입니다(박싱 없이 순회하기 위함). */
+    @FunctionalInterface
+    interface PostingConsumer {
+        void accept(long docId, int termFrequency);
+    }
+
+    private byte[] data;
+    private int length;
+    private int docCount;
+    private long lastDocId;
+
+    PostingList() {
+        this.data = new byte[8];
+    }
+
+    private PostingList(byte[] data, int docCount, long lastDocId) {
+        this.data = data;
+        this.length = data.length;
+        this.docCount = docCount;
+        this.lastDocId = lastDocId;
+    }
+
+    /** 이 term을 포함한 문서 수(document frequency) */
+    int docCount() {
+        return docCount;
+    }
+
+    boolean isEmpty() {
+        return docCount == 0;
+    }
+
+    /**
+     * 문서를 추가합니다. 마지막 PK보다 큰 PK는 끝에 덧붙이고, 그렇지 않으면 정렬 위치에 삽입합니다.
+     * 같은 PK가 이미 있으면 term frequency를 교체합니다.
+     */
+    void add(long docId, int termFrequency) {
+        if (docCount == 0 || docId > lastDocId) {
+            append(docId, termFrequency);
+            return;
+        }
+        long[] ids = new long[docCount + 1];
+        int[] tfs = new int[docCount + 1];
+        int n = decodeInto(ids, tfs);
+        int pos = Arrays.binarySearch(ids, 0, n, docId);
+        if (pos >= 0) {
+            tfs[pos] = termFrequency;
+        } else {
+            pos = -pos - 1;
+            System.arraycopy(ids, pos, ids, pos + 1, n - pos);
+            System.arraycopy(tfs, pos, tfs, pos + 1, n - pos);
+            ids[pos] = docId;
+            tfs[pos] = termFrequency;
+            n++;
+        }
+        reencode(ids, tfs, n);
+    }
+
+    /**
+     * 문서를 제거합니다.
+     *
+     * @return 제거되었으면 true
+     */
+    boolean remove(long docId) {
+        if (docCount == 0 || docId > lastDocId) return false;
+        long[] ids = new long[docCount];
+        int[] tfs = new int[docCount];
+        int n = decodeInto(ids, tfs);
+        int pos = Arrays.binarySearch(ids, 0, n, docId);
+        if (pos < 0) return false;
+        System.arraycopy(ids, pos + 1, ids, pos, n - pos - 1);
+        System.arraycopy(tfs, pos + 1, tfs, pos, n - pos - 1);
+        reencode(ids, tfs, n - 1);
+        return true;
+    }
+
+    /** PK 오름차순으로 모든 포스팅을 순회합니다. */
+    void forEach(PostingConsumer consumer) {
+        long docId = 0;
+        int pos = 0;
+        while (pos < length) {
+            long delta = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[pos++];
+                delta |= (long) (b & 0x7F) << shift;
+                if (b >= 0) break;
+            }
+            int tf = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[pos++];
+                tf |= (b & 0x7F) << shift;
+                if (b >= 0) break;
+            }
+            docId += delta;
+            consumer.accept(docId, tf);
+        }
+    }
+
+    /* ==================== 스냅샷 직렬화 ==================== */
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(docCount);
+        out.writeLong(lastDocId);
+        out.writeInt(length);
+        out.write(data, 0, length);
+    }
+
+    static PostingList readFrom(DataInput in) throws IOException {
+        int docCount = in.readInt();
+        long lastDocId = in.readLong();
+        byte[] data = new byte[in.readInt()];
+        in.readFully(data);
+        return new PostingList(data, docCount, lastDocId);
+    }
+
+    /* ==================== 내부 인코딩 ==================== */
+
+    private void append(long docId, int termFrequency) {
+        ensureCapacity(length + 15);
+        writeVarLong(docId - lastDocId);
+        writeVarLong(termFrequency);
+        lastDocId = docId;
+        docCount++;
+    }
+
+    private int decodeInto(long[] ids, int[] tfs) {
+        int[] n = {0};
+        forEach((docId, tf) -> {
+            ids[n[0]] = docId;
+            tfs[n[0]] = tf;
+            n[0]++;
+        });
+        return n[0];
+    }
+
+    private void reencode(long[] ids, int[] tfs, int n) {
+        length = 0;
+        docCount = 0;
+        lastDocId = 0;
+        for (int i = 0; i < n; i++) append(ids[i], tfs[i]);
+        if (data.length > 64 && length < data.length / 4) data = Arrays.copyOf(data, Math.max(8, length));
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > data.length) data = Arrays.copyOf(data, Math.max(required, data.length * 2));
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+}
@@ -0,0 +1,299 @@
+package com.ozymandias089.devlog_api.post.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.function.LongPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * 자동완성용 불변(immutable) 접두사 색인입니다.
+ *
+ * <p>
+ * 문서마다 정규화한 텍스트를 한 번만 보관하고, 색인 키는 그 텍스트 안의 시작 위치(오프셋)로만 표현합니다.
+ * 키를 사전순으로 정렬해 두면 같은 접두사로 시작하는 키는 연속 구간이 되므로, 트라이의 한 노드를 찾는 일은
+ * 이분 탐색 두 번(O(|q| log n))이 됩니다. 구간 안의 인기도 상위 N개는 키 배열 위의 구간 최댓값 트리로
+ * 최선 우선 탐색하여 O(N log n)에 구합니다. 노드마다 상위 N개를 미리 저장하는 트라이보다 메모리가 작고,
+ * 구조 전체가 원시 배열이라 GC 부담이 적습니다.
+ * </p>
+ *
+ * <h3>키</h3>
+ * <ul>
+ *   <li>{@link KeyMode#WHOLE} — 텍스트 전체 하나(사용자 이름).</li>
+ *   <li>{@link KeyMode#WORDS} — 각 단어의 시작 위치부터 끝까지(제목, 최대 {@value #MAX_WORD_KEYS}개).
+ *       <code>spring boot tips</code>는 <code>boot</code>, <code>tips</code>로도 찾을 수 있습니다.</li>
+ * </ul>
+ *
+ * <p>생성 후에는 바뀌지 않으므로 락 없이 여러 스레드에서 동시에 조회할 수 있습니다.</p>
+ *
+ * @since 1.1
+ */
+final class PrefixIndex {
+    /** 제목 한 건에서 만드는 최대 키 수 */
+    static final int MAX_WORD_KEYS = 8;
+
+    /** 키 생성 방식 */
+    enum KeyMode { WHOLE, WORDS }
+
+    /**
+     * 색인할 문서.
+     *
+     * @param id     엔티티 PK
+     * @param ref    응답에 쓰는 자연 키(슬러그, 회원 UUID)
+     * @param text   표시 텍스트(제목, 사용자 이름)
+     * @param weight 인기도(클수록 먼저 제안)
+     */
+    record Doc(long id, String ref, String text, long weight) {}
+
+    /* 문서별 */
+    private final Doc[] docs;
+    private final String[] normalized;
+    /* 키별(사전순) */
+    private final int[] keyDoc;
+    private final char[] keyOffset;
+    /** 키 구간 최댓값 트리(상향식 배열): <code>tree[n + i] = i</code>, 내부 노드는 두 자식 중 더 인기 있는 키 */
+    private final int[] tree;
+    private final long memoryBytes;
+
+    private PrefixIndex(Doc[] docs, String[] normalized, int[] keyDoc, char[] keyOffset) {
+        this.docs = docs;
+        this.normalized = normalized;
+        this.keyDoc = keyDoc;
+        this.keyOffset = keyOffset;
+        int n = keyDoc.length;
+        this.tree = new int[2 * n];
+        for (int i = 0; i < n; i++) tree[n + i] = i;
+        for (int i = n - 1; i > 0; i--) tree[i] = better(tree[2 * i], tree[2 * i + 1]);
+        this.memoryBytes = estimateMemory();
+    }
+
+    /**
+     * 문서 목록으로 색인을 만듭니다. 정규화 결과가 빈 문서는 건너뜁니다.
+     *
+     * @param docs 문서 목록
+     * @param mode 키 생성 방식
+     * @return 새 색인
+     */
+    static PrefixIndex build(List<Doc> docs, KeyMode mode) {
+        List<Doc> kept = new ArrayList<>(docs.size());
+        List<String> texts = new ArrayList<>(docs.size());
+        int keyCount = 0;
+        for (Doc doc : docs) {
+            String norm = normalize(doc.text());
+            if (norm.isEmpty()) continue;
+            kept.add(doc);
+            texts.add(norm);
+            keyCount += keyOffsets(norm, mode).length;
+        }
+
+        int[] rawDoc = new int[keyCount];
+        char[] rawOffset = new char[keyCount];
+        int k = 0;
+        for (int d = 0; d < kept.size(); d++) {
+            for (int offset : keyOffsets(texts.get(d), mode)) {
+                rawDoc[k] = d;
+                rawOffset[k] = (char) offset;
+                k++;
+            }
+        }
+
+        String[] norms = texts.toArray(String[]::new);
+        int[] order = IntStream.range(0, keyCount).boxed()
+                .sorted((a, b) -> compareKeys(norms[rawDoc[a]], rawOffset[a], norms[rawDoc[b]], rawOffset[b]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        int[] keyDoc = new int[keyCount];
+        char[] keyOffset = new char[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keyDoc[i] = rawDoc[order[i]];
+            keyOffset[i] = rawOffset[order[i]];
+        }
+        return new PrefixIndex(kept.toArray(Doc[]::new), norms, keyDoc, keyOffset);
+    }
+
+    /* ==================== 조회 ==================== */
+
+    /**
+     * 정규화된 접두사로 시작하는 키를 가진 문서를 인기도 순으로 최대 <code>limit</code>개 반환합니다.
+     *
+     * @param prefix   {@link #normalize}를 거친 접두사(비어 있지 않음)
+     * @param limit    최대 개수
+     * @param excluded 제외할 문서 PK(증분 갱신으로 대체된 문서)
+     * @return 인기도 내림차순 문서(같은 문서는 한 번만)
+     */
+    List<Doc> top(String prefix, int limit, LongPredicate excluded) {
+        int lo = bound(prefix, false);
+        int hi = bound(prefix, true);
+        List<Doc> result = new ArrayList<>(Math.min(limit, hi - lo));
+        if (lo >= hi) return result;
+
+        // 구간 [lo, hi)를 최댓값 위치로 나누어 가며 인기도 순으로 꺼낸다.
+        PriorityQueue<int[]> queue = new PriorityQueue<>((a, b) -> a[2] == b[2] ? 0 : better(a[2], b[2]) == a[2] ? -1 : 1);
+        queue.add(new int[]{lo, hi, argmax(lo, hi)});
+        int[] seen = new int[limit];
+        while (!queue.isEmpty() && result.size() < limit) {
+            int[] range = queue.poll();
+            int best = range[2];
+            int doc = keyDoc[best];
+            if (!contains(seen, result.size(), doc) && !excluded.test(docs[doc].id())) {
+                seen[result.size()] = doc;
+                result.add(docs[doc]);
+            }
+            if (range[0] < best) queue.add(new int[]{range[0], best, argmax(range[0], best)});
+            if (best + 1 < range[1]) queue.add(new int[]{best + 1, range[1], argmax(best + 1, range[1])});
+        }
+        return result;
+    }
+
+    /** 색인된 문서 수 */
+    int size() {
+        return docs.length;
+    }
+
+    /** 추정 메모리 사용량(bytes) */
+    long memoryBytes() {
+        return memoryBytes;
+    }
+
+    /**
+     * 증분 갱신된 문서가 접두사와 일치하는지 검사합니다(색인과 같은 키 규칙).
+     *
+     * @param doc    문서
+     * @param prefix 정규화된 접두사
+     * @param mode   키 생성 방식
+     * @return 일치 여부
+     */
+    static boolean matches(Doc doc, String prefix, KeyMode mode) {
+        String norm = normalize(doc.text());
+        for (int offset : keyOffsets(norm, mode)) {
+            if (norm.startsWith(prefix, offset)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 색인/조회 공통 정규화: NFKC, 소문자화, 연속 공백을 공백 하나로.
+     *
+     * @param text 원문(null 허용)
+     * @return 정규화된 텍스트(없으면 빈 문자열)
+     */
+    static String normalize(String text) {
+        if (text == null || text.isBlank()) return "";
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder out = new StringBuilder(normalized.length());
+        boolean space = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = out.length() > 0;
+            } else {
+                if (space) out.append(' ');
+                space = false;
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    /* ==================== 내부 구현 ==================== */
+
+    private static int[] keyOffsets(String norm, KeyMode mode) {
+        if (norm.isEmpty()) return new int[0];
+        if (mode == KeyMode.WHOLE) return new int[]{0};
+        int[] offsets = new int[MAX_WORD_KEYS];
+        int count = 0;
+        offsets[count++] = 0;
+        for (int i = 1; i < norm.length() && i <= Character.MAX_VALUE && count < MAX_WORD_KEYS; i++) {
+            if (norm.charAt(i - 1) == ' ') offsets[count++] = i;
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+
+    private static int compareKeys(String a, int aOffset, String b, int bOffset) {
+        int aLen = a.length() - aOffset;
+        int bLen = b.length() - bOffset;
+        for (int i = 0, n = Math.min(aLen, bLen); i < n; i++) {
+            char x = a.charAt(aOffset + i);
+            char y = b.charAt(bOffset + i);
+            if (x != y) return x - y;
+        }
+        return aLen - bLen;
+    }
+
+    /**
+     * 접두사와 키를 접두사 길이까지만 비교합니다. 키가 접두사로 시작하면 0.
+     */
+    private int comparePrefix(int key, String prefix) {
+        String norm = normalized[keyDoc[key]];
+        int offset = keyOffset[key];
+        int len = norm.length() - offset;
+        for (int i = 0, n = Math.min(len, prefix.length()); i < n; i++) {
+            char x = norm.charAt(offset + i);
+            char y = prefix.charAt(i);
+            if (x != y) return x - y;
+        }
+        return len >= prefix.length() ? 0 : -1;
+    }
+
+    /**
+     * <code>upper</code>가 false면 접두사 이상인 첫 키, true면 접두사로 시작하는 구간 다음 첫 키의 위치.
+     */
+    private int bound(String prefix, boolean upper) {
+        int lo = 0;
+        int hi = keyDoc.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = comparePrefix(mid, prefix);
+            if (cmp < 0 || (upper && cmp == 0)) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /** 더 인기 있는 키(동점이면 사전순으로 앞선 키) */
+    private int better(int a, int b) {
+        long wa = docs[keyDoc[a]].weight();
+        long wb = docs[keyDoc[b]].weight();
+        if (wa != wb) return wa > wb ? a : b;
+        return Math.min(a, b);
+    }
+
+    /** 키 구간 <code>[lo, hi)</code>에서 가장 인기 있는 키 */
+    private int argmax(int lo, int hi) {
+        int n = keyDoc.length;
+        int best = lo;
+        for (int l = lo + n, r = hi + n; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) best = better(best, tree[l++]);
+            if ((r & 1) == 1) best = better(best, tree[--r]);
+        }
+        return best;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 객체 헤더/참조를 포함한 대략적인 크기. 문자열은 UTF-16 기준으로 넉넉하게 셉니다.
+     */
+    private long estimateMemory() {
+        long bytes = 16L * 5 + 4L * docs.length * 2; // 배열 헤더, docs/normalized 참조
+        for (int i = 0; i < docs.length; i++) {
+            Doc doc = docs[i];
+            bytes += 16 + 8 + 8 + 4 + 4;                       // Doc 객체
+            bytes += stringBytes(doc.ref()) + stringBytes(doc.text()) + stringBytes(normalized[i]);
+        }
+        bytes += keyDoc.length * (4L + 2L) + tree.length * 4L;
+        return bytes;
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : 40 + 2L * value.length();
+    }
+}
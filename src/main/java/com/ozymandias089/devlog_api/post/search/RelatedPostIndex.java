@@ -0,0 +1,282 @@
+package com.ozymandias089.devlog_api.post.search;
+
+import com.ozymandias089.devlog_api.global.outbox.CacheInvalidationEvent;
+import com.ozymandias089.devlog_api.global.outbox.CacheResyncEvent;
+import com.ozymandias089.devlog_api.post.event.PostChangedEvent;
+import com.ozymandias089.devlog_api.post.repository.PostSignatureRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 MinHash 서명의 인메모리 LSH 색인입니다. 관련 게시글 후보를 찾는 데 씁니다.
+ *
+ * <p>
+ * 밴드마다 <code>(밴드 해시 &lt;&lt; 32 | 게시글 PK)</code>를 정렬한 <code>long[]</code> 하나를 두므로, 같은 밴드 해시를 가진 게시글은
+ * 연속 구간이 되어 이분 탐색 한 번으로 찾습니다. 게시글당 {@value MinHash#BANDS} × 8바이트만 쓰며(100만 건에 약 170MB)
+ * 서명 자체는 보관하지 않습니다. 구조는 {@link AutocompleteIndex}와 같이 불변 기본 색인 + 작은 오버레이를
+ * <code>volatile</code> 참조로 교체하는 방식이며, 오버레이가 {@code maxOverlay}를 넘으면 기본 색인을 다시 만듭니다.
+ * </p>
+ *
+ * <p>
+ * 게시글 변경은 커밋 이후(다른 노드의 변경은 무효화 알림으로) 서명을 다시 읽어 반영합니다.
+ * 서명이 없는 게시글(빈 본문, 삭제)은 색인에서 빠집니다.
+ * </p>
+ *
+ * @implNote 게시글 PK는 32비트 범위 안이라고 가정합니다.
+ * @since 1.1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RelatedPostIndex {
+    private static final int LOAD_BATCH = 1000;
+    /** 이보다 큰 밴드 버킷은 변별력이 없다고 보고 후보 수집에서 건너뜁니다. */
+    private static final int MAX_BUCKET = 5000;
+
+    private final PostSignatureRepository postSignatureRepository;
+
+    /** 오버레이가 이 크기를 넘으면 기본 색인을 다시 만듭니다. */
+    @Value("${app.posts.related.max-overlay:1000}")
+    private int maxOverlay;
+
+    private volatile State state = new State(emptyBands(), Map.of());
+    private long seq;
+    /** 현재 기본 색인을 만들기 시작한 시점의 순번 */
+    private long baseSeq = -1;
+
+    /**
+     * 한 시점의 불변 상태.
+     *
+     * @param bands   밴드별 정렬된 <code>(밴드 해시 &lt;&lt; 32 | 게시글 PK)</code>
+     * @param overlay 기본 색인 이후 바뀐 게시글(PK → 변경). 변경의 밴드 해시가 null이면 제거
+     */
+    private record State(long[][] bands, Map<Long, Change> overlay) {}
+
+    private record Change(long seq, int[] bandHashes) {}
+
+    /**
+     * 후보 한 건.
+     *
+     * @param postId 게시글 PK
+     * @param hits   해시가 일치한 밴드 수(많을수록 유사할 가능성이 큼)
+     */
+    public record Candidate(long postId, int hits) {}
+
+    /* ==================== 조회 ==================== */
+
+    /**
+     * 밴드 해시가 하나라도 같은 게시글을 일치 밴드 수가 많은 순으로 최대 <code>limit</code>개 반환합니다.
+     *
+     * @param postId     기준 게시글 PK(결과에서 제외)
+     * @param bandHashes 기준 게시글의 밴드 해시({@link MinHash#bandHashes})
+     * @param limit      최대 후보 수
+     * @return 후보 목록
+     */
+    public List<Candidate> candidates(long postId, int[] bandHashes, int limit) {
+        State current = state;
+        Map<Long, Integer> hits = new HashMap<>();
+        for (int b = 0; b < MinHash.BANDS; b++) {
+            long[] band = current.bands()[b];
+            int from = lowerBound(band, (long) bandHashes[b] << 32);
+            int to = from;
+            while (to < band.length && (int) (band[to] >> 32) == bandHashes[b] && to - from <= MAX_BUCKET) to++;
+            if (to - from > MAX_BUCKET) continue;
+            for (int i = from; i < to; i++) {
+                long id = band[i] & 0xFFFFFFFFL;
+                if (id != postId && !current.overlay().containsKey(id)) hits.merge(id, 1, Integer::sum);
+            }
+        }
+        for (Map.Entry<Long, Change> entry : current.overlay().entrySet()) {
+            int[] other = entry.getValue().bandHashes();
+            if (other == null || entry.getKey() == postId) continue;
+            int same = 0;
+            for (int b = 0; b < MinHash.BANDS; b++) {
+                if (other[b] == bandHashes[b]) same++;
+            }
+            if (same > 0) hits.put(entry.getKey(), same);
+        }
+
+        List<Candidate> result = new ArrayList<>(hits.size());
+        hits.forEach((id, count) -> result.add(new Candidate(id, count)));
+        if (result.size() > limit) {
+            result.sort((a, b) -> b.hits() != a.hits() ? Integer.compare(b.hits(), a.hits()) : Long.compare(b.postId(), a.postId()));
+            return new ArrayList<>(result.subList(0, limit));
+        }
+        return result;
+    }
+
+    /* ==================== 갱신 ==================== */
+
+    /**
+     * 커밋된 게시글 변경을 반영합니다.
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onPostChanged(PostChangedEvent event) {
+        apply(event.postId(), event.type() == PostChangedEvent.Type.DELETED);
+    }
+
+    /**
+     * 다른 노드에서 커밋된 게시글 변경을 반영합니다.
+     *
+     * @param event 노드 간 무효화 알림
+     */
+    @EventListener
+    public void onRemoteChange(CacheInvalidationEvent event) {
+        if (event.entity() != CacheInvalidationEvent.Entity.POST) return;
+        apply(event.id(), event.change() == CacheInvalidationEvent.Change.DELETED);
+    }
+
+    /**
+     * 무효화 알림을 놓쳤을 수 있으면 전체를 다시 만듭니다.
+     *
+     * @param event 재동기화 요청
+     */
+    @EventListener
+    public void onResync(CacheResyncEvent event) {
+        rebuild();
+    }
+
+    private void apply(Long postId, boolean deleted) {
+        try {
+            int[] bandHashes = null;
+            if (!deleted) {
+                List<PostSignatureRepository.SignatureRow> rows = postSignatureRepository.findRowsByPostIdIn(List.of(postId));
+                if (!rows.isEmpty()) bandHashes = MinHash.bandHashes(MinHash.decode(rows.get(0).getSignature()));
+            }
+            update(postId, bandHashes);
+        } catch (Exception e) {
+            log.warn("Related-post index update failed for post {}: {}", postId, e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글 하나의 밴드 해시를 교체합니다.
+     *
+     * @param postId     게시글 PK
+     * @param bandHashes 밴드 해시(서명이 없으면 null → 제거)
+     */
+    public synchronized void update(long postId, int[] bandHashes) {
+        Map<Long, Change> overlay = new HashMap<>(state.overlay());
+        overlay.put(postId, new Change(++seq, bandHashes));
+        state = new State(state.bands(), overlay);
+    }
+
+    /**
+     * 오버레이가 커졌으면 기본 색인을 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${app.posts.related.check-interval:PT30S}", initialDelayString = "${app.posts.related.check-interval:PT30S}")
+    public void rebuildIfDue() {
+        if (state.overlay().size() > maxOverlay) rebuild();
+    }
+
+    /**
+     * DB의 서명 전체로 기본 색인을 다시 만듭니다.
+     */
+    public void rebuild() {
+        try {
+            long startedSeq = currentSeq();
+            List<long[]> ids = new ArrayList<>();
+            List<int[][]> hashes = new ArrayList<>();
+            int total = 0;
+            for (long afterId = 0; ; ) {
+                List<PostSignatureRepository.SignatureRow> rows = postSignatureRepository.findRows(afterId, Limit.of(LOAD_BATCH));
+                if (rows.isEmpty()) break;
+                long[] batchIds = new long[rows.size()];
+                int[][] batchHashes = new int[rows.size()][];
+                for (int i = 0; i < rows.size(); i++) {
+                    batchIds[i] = rows.get(i).getPostId();
+                    batchHashes[i] = MinHash.bandHashes(MinHash.decode(rows.get(i).getSignature()));
+                }
+                ids.add(batchIds);
+                hashes.add(batchHashes);
+                total += rows.size();
+                afterId = batchIds[batchIds.length - 1];
+            }
+            long[] allIds = new long[total];
+            int[][] allHashes = new int[total][];
+            int offset = 0;
+            for (int i = 0; i < ids.size(); i++) {
+                System.arraycopy(ids.get(i), 0, allIds, offset, ids.get(i).length);
+                System.arraycopy(hashes.get(i), 0, allHashes, offset, hashes.get(i).length);
+                offset += ids.get(i).length;
+            }
+            replaceBase(allIds, allHashes, startedSeq);
+        } catch (Exception e) {
+            log.warn("Related-post index rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이미 읽은 서명으로 기본 색인을 교체합니다(전체 재계산이 같은 데이터를 두 번 읽지 않도록).
+     *
+     * @param postIds    게시글 PK
+     * @param bandHashes 게시글별 밴드 해시(같은 순서)
+     * @param startedSeq 서명을 읽기 시작하기 전의 {@link #currentSeq()}. 그 이후의 변경은 오버레이에 남기며,
+     *                   이보다 나중에 시작한 재구축이 이미 반영되었으면 아무것도 하지 않습니다.
+     */
+    public void replaceBase(long[] postIds, int[][] bandHashes, long startedSeq) {
+        long[][] bands = new long[MinHash.BANDS][postIds.length];
+        for (int i = 0; i < postIds.length; i++) {
+            for (int b = 0; b < MinHash.BANDS; b++) {
+                bands[b][i] = ((long) bandHashes[i][b] << 32) | (postIds[i] & 0xFFFFFFFFL);
+            }
+        }
+        for (long[] band : bands) Arrays.parallelSort(band);
+
+        synchronized (this) {
+            if (startedSeq < baseSeq) return; // 더 나중에 시작한 재구축이 이미 반영됨
+            baseSeq = startedSeq;
+            Map<Long, Change> overlay = new HashMap<>();
+            for (Map.Entry<Long, Change> entry : state.overlay().entrySet()) {
+                if (entry.getValue().seq() > startedSeq) overlay.put(entry.getKey(), entry.getValue());
+            }
+            state = new State(bands, overlay);
+        }
+        log.info("Related-post LSH index rebuilt: {} posts x {} bands", postIds.length, MinHash.BANDS);
+    }
+
+    /**
+     * 지금까지 반영한 변경의 순번입니다. 재구축 시작 시점을 기록하는 데 씁니다.
+     */
+    public synchronized long currentSeq() {
+        return seq;
+    }
+
+    /* ==================== 내부 구현 ==================== */
+
+    private static long[][] emptyBands() {
+        long[][] bands = new long[MinHash.BANDS][];
+        Arrays.fill(bands, new long[0]);
+        return bands;
+    }
+
+    /** <code>values[i] &gt;= key</code>인 첫 위치 */
+    private static int lowerBound(long[] values, long key) {
+        int lo = 0;
+        int hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,101 @@
+package com.ozymandias089.devlog_api.post.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 검색 인덱스용 토크나이저입니다.
+ *
+ * <p>
+ * 입력을 NFKC로 정규화한 뒤 문자 종류별 구간(run)으로 나눕니다.
+ * <ul>
+ *   <li><strong>한글 음절</strong> 구간은 형태소 분석 없이 겹치는 2-gram으로 분해합니다
+ *       (예: <code>스프링부트</code> → <code>스프, 프링, 링부, 부트</code>). 한 글자 구간은 그대로 1-gram입니다.</li>
+ *   <li><strong>그 밖의 문자/숫자</strong> 구간은 하나의 토큰으로 소문자화합니다
+ *       (예: <code>Spring-Boot 3.5</code> → <code>spring, boot, 3, 5</code>).</li>
+ *   <li>공백, 구두점, 기호는 구분자로만 쓰이고 버려집니다.</li>
+ * </ul>
+ * 조사가 붙은 어절(<code>스프링을</code>)도 어간의 bigram을 공유하므로 별도 사전 없이 부분 일치가 가능합니다.
+ * </p>
+ *
+ * <p>상태가 없는 정적 유틸리티이며 스레드 세이프합니다.</p>
+ */
+public final class SearchTokenizer {
+    /** 이보다 긴 라틴 토큰은 잘라서 색인합니다(해시/URL 등 비정상적으로 긴 토큰 방지). */
+    static final int MAX_TOKEN_LENGTH = 40;
+
+    private static final int HANGUL_S_BASE = 0xAC00;
+    private static final int HANGUL_S_LAST = 0xD7A3;
+
+    private SearchTokenizer() {}
+
+    /**
+     * 텍스트를 등장 순서대로(중복 포함) 토큰화합니다. 색인 시 term frequency 계산에 사용합니다.
+     *
+     * @param text 원문(null 허용)
+     * @return 토큰 목록
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) return tokens;
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        StringBuilder hangul = new StringBuilder();
+        StringBuilder word = new StringBuilder();
+
+        for (int i = 0, n = normalized.length(); i < n; ) {
+            int cp = normalized.codePointAt(i);
+            i += Character.charCount(cp);
+
+            if (cp >= HANGUL_S_BASE && cp <= HANGUL_S_LAST) {
+                flushWord(word, tokens);
+                hangul.append((char) cp);
+            } else if (Character.isLetterOrDigit(cp)) {
+                flushHangul(hangul, tokens);
+                word.appendCodePoint(Character.toLowerCase(cp));
+            } else {
+                flushHangul(hangul, tokens);
+                flushWord(word, tokens);
+            }
+        }
+        flushHangul(hangul, tokens);
+        flushWord(word, tokens);
+        return tokens;
+    }
+
+    /**
+     * 검색어를 중복 없는 토큰 집합으로 변환합니다(입력 순서 유지).
+     *
+     * @param query    검색어
+     * @param maxTerms 최대 토큰 수(초과분은 버림)
+     * @return 검색 토큰
+     */
+    public static Set<String> queryTerms(String query, int maxTerms) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String token : tokenize(query)) {
+            if (terms.size() >= maxTerms) break;
+            terms.add(token);
+        }
+        return terms;
+    }
+
+    private static void flushHangul(StringBuilder run, List<String> tokens) {
+        int length = run.length();
+        if (length == 0) return;
+        if (length == 1) {
+            tokens.add(run.toString());
+        } else {
+            for (int i = 0; i + 1 < length; i++) tokens.add(run.substring(i, i + 2));
+        }
+        run.setLength(0);
+    }
+
+    private static void flushWord(StringBuilder run, List<String> tokens) {
+        if (run.length() == 0) return;
+        tokens.add(run.length() > MAX_TOKEN_LENGTH ? run.substring(0, MAX_TOKEN_LENGTH) : run.toString());
+        run.setLength(0);
+    }
+}
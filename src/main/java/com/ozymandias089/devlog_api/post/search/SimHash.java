@@ -0,0 +1,86 @@
+package com.ozymandias089.devlog_api.post.search;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 본문의 64비트 SimHash 지문을 계산합니다. 거의 같은 글(중복 게시)을 찾는 데 씁니다.
+ *
+ * <p>
+ * 본문을 {@link SearchTokenizer}로 토큰화한 뒤 연속 {@value #SHINGLE}토큰(단어 3-shingle)을 특징으로 삼고,
+ * 특징마다 64비트 해시의 각 비트에 등장 횟수만큼 +/-를 더해 부호로 지문의 비트를 정합니다.
+ * 일부 문장만 고치거나 단어 몇 개를 바꾼 사본은 대부분의 shingle을 공유하므로 지문의 해밍 거리가 작게 남고,
+ * 관련 없는 글의 거리는 평균 32입니다. 주제가 비슷할 뿐인 글을 찾는 {@link MinHash}와 달리 어순까지 비교합니다.
+ * </p>
+ *
+ * <p>
+ * shingle이 {@value #MIN_SHINGLES}개보다 적은 짧은 본문은 우연히 가까워지기 쉬우므로 지문을 만들지 않습니다.
+ * 상태가 없는 정적 유틸리티이며 스레드 세이프합니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+public final class SimHash {
+    /** shingle 하나의 토큰 수 */
+    public static final int SHINGLE = 3;
+    /** 지문을 만드는 최소 shingle 수(중복 포함) */
+    public static final int MIN_SHINGLES = 16;
+
+    private SimHash() {}
+
+    /**
+     * 본문의 지문을 계산합니다.
+     *
+     * @param content 본문(마크다운, null 허용)
+     * @return 64비트 지문. 본문이 너무 짧으면 null
+     */
+    public static Long fingerprint(String content) {
+        List<String> tokens = SearchTokenizer.tokenize(content);
+        int shingles = tokens.size() - SHINGLE + 1;
+        if (shingles < MIN_SHINGLES) return null;
+
+        Map<Long, Integer> counts = new HashMap<>();
+        for (int i = 0; i < shingles; i++) {
+            long h = 0xcbf29ce484222325L;
+            for (int j = i; j < i + SHINGLE; j++) {
+                String token = tokens.get(j);
+                for (int c = 0; c < token.length(); c++) {
+                    h ^= token.charAt(c);
+                    h *= 0x100000001b3L;
+                }
+                h ^= 0x1F; // 토큰 구분자
+                h *= 0x100000001b3L;
+            }
+            counts.merge(mix(h), 1, Integer::sum);
+        }
+
+        int[] weights = new int[Long.SIZE];
+        counts.forEach((hash, count) -> {
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                weights[bit] += ((hash >>> bit) & 1L) != 0 ? count : -count;
+            }
+        });
+        long fingerprint = 0;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (weights[bit] > 0) fingerprint |= 1L << bit;
+        }
+        return fingerprint;
+    }
+
+    /**
+     * 두 지문의 해밍 거리(다른 비트 수)입니다.
+     *
+     * @return 0~64
+     */
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    /** SplitMix64 finalizer */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,35 @@
+package com.ozymandias089.devlog_api.post.service;
+
+import com.ozymandias089.devlog_api.post.dto.response.GetArchiveResponseDTO;
+import com.ozymandias089.devlog_api.post.provider.PostMapper;
+import com.ozymandias089.devlog_api.post.repository.PostMonthCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 보관함(연/월별 게시글 수) 조회 유스케이스를 제공합니다.
+ *
+ * <p>
+ * 월별 게시글 수 테이블(<code>post_month_count</code>)만 읽습니다. 개수는 게시글 작성/삭제 트랜잭션에서
+ * 증감되므로({@link com.ozymandias089.devlog_api.post.provider.PostArchiveProvider}) 요청 시 <code>post</code>를 집계하지 않습니다.
+ * 월별 게시글 목록은 {@link PostService#getArchivePosts}가 처리합니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Service
+@RequiredArgsConstructor
+public class ArchiveService {
+    private final PostMonthCountRepository postMonthCountRepository;
+
+    /**
+     * 게시글이 있는 연/월과 게시글 수를 최신순으로 조회합니다.
+     *
+     * @return 연도별로 묶은 월별 게시글 수
+     */
+    @Transactional(readOnly = true)
+    public GetArchiveResponseDTO getArchive() {
+        return PostMapper.toGetArchiveResponseDTO(postMonthCountRepository.findAllMonths());
+    }
+}
@@ -0,0 +1,47 @@
+package com.ozymandias089.devlog_api.post.service;
+
+import com.ozymandias089.devlog_api.post.dto.response.GetSuggestionsResponseDTO;
+import com.ozymandias089.devlog_api.post.provider.PostMapper;
+import com.ozymandias089.devlog_api.post.search.AutocompleteIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 검색창(게시글 제목)과 멘션 선택기(사용자 이름)의 자동완성 유스케이스를 제공합니다.
+ *
+ * <p>두 조회 모두 메모리 색인({@link AutocompleteIndex})만 읽으며 DB에 접근하지 않습니다.</p>
+ *
+ * @since 1.1
+ */
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+    /** 제안 최대 개수 */
+    private static final int MAX_SUGGESTIONS = 10;
+
+    private final AutocompleteIndex autocompleteIndex;
+
+    /**
+     * 게시글 제목을 제안합니다. 제목의 첫 단어뿐 아니라 중간 단어로 시작해도 일치합니다.
+     *
+     * @param prefix 입력 중인 검색어(대소문자/연속 공백 무시)
+     * @param size   최대 개수(1~{@value #MAX_SUGGESTIONS}로 캡)
+     * @return 조회수 내림차순 제안
+     */
+    public GetSuggestionsResponseDTO suggestTitles(String prefix, int size) {
+        int capped = Math.min(Math.max(size, 1), MAX_SUGGESTIONS);
+        return PostMapper.toGetSuggestionsResponseDTO("slug", "title", autocompleteIndex.suggestTitles(prefix, capped));
+    }
+
+    /**
+     * 사용자 이름을 제안합니다.
+     *
+     * @param prefix 입력 중인 사용자 이름(대소문자 무시)
+     * @param size   최대 개수(1~{@value #MAX_SUGGESTIONS}로 캡)
+     * @return 작성 게시글 조회수 합 내림차순 제안
+     */
+    public GetSuggestionsResponseDTO suggestUsernames(String prefix, int size) {
+        int capped = Math.min(Math.max(size, 1), MAX_SUGGESTIONS);
+        return PostMapper.toGetSuggestionsResponseDTO("uuid", "username", autocompleteIndex.suggestUsernames(prefix, capped));
+    }
+}
@@ -0,0 +1,114 @@
+package com.ozymandias089.devlog_api.post.service;
+
+import com.ozymandias089.devlog_api.global.exception.DraftVersionConflictException;
+import com.ozymandias089.devlog_api.global.exception.ForbiddenActionException;
+import com.ozymandias089.devlog_api.post.dto.PostVersion;
+import com.ozymandias089.devlog_api.post.dto.request.PatchDraftRequestDTO;
+import com.ozymandias089.devlog_api.post.dto.request.ReplaceDraftRequestDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetDraftResponseDTO;
+import com.ozymandias089.devlog_api.post.provider.PostDraftProvider;
+import com.ozymandias089.devlog_api.post.provider.PostMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * 게시글 초안(자동 저장) 유스케이스를 제공합니다.
+ *
+ * <p>
+ * 자동 저장은 게시글 수정(PATCH)과 달리 본문 전체를 보내거나 게시글을 바꾸지 않습니다. 델타 패치는 DB의 초안 버전을 조건부로 올린 뒤
+ * 노드 메모리 버퍼에 적용되고, 본문은 디바운스된 주기로 <code>post_draft</code>에 저장됩니다({@link PostDraftProvider}). 발행하면 초안 내용으로 게시글을 한 번 수정하고
+ * 초안을 삭제합니다.
+ * </p>
+ *
+ * <p>
+ * 초안은 게시글 작성자만 읽고 쓸 수 있습니다. 작성자 확인은 버퍼에 캐시된 작성자 UUID로 하므로 패치마다 DB를 읽지 않으며,
+ * 버퍼가 없으면 작성자만 조회해 확인한 뒤에야 버퍼를 만듭니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Service
+@RequiredArgsConstructor
+public class PostDraftService {
+    private final PostDraftProvider postDraftProvider;
+    private final PostService postService;
+
+    /**
+     * 초안을 조회합니다. 초안이 없으면 현재 게시글로 시작하는 버전 0의 초안을 반환합니다.
+     *
+     * @param uuid 인증 사용자의 UUID 문자열
+     * @param slug 게시글 슬러그
+     * @return 초안
+     * @throws com.ozymandias089.devlog_api.global.exception.PostNotFoundException 게시글이 없는 경우
+     * @throws ForbiddenActionException 요청자가 작성자가 아닌 경우
+     */
+    public GetDraftResponseDTO getDraft(String uuid, String slug) {
+        checkAuthor(uuid, slug);
+        return PostMapper.toGetDraftResponseDTO(postDraftProvider.read(slug));
+    }
+
+    /**
+     * 초안에 델타 연산을 적용합니다.
+     *
+     * @param uuid        인증 사용자의 UUID 문자열
+     * @param slug        게시글 슬러그
+     * @param baseVersion 클라이언트가 알고 있는 초안 버전(<code>If-Match</code>)
+     * @param requestDTO  연산과 선택적 제목
+     * @return 적용 후 초안 버전
+     * @throws DraftVersionConflictException 기준 버전이 현재 버전과 다른 경우(412)
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidDraftPatchException 연산 범위/결과 길이가 잘못된 경우(400)
+     */
+    public long patchDraft(String uuid, String slug, Long baseVersion, PatchDraftRequestDTO requestDTO) {
+        checkAuthor(uuid, slug);
+        if (baseVersion == null) throw new DraftVersionConflictException(slug, postDraftProvider.read(slug).version());
+        return postDraftProvider.patch(slug, baseVersion, requestDTO.getTitle(), requestDTO.getOps());
+    }
+
+    /**
+     * 초안 전체를 교체합니다(패치 충돌 후 재동기화).
+     *
+     * @param uuid       인증 사용자의 UUID 문자열
+     * @param slug       게시글 슬러그
+     * @param requestDTO 본문과 선택적 제목
+     * @return 교체 후 초안 버전
+     */
+    public long replaceDraft(String uuid, String slug, ReplaceDraftRequestDTO requestDTO) {
+        checkAuthor(uuid, slug);
+        return postDraftProvider.replace(slug, requestDTO.getTitle(), requestDTO.getContent());
+    }
+
+    /**
+     * 초안을 버립니다.
+     *
+     * @param uuid 인증 사용자의 UUID 문자열
+     * @param slug 게시글 슬러그
+     */
+    public void discardDraft(String uuid, String slug) {
+        checkAuthor(uuid, slug);
+        postDraftProvider.discard(slug);
+    }
+
+    /**
+     * 초안 내용으로 게시글을 수정하고 초안을 삭제합니다.
+     *
+     * @param uuid            인증 사용자의 UUID 문자열
+     * @param slug            게시글 슬러그
+     * @param expectedVersion 게시글의 기대 버전(<code>If-Match</code>). 검사하지 않으면 null
+     * @return 정본 슬러그와 수정 후 게시글 버전
+     * @throws com.ozymandias089.devlog_api.global.exception.PostVersionConflictException 게시글 버전이 일치하지 않는 경우(412)
+     * @throws DraftVersionConflictException 최신 초안 본문이 아직 다른 노드에서 저장되지 않은 경우(412)
+     */
+    public PostVersion publishDraft(String uuid, String slug, Long expectedVersion) {
+        checkAuthor(uuid, slug);
+        PostDraftProvider.Draft draft = postDraftProvider.readCurrent(slug);
+        PostVersion published = postService.updatePost(uuid, slug, draft.title(), draft.content(), null, expectedVersion);
+        postDraftProvider.discard(slug);
+        return published;
+    }
+
+    private void checkAuthor(String uuid, String slug) {
+        if (!postDraftProvider.authorOf(slug).equals(UUID.fromString(uuid))) throw new ForbiddenActionException("Action unauthorized.");
+    }
+}
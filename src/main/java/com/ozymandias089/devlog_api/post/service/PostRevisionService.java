@@ -0,0 +1,89 @@
+package com.ozymandias089.devlog_api.post.service;
+
+import com.ozymandias089.devlog_api.global.exception.PostNotFoundException;
+import com.ozymandias089.devlog_api.global.exception.RevisionNotFoundException;
+import com.ozymandias089.devlog_api.global.util.CursorCodec;
+import com.ozymandias089.devlog_api.post.dto.response.GetRevisionResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetRevisionsResponseDTO;
+import com.ozymandias089.devlog_api.post.provider.PostMapper;
+import com.ozymandias089.devlog_api.post.provider.PostRevisionProvider;
+import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import com.ozymandias089.devlog_api.post.repository.PostRevisionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 게시글 리비전 이력 조회 유스케이스를 제공합니다.
+ *
+ * <p>
+ * 리비전은 게시글 작성/수정 트랜잭션에서 {@link PostRevisionProvider}가 기록합니다. 목록은 리비전 메타데이터만 읽고(본문 LOB 미적재),
+ * 단건 조회는 가장 가까운 이전 스냅샷부터 대상 리비전까지의 델타만 적용해 본문을 복원합니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Service
+@RequiredArgsConstructor
+public class PostRevisionService {
+    /** 목록 페이지 최대 크기 */
+    private static final int MAX_PAGE_SIZE = 20;
+
+    private final PostRepository postRepository;
+    private final PostRevisionRepository postRevisionRepository;
+    private final PostRevisionProvider postRevisionProvider;
+
+    /**
+     * 게시글의 리비전 목록을 최신순으로 조회합니다(키셋 페이지네이션).
+     *
+     * @param slug   게시글 슬러그
+     * @param size   페이지 크기(1~{@value #MAX_PAGE_SIZE}로 캡)
+     * @param cursor 이전 페이지의 <code>nextCursor</code>(첫 페이지면 null)
+     * @return 리비전 목록
+     * @throws PostNotFoundException 주어진 슬러그의 게시글이 없을 때
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidCursorException 커서 형식이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public GetRevisionsResponseDTO getRevisions(String slug, int size, String cursor) {
+        Long postId = findPostId(slug);
+        int capped = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Limit limit = Limit.of(capped + 1);
+
+        List<PostRevisionRepository.RevisionRow> rows = cursor == null || cursor.isBlank()
+                ? postRevisionRepository.findRows(postId, limit)
+                : postRevisionRepository.findRowsBefore(postId, CursorCodec.decode(cursor, 1)[0], limit);
+
+        String nextCursor = null;
+        if (rows.size() > capped) {
+            rows = rows.subList(0, capped);
+            nextCursor = CursorCodec.encode(rows.get(capped - 1).getRevision());
+        }
+        return PostMapper.toGetRevisionsResponseDTO(rows, capped, nextCursor);
+    }
+
+    /**
+     * 게시글의 특정 리비전을 복원해 조회합니다.
+     *
+     * @param slug     게시글 슬러그
+     * @param revision 리비전 번호(해당 수정 직후의 게시글 버전)
+     * @return 리비전 시점의 제목/본문
+     * @throws PostNotFoundException     주어진 슬러그의 게시글이 없을 때
+     * @throws RevisionNotFoundException 리비전이 없거나 보관 기간이 지나 정리된 경우
+     */
+    @Transactional(readOnly = true)
+    public GetRevisionResponseDTO getRevision(String slug, long revision) {
+        Long postId = findPostId(slug);
+        return postRevisionProvider.read(postId, revision)
+                .map(PostMapper::toGetRevisionResponseDTO)
+                .orElseThrow(() -> new RevisionNotFoundException(slug, revision));
+    }
+
+    private Long findPostId(String slug) {
+        return postRepository.findWriteTargetBySlug(slug)
+                .map(PostRepository.WriteTarget::getId)
+                .orElseThrow(() -> new PostNotFoundException(slug));
+    }
+}
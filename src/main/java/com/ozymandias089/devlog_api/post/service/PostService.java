@@ -1,30 +1,85 @@
 package com.ozymandias089.devlog_api.post.service;
 
+import com.ozymandias089.devlog_api.global.exception.BatchSizeExceededException;
 import com.ozymandias089.devlog_api.global.exception.ForbiddenActionException;
 import com.ozymandias089.devlog_api.global.exception.InvalidCredentialsException;
+import com.ozymandias089.devlog_api.global.exception.MemberNotFoundException;
 import com.ozymandias089.devlog_api.global.exception.PostNotFoundException;
+import com.ozymandias089.devlog_api.global.exception.PostVersionConflictException;
+import com.ozymandias089.devlog_api.global.util.CursorCodec;
+import com.ozymandias089.devlog_api.global.util.TagUtil;
 import com.ozymandias089.devlog_api.member.entity.MemberEntity;
+import com.ozymandias089.devlog_api.member.provider.MemberStatsProvider;
 import com.ozymandias089.devlog_api.member.repository.MemberRepository;
-import com.ozymandias089.devlog_api.post.dto.PostSummaryDTO;
+import com.ozymandias089.devlog_api.post.dto.PostSummaryRows;
+import com.ozymandias089.devlog_api.post.dto.PostVersion;
+import com.ozymandias089.devlog_api.post.dto.StoredPostContent;
+import com.ozymandias089.devlog_api.post.dto.request.AuthorPostSort;
 import com.ozymandias089.devlog_api.post.dto.request.CreatePostRequestDTO;
+import com.ozymandias089.devlog_api.post.dto.request.PostField;
 import com.ozymandias089.devlog_api.post.dto.request.UpdatePostRequestDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetArchivePostsResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetAuthorPostsResponseDTO;
 import com.ozymandias089.devlog_api.post.dto.response.GetDetailedPostResponseDTO;
 import com.ozymandias089.devlog_api.post.dto.response.GetPostListResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetPostsBatchResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetRelatedPostsResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetTagPostsResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.GetTrendingPostsResponseDTO;
 import com.ozymandias089.devlog_api.post.dto.response.PostCreateResponseDTO;
+import com.ozymandias089.devlog_api.post.dto.response.SearchPostsResponseDTO;
+import com.ozymandias089.devlog_api.post.entity.ContentCodec;
 import com.ozymandias089.devlog_api.post.entity.PostEntity;
+import com.ozymandias089.devlog_api.post.event.PostChangedEvent;
+import com.ozymandias089.devlog_api.post.provider.DuplicatePostProvider;
+import com.ozymandias089.devlog_api.post.provider.LatestPostFeedProvider;
+import com.ozymandias089.devlog_api.post.provider.MarkdownRenderer;
+import com.ozymandias089.devlog_api.post.provider.NewPostStreamProvider;
+import com.ozymandias089.devlog_api.post.provider.PostArchiveProvider;
+import com.ozymandias089.devlog_api.post.provider.PostExportProvider;
 import com.ozymandias089.devlog_api.post.provider.PostMapper;
+import com.ozymandias089.devlog_api.post.provider.PostRevisionProvider;
+import com.ozymandias089.devlog_api.post.provider.PostSummaryJsonWriter;
+import com.ozymandias089.devlog_api.post.provider.PostTagProvider;
+import com.ozymandias089.devlog_api.post.provider.RelatedPostProvider;
 import com.ozymandias089.devlog_api.post.provider.SlugProvider;
+import com.ozymandias089.devlog_api.post.provider.TrendingPostProvider;
 import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import com.ozymandias089.devlog_api.post.repository.PostDraftRepository;
+import com.ozymandias089.devlog_api.post.repository.PostFieldsRepository;
+import com.ozymandias089.devlog_api.post.repository.PostFingerprintRepository;
+import com.ozymandias089.devlog_api.post.repository.PostMonthCountRepository;
+import com.ozymandias089.devlog_api.post.repository.PostRelatedRepository;
+import com.ozymandias089.devlog_api.post.repository.PostRevisionRepository;
+import com.ozymandias089.devlog_api.post.repository.PostTagRepository;
+import com.ozymandias089.devlog_api.post.search.PostSearchIndex;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -34,12 +89,24 @@ import java.util.UUID;
  * 생성/조회 등 유스케이스를 제공하며, 트랜잭션 경계를 관리합니다.
  * 목록 조회는 인터페이스 프로젝션을 사용해 필요한 필드만 조회하여 성능을 최적화합니다.
  * 상세 조회는 조회수를 원자적으로 증가시킨 뒤 작성자 정보를 포함해 반환합니다.
+ * 본문은 작성/수정 시점에 {@link MarkdownRenderer}로 한 번 렌더링해 HTML/목차와 함께 저장합니다.
+ * </p>
+ *
+ * <p>
+ * 목록/검색/상세 조회는 <code>fields</code>(sparse fieldset)를 받아, 요청된 필드({@link PostField})에 해당하는 컬럼만
+ * 동적 프로젝션({@link PostFieldsRepository})으로 조회하고 그 필드만 직렬화합니다. 생략하면 기존 응답 형식을 유지합니다.
+ * </p>
+ *
+ * <p>
+ * 태그는 게시글과 같은 트랜잭션에서 역색인(<code>post_tag</code>)과 태그별 게시글 수를 함께 갱신합니다({@link PostTagProvider}).
+ * 월별 게시글 수와 작성자 통계도 작성/삭제 트랜잭션에서 함께 증감합니다({@link PostArchiveProvider}, {@link MemberStatsProvider}).
  * </p>
  *
  * <h3>트랜잭션 정책</h3>
  * <ul>
  *   <li>쓰기 작업: {@link Transactional} (기본)</li>
  *   <li>읽기 작업: {@link Transactional#readOnly()} = true</li>
+ *   <li>게시글 생성: 슬러그 충돌 재시도를 위해 시도마다 {@link TransactionTemplate}으로 트랜잭션을 분리</li>
  * </ul>
  *
  * @since 1.0
@@ -51,44 +118,115 @@ public class PostService {
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
     private final SlugProvider slugProvider;
+    private final LatestPostFeedProvider latestPostFeedProvider;
+    private final PostSearchIndex postSearchIndex;
+    private final TrendingPostProvider trendingPostProvider;
+    private final MarkdownRenderer markdownRenderer;
+    private final PostExportProvider postExportProvider;
+    private final NewPostStreamProvider newPostStreamProvider;
+    private final PostTagProvider postTagProvider;
+    private final PostTagRepository postTagRepository;
+    private final PostDraftRepository postDraftRepository;
+    private final PostRevisionProvider postRevisionProvider;
+    private final PostRevisionRepository postRevisionRepository;
+    private final RelatedPostProvider relatedPostProvider;
+    private final PostRelatedRepository postRelatedRepository;
+    private final DuplicatePostProvider duplicatePostProvider;
+    private final PostFingerprintRepository postFingerprintRepository;
+    private final PostArchiveProvider postArchiveProvider;
+    private final PostMonthCountRepository postMonthCountRepository;
+    private final MemberStatsProvider memberStatsProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    /** 슬러그 충돌 시 게시글 생성 최대 시도 횟수 */
+    private static final int CREATE_ATTEMPTS = 3;
+
+    /** 슬러그 유니크 인덱스 이름(충돌 시에만 재시도) */
+    private static final String SLUG_CONSTRAINT = "uk_post_slug";
+
+    /** 일괄 조회 한 번에 받을 수 있는 최대 슬러그 수 */
+    @Value("${app.posts.batch.max-size:50}")
+    private int batchMaxSize;
 
     /**
      * 새 게시글을 생성하고 최종 확정된 슬러그를 반환합니다.
      *
      * <p>
+     * 0) 트랜잭션을 열기 전에 본문 SimHash 지문으로 거의 같은 기존 게시글을 메모리 색인에서 찾습니다({@link DuplicatePostProvider}).
+     *    설정에 따라 거부하거나(슬러그 할당/저장 없이 {@link com.ozymandias089.devlog_api.global.exception.DuplicatePostException})
+     *    검토 대상으로 표시한 뒤 계속합니다.<br>
      * 1) <code>uuid</code>로 작성자 식별 후 없으면 {@link InvalidCredentialsException}.<br>
-     * 2) 제목을 기반으로 고유한 슬러그를 생성합니다.<br>
-     * 3) 저장 시 유니크 제약으로 인한 {@link DataIntegrityViolationException}이 발생하면
-     *    슬러그를 재생성하여 한 번 더 저장을 시도합니다.<br>
-     * 4) 성공 시 최종 슬러그를 반환합니다.
+     * 2) 제목을 기반으로 고유한 슬러그를 생성합니다(인덱스 조회 1회).<br>
+     *    본문은 Markdown을 정제된 HTML/목차로 렌더링해 원문과 함께 저장합니다.<br>
+     * 3) 동시 생성으로 슬러그 유니크 인덱스(<code>{@value #SLUG_CONSTRAINT}</code>) 위반이 발생하면
+     *    실패한 트랜잭션을 롤백하고 <em>새 트랜잭션</em>에서 슬러그를 다시 할당해 최대
+     *    {@value #CREATE_ATTEMPTS}회까지 저장을 시도합니다.<br>
+     * 4) 태그가 있으면 정규화해 같은 트랜잭션에서 태그 역색인과 태그별 게시글 수에 반영합니다.<br>
+     * 5) 성공 시 최종 슬러그를 반환합니다.
      * </p>
      *
      * @param uuid 인증된 사용자의 UUID(문자열)
-     * @param createPostRequestDTO 제목/내용을 담은 요청 DTO
+     * @param createPostRequestDTO 제목/내용/태그를 담은 요청 DTO
      * @return 생성된 게시글의 최종 슬러그
      * @throws InvalidCredentialsException 사용자 UUID에 해당하는 멤버가 없을 때
-     * @throws DataIntegrityViolationException 드물게 재시도 후에도 슬러그 충돌이 지속되는 경우 전파될 수 있음
-     * @implNote 전역 유일 슬러그 정책을 가정합니다(스키마에 <code>unique index (slug)</code> 권장).
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidTagException 태그 형식/개수가 잘못된 경우
+     * @throws com.ozymandias089.devlog_api.global.exception.DuplicatePostException 거부 모드에서 거의 같은 게시글이 있는 경우(409)
+     * @throws DataIntegrityViolationException 재시도 후에도 슬러그 충돌이 지속되거나, 슬러그가 아닌 제약 위반인 경우(재시도하지 않음)
+     * @implNote 제약 위반이 발생한 영속성 컨텍스트/트랜잭션은 재사용할 수 없으므로,
+     *           시도마다 {@link TransactionTemplate}으로 트랜잭션 경계를 새로 엽니다.
      * @since 1.0
      */
-    @Transactional
     public PostCreateResponseDTO createPost(String uuid, CreatePostRequestDTO createPostRequestDTO) {
+        TagUtil.normalize(createPostRequestDTO.getTags()); // 트랜잭션을 열기 전에 형식 검증
+        DuplicatePostProvider.Check duplicateCheck = duplicatePostProvider.check(createPostRequestDTO.getContent());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                String slug = transactionTemplate.execute(status -> insertPost(uuid, createPostRequestDTO, duplicateCheck));
+                return PostMapper.toPostCreateResponseDTO(slug);
+            } catch (DataIntegrityViolationException ex) {
+                if (attempt >= CREATE_ATTEMPTS || !isSlugConflict(ex)) throw ex;
+                log.info("Slug collision while creating post (attempt {}), retrying", attempt);
+            }
+        }
+    }
+
+    /**
+     * 예외 원인이 슬러그 유니크 인덱스 위반인지 확인합니다(다른 제약 위반은 재시도해도 같은 결과).
+     */
+    private static boolean isSlugConflict(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String name = violation.getConstraintName();
+                return name != null && name.toLowerCase(Locale.ROOT).contains(SLUG_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 단일 트랜잭션 안에서 슬러그를 할당하고 게시글을 저장합니다.
+     */
+    private String insertPost(String uuid, CreatePostRequestDTO createPostRequestDTO, DuplicatePostProvider.Check duplicateCheck) {
         MemberEntity member = memberRepository.findByUuid(UUID.fromString(uuid))
                 .orElseThrow(() -> new InvalidCredentialsException("No member found with the provided Token"));
 
         String slug = slugProvider.generateUniqueSlug(member, createPostRequestDTO.getTitle());
 
         PostEntity post = PostMapper.toPostEntity(member, createPostRequestDTO.getTitle(), createPostRequestDTO.getContent(), slug);
-
-        try {
-            postRepository.save(post);
-            return PostMapper.toPostCreateResponseDTO(slug);
-        } catch (DataIntegrityViolationException ex) {
-            String fallback = slugProvider.generateUniqueSlug(member, createPostRequestDTO.getTitle());
-            post = PostMapper.toPostEntity(member, createPostRequestDTO.getTitle(), createPostRequestDTO.getContent(), fallback);
-            postRepository.save(post);
-            return PostMapper.toPostCreateResponseDTO(fallback);
+        applyRendering(post, createPostRequestDTO.getContent());
+        postRepository.save(post);
+        if (createPostRequestDTO.getTags() != null && !createPostRequestDTO.getTags().isEmpty()) {
+            postTagProvider.replaceTags(post.getId(), post.getCreatedAt(), createPostRequestDTO.getTags());
         }
+        postRevisionProvider.recordCreated(post.getId(), post.getVersion(), post.getTitle(), createPostRequestDTO.getContent(), post.getCreatedAt());
+        relatedPostProvider.recordSignature(post.getId(), createPostRequestDTO.getContent(), post.getCreatedAt());
+        duplicatePostProvider.recordCreated(post.getId(), duplicateCheck, post.getCreatedAt());
+        postArchiveProvider.recordCreated(post.getCreatedAt());
+        memberStatsProvider.recordPostCreated(member.getId(), post.getCreatedAt());
+        eventPublisher.publishEvent(PostChangedEvent.created(post.getId(), slug, post.getVersion()));
+        return slug;
     }
 
     /**
@@ -96,26 +234,303 @@ public class PostService {
      *
      * <p>
      * 페이지 크기는 1~20 범위로 캡 처리되며, 정렬은 <code>createdAt DESC, id DESC</code>로 안정화합니다.
-     * 인터페이스 프로젝션({@link PostRepository.ListRow})으로 필요한 필드만 조회한 뒤
-     * {@link PostSummaryDTO} 리스트로 매핑하여 응답 DTO에 담아 반환합니다.
+     * 요청 범위가 Redis 최신 피드({@link LatestPostFeedProvider}) 윈도우 안이면 SQL 없이 피드에서 응답하고,
+     * 그렇지 않으면 필요한 필드만 요약 튜플로 조회합니다. 어느 경로든 항목을 DTO 리스트로 복사하지 않고,
+     * 응답 직렬화 시점에 결과 행에서 JSON으로 바로 씁니다({@link PostSummaryJsonWriter}).
      * </p>
      *
      * @param page 0부터 시작하는 페이지 인덱스(기본값 0)
      * @param size 페이지 크기(기본값 20, 최대 20)
+     * @param fields 응답 항목에 포함할 필드(쉼표 구분, 생략 시 전체)
      * @return 목록 및 페이지 정보를 담은 {@link GetPostListResponseDTO}
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidFieldsException 알 수 없는 필드가 있는 경우
+     * @implNote 피드 적중 시 DB 커넥션을 점유하지 않도록 메서드 단위 트랜잭션을 두지 않습니다.
+     *           폴백 경로의 조회는 리포지토리 호출 단위로 실행됩니다.
      * @since 1.0
      */
-    @Transactional(readOnly = true)
-    public GetPostListResponseDTO getPostList(int page, int size) {
-        var sort = Sort.by(Sort.Direction.DESC, "createdAt")
-                .and(Sort.by(Sort.Direction.DESC, "id"));
+    public GetPostListResponseDTO getPostList(int page, int size, String fields) {
         int capped = Math.min(Math.max(size, 1), 20); // size 최대 20
-        var pageable = PageRequest.of(page, capped, sort);
+        Set<PostField> selected = PostField.parse(fields, PostField.LIST);
+
+        if (page >= 0) {
+            var cached = latestPostFeedProvider.readPage(page, capped, selected);
+            if (cached.isPresent()) return cached.get();
+        }
+
+        var pageable = PageRequest.of(page, capped, PostRepository.LATEST_FIRST);
+        PostSummaryRows posts;
+        int rowCount;
+        if (selected == null) {
+            List<Object[]> rows = postRepository.findSummaryTuples(pageable);
+            posts = PostSummaryJsonWriter.ofTuples(rows);
+            rowCount = rows.size();
+        } else {
+            List<Tuple> rows = postRepository.findFieldTuples(selected, pageable);
+            posts = PostSummaryJsonWriter.ofFieldTuples(rows, selected);
+            rowCount = rows.size();
+        }
+
+        // Page와 같은 규칙: 마지막 페이지임이 확정되면 전체 개수 쿼리를 생략
+        long total;
+        if (rowCount > 0 && rowCount < capped) total = pageable.getOffset() + rowCount;
+        else if (rowCount == 0 && page == 0) total = 0;
+        else total = postRepository.count();
+
+        return PostMapper.toGetPostListResponseDTO(posts, page, capped, total);
+    }
+
+    /**
+     * 제목/본문 전문 검색 결과를 BM25 순위로 조회합니다.
+     *
+     * <p>
+     * 1) 인프로세스 역색인({@link PostSearchIndex})에서 순위와 PK만 구합니다(DB 미접근).<br>
+     * 2) 해당 페이지의 PK들만 <code>IN</code> 조회 1회로 요약 정보를 채우고, 색인 순위대로 정렬합니다.<br>
+     * 3) 다음 페이지가 있으면 마지막 결과의 <code>(점수, PK)</code>를 커서로 반환합니다.
+     * </p>
+     *
+     * @param query  검색어(한글은 2-gram, 그 밖의 문자는 단어 단위로 토큰화)
+     * @param size   페이지 크기(1~20으로 캡)
+     * @param cursor 이전 응답의 <code>nextCursor</code>(첫 페이지면 null)
+     * @param fields 응답 항목에 포함할 필드(쉼표 구분, 생략 시 전체)
+     * @return 검색 결과와 다음 페이지 커서를 담은 {@link SearchPostsResponseDTO}
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidCursorException 커서 형식이 잘못된 경우
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidFieldsException 알 수 없는 필드가 있는 경우
+     * @implNote 색인 반영 직후 삭제된 게시글은 요약 조회에서 빠지므로 페이지가 size보다 짧을 수 있습니다.
+     * @since 1.1
+     */
+    public SearchPostsResponseDTO searchPosts(String query, int size, String cursor, String fields) {
+        int capped = Math.min(Math.max(size, 1), 20);
+        Set<PostField> selected = PostField.parse(fields, PostField.LIST);
+
+        PostSearchIndex.SearchHit after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            long[] keys = CursorCodec.decode(cursor, 2);
+            after = new PostSearchIndex.SearchHit(keys[1], Double.longBitsToDouble(keys[0]));
+        }
+
+        PostSearchIndex.SearchPage result = postSearchIndex.search(query, capped, after);
+        if (result.hits().isEmpty()) return PostMapper.toSearchPostsResponseDTO(PostSummaryRows.EMPTY, capped, null);
+
+        List<Long> ids = result.hits().stream().map(PostSearchIndex.SearchHit::postId).toList();
+        PostSummaryRows posts = loadSummariesInOrder(ids, selected);
+
+        String nextCursor = null;
+        if (result.hasNext()) {
+            PostSearchIndex.SearchHit last = result.hits().get(result.hits().size() - 1);
+            nextCursor = CursorCodec.encode(Double.doubleToLongBits(last.score()), last.postId());
+        }
+        return PostMapper.toSearchPostsResponseDTO(posts, capped, nextCursor);
+    }
+
+    /**
+     * 최근 조회수를 시간 감쇠로 가중한 트렌딩 게시글을 조회합니다.
+     *
+     * <p>노드 메모리의 상위 K 스냅샷({@link TrendingPostProvider})만 읽으므로 DB/Redis에 접근하지 않습니다.
+     * 스냅샷은 주기적으로(기본 5초) 전체 노드의 조회를 합산한 Redis 순위로부터 갱신됩니다.</p>
+     *
+     * @param size 최대 개수(1 이상, 스냅샷 크기 K로 제한)
+     * @return 순위순 목록과 스냅샷 갱신 시각을 담은 {@link GetTrendingPostsResponseDTO}
+     * @since 1.1
+     */
+    public GetTrendingPostsResponseDTO getTrendingPosts(int size) {
+        TrendingPostProvider.Snapshot top = trendingPostProvider.top(Math.max(size, 1));
+        return PostMapper.toGetTrendingPostsResponseDTO(top.posts(), top.refreshedAt());
+    }
+
+    /**
+     * 새로 발행되는 게시글 요약을 받는 SSE 구독을 엽니다.
+     *
+     * <p>게시글 생성이 커밋되면 Redis pub/sub으로 모든 노드에 전파되어 각 노드의 구독자에게 전달됩니다({@link NewPostStreamProvider}).
+     * 목록 첫 페이지를 주기적으로 폴링하는 대신 사용합니다.</p>
+     *
+     * @return SSE 연결
+     * @throws com.ozymandias089.devlog_api.global.exception.StreamCapacityExceededException 노드의 구독자 수가 최대치인 경우
+     * @since 1.1
+     */
+    public SseEmitter subscribeNewPosts() {
+        return newPostStreamProvider.subscribe();
+    }
+
+    /**
+     * 한 작성자의 게시글 목록을 키셋 페이지네이션으로 조회합니다.
+     *
+     * <p>
+     * 1) 작성자 UUID를 PK로 변환합니다(없으면 {@link MemberNotFoundException}).<br>
+     * 2) 정렬 기준에 맞는 <code>(author_id, 정렬키)</code> 인덱스만 읽는 커버링 쿼리로 페이지의 PK를 구합니다.
+     *    커서 조건 <code>(key, id) &lt; (cursorKey, cursorId)</code>로 시작 위치를 찾으므로 OFFSET 스캔이 없습니다.<br>
+     * 3) 해당 PK들만 <code>IN</code> 조회 1회로 요약 정보를 채웁니다(지연 조인).
+     * </p>
+     *
+     * @param authorUuid 작성자 UUID
+     * @param sort       정렬 기준
+     * @param size       페이지 크기(1~20으로 캡)
+     * @param cursor     이전 응답의 <code>nextCursor</code>(첫 페이지면 null)
+     * @param fields     응답 항목에 포함할 필드(쉼표 구분, 생략 시 전체)
+     * @return 목록과 다음 페이지 커서를 담은 {@link GetAuthorPostsResponseDTO}
+     * @throws MemberNotFoundException 작성자가 존재하지 않을 때
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidCursorException 커서 형식이 정렬 기준과 맞지 않을 때
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidFieldsException 알 수 없는 필드가 있는 경우
+     * @implNote 조회수순은 조회수가 계속 바뀌므로, 페이지를 넘기는 사이 순위가 바뀐 게시글은 누락/중복될 수 있습니다.
+     * @since 1.1
+     */
+    @Transactional(readOnly = true)
+    public GetAuthorPostsResponseDTO getAuthorPosts(UUID authorUuid, AuthorPostSort sort, int size, String cursor, String fields) {
+        int capped = Math.min(Math.max(size, 1), 20);
+        Set<PostField> selected = PostField.parse(fields, PostField.LIST);
+        Long authorId = memberRepository.findIdByUuid(authorUuid)
+                .orElseThrow(() -> new MemberNotFoundException(authorUuid.toString()));
+        boolean first = cursor == null || cursor.isBlank();
+        Limit limit = Limit.of(capped + 1);
+
+        List<Long> ids;
+        String nextCursor = null;
+        if (sort == AuthorPostSort.VIEWS) {
+            List<PostRepository.ViewCountKey> keys;
+            if (first) {
+                keys = postRepository.findAuthorViewKeys(authorId, limit);
+            } else {
+                long[] c = CursorCodec.decode(cursor, 2);
+                keys = postRepository.findAuthorViewKeysAfter(authorId, c[0], c[1], limit);
+            }
+            if (keys.size() > capped) {
+                keys = keys.subList(0, capped);
+                PostRepository.ViewCountKey last = keys.get(capped - 1);
+                nextCursor = CursorCodec.encode(last.getViewCount(), last.getId());
+            }
+            ids = keys.stream().map(PostRepository.ViewCountKey::getId).toList();
+        } else {
+            List<PostRepository.CreatedAtKey> keys;
+            if (first) {
+                keys = postRepository.findAuthorLatestKeys(authorId, limit);
+            } else {
+                long[] c = CursorCodec.decode(cursor, 3);
+                keys = postRepository.findAuthorLatestKeysAfter(authorId, Instant.ofEpochSecond(c[0], c[1]), c[2], limit);
+            }
+            if (keys.size() > capped) {
+                keys = keys.subList(0, capped);
+                PostRepository.CreatedAtKey last = keys.get(capped - 1);
+                nextCursor = CursorCodec.encode(last.getCreatedAt().getEpochSecond(), last.getCreatedAt().getNano(), last.getId());
+            }
+            ids = keys.stream().map(PostRepository.CreatedAtKey::getId).toList();
+        }
+
+        return PostMapper.toGetAuthorPostsResponseDTO(loadSummariesInOrder(ids, selected), capped, nextCursor);
+    }
+
+    /**
+     * 한 태그의 게시글 목록을 최신순 키셋 페이지네이션으로 조회합니다.
+     *
+     * <p>
+     * 1) 태그를 정규화합니다(<code>Spring Boot</code> → <code>spring-boot</code>).<br>
+     * 2) <code>idx_post_tag_tag_created_at (tag, createdAt, postId)</code>만 읽는 커버링 쿼리로 페이지의 PK를 구합니다.
+     *    커서 조건 <code>(createdAt, postId) &lt; (cursorCreatedAt, cursorId)</code>로 시작 위치를 찾으므로 OFFSET 스캔이 없습니다.<br>
+     * 3) 해당 PK들만 <code>IN</code> 조회 1회로 요약 정보를 채웁니다(지연 조인).
+     * </p>
+     *
+     * @param tag    태그(정규화 전)
+     * @param size   페이지 크기(1~20으로 캡)
+     * @param cursor 이전 응답의 <code>nextCursor</code>(첫 페이지면 null)
+     * @param fields 응답 항목에 포함할 필드(쉼표 구분, 생략 시 전체)
+     * @return 목록과 다음 페이지 커서를 담은 {@link GetTagPostsResponseDTO}. 없는 태그면 빈 목록
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidTagException 태그 형식이 잘못된 경우
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidCursorException 커서 형식이 잘못된 경우
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidFieldsException 알 수 없는 필드가 있는 경우
+     * @since 1.1
+     */
+    @Transactional(readOnly = true)
+    public GetTagPostsResponseDTO getTagPosts(String tag, int size, String cursor, String fields) {
+        int capped = Math.min(Math.max(size, 1), 20);
+        Set<PostField> selected = PostField.parse(fields, PostField.LIST);
+        String normalized = TagUtil.normalize(tag);
+        Limit limit = Limit.of(capped + 1);
+
+        List<PostRepository.CreatedAtKey> keys;
+        if (cursor == null || cursor.isBlank()) {
+            keys = postTagRepository.findLatestKeys(normalized, limit);
+        } else {
+            long[] c = CursorCodec.decode(cursor, 3);
+            keys = postTagRepository.findLatestKeysAfter(normalized, Instant.ofEpochSecond(c[0], c[1]), c[2], limit);
+        }
+        String nextCursor = null;
+        if (keys.size() > capped) {
+            keys = keys.subList(0, capped);
+            PostRepository.CreatedAtKey last = keys.get(capped - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt().getEpochSecond(), last.getCreatedAt().getNano(), last.getId());
+        }
+        List<Long> ids = keys.stream().map(PostRepository.CreatedAtKey::getId).toList();
+        return PostMapper.toGetTagPostsResponseDTO(normalized, loadSummariesInOrder(ids, selected), capped, nextCursor);
+    }
+
+    /**
+     * 한 달 동안 작성된 게시글 목록을 최신순 키셋(커서) 페이지네이션으로 조회합니다.
+     *
+     * <p>
+     * 월을 {@link PostArchiveProvider}로 <code>[월 시작, 다음 달 시작)</code> 시각 범위로 바꿔 <code>idx_post_created_at</code>을
+     * 범위 스캔하므로 페이지 깊이와 무관하게 비용이 같습니다. 키 조회 후 요약은 <code>IN</code> 조회 1회로 읽습니다.
+     * 그 달의 전체 게시글 수는 월별 게시글 수 테이블에서 읽습니다.
+     * </p>
+     *
+     * @param year   연도
+     * @param month  월(1~12)
+     * @param size   페이지 크기(1~20으로 캡)
+     * @param cursor 이전 응답의 <code>nextCursor</code>(첫 페이지면 null)
+     * @param fields 응답 항목에 포함할 필드(쉼표 구분, 생략 시 전체)
+     * @return 목록과 다음 페이지 커서를 담은 {@link GetArchivePostsResponseDTO}. 게시글이 없는 달이면 빈 목록
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidArchiveMonthException 연/월이 범위를 벗어난 경우
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidCursorException 커서 형식이 잘못된 경우
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidFieldsException 알 수 없는 필드가 있는 경우
+     * @since 1.1
+     */
+    @Transactional(readOnly = true)
+    public GetArchivePostsResponseDTO getArchivePosts(int year, int month, int size, String cursor, String fields) {
+        int capped = Math.min(Math.max(size, 1), 20);
+        Set<PostField> selected = PostField.parse(fields, PostField.LIST);
+        YearMonth yearMonth = postArchiveProvider.toYearMonth(year, month);
+        Instant from = postArchiveProvider.startOf(yearMonth);
+        Instant to = postArchiveProvider.endOf(yearMonth);
+        Limit limit = Limit.of(capped + 1);
 
-        Page<PostRepository.ListRow> pageData = postRepository.findAllProjectedBy(pageable);
-        List<PostSummaryDTO> posts = PostMapper.toPostSummaryDTOs(pageData);
+        List<PostRepository.CreatedAtKey> keys;
+        if (cursor == null || cursor.isBlank()) {
+            keys = postRepository.findMonthKeys(from, to, limit);
+        } else {
+            long[] c = CursorCodec.decode(cursor, 3);
+            keys = postRepository.findMonthKeysAfter(from, to, Instant.ofEpochSecond(c[0], c[1]), c[2], limit);
+        }
+        String nextCursor = null;
+        if (keys.size() > capped) {
+            keys = keys.subList(0, capped);
+            PostRepository.CreatedAtKey last = keys.get(capped - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt().getEpochSecond(), last.getCreatedAt().getNano(), last.getId());
+        }
+        List<Long> ids = keys.stream().map(PostRepository.CreatedAtKey::getId).toList();
+        Long postCount = postMonthCountRepository.findPostCount(PostArchiveProvider.monthKey(yearMonth));
+        return PostMapper.toGetArchivePostsResponseDTO(year, month, postCount == null ? 0 : postCount,
+                loadSummariesInOrder(ids, selected), capped, nextCursor);
+    }
 
-        return PostMapper.toGetPostListResponseDTO(posts, pageData);
+    /**
+     * 게시글과 본문이 비슷한 관련 게시글을 유사도 순으로 조회합니다.
+     *
+     * <p>
+     * 관련 목록은 {@link RelatedPostProvider}가 미리 계산해 둔 것이므로, 조회는 <code>post_related</code>의 PK 목록과
+     * 요약 <code>IN</code> 조회 1회뿐입니다. 게시글 작성 직후에는 계산이 끝날 때까지(기본 수 초) 빈 목록일 수 있습니다.
+     * </p>
+     *
+     * @param slug   게시글 슬러그
+     * @param fields 응답 항목에 포함할 필드(쉼표 구분, 생략 시 전체)
+     * @return 관련 게시글 목록을 담은 {@link GetRelatedPostsResponseDTO}
+     * @throws PostNotFoundException 주어진 슬러그의 게시글이 없을 때
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidFieldsException 알 수 없는 필드가 있는 경우
+     * @since 1.1
+     */
+    @Transactional(readOnly = true)
+    public GetRelatedPostsResponseDTO getRelatedPosts(String slug, String fields) {
+        Set<PostField> selected = PostField.parse(fields, PostField.LIST);
+        PostRepository.WriteTarget target = postRepository.findWriteTargetBySlug(slug)
+                .orElseThrow(() -> new PostNotFoundException(slug));
+        List<Long> ids = postRelatedRepository.findRelatedIds(target.getId());
+        return PostMapper.toGetRelatedPostsResponseDTO(loadSummariesInOrder(ids, selected));
     }
 
     /**
@@ -124,27 +539,182 @@ public class PostService {
      * <p>
      * 1) 먼저 벌크 업데이트로 <code>viewCount</code>를 +1 합니다(영속성 컨텍스트 변경 감지/감사 미발생).<br>
      * 2) 영향받은 행이 없으면 {@link PostNotFoundException}.<br>
-     * 3) 작성자 정보를 함께 가져오는 쿼리로 상세를 조회하여 DTO로 반환합니다.
+     * 3) 작성자 정보를 함께 가져오는 쿼리로 상세를 조회하여 DTO로 반환합니다.<br>
+     * 4) 저장된 HTML/목차를 그대로 반환합니다. 아직 렌더링되지 않은 게시글(백그라운드 재렌더링 전)만
+     *    요청 단위로 렌더링하며, 이 결과는 저장하지 않습니다.<br>
+     * 5) <code>fields</code>가 주어지면 엔티티 대신 요청된 필드만 조회합니다. 본문/HTML/목차를 요청하지 않으면 LOB 컬럼을 읽지 않고,
+     *    작성자 필드를 요청하지 않으면 작성자를 조인하지 않습니다.
      * </p>
      *
      * <p><em>NOTE:</em> 조회수 증가는 벌크 업데이트이므로 <code>updatedAt</code> 등 감사 필드가 변경되지 않습니다.</p>
      *
-     * @param slug 전역 유일 슬러그
-     * @return 제목, 작성자(UUID/username), 조회수, 생성일, 본문을 포함한 {@link GetDetailedPostResponseDTO}
+     * @param slug   전역 유일 슬러그
+     * @param fields 응답에 포함할 필드(쉼표 구분, 생략 시 제목/작성자/조회수/버전/생성일/본문/HTML/목차)
+     * @return 요청된 필드를 담은 {@link GetDetailedPostResponseDTO}
      * @throws PostNotFoundException 주어진 슬러그의 게시글이 없을 때
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidFieldsException 알 수 없는 필드가 있는 경우
      * @implNote <code>@Modifying(clearAutomatically = true, flushAutomatically = true)</code>로
      *           벌크 업데이트 직후의 조회가 최신 상태를 읽도록 안전장치를 두었습니다.
      * @since 1.0
      */
     @Transactional
-    public GetDetailedPostResponseDTO getPostDetailed(String slug) {
+    public GetDetailedPostResponseDTO getPostDetailed(String slug, String fields) {
+        Set<PostField> selected = PostField.parse(fields, PostField.DETAIL);
+
         // 1) 조회수 +1 (감사 X → updatedAt 그대로)
         int rows = postRepository.incrementViewCountBySlug(slug);
         if (rows == 0) throw new PostNotFoundException(slug);
+        memberStatsProvider.recordView(slug);
+        if (selected != null) return getPostFields(slug, selected);
 
         PostEntity post = postRepository.findBySlugWithAuthor(slug).orElseThrow(() -> new PostNotFoundException(slug));
+        latestPostFeedProvider.recordView(post.getId());
+        trendingPostProvider.recordView(post.getId());
+
+        List<String> tags = postTagProvider.tagsOf(post.getId());
+        if (post.getRendererVersion() == 0 || post.getRenderedHtml() == null) {
+            MarkdownRenderer.Rendered rendered = markdownRenderer.render(post.getContent());
+            return PostMapper.toGetDetailedPostResponseDTO(post, rendered.html(), rendered.tocJson(), tags);
+        }
+        return PostMapper.toGetDetailedPostResponseDTO(post, post.getRenderedHtml(), post.getToc(), tags);
+    }
+
+    /**
+     * 여러 슬러그의 게시글 상세를 한 번에 조회합니다(위젯/RSS 생성 등 연속 상세 조회 대체).
+     *
+     * <p>
+     * 1) 슬러그 중복을 요청 순서를 유지한 채 제거합니다. <code>app.posts.batch.max-size</code>(기본 50)개를 넘으면 {@link BatchSizeExceededException}.<br>
+     * 2) <code>countViews</code>이면 <code>UPDATE ... WHERE slug IN (...)</code> 한 번으로 조회수를 올립니다.<br>
+     * 3) <code>slug IN (...)</code> 조회 한 번으로 게시글과 작성자를 함께 읽습니다(fetch join). 태그도 <code>IN</code> 조회 한 번으로 읽습니다.<br>
+     * 4) 요청 순서대로 응답하며, 없는 슬러그는 <code>missing</code>에 담습니다(404 없음).
+     * </p>
+     *
+     * @param slugs      조회할 슬러그(요청 순서)
+     * @param countViews 조회수 증가 및 트렌딩/피드 조회 기록 여부
+     * @return 요청 순서의 상세 목록과 없는 슬러그 목록을 담은 {@link GetPostsBatchResponseDTO}
+     * @throws BatchSizeExceededException 중복 제거 후 슬러그 수가 최대치를 넘는 경우
+     * @implNote 렌더링 전인 게시글의 HTML/목차는 상세 조회와 같이 요청 단위로 렌더링합니다.
+     * @since 1.1
+     */
+    @Transactional
+    public GetPostsBatchResponseDTO getPostsBySlugs(List<String> slugs, boolean countViews) {
+        LinkedHashSet<String> requested = new LinkedHashSet<>();
+        for (String slug : slugs) {
+            if (slug != null && !slug.isBlank()) requested.add(slug.trim());
+        }
+        if (requested.size() > batchMaxSize) throw new BatchSizeExceededException(requested.size(), batchMaxSize);
+        if (requested.isEmpty()) return PostMapper.toGetPostsBatchResponseDTO(List.of(), List.of());
+
+        if (countViews) postRepository.incrementViewCountBySlugIn(requested);
+
+        Map<String, PostEntity> bySlug = new HashMap<>(requested.size() * 2);
+        for (PostEntity post : postRepository.findAllBySlugInWithAuthor(requested)) bySlug.put(post.getSlug(), post);
+        if (countViews) memberStatsProvider.recordViews(bySlug.keySet());
+
+        Map<Long, List<String>> tags = postTagProvider.tagsOf(bySlug.values().stream().map(PostEntity::getId).toList());
+
+        List<GetDetailedPostResponseDTO> posts = new ArrayList<>(bySlug.size());
+        List<String> missing = new ArrayList<>();
+        for (String slug : requested) {
+            PostEntity post = bySlug.get(slug);
+            if (post == null) {
+                missing.add(slug);
+                continue;
+            }
+            if (countViews) {
+                latestPostFeedProvider.recordView(post.getId());
+                trendingPostProvider.recordView(post.getId());
+            }
+            if (post.getRendererVersion() == 0 || post.getRenderedHtml() == null) {
+                MarkdownRenderer.Rendered rendered = markdownRenderer.render(post.getContent());
+                posts.add(PostMapper.toGetDetailedPostResponseDTO(post, rendered.html(), rendered.tocJson(),
+                        tags.get(post.getId()), PostField.BATCH_DEFAULT));
+            } else {
+                posts.add(PostMapper.toGetDetailedPostResponseDTO(post, post.getRenderedHtml(), post.getToc(),
+                        tags.get(post.getId()), PostField.BATCH_DEFAULT));
+            }
+        }
+        return PostMapper.toGetPostsBatchResponseDTO(posts, missing);
+    }
+
+    /**
+     * 요청된 필드만 조회해 상세 응답을 만듭니다. 조회수 증가는 호출자가 먼저 수행합니다.
+     */
+    private GetDetailedPostResponseDTO getPostFields(String slug, Set<PostField> fields) {
+        Tuple tuple = postRepository.findFieldTupleBySlug(slug, fields).orElseThrow(() -> new PostNotFoundException(slug));
+        Long id = tuple.get(PostFieldsRepository.ID, Long.class);
+        latestPostFeedProvider.recordView(id);
+        trendingPostProvider.recordView(id);
+
+        String html = null;
+        String toc = null;
+        if (fields.contains(PostField.HTML) || fields.contains(PostField.TOC)) {
+            Integer rendererVersion = tuple.get(PostFieldsRepository.RENDERER_VERSION, Integer.class);
+            html = fields.contains(PostField.HTML) ? tuple.get(PostField.HTML.jsonName(), String.class) : null;
+            toc = fields.contains(PostField.TOC) ? tuple.get(PostField.TOC.jsonName(), String.class) : null;
+            if (rendererVersion == null || rendererVersion == 0 || (fields.contains(PostField.HTML) && html == null)) {
+                String body = postRepository.findSearchSourcesByIdIn(List.of(id)).stream()
+                        .findFirst().map(PostRepository.SearchSource::getBody).orElse(null);
+                MarkdownRenderer.Rendered rendered = markdownRenderer.render(body);
+                html = rendered.html();
+                toc = rendered.tocJson();
+            }
+        }
+        List<String> tags = fields.contains(PostField.TAGS) ? postTagProvider.tagsOf(id) : null;
+        return PostMapper.toGetDetailedPostResponseDTO(tuple, fields, html, toc, tags);
+    }
+
+    /**
+     * 슬러그로 게시글 본문 원문만 조회합니다(조회수 미증가).
+     *
+     * <p>
+     * 저장 바이트를 컨버터 없이 읽어, gzip으로 저장되어 있고 클라이언트가 gzip을 허용하면
+     * 압축 해제/재압축 없이 저장된 gzip 스트림을 그대로 반환합니다. 그 밖의 경우에는 UTF-8 평문을 반환합니다.
+     * </p>
+     *
+     * @param slug         전역 유일 슬러그
+     * @param acceptsGzip  클라이언트의 gzip 수용 여부(<code>Accept-Encoding</code>)
+     * @return 본문 페이로드
+     * @throws PostNotFoundException 주어진 슬러그의 게시글이 없을 때
+     * @since 1.1
+     */
+    public StoredPostContent getPostContent(String slug, boolean acceptsGzip) {
+        PostRepository.StoredContent stored = postRepository.findStoredContentBySlug(slug)
+                .orElseThrow(() -> new PostNotFoundException(slug));
 
-        return PostMapper.toGetDetailedPostResponseDTO(post);
+        byte[] body = stored.getContentBody();
+        if (body == null) {
+            String legacy = stored.getLegacyContent();
+            byte[] utf8 = legacy == null ? new byte[0] : legacy.getBytes(StandardCharsets.UTF_8);
+            return new StoredPostContent(utf8, 0, utf8.length, false);
+        }
+        if (acceptsGzip && ContentCodec.isGzip(body)) {
+            return new StoredPostContent(body, 1, body.length - 1, true);
+        }
+        if (!ContentCodec.isGzip(body)) {
+            return new StoredPostContent(body, 1, body.length - 1, false);
+        }
+        byte[] utf8 = ContentCodec.decode(body).getBytes(StandardCharsets.UTF_8);
+        return new StoredPostContent(utf8, 0, utf8.length, false);
+    }
+
+    /**
+     * 전체 게시글을 PK 오름차순 NDJSON으로 출력 스트림에 씁니다(관리자 백업/분석 적재용).
+     *
+     * <p>
+     * 청크 단위 키셋 쿼리를 전진 전용 커서로 읽어 행마다 바로 쓰므로 힙 사용량이 일정하며,
+     * 청크마다 짧게 커넥션을 빌리므로 장시간 트랜잭션을 열지 않습니다({@link PostExportProvider}).
+     * </p>
+     *
+     * @param afterId 이 PK보다 큰 게시글부터 내보냄(이어받기 시 마지막으로 받은 <code>id</code>, 처음부터면 0)
+     * @param out     출력 스트림
+     * @return 내보낸 게시글 수
+     * @throws IOException 출력 스트림 쓰기 실패(클라이언트 연결 종료 등)
+     * @implNote 메서드 단위 트랜잭션을 두지 않습니다. 결과는 단일 시점 스냅샷이 아닙니다.
+     * @since 1.1
+     */
+    public long exportPosts(long afterId, OutputStream out) throws IOException {
+        return postExportProvider.export(Math.max(afterId, 0), out);
     }
 
     /**
@@ -152,51 +722,97 @@ public class PostService {
      *
      * <p><strong>동작 순서</strong></p>
      * <ol>
-     *   <li>슬러그로 대상 {@link PostEntity}를 조회합니다. 없으면 {@link com.ozymandias089.devlog_api.global.exception.PostNotFoundException}.</li>
-     *   <li>요청자의 UUID와 게시글 작성자 UUID를 비교해 권한을 검증합니다. 불일치 시 {@link com.ozymandias089.devlog_api.global.exception.ForbiddenActionException}.</li>
-     *   <li>{@link UpdatePostRequestDTO}의 <code>title</code>/<code>content</code>가
-     *       <em>null/blank가 아니면서</em> 기존 값과 다를 때만 반영합니다.</li>
+     *   <li>슬러그로 대상의 PK/작성자/버전만 조회합니다(본문 LOB/엔티티 미적재). 없으면 {@link PostNotFoundException}.</li>
+     *   <li>요청자의 UUID와 게시글 작성자 UUID를 비교해 권한을 검증합니다. 불일치 시 {@link ForbiddenActionException}.</li>
+     *   <li>{@link UpdatePostRequestDTO}의 <code>title</code>/<code>content</code> 중 <em>null/blank가 아닌</em> 항목만
+     *       <code>UPDATE ... WHERE slug = ? AND author_id = ? AND version = ?</code> 한 번으로 반영하고 버전을 올립니다.
+     *       본문이 바뀌면 HTML/목차/발췌문/읽기 시간도 다시 계산해 같은 문장에서 저장합니다.
+     *       <code>tags</code>만 주어지면 버전과 수정 시각만 올립니다.</li>
+     *   <li><code>tags</code>가 주어지면(null이 아니면) 태그 전체를 교체하고 태그별 게시글 수를 같은 트랜잭션에서 갱신합니다.</li>
+     *   <li>영향받은 행이 없으면(그 사이 다른 수정이 커밋됨) {@link PostVersionConflictException}.</li>
+     *   <li>수정 후 버전을 번호로 하는 리비전을 같은 트랜잭션에서 기록합니다({@link PostRevisionProvider}).</li>
      * </ol>
      *
      * <p>
-     * 이 메서드는 트랜잭션 안에서 JPA 더티 체킹에 의해 변경 사항이 커밋 시점에 자동 반영됩니다.
+     * <code>expectedVersion</code>이 주어지면(<code>If-Match</code>) 그 버전을 기준으로, 없으면 1단계에서 읽은 버전을 기준으로
+     * 조건부 수정합니다. 따라서 클라이언트가 <code>If-Match</code>를 보내면 읽은 뒤 다른 사람이 수정한 경우(lost update)를 감지할 수 있습니다.
      * 슬러그는 정책상 불변이므로 저장된 <em>정본(canonical)</em> 슬러그를 그대로 반환합니다.
      * </p>
      *
-     * @param uuid     인증 사용자의 UUID 문자열(예: JWT subject)
-     * @param slug     수정 대상 게시글의 슬러그
-     * @param requestDTO 수정할 제목/내용을 담은 DTO(필드가 null/blank면 해당 항목은 미수정)
-     * @return 저장된 게시글의 정본(canonical) 슬러그
+     * @param uuid            인증 사용자의 UUID 문자열(예: JWT subject)
+     * @param slug            수정 대상 게시글의 슬러그
+     * @param requestDTO      수정할 제목/내용/태그를 담은 DTO(필드가 null/blank면 해당 항목은 미수정)
+     * @param expectedVersion 클라이언트가 기대하는 버전(<code>If-Match</code>). 검사하지 않으면 null
+     * @return 정본(canonical) 슬러그와 수정 후 버전
      *
-     * @throws com.ozymandias089.devlog_api.global.exception.PostNotFoundException
-     *         슬러그에 해당하는 게시글이 존재하지 않는 경우
-     * @throws com.ozymandias089.devlog_api.global.exception.ForbiddenActionException
-     *         요청자(UUID)가 게시글 작성자가 아닌 경우
+     * @throws PostNotFoundException        슬러그에 해당하는 게시글이 존재하지 않는 경우
+     * @throws ForbiddenActionException     요청자(UUID)가 게시글 작성자가 아닌 경우
+     * @throws PostVersionConflictException 버전이 일치하지 않는 경우(412)
+     * @throws com.ozymandias089.devlog_api.global.exception.InvalidTagException 태그 형식/개수가 잘못된 경우
      *
-     * @implNote 동시 수정 충돌 방지를 위해 필요 시 {@link jakarta.persistence.Version @Version} 기반 낙관적 락 도입을 고려하세요.
-     *           (예: 요청/응답에 version 포함 후 불일치 시 409/412 처리)
+     * @implNote 벌크 업데이트이므로 감사 필드가 자동 갱신되지 않아 <code>updatedAt</code>을 직접 설정합니다.
      * @since 1.0
      */
     @Transactional
-    public String updatePost(String uuid, String slug, UpdatePostRequestDTO requestDTO) {
-        // 1. 슬러그로 포스트를 검색해온다.
-        PostEntity targetPost = postRepository.findBySlugWithAuthor(slug).orElseThrow(() -> new PostNotFoundException(slug));
-        // 2. 토큰 파라미터로 받은 uuid와 슬러그로 검색해온 포스트의 uuid를 비교해 유효성을 검증한다.
-        if (!targetPost.getAuthor().getUuid().equals(UUID.fromString(uuid))) throw new ForbiddenActionException("Unauthorized Action.");
-
-        // 3. dto의 제목, 내용을 반영한다.
-        if (requestDTO.getTitle() != null &&
-                !requestDTO.getTitle().isBlank() &&
-                !requestDTO.getTitle().equals(targetPost.getTitle())
-        ) targetPost.updateTitle(requestDTO.getTitle().trim());
-
-        if (requestDTO.getContent() != null &&
-                !requestDTO.getContent().isBlank() &&
-                !requestDTO.getContent().equals(targetPost.getContent()))
-            targetPost.updateContent(requestDTO.getContent());
+    public PostVersion updatePost(String uuid, String slug, UpdatePostRequestDTO requestDTO, Long expectedVersion) {
+        return updatePost(uuid, slug, requestDTO.getTitle(), requestDTO.getContent(), requestDTO.getTags(), expectedVersion);
+    }
+
+    /**
+     * 제목/본문/태그 값으로 게시글을 부분 수정합니다. 초안 발행({@link PostDraftService#publishDraft})도 이 경로를 사용합니다.
+     *
+     * @param uuid            인증 사용자의 UUID 문자열
+     * @param slug            수정 대상 게시글의 슬러그
+     * @param rawTitle        새 제목(null/blank면 미수정)
+     * @param rawContent      새 본문(null/blank면 미수정)
+     * @param tags            새 태그(null이면 미수정)
+     * @param expectedVersion 클라이언트가 기대하는 버전. 검사하지 않으면 null
+     * @return 정본(canonical) 슬러그와 수정 후 버전
+     * @see #updatePost(String, String, UpdatePostRequestDTO, Long)
+     * @since 1.1
+     */
+    @Transactional
+    public PostVersion updatePost(String uuid, String slug, String rawTitle, String rawContent, List<String> tags, Long expectedVersion) {
+        // 1. 슬러그로 권한/버전 확인용 정보만 읽어온다.
+        PostRepository.WriteTarget target = findWriteTarget(uuid, slug);
+        long version = expectedVersion != null ? expectedVersion : target.getVersion();
+
+        // 2. 반영할 제목, 내용을 고른다.
+        String title = rawTitle == null || rawTitle.isBlank() ? null : rawTitle.trim();
+        String content = rawContent == null || rawContent.isBlank() ? null : rawContent;
+        if (tags != null) TagUtil.normalize(tags);
+        if (title == null && content == null && tags == null) {
+            if (version != target.getVersion()) throw new PostVersionConflictException(slug);
+            return new PostVersion(target.getSlug(), version);
+        }
+
+        // 3. 작성자/버전 조건부로 한 번에 반영한다. 리비전 델타 계산에 필요한 수정 전 상태를 먼저 읽는다.
+        PostRevisionProvider.Base revisionBase = postRevisionProvider.prepare(target.getId(), version, content != null);
+        Instant now = Instant.now(clock);
+        int rows;
+        if (title == null && content == null) {
+            rows = postRepository.touchIfVersion(target.getSlug(), target.getAuthorId(), version, now);
+        } else if (content == null) {
+            rows = postRepository.updateTitleIfVersion(target.getSlug(), target.getAuthorId(), version, title, now);
+        } else {
+            MarkdownRenderer.Rendered rendered = markdownRenderer.render(content);
+            rows = postRepository.updateContentIfVersion(target.getSlug(), target.getAuthorId(), version, title, content,
+                    rendered.html(), rendered.tocJson(), rendered.excerpt(), rendered.wordCount(), rendered.readingMinutes(),
+                    rendered.version(), now);
+        }
+        if (rows == 0) throw new PostVersionConflictException(slug);
+        if (tags != null) postTagProvider.replaceTags(target.getId(), target.getCreatedAt(), tags);
+        postRevisionProvider.recordUpdated(revisionBase, target.getTitle(), version + 1,
+                title != null ? title : target.getTitle(), content, now);
+        if (content != null) {
+            relatedPostProvider.recordSignature(target.getId(), content, now);
+            duplicatePostProvider.recordUpdated(target.getId(), content, now);
+        }
+
+        eventPublisher.publishEvent(PostChangedEvent.updated(target.getId(), target.getSlug(), version + 1));
 
         // 4. 정본 슬러그 반환 (불변 정책)
-        return targetPost.getSlug();
+        return new PostVersion(target.getSlug(), version + 1);
     }
 
     /**
@@ -204,32 +820,72 @@ public class PostService {
      *
      * <p><strong>동작 순서</strong></p>
      * <ol>
-     *   <li>슬러그로 대상 {@link PostEntity}를 조회합니다. 없으면
-     *       {@link com.ozymandias089.devlog_api.global.exception.PostNotFoundException} 발생.</li>
-     *   <li>요청자 UUID와 게시글 작성자 UUID가 일치하는지 검증합니다. 불일치 시
-     *       {@link com.ozymandias089.devlog_api.global.exception.ForbiddenActionException} 발생.</li>
-     *   <li>검증을 통과하면 해당 게시글을 삭제합니다.</li>
+     *   <li>슬러그로 대상의 PK/작성자/버전만 조회합니다(엔티티 미적재). 없으면 {@link PostNotFoundException} 발생.</li>
+     *   <li>요청자 UUID와 게시글 작성자 UUID가 일치하는지 검증합니다. 불일치 시 {@link ForbiddenActionException} 발생.</li>
+     *   <li><code>DELETE ... WHERE slug = ? AND author_id = ? AND version = ?</code>로 삭제합니다.
+     *       영향받은 행이 없으면 {@link PostVersionConflictException} 발생.</li>
+     *   <li>태그 연결을 지우고 태그별 게시글 수를 줄입니다. 저장된 초안과 리비전 이력, MinHash 서명/SimHash 지문도 함께 삭제합니다.</li>
      * </ol>
      *
      * <p>트랜잭션 안에서 실행되며, 예외 발생 시 롤백됩니다.</p>
      *
-     * @param uuid 요청자(UUID 문자열, 보통 JWT subject)
-     * @param slug 삭제 대상 게시글의 전역 유일 슬러그
+     * @param uuid            요청자(UUID 문자열, 보통 JWT subject)
+     * @param slug            삭제 대상 게시글의 전역 유일 슬러그
+     * @param expectedVersion 클라이언트가 기대하는 버전(<code>If-Match</code>). 검사하지 않으면 null
      *
-     * @throws com.ozymandias089.devlog_api.global.exception.PostNotFoundException
-     *         주어진 슬러그의 게시글이 존재하지 않는 경우
-     * @throws com.ozymandias089.devlog_api.global.exception.ForbiddenActionException
-     *         요청자가 게시글 작성자가 아니어서 삭제 권한이 없는 경우
+     * @throws PostNotFoundException        주어진 슬러그의 게시글이 존재하지 않는 경우
+     * @throws ForbiddenActionException     요청자가 게시글 작성자가 아니어서 삭제 권한이 없는 경우
+     * @throws PostVersionConflictException 버전이 일치하지 않는 경우(412)
      *
-     * @implNote 댓글/좋아요 등 연관 데이터가 있다면 FK 제약, JPA cascade(orphanRemoval), 소프트 딜리트 전략을
-     *           사전에 정렬해야 합니다. FK 위반을 즉시 드러내고 싶으면 필요에 따라 {@code entityManager.flush()}를 호출하세요.
+     * @implNote 댓글/좋아요 등 연관 데이터가 있다면 벌크 삭제 전에 FK 제약이나 별도 정리 전략을 정렬해야 합니다.
+     *           벌크 삭제는 JPA cascade(orphanRemoval)를 적용하지 않습니다.
      * @since 1.0
      */
     @Transactional
-    public void deletePost(String uuid, String slug) {
-        PostEntity post = postRepository.findBySlugWithAuthor(slug).orElseThrow(() -> new PostNotFoundException(slug));
-        if (!post.getAuthor().getUuid().equals(UUID.fromString(uuid))) throw new ForbiddenActionException("Action unauthorized.");
+    public void deletePost(String uuid, String slug, Long expectedVersion) {
+        PostRepository.WriteTarget target = findWriteTarget(uuid, slug);
+        long version = expectedVersion != null ? expectedVersion : target.getVersion();
 
-        postRepository.delete(post);
+        int rows = postRepository.deleteIfVersion(target.getSlug(), target.getAuthorId(), version);
+        if (rows == 0) throw new PostVersionConflictException(slug);
+        postTagProvider.removeAll(target.getId());
+        postDraftRepository.deleteByPostId(target.getId());
+        postRevisionRepository.deleteByPostId(target.getId());
+        relatedPostProvider.remove(target.getId());
+        postFingerprintRepository.deleteByPostId(target.getId());
+        postArchiveProvider.recordDeleted(target.getCreatedAt());
+        memberStatsProvider.recordPostDeleted(target.getAuthorId(), target.getViewCount());
+        eventPublisher.publishEvent(PostChangedEvent.deleted(target.getId(), target.getSlug(), version + 1));
+    }
+
+    /**
+     * 수정/삭제 대상의 권한 확인용 정보를 읽고 요청자가 작성자인지 검증합니다.
+     */
+    private PostRepository.WriteTarget findWriteTarget(String uuid, String slug) {
+        PostRepository.WriteTarget target = postRepository.findWriteTargetBySlug(slug)
+                .orElseThrow(() -> new PostNotFoundException(slug));
+        if (!target.getAuthorUuid().equals(UUID.fromString(uuid))) throw new ForbiddenActionException("Action unauthorized.");
+        return target;
+    }
+
+    /**
+     * 본문을 렌더링해 HTML/목차/발췌문/읽기 시간/렌더러 버전을 게시글에 반영합니다.
+     */
+    private void applyRendering(PostEntity post, String content) {
+        MarkdownRenderer.Rendered rendered = markdownRenderer.render(content);
+        post.applyRendering(rendered.html(), rendered.tocJson(), rendered.excerpt(), rendered.wordCount(),
+                rendered.readingMinutes(), rendered.version());
+    }
+
+    /**
+     * PK 목록의 요약 튜플을 <code>IN</code> 조회 1회로 읽어, 직렬화 시 주어진 순서대로 쓰도록 반환합니다.
+     * 그 사이 삭제된 게시글은 건너뜁니다. <code>fields</code>가 있으면 그 필드만 조회합니다.
+     */
+    private PostSummaryRows loadSummariesInOrder(List<Long> ids, Set<PostField> fields) {
+        if (ids.isEmpty()) return PostSummaryRows.EMPTY;
+        if (fields != null) {
+            return PostSummaryJsonWriter.ofFieldTuplesInOrder(ids, postRepository.findFieldTuplesByIdIn(ids, fields), fields);
+        }
+        return PostSummaryJsonWriter.ofTuplesInOrder(ids, postRepository.findSummaryTuplesByIdIn(ids));
     }
 }
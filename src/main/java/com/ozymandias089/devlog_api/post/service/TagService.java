@@ -0,0 +1,61 @@
+package com.ozymandias089.devlog_api.post.service;
+
+import com.ozymandias089.devlog_api.global.util.TagUtil;
+import com.ozymandias089.devlog_api.post.dto.response.GetTagsResponseDTO;
+import com.ozymandias089.devlog_api.post.provider.PostMapper;
+import com.ozymandias089.devlog_api.post.repository.TagCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 태그 조회 유스케이스(태그 클라우드, 에디터 자동완성)를 제공합니다.
+ *
+ * <p>
+ * 두 조회 모두 태그별 게시글 수 테이블(<code>tag_count</code>)만 읽습니다. 개수는 게시글 작성/수정/삭제 트랜잭션에서
+ * 증감되므로({@link com.ozymandias089.devlog_api.post.provider.PostTagProvider}) 요청 시 <code>post_tag</code>를 집계하지 않습니다.
+ * 태그별 게시글 목록은 {@link PostService#getTagPosts}가 처리합니다.
+ * </p>
+ *
+ * @since 1.1
+ */
+@Service
+@RequiredArgsConstructor
+public class TagService {
+    /** 자동완성 결과 최대 개수 */
+    private static final int MAX_SUGGESTIONS = 10;
+    /** 태그 클라우드 최대 개수 */
+    private static final int MAX_TAGS = 100;
+
+    private final TagCountRepository tagCountRepository;
+
+    /**
+     * 게시글 수 상위 태그를 조회합니다(태그 클라우드).
+     *
+     * @param size 최대 개수(1~{@value #MAX_TAGS}로 캡)
+     * @return 게시글 수 내림차순 태그 목록
+     */
+    @Transactional(readOnly = true)
+    public GetTagsResponseDTO getTopTags(int size) {
+        int capped = Math.min(Math.max(size, 1), MAX_TAGS);
+        return PostMapper.toGetTagsResponseDTO(tagCountRepository.findTop(Limit.of(capped)));
+    }
+
+    /**
+     * 접두사로 시작하는 태그를 게시글 수 순으로 조회합니다(에디터 자동완성).
+     *
+     * @param prefix 입력 중인 태그(정규화 후 비어 있으면 빈 목록)
+     * @param size   최대 개수(1~{@value #MAX_SUGGESTIONS}로 캡)
+     * @return 게시글 수 내림차순 태그 목록
+     */
+    @Transactional(readOnly = true)
+    public GetTagsResponseDTO suggestTags(String prefix, int size) {
+        String normalized = TagUtil.normalizePrefix(prefix);
+        if (normalized.isEmpty()) return PostMapper.toGetTagsResponseDTO(List.of());
+        int capped = Math.min(Math.max(size, 1), MAX_SUGGESTIONS);
+        return PostMapper.toGetTagsResponseDTO(tagCountRepository.findByPrefix(normalized, Limit.of(capped)));
+    }
+}
@@ -0,0 +1,117 @@
+package com.ozymandias089.devlog_api.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link SlugUtil} 테스트. 단일 순회 구현이 기존 정규식 파이프라인({@link #legacyToSlug})과 같은 결과를 내는지
+ * 고정 시드의 무작위 입력으로 비교합니다.
+ */
+class SlugUtilTest {
+    /** 무작위 비교 입력 수 */
+    private static final int CORPUS_SIZE = 200_000;
+
+    /** 무작위 입력에 섞는 코드 포인트 구간(시작, 끝 포함) */
+    private static final int[][] POOLS = {
+            {0x20, 0x7E},       // ASCII 출력 문자
+            {0x09, 0x0D},       // 정규식 \s 공백
+            {0x1C, 0x1F},       // \s가 아닌 Character.isWhitespace 문자
+            {'-', '-'},
+            {'0', '9'},
+            {0xA0, 0xFF},       // NBSP, Latin-1
+            {0x100, 0x24F},     // Latin Extended
+            {0x130, 0x131},     // İ, ı
+            {0x300, 0x36F},     // 결합 발음부호
+            {0x391, 0x3C9},     // 그리스 문자(어말 시그마)
+            {0x660, 0x669},     // 아랍-인도 숫자(\d 아님)
+            {0x1100, 0x11FF},   // 한글 자모
+            {0x3131, 0x318E},   // 한글 호환 자모
+            {0xAC00, 0xD7A3},   // 한글 음절
+            {0x4E00, 0x4E20},   // CJK
+            {0xFB00, 0xFB06},   // 라틴 합자
+            {0xFF10, 0xFF3A},   // 전각 숫자/대문자
+            {0x2028, 0x2029},   // 줄/문단 구분자
+            {0xD800, 0xDFFF},   // 짝 없는 서로게이트
+            {0x1F600, 0x1F64F}, // 이모지(보조 평면)
+            {0x1D400, 0x1D433}, // 수학용 영숫자(보조 평면 문자)
+    };
+
+    @Test
+    void convertsTitlesToSlugs() {
+        assertEquals("spring-boot-3-migration", SlugUtil.toSlug("  Spring Boot 3 Migration  "));
+        assertEquals("cafe-creme", SlugUtil.toSlug("Café — Crème!"));
+        assertEquals("a-b", SlugUtil.toSlug("a -- _ b"));
+        assertEquals("-leading-and-trailing-", SlugUtil.toSlug("-leading and trailing-"));
+        assertEquals(Normalizer.normalize("한글-제목", Normalizer.Form.NFD), SlugUtil.toSlug("한글 제목"));
+    }
+
+    @Test
+    void fallsBackToPostWhenNothingRemains() {
+        assertEquals("post", SlugUtil.toSlug(null));
+        assertEquals("post", SlugUtil.toSlug(""));
+        assertEquals("post", SlugUtil.toSlug("   "));
+        assertEquals("post", SlugUtil.toSlug("!!! ??? 😀"));
+    }
+
+    @Test
+    void truncatesToOneHundredCharacters() {
+        String slug = SlugUtil.toSlug("a".repeat(150));
+        assertEquals(100, slug.length());
+    }
+
+    @Test
+    void matchesLegacyRegexPipelineOnRandomCorpus() {
+        SplittableRandom random = new SplittableRandom(20261018L);
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            String input = randomTitle(random);
+            assertEquals(legacyToSlug(input), SlugUtil.toSlug(input), () -> "input: " + escape(input));
+        }
+    }
+
+    @Test
+    void shortTokenIsSixBase36Characters() {
+        for (int i = 0; i < 1000; i++) {
+            String token = SlugUtil.shortToken();
+            assertEquals(6, token.length(), token);
+            assertTrue(token.chars().allMatch(c -> (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z')), token);
+        }
+        assertNotEquals(SlugUtil.shortToken() + SlugUtil.shortToken(), SlugUtil.shortToken() + SlugUtil.shortToken());
+    }
+
+    /** 단일 순회 구현 이전의 정규식 파이프라인(비교 기준) */
+    static String legacyToSlug(String input) {
+        if (input == null) return "post";
+        String n = Normalizer.normalize(input, Normalizer.Form.NFD).replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+        String cleaned = n.replaceAll("[^\\p{IsAlphabetic}\\d\\uAC00-\\uD7A3\\s-]", "");
+        String hyphened = cleaned.trim().replaceAll("\\s+", "-").replaceAll("-{2,}", "-");
+        String lower = hyphened.toLowerCase(Locale.ROOT);
+        if (lower.isBlank()) return "post";
+        return lower.length() > 100 ? lower.substring(0, 100) : lower;
+    }
+
+    private static String randomTitle(SplittableRandom random) {
+        int length = random.nextInt(10) == 0 ? 90 + random.nextInt(60) : random.nextInt(24);
+        StringBuilder sb = new StringBuilder(length * 2);
+        for (int i = 0; i < length; i++) {
+            int[] pool = POOLS[random.nextInt(POOLS.length)];
+            sb.appendCodePoint(pool[0] + random.nextInt(pool[1] - pool[0] + 1));
+        }
+        return sb.toString();
+    }
+
+    private static String escape(String s) {
+        StringBuilder sb = new StringBuilder();
+        for (char c : s.toCharArray()) {
+            if (c >= 0x20 && c < 0x7F) sb.append(c);
+            else sb.append(String.format("\\u%04X", (int) c));
+        }
+        return sb.toString();
+    }
+}
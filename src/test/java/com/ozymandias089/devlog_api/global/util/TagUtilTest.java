@@ -0,0 +1,65 @@
+package com.ozymandias089.devlog_api.global.util;
+
+import com.ozymandias089.devlog_api.global.exception.InvalidTagException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TagUtilTest {
+
+    @Test
+    void normalizesCaseAndSeparators() {
+        assertEquals("spring-boot", TagUtil.normalize("Spring Boot"));
+        assertEquals("spring-boot", TagUtil.normalize("  spring__boot "));
+        assertEquals("spring-boot", TagUtil.normalize("-spring - boot-"));
+        assertEquals("자바-17", TagUtil.normalize("자바 17"));
+    }
+
+    @Test
+    void deduplicatesNormalizedTagsInInputOrder() {
+        List<String> tags = Arrays.asList("Java", "Spring Boot", "java", "spring-boot", "JPA");
+        assertEquals(List.of("java", "spring-boot", "jpa"), new ArrayList<>(TagUtil.normalize(tags)));
+        assertTrue(TagUtil.normalize((List<String>) null).isEmpty());
+    }
+
+    @Test
+    void rejectsInvalidTags() {
+        assertThrows(InvalidTagException.class, () -> TagUtil.normalize((String) null));
+        assertThrows(InvalidTagException.class, () -> TagUtil.normalize("   "));
+        assertThrows(InvalidTagException.class, () -> TagUtil.normalize("- _ -"));
+        assertThrows(InvalidTagException.class, () -> TagUtil.normalize("c++"));
+        assertThrows(InvalidTagException.class, () -> TagUtil.normalize("100%"));
+        assertThrows(InvalidTagException.class, () -> TagUtil.normalize("a".repeat(TagUtil.MAX_LENGTH + 1)));
+    }
+
+    @Test
+    void countsLengthInCodePoints() {
+        String emojiFree = "가".repeat(TagUtil.MAX_LENGTH);
+        assertEquals(emojiFree, TagUtil.normalize(emojiFree));
+        String supplementary = new String(Character.toChars(0x1D400)).repeat(TagUtil.MAX_LENGTH);
+        assertEquals(supplementary, TagUtil.normalize(supplementary));
+    }
+
+    @Test
+    void rejectsTooManyTags() {
+        List<String> tags = new ArrayList<>();
+        for (int i = 0; i <= TagUtil.MAX_TAGS; i++) tags.add("tag" + i);
+        assertThrows(InvalidTagException.class, () -> TagUtil.normalize(tags));
+        assertEquals(TagUtil.MAX_TAGS, TagUtil.normalize(tags.subList(0, TagUtil.MAX_TAGS)).size());
+    }
+
+    @Test
+    void normalizesPrefixLeniently() {
+        assertEquals("spring", TagUtil.normalizePrefix("Spring "));
+        assertEquals("spring-b", TagUtil.normalizePrefix("spring_b"));
+        assertEquals("c", TagUtil.normalizePrefix("c++"));
+        assertEquals("", TagUtil.normalizePrefix(null));
+        assertEquals(TagUtil.MAX_LENGTH, TagUtil.normalizePrefix("a".repeat(50)).length());
+    }
+}
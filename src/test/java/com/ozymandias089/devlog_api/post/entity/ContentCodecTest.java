@@ -0,0 +1,74 @@
+package com.ozymandias089.devlog_api.post.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentCodecTest {
+
+    @Test
+    void storesShortContentRaw() {
+        byte[] stored = ContentCodec.encode("짧은 본문");
+        assertEquals(ContentCodec.RAW, stored[0]);
+        assertFalse(ContentCodec.isGzip(stored));
+        assertEquals("짧은 본문", ContentCodec.decode(stored));
+    }
+
+    @Test
+    void compressesLongRepetitiveContent() throws IOException {
+        String content = "## 제목\n\nSpring Boot 본문 문단입니다. ".repeat(100);
+        byte[] stored = ContentCodec.encode(content);
+        assertTrue(ContentCodec.isGzip(stored));
+        assertTrue(stored.length < content.getBytes(StandardCharsets.UTF_8).length / 4);
+        assertEquals(content, ContentCodec.decode(stored));
+
+        // 마커 뒤 페이로드는 그대로 Content-Encoding: gzip 응답 본문이 될 수 있어야 함
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(stored, 1, stored.length - 1))) {
+            assertArrayEquals(content.getBytes(StandardCharsets.UTF_8), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void keepsContentBelowThresholdRaw() {
+        String content = "a".repeat(ContentCodec.MIN_COMPRESS_BYTES - 1);
+        byte[] stored = ContentCodec.encode(content);
+        assertEquals(ContentCodec.RAW, stored[0]);
+        assertEquals(content.length() + 1, stored.length);
+        assertEquals(content, ContentCodec.decode(stored));
+    }
+
+    @Test
+    void roundTripsAcrossCompressionThreshold() {
+        String pattern = "가a😀";
+        for (int codePoints = 0; codePoints <= ContentCodec.MIN_COMPRESS_BYTES * 2; codePoints += 7) {
+            String repeated = pattern.repeat(codePoints / 3 + 1);
+            String content = repeated.substring(0, repeated.offsetByCodePoints(0, codePoints));
+            assertEquals(content, ContentCodec.decode(ContentCodec.encode(content)));
+        }
+    }
+
+    @Test
+    void convertsNullsAndEmptyColumns() {
+        ContentCodec codec = new ContentCodec();
+        assertNull(codec.convertToDatabaseColumn(null));
+        assertNull(codec.convertToEntityAttribute(null));
+        assertEquals("", codec.convertToEntityAttribute(new byte[0]));
+        assertEquals("", ContentCodec.decode(ContentCodec.encode("")));
+    }
+
+    @Test
+    void rejectsUnknownMarkerAndCorruptedPayload() {
+        assertThrows(IllegalStateException.class, () -> ContentCodec.decode(new byte[]{9, 1, 2}));
+        assertThrows(IllegalStateException.class, () -> ContentCodec.decode(new byte[]{ContentCodec.GZIP, 1, 2, 3}));
+    }
+}
@@ -0,0 +1,99 @@
+package com.ozymandias089.devlog_api.post.provider;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RevisionDeltaTest {
+    private static final int MAX_EDITS = 1000;
+
+    @Test
+    void unchangedBodyProducesMarker() {
+        assertEquals(RevisionDelta.UNCHANGED, RevisionDelta.diff("a\nb", "a\nb", MAX_EDITS));
+        assertEquals("a\nb", RevisionDelta.apply("a\nb", RevisionDelta.UNCHANGED));
+    }
+
+    @Test
+    void encodesMinimalLineEdits() {
+        String script = RevisionDelta.diff("a\nb\nc\nd", "a\nx\nc\nd", MAX_EDITS);
+        assertEquals("=1\n-1\n+1\nx\n=2", script);
+        assertEquals("a\nx\nc\nd", RevisionDelta.apply("a\nb\nc\nd", script));
+    }
+
+    @Test
+    void preservesTrailingNewlineAndEmptyBodies() {
+        assertRoundTrip("line\n", "line");
+        assertRoundTrip("line", "line\n");
+        assertRoundTrip("", "first\nsecond");
+        assertRoundTrip("first\nsecond", "");
+        assertRoundTrip("\n\n", "\n");
+    }
+
+    @Test
+    void fallsBackToReplaceWhenEditsExceedLimit() {
+        String oldText = String.join("\n", lines("a", 50));
+        String newText = String.join("\n", lines("b", 50));
+        String script = RevisionDelta.diff(oldText, newText, 10);
+        assertTrue(script.startsWith("-50\n"), script);
+        assertEquals(newText, RevisionDelta.apply(oldText, script));
+    }
+
+    @Test
+    void roundTripsRandomEdits() {
+        SplittableRandom random = new SplittableRandom(43L);
+        for (int round = 0; round < 2000; round++) {
+            List<String> base = randomLines(random, random.nextInt(40));
+            List<String> edited = new ArrayList<>(base);
+            for (int e = random.nextInt(8); e > 0; e--) {
+                int op = random.nextInt(3);
+                if (op == 0 || edited.isEmpty()) edited.add(random.nextInt(edited.size() + 1), randomLine(random));
+                else if (op == 1) edited.remove(random.nextInt(edited.size()));
+                else edited.set(random.nextInt(edited.size()), randomLine(random));
+            }
+            assertRoundTrip(String.join("\n", base), String.join("\n", edited));
+        }
+    }
+
+    @Test
+    void rejectsScriptThatDoesNotMatchBase() {
+        String script = RevisionDelta.diff("a\nb\nc", "a\nc", MAX_EDITS);
+        assertThrows(IllegalStateException.class, () -> RevisionDelta.apply("a", script));
+        assertThrows(IllegalStateException.class, () -> RevisionDelta.apply("a\nb\nc\nd", script));
+        assertThrows(IllegalStateException.class, () -> RevisionDelta.apply("a", "?1"));
+    }
+
+    private static void assertRoundTrip(String oldText, String newText) {
+        String script = RevisionDelta.diff(oldText, newText, MAX_EDITS);
+        assertEquals(newText, RevisionDelta.apply(oldText, script), () -> "script: " + script);
+    }
+
+    private static List<String> lines(String prefix, int count) {
+        String[] lines = new String[count];
+        Arrays.setAll(lines, i -> prefix + i);
+        return Arrays.asList(lines);
+    }
+
+    private static List<String> randomLines(SplittableRandom random, int count) {
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) lines.add(randomLine(random));
+        return lines;
+    }
+
+    /** 중복 줄이 자주 생기도록 작은 어휘에서 고릅니다(공통 부분열이 여러 개인 경우). */
+    private static String randomLine(SplittableRandom random) {
+        return switch (random.nextInt(6)) {
+            case 0 -> "";
+            case 1 -> "+ plus";
+            case 2 -> "-minus";
+            case 3 -> "=equal";
+            default -> "line " + random.nextInt(5);
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package com.ozymandias089.devlog_api.post.search;
+
+import com.ozymandias089.devlog_api.post.repository.PostFingerprintRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DuplicatePostIndexTest {
+
+    @Test
+    void findsSameNearestAsBruteForce() {
+        SplittableRandom random = new SplittableRandom(31L);
+        Map<Long, Long> fingerprints = new LinkedHashMap<>();
+        List<Long> originals = new ArrayList<>();
+        for (long id = 1; id <= 3000; id++) {
+            long fingerprint = random.nextLong();
+            fingerprints.put(id, fingerprint);
+            originals.add(fingerprint);
+        }
+        // 기존 글과 0~7비트 다른 글
+        for (long id = 3001; id <= 3300; id++) {
+            fingerprints.put(id, flip(random, originals.get(random.nextInt(originals.size())), random.nextInt(8)));
+        }
+        DuplicatePostIndex index = rebuilt(fingerprints);
+
+        for (int q = 0; q < 500; q++) {
+            long query = q % 5 == 0 ? random.nextLong()
+                    : flip(random, originals.get(random.nextInt(originals.size())), random.nextInt(8));
+            for (int maxDistance : new int[]{0, 3, DuplicatePostIndex.MAX_DISTANCE}) {
+                assertEquals(bruteForce(fingerprints, query, maxDistance), index.findNearest(query, maxDistance));
+            }
+        }
+    }
+
+    @Test
+    void overlayShadowsBaseAndKeepsLongIds() {
+        long bigId = 5_000_000_000L;
+        long fingerprint = 0x0123_4567_89AB_CDEFL;
+        DuplicatePostIndex index = rebuilt(Map.of(bigId, fingerprint, 7L, ~fingerprint));
+        assertEquals(Optional.of(new DuplicatePostIndex.Match(bigId, 1)), index.findNearest(fingerprint ^ 1, 6));
+
+        index.update(bigId, null);
+        assertEquals(Optional.empty(), index.findNearest(fingerprint, 6));
+        index.update(3L, fingerprint ^ 3);
+        assertEquals(Optional.of(new DuplicatePostIndex.Match(3L, 1)), index.findNearest(fingerprint ^ 1, 6));
+    }
+
+    @Test
+    void rejectsUnsupportedDistance() {
+        DuplicatePostIndex index = rebuilt(Map.of());
+        assertThrows(IllegalArgumentException.class, () -> index.findNearest(0, DuplicatePostIndex.MAX_DISTANCE + 1));
+    }
+
+    private static DuplicatePostIndex rebuilt(Map<Long, Long> fingerprints) {
+        List<PostFingerprintRepository.FingerprintRow> rows = new ArrayList<>();
+        fingerprints.entrySet().stream().sorted(Map.Entry.comparingByKey())
+                .forEach(e -> rows.add(row(e.getKey(), e.getValue())));
+        PostFingerprintRepository repository = mock(PostFingerprintRepository.class);
+        when(repository.findRows(anyLong(), any(Limit.class))).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            int limit = invocation.<Limit>getArgument(1).max();
+            return rows.stream().filter(r -> r.getPostId() > afterId).limit(limit).toList();
+        });
+        DuplicatePostIndex index = new DuplicatePostIndex(repository);
+        index.rebuild();
+        return index;
+    }
+
+    private static Optional<DuplicatePostIndex.Match> bruteForce(Map<Long, Long> fingerprints, long query, int maxDistance) {
+        DuplicatePostIndex.Match best = null;
+        for (Map.Entry<Long, Long> entry : fingerprints.entrySet()) {
+            int distance = SimHash.distance(entry.getValue(), query);
+            if (distance > maxDistance) continue;
+            if (best == null || distance < best.distance() || (distance == best.distance() && entry.getKey() < best.postId())) {
+                best = new DuplicatePostIndex.Match(entry.getKey(), distance);
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private static long flip(SplittableRandom random, long fingerprint, int bits) {
+        long result = fingerprint;
+        while (Long.bitCount(result ^ fingerprint) < bits) result ^= 1L << random.nextInt(64);
+        return result;
+    }
+
+    private static PostFingerprintRepository.FingerprintRow row(long postId, long fingerprint) {
+        return new PostFingerprintRepository.FingerprintRow() {
+            @Override public Long getPostId() { return postId; }
+            @Override public Long getFingerprint() { return fingerprint; }
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.ozymandias089.devlog_api.post.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MinHashTest {
+
+    @Test
+    void returnsNullWithoutShingles() {
+        assertNull(MinHash.signature(null));
+        assertNull(MinHash.signature(""));
+        assertNull(MinHash.signature("a b c ! ?")); // 한 글자 토큰은 shingle이 아님
+    }
+
+    @Test
+    void bandsCoverSignaturePrefix() {
+        assertTrue(MinHash.BANDS * MinHash.ROWS <= MinHash.SIZE);
+        int[] signature = MinHash.signature("spring boot jpa redis");
+        assertEquals(MinHash.SIZE, signature.length);
+        assertEquals(MinHash.BANDS, MinHash.bandHashes(signature).length);
+    }
+
+    @Test
+    void treatsContentAsWordSet() {
+        List<String> words = vocabulary("t", 80);
+        String text = String.join(" ", words);
+        List<String> shuffled = new ArrayList<>(words);
+        Collections.shuffle(shuffled, new Random(5L));
+        String reordered = String.join(" ", shuffled) + " " + String.join(" ", words);
+
+        int[] a = MinHash.signature(text);
+        int[] b = MinHash.signature(reordered);
+        assertArrayEquals(a, b);
+        assertEquals(1.0, MinHash.similarity(a, b));
+        assertArrayEquals(MinHash.bandHashes(a), MinHash.bandHashes(b));
+    }
+
+    @Test
+    void estimatesJaccardSimilarity() {
+        SplittableRandom random = new SplittableRandom(6L);
+        for (double jaccard : new double[]{0.1, 0.3, 0.5, 0.8}) {
+            for (int round = 0; round < 20; round++) {
+                // |A ∩ B| / |A ∪ B| = shared / (shared + 2 * own)
+                int union = 300;
+                int shared = (int) Math.round(union * jaccard);
+                int own = (union - shared) / 2;
+                String prefix = "r" + random.nextInt(1_000_000) + "x";
+                List<String> common = vocabulary(prefix + "c", shared);
+                String a = String.join(" ", common) + " " + String.join(" ", vocabulary(prefix + "a", own));
+                String b = String.join(" ", common) + " " + String.join(" ", vocabulary(prefix + "b", own));
+                double actual = (double) shared / (shared + 2 * own);
+                double estimate = MinHash.similarity(MinHash.signature(a), MinHash.signature(b));
+                assertEquals(actual, estimate, 0.2, "jaccard " + actual);
+            }
+        }
+    }
+
+    @Test
+    void encodesAndDecodesSignatures() {
+        int[] signature = MinHash.signature("스프링 부트 자동완성 색인");
+        assertArrayEquals(signature, MinHash.decode(MinHash.encode(signature)));
+        assertEquals(MinHash.SIZE * Integer.BYTES, MinHash.encode(signature).length);
+        assertThrows(IllegalArgumentException.class, () -> MinHash.decode(new byte[3]));
+        assertThrows(IllegalArgumentException.class, () -> MinHash.decode(null));
+    }
+
+    private static List<String> vocabulary(String prefix, int count) {
+        List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) words.add(prefix + i);
+        return words;
+    }
+}
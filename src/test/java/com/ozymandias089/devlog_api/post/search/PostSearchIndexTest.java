@@ -0,0 +1,172 @@
+package com.ozymandias089.devlog_api.post.search;
+
+import com.ozymandias089.devlog_api.post.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostSearchIndexTest {
+    private static final String[] WORDS = {"spring", "boot", "jpa", "redis", "java", "kafka", "docker", "스프링부트", "자바", "검색엔진"};
+
+    @TempDir
+    Path indexDir;
+
+    @Test
+    void ranksLikeBruteForceBm25() {
+        SplittableRandom random = new SplittableRandom(21L);
+        PostSearchIndex index = newIndex();
+        Map<Long, Source> corpus = new HashMap<>();
+        for (long id = 1; id <= 400; id++) {
+            Source source = randomSource(random, id, 1);
+            corpus.put(id, source);
+            index.index(source);
+        }
+        for (long id = 5; id <= 400; id += 7) {
+            index.remove(id);
+            corpus.remove(id);
+        }
+        for (long id = 3; id <= 400; id += 11) {
+            if (!corpus.containsKey(id)) continue;
+            Source source = randomSource(random, id, 2);
+            corpus.put(id, source);
+            index.index(source);
+        }
+
+        for (String query : new String[]{"spring", "boot jpa", "자바 검색", "docker kafka redis", "없는단어"}) {
+            assertEquals(bruteForce(corpus, query), pages(index, query, 7), query);
+        }
+    }
+
+    @Test
+    void ignoresOlderVersions() {
+        PostSearchIndex index = newIndex();
+        index.index(new Source(1L, "redis", "", 2));
+        index.index(new Source(1L, "kafka", "", 1));
+        assertEquals(List.of(1L), ids(index.search("redis", 10, null)));
+        assertTrue(index.search("kafka", 10, null).hits().isEmpty());
+    }
+
+    @Test
+    void compactsDeletedOrdinalsOnSnapshotLoad() {
+        SplittableRandom random = new SplittableRandom(22L);
+        PostSearchIndex index = newIndex();
+        Map<Long, Source> corpus = new HashMap<>();
+        for (long id = 1; id <= 200; id++) {
+            Source source = randomSource(random, id, 1);
+            corpus.put(id, source);
+            index.index(source);
+        }
+        for (long id = 1; id <= 200; id += 3) {
+            index.remove(id);
+            corpus.remove(id);
+        }
+        index.flush();
+
+        PostSearchIndex loaded = newIndex();
+        ReflectionTestUtils.invokeMethod(loaded, "loadSnapshot");
+        for (String query : new String[]{"spring boot", "자바", "redis docker"}) {
+            assertEquals(pages(index, query, 5), pages(loaded, query, 5), query);
+        }
+        assertEquals(corpus.size(), (int) ReflectionTestUtils.getField(loaded, "nextOrdinal"));
+
+        loaded.index(new Source(1000L, "kafka kafka kafka", "", 1));
+        assertEquals(1000L, loaded.search("kafka", 1, null).hits().get(0).postId());
+    }
+
+    private PostSearchIndex newIndex() {
+        PostSearchIndex index = new PostSearchIndex(null);
+        ReflectionTestUtils.setField(index, "indexDir", indexDir.toString());
+        return index;
+    }
+
+    /** 커서로 끝까지 넘기며 모은 결과 */
+    private static List<PostSearchIndex.SearchHit> pages(PostSearchIndex index, String query, int size) {
+        List<PostSearchIndex.SearchHit> all = new ArrayList<>();
+        PostSearchIndex.SearchHit after = null;
+        while (true) {
+            PostSearchIndex.SearchPage page = index.search(query, size, after);
+            assertTrue(page.hits().size() <= size);
+            all.addAll(page.hits());
+            if (!page.hasNext()) return all;
+            assertFalse(page.hits().isEmpty());
+            after = page.hits().get(page.hits().size() - 1);
+        }
+    }
+
+    private static List<PostSearchIndex.SearchHit> bruteForce(Map<Long, Source> corpus, String query) {
+        Map<Long, Map<String, Integer>> frequencies = new HashMap<>();
+        Map<Long, Integer> lengths = new HashMap<>();
+        long total = 0;
+        for (Source source : corpus.values()) {
+            Map<String, Integer> tf = new HashMap<>();
+            int length = 0;
+            for (String token : SearchTokenizer.tokenize(source.getTitle())) {
+                tf.merge(token, PostSearchIndex.TITLE_BOOST, Integer::sum);
+                length += PostSearchIndex.TITLE_BOOST;
+            }
+            for (String token : SearchTokenizer.tokenize(source.getBody())) {
+                tf.merge(token, 1, Integer::sum);
+                length++;
+            }
+            frequencies.put(source.getId(), tf);
+            lengths.put(source.getId(), length);
+            total += length;
+        }
+        int n = corpus.size();
+        double avgLength = (double) total / n;
+
+        Set<String> terms = SearchTokenizer.queryTerms(query, PostSearchIndex.MAX_QUERY_TERMS);
+        Map<Long, Double> scores = new HashMap<>();
+        for (String term : terms) {
+            long df = frequencies.values().stream().filter(tf -> tf.containsKey(term)).count();
+            double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+            frequencies.forEach((id, tfs) -> {
+                Integer tf = tfs.get(term);
+                if (tf == null) return;
+                double norm = PostSearchIndex.K1 * (1 - PostSearchIndex.B + PostSearchIndex.B * lengths.get(id) / avgLength);
+                scores.merge(id, idf * tf * (PostSearchIndex.K1 + 1) / (tf + norm), Double::sum);
+            });
+        }
+        return scores.entrySet().stream()
+                .map(e -> new PostSearchIndex.SearchHit(e.getKey(), e.getValue()))
+                .sorted(Comparator.comparingDouble(PostSearchIndex.SearchHit::score).reversed()
+                        .thenComparing(Comparator.comparingLong(PostSearchIndex.SearchHit::postId).reversed()))
+                .toList();
+    }
+
+    private static List<Long> ids(PostSearchIndex.SearchPage page) {
+        return page.hits().stream().map(PostSearchIndex.SearchHit::postId).toList();
+    }
+
+    private static Source randomSource(SplittableRandom random, long id, long version) {
+        return new Source(id, words(random, 1 + random.nextInt(3)), words(random, random.nextInt(40)), version);
+    }
+
+    private static String words(SplittableRandom random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        return text.toString();
+    }
+
+    private record Source(Long id, String title, String body, long version) implements PostRepository.SearchSource {
+        @Override public Long getId() { return id; }
+        @Override public String getTitle() { return title; }
+        @Override public String getContent() { return body; }
+        @Override public String getLegacyContent() { return null; }
+        @Override public Instant getUpdatedAt() { return Instant.ofEpochMilli(version); }
+    }
+}
@@ -0,0 +1,100 @@
+package com.ozymandias089.devlog_api.post.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostingListTest {
+
+    @Test
+    void appendsAndInsertsInDocIdOrder() {
+        PostingList list = new PostingList();
+        list.add(10, 1);
+        list.add(300, 2);
+        list.add(5, 3);      // 앞에 삽입
+        list.add(100, 4);    // 중간에 삽입
+        list.add(300, 7);    // 같은 PK는 빈도 교체
+        assertEquals(Map.of(5L, 3, 10L, 1, 100L, 4, 300L, 7), toMap(list));
+        assertEquals(4, list.docCount());
+    }
+
+    @Test
+    void removesDocuments() {
+        PostingList list = new PostingList();
+        list.add(1, 1);
+        list.add(2, 1);
+        assertTrue(list.remove(1));
+        assertFalse(list.remove(1));
+        assertFalse(list.remove(99));
+        assertTrue(list.remove(2));
+        assertTrue(list.isEmpty());
+        list.add(7, 2); // 비운 뒤 다시 추가
+        assertEquals(Map.of(7L, 2), toMap(list));
+    }
+
+    @Test
+    void encodesLargeGapsAndFrequencies() {
+        PostingList list = new PostingList();
+        list.add(1, Integer.MAX_VALUE);
+        list.add(Long.MAX_VALUE / 2, 1);
+        assertEquals(Map.of(1L, Integer.MAX_VALUE, Long.MAX_VALUE / 2, 1), toMap(list));
+    }
+
+    @Test
+    void matchesSortedMapModelUnderRandomOperations() {
+        SplittableRandom random = new SplittableRandom(7L);
+        PostingList list = new PostingList();
+        TreeMap<Long, Integer> model = new TreeMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            long docId = random.nextInt(10) < 7 ? model.isEmpty() ? 1 : model.lastKey() + 1 + random.nextInt(1000)
+                    : 1 + random.nextInt(5000);
+            if (random.nextInt(4) == 0) {
+                assertEquals(model.remove(docId) != null, list.remove(docId));
+            } else {
+                int tf = 1 + random.nextInt(300);
+                model.put(docId, tf);
+                list.add(docId, tf);
+            }
+        }
+        assertEquals(model, toMap(list));
+        assertEquals(model.size(), list.docCount());
+    }
+
+    @Test
+    void roundTripsThroughSnapshot() throws IOException {
+        PostingList list = new PostingList();
+        for (long id = 1; id <= 500; id += 3) list.add(id, (int) (id % 17) + 1);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        list.writeTo(new DataOutputStream(bytes));
+        PostingList restored = PostingList.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(toMap(list), toMap(restored));
+        restored.add(1000, 1); // 복원 후에도 끝에 덧붙일 수 있어야 함
+        assertEquals(list.docCount() + 1, restored.docCount());
+    }
+
+    private static TreeMap<Long, Integer> toMap(PostingList list) {
+        TreeMap<Long, Integer> map = new TreeMap<>();
+        List<Long> order = new ArrayList<>();
+        list.forEach((docId, tf) -> {
+            order.add(docId);
+            map.put(docId, tf);
+        });
+        assertEquals(new ArrayList<>(map.keySet()), order, "postings must be in ascending docId order");
+        return map;
+    }
+}
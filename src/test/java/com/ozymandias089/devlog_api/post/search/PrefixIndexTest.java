@@ -0,0 +1,92 @@
+package com.ozymandias089.devlog_api.post.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefixIndexTest {
+
+    @Test
+    void normalizesWidthCaseAndWhitespace() {
+        assertEquals("spring boot", PrefixIndex.normalize("  ＳＰＲＩＮＧ \t Boot "));
+        assertEquals("", PrefixIndex.normalize(null));
+        assertEquals("", PrefixIndex.normalize(" \n "));
+    }
+
+    @Test
+    void wordKeysMatchEveryWordStart() {
+        PrefixIndex index = PrefixIndex.build(List.of(
+                doc(1, "Spring Boot Tips", 10),
+                doc(2, "Boot camp", 5),
+                doc(3, "Reboot", 100)), PrefixIndex.KeyMode.WORDS);
+
+        assertEquals(List.of(1L, 2L), ids(index.top("boot", 10, id -> false)));
+        assertEquals(List.of(1L), ids(index.top("tips", 10, id -> false)));
+        assertEquals(List.of(3L), ids(index.top("reb", 10, id -> false)));
+        assertTrue(index.top("oot", 10, id -> false).isEmpty());
+    }
+
+    @Test
+    void wholeKeysMatchOnlyFromStart() {
+        PrefixIndex index = PrefixIndex.build(List.of(doc(1, "alice kim", 1), doc(2, "kim", 1)), PrefixIndex.KeyMode.WHOLE);
+        assertEquals(List.of(2L), ids(index.top("kim", 10, id -> false)));
+        assertTrue(PrefixIndex.matches(doc(1, "alice kim", 1), "alice k", PrefixIndex.KeyMode.WHOLE));
+        assertFalse(PrefixIndex.matches(doc(1, "alice kim", 1), "kim", PrefixIndex.KeyMode.WHOLE));
+        assertTrue(PrefixIndex.matches(doc(1, "alice kim", 1), "kim", PrefixIndex.KeyMode.WORDS));
+    }
+
+    @Test
+    void skipsEmptyDocsAndHonorsExclusions() {
+        PrefixIndex index = PrefixIndex.build(List.of(doc(1, "  ", 9), doc(2, "java", 1), doc(3, "javascript", 2)),
+                PrefixIndex.KeyMode.WHOLE);
+        assertEquals(2, index.size());
+        assertEquals(List.of(2L), ids(index.top("java", 10, id -> id == 3)));
+        assertTrue(index.top("zzz", 10, id -> false).isEmpty());
+    }
+
+    @Test
+    void returnsSameTopResultsAsBruteForce() {
+        SplittableRandom random = new SplittableRandom(11L);
+        String[] vocabulary = {"spring", "spa", "sparse", "boot", "booth", "jpa", "java", "jar", "redis", "react", "자바", "자동완성"};
+        List<PrefixIndex.Doc> docs = new ArrayList<>();
+        for (int i = 1; i <= 2000; i++) {
+            StringBuilder title = new StringBuilder();
+            for (int w = 1 + random.nextInt(12); w > 0; w--) {
+                title.append(vocabulary[random.nextInt(vocabulary.length)]).append(random.nextInt(3)).append(' ');
+            }
+            docs.add(doc(i, title.toString(), random.nextInt(50)));
+        }
+        PrefixIndex index = PrefixIndex.build(docs, PrefixIndex.KeyMode.WORDS);
+
+        for (String prefix : new String[]{"s", "sp", "spa", "boot", "booth1", "ja", "자", "자동", "r", "x"}) {
+            for (int limit : new int[]{1, 5, 20}) {
+                List<PrefixIndex.Doc> actual = index.top(prefix, limit, id -> id % 7 == 0);
+                List<PrefixIndex.Doc> expected = docs.stream()
+                        .filter(d -> d.id() % 7 != 0 && PrefixIndex.matches(d, prefix, PrefixIndex.KeyMode.WORDS))
+                        .sorted(Comparator.comparingLong(PrefixIndex.Doc::weight).reversed())
+                        .limit(limit)
+                        .toList();
+                // 동점 문서의 순서는 키 순서를 따르므로 가중치 열과 집합 크기를 비교
+                assertEquals(expected.stream().map(PrefixIndex.Doc::weight).toList(),
+                        actual.stream().map(PrefixIndex.Doc::weight).toList(), prefix + "/" + limit);
+                assertEquals(actual.size(), actual.stream().map(PrefixIndex.Doc::id).distinct().count());
+                assertTrue(actual.stream().allMatch(d -> PrefixIndex.matches(d, prefix, PrefixIndex.KeyMode.WORDS)));
+            }
+        }
+    }
+
+    private static PrefixIndex.Doc doc(long id, String text, long weight) {
+        return new PrefixIndex.Doc(id, "ref-" + id, text, weight);
+    }
+
+    private static List<Long> ids(List<PrefixIndex.Doc> docs) {
+        return docs.stream().map(PrefixIndex.Doc::id).toList();
+    }
+}
@@ -0,0 +1,82 @@
+package com.ozymandias089.devlog_api.post.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimHashTest {
+    /** 중복 판정 기본 최대 거리(app.posts.duplicate.max-distance) */
+    private static final int DUPLICATE_DISTANCE = 6;
+
+    @Test
+    void skipsShortContent() {
+        assertNull(SimHash.fingerprint(null));
+        assertNull(SimHash.fingerprint(""));
+        assertNull(SimHash.fingerprint(words(new SplittableRandom(1L), SimHash.MIN_SHINGLES + SimHash.SHINGLE - 2)));
+        assertNotNull(SimHash.fingerprint(words(new SplittableRandom(1L), SimHash.MIN_SHINGLES + SimHash.SHINGLE - 1)));
+    }
+
+    @Test
+    void ignoresCaseAndPunctuation() {
+        String text = words(new SplittableRandom(2L), 100);
+        String reformatted = "# " + text.toUpperCase().replace(" ", ",  ") + "!";
+        assertEquals(SimHash.fingerprint(text), SimHash.fingerprint(reformatted));
+    }
+
+    @Test
+    void lightlyEditedCopyStaysNearOriginal() {
+        SplittableRandom random = new SplittableRandom(3L);
+        int total = 0;
+        int rounds = 200;
+        for (int round = 0; round < rounds; round++) {
+            List<String> original = wordList(random, 300);
+            List<String> edited = new ArrayList<>(original);
+            for (int i = 0; i < 3; i++) edited.set(random.nextInt(edited.size()), "changed" + i);
+            int distance = SimHash.distance(SimHash.fingerprint(String.join(" ", original)),
+                    SimHash.fingerprint(String.join(" ", edited)));
+            // 0에 가까운 비트 가중치는 몇 개의 shingle로도 뒤집히므로 개별 거리는 흩어지지만, 관련 없는 글(평균 32)과는 겹치지 않음
+            assertTrue(distance < 16, "distance " + distance);
+            total += distance;
+        }
+        double mean = (double) total / rounds;
+        assertTrue(mean <= DUPLICATE_DISTANCE, "mean distance " + mean);
+    }
+
+    @Test
+    void unrelatedContentIsFarApart() {
+        SplittableRandom random = new SplittableRandom(4L);
+        int total = 0;
+        int rounds = 200;
+        for (int round = 0; round < rounds; round++) {
+            int distance = SimHash.distance(SimHash.fingerprint(words(random, 200)), SimHash.fingerprint(words(random, 200)));
+            assertTrue(distance > DUPLICATE_DISTANCE, "distance " + distance);
+            total += distance;
+        }
+        double mean = (double) total / rounds;
+        assertTrue(mean > 26 && mean < 38, "mean distance " + mean);
+    }
+
+    @Test
+    void distanceCountsDifferingBits() {
+        assertEquals(0, SimHash.distance(42L, 42L));
+        assertEquals(64, SimHash.distance(0L, -1L));
+        assertEquals(2, SimHash.distance(0b1010L, 0b0000L));
+    }
+
+    private static String words(SplittableRandom random, int count) {
+        return String.join(" ", wordList(random, count));
+    }
+
+    private static List<String> wordList(SplittableRandom random, int count) {
+        List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) words.add("w" + random.nextInt(500));
+        return words;
+    }
+}